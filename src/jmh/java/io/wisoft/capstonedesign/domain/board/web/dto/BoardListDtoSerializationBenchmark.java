@@ -0,0 +1,65 @@
+package io.wisoft.capstonedesign.domain.board.web.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import io.wisoft.capstonedesign.global.enumeration.status.BoardStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 응답(List, Page) 직렬화 비용
+ * 스프링과 같은 설정(Jackson2ObjectMapperBuilder)의 ObjectMapper 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardListDtoSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<BoardListDto> boardList;
+    private Page<BoardListDto> boardPage;
+
+    @Setup
+    public void setUp() {
+
+        final LocalDateTime now = LocalDateTime.now();
+
+        boardList = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            boardList.add(new BoardListDto(
+                    i, "게시글 제목 " + i, "게시글 본문입니다. 증상이 있어 질문드립니다. " + i,
+                    HospitalDept.DENTAL, "작성자" + i, BoardStatus.WRITE, now, now));
+        }
+        boardPage = new PageImpl<>(boardList, PageRequest.of(0, size), 1000);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(boardList);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(boardPage);
+    }
+}
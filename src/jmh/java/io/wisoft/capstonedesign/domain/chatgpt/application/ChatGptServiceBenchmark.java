@@ -0,0 +1,46 @@
+package io.wisoft.capstonedesign.domain.chatgpt.application;
+
+import io.wisoft.capstonedesign.domain.chatgpt.web.dto.ChatGptResponseV2;
+import io.wisoft.capstonedesign.domain.chatgpt.web.dto.ChatRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 증상 문자열 -> 진료과 분류 비용 (외부 API 호출 없는 askQuestionV2 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatGptServiceBenchmark {
+
+    private final SymptomTriageEngine engine = new SymptomTriageEngine(new ClassPathResource("triage/symptom-dictionary.tsv"));
+    // 사전 분류 경로만 측정하므로 OpenAI client, 답변 캐시, 호출 한도는 사용되지 않는다.
+    private final ChatGptService chatGptService = new ChatGptServiceImpl(null, null, engine, null, 3, 60_000);
+
+    private final ChatRequest matched = new ChatRequest("학습장애・집중력저하");
+    private final ChatRequest sentence = new ChatRequest("어제부터 머리가 지끈지끈 아프고 어지러워요");
+    private final ChatRequest fuzzy = new ChatRequest("머리가 지끈지끈 아파요");
+
+    @Benchmark
+    public ChatGptResponseV2 getMessage_matched() {
+        return chatGptService.askQuestionV2(matched);
+    }
+
+    @Benchmark
+    public ChatGptResponseV2 getMessage_sentence() {
+        return chatGptService.askQuestionV2(sentence);
+    }
+
+    @Benchmark
+    public List<TriageCandidate> triage_fuzzy() {
+        return engine.triage(fuzzy.symptom());
+    }
+}
@@ -0,0 +1,104 @@
+package io.wisoft.capstonedesign.global.config.aes;
+
+import org.apache.commons.codec.binary.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Cipher;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 한 행(닉네임, 이메일, 전화번호)을 읽고 쓸 때의 컨버터 비용
+ * - legacy* : 변경 전 구현 (매 호출마다 Cipher.getInstance + 키 생성 + commons-codec Hex)
+ * - cached* : 키 캐시 + 스레드별 Cipher + 미리 할당한 hex 버퍼
+ * - versioned* : 버전 포맷(AES/GCM)
+ * - lazy* : 이메일, 전화번호를 LazyAESConverter로 읽고 getter를 호출하지 않는 목록 조회
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AESConverterBenchmark {
+
+    private final String nickname = "이동엽";
+    private final String email = "ldy_1204@naver.com";
+    private final String phoneNumber = "010-1234-5678";
+
+    private final AESConverter converter = new AESConverter();
+
+    private String[] legacyRow;
+    private String[] versionedRow;
+
+    @Setup
+    public void setUp() {
+        AES.configure(Map.of('1', "jmh-benchmark-aes-key-0000000001"), '1');
+        legacyRow = new String[]{AES.encryptString(nickname), AES.encryptString(email), AES.encryptString(phoneNumber)};
+        versionedRow = new String[]{AES.encryptString(nickname), AES.encryptVersioned(email), AES.encryptVersioned(phoneNumber)};
+    }
+
+    @Benchmark
+    public void legacyDecryptRow(final Blackhole blackhole) throws Exception {
+        for (final String column : legacyRow) {
+            blackhole.consume(legacyDecrypt(column));
+        }
+    }
+
+    @Benchmark
+    public void cachedDecryptRow(final Blackhole blackhole) {
+        for (final String column : legacyRow) {
+            blackhole.consume(AES.decryptString(column));
+        }
+    }
+
+    @Benchmark
+    public void versionedDecryptRow(final Blackhole blackhole) {
+        for (final String column : versionedRow) {
+            blackhole.consume(AES.decryptString(column));
+        }
+    }
+
+    @Benchmark
+    public void lazyRowWithoutRead(final Blackhole blackhole) {
+        blackhole.consume(AES.decryptString(versionedRow[0]));
+        blackhole.consume(EncryptedString.fromCipherText(versionedRow[1]));
+        blackhole.consume(EncryptedString.fromCipherText(versionedRow[2]));
+    }
+
+    @Benchmark
+    public String converterRoundTrip() {
+        return converter.convertToEntityAttribute(converter.convertToDatabaseColumn(email));
+    }
+
+    @Benchmark
+    public void legacyEncryptRow(final Blackhole blackhole) throws Exception {
+        blackhole.consume(legacyEncrypt(nickname));
+        blackhole.consume(legacyEncrypt(email));
+        blackhole.consume(legacyEncrypt(phoneNumber));
+    }
+
+    @Benchmark
+    public void cachedEncryptRow(final Blackhole blackhole) {
+        blackhole.consume(AES.encryptString(nickname));
+        blackhole.consume(AES.encryptVersioned(email));
+        blackhole.consume(AES.encryptVersioned(phoneNumber));
+    }
+
+    private static String legacyEncrypt(final String plainText) throws Exception {
+        final Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, AES.newLegacyKey());
+        return Hex.encodeHexString(cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String legacyDecrypt(final String encryptedText) throws Exception {
+        final Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.DECRYPT_MODE, AES.newLegacyKey());
+        return new String(cipher.doFinal(Hex.decodeHex(encryptedText.toCharArray())), StandardCharsets.UTF_8);
+    }
+}
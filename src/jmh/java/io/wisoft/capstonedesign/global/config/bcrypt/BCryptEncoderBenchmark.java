@@ -0,0 +1,46 @@
+package io.wisoft.capstonedesign.global.config.bcrypt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원가입(encrypt), 로그인(isMatch) 시 비밀번호 해시 비용 (기본 cost 10)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BCryptEncoderBenchmark {
+
+    private final BCryptEncoder encoder = new BCryptEncoder();
+    private final String password = "password1234!";
+
+    private String hashed;
+
+    @Setup
+    public void setUp() {
+        hashed = encoder.encrypt(password);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encoder.encrypt(password);
+    }
+
+    @Benchmark
+    public boolean isMatch() {
+        return encoder.isMatch(password, hashed);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean needsRehash() {
+        return encoder.needsRehash(hashed);
+    }
+}
@@ -0,0 +1,44 @@
+package io.wisoft.capstonedesign.global.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시 토큰 발급, 인증이 필요한 모든 요청에서의 토큰 파싱 비용
+ * Redis는 사용하지 않는 경로만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private final String email = "ldy_1204@naver.com";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(
+                "benchmark-secret-key-benchmark-secret-key", 3600000, 1209600000,
+                null, new JwtValidationCache(null));
+        accessToken = jwtTokenProvider.createAccessToken(email);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(email);
+    }
+
+    @Benchmark
+    public String getSubject() {
+        return jwtTokenProvider.getSubject(accessToken);
+    }
+}
@@ -0,0 +1,29 @@
+package io.wisoft.capstonedesign.global.mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진료과 번호 -> HospitalDept 변환 비용 (1 ~ 15 전체)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeptMapperBenchmark {
+
+    private final String[] numbers = {"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15"};
+
+    @Benchmark
+    public void numberToDept(final Blackhole blackhole) {
+        for (final String number : numbers) {
+            blackhole.consume(DeptMapper.numberToDept(number));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package io.wisoft.capstonedesign.loadtest;
+
+import io.wisoft.capstonedesign.domain.search.application.SearchService;
+import io.wisoft.capstonedesign.global.config.aes.AES;
+import io.wisoft.capstonedesign.global.config.aes.BlindIndex;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import io.wisoft.capstonedesign.global.enumeration.SearchTarget;
+import io.wisoft.capstonedesign.loadtest.SeedVocabulary.Template;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * JDBC 배치 insert로 대량 시드 데이터 적재
+ * - JPA/서비스를 거치지 않으므로 수백만 건도 수십 초 안에 적재된다.
+ * - 검색 색인은 searchIndexed 건까지만 만든다 (문서당 수십 개의 토큰 행이 생기므로).
+ */
+@Slf4j
+class BulkSeeder {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final HospitalDept[] DEPTS = HospitalDept.values();
+    private static final String PASSWORD = "$2a$10$7EqJtq98hPqEX7fNZaFWoOa5KcL0Rk6h7fZ2yW3b7p/Fz7jQ6yJ1e";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestOptions options;
+    private final List<Template> templates = SeedVocabulary.templates();
+    private final List<Map<String, Integer>> templateWeights = templates.stream()
+            .map(template -> SearchService.documentWeights(template.title(), template.body()))
+            .toList();
+
+    private final LocalDateTime baseTime = LocalDateTime.now().minusYears(1);
+
+    BulkSeeder(final JdbcTemplate jdbcTemplate, final LoadTestOptions options) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.options = options;
+    }
+
+    void seed() {
+        final long memberStart = insert("member", options.members(),
+                "insert into member (member_nickname, member_nickname_bidx, member_email, member_email_bidx," +
+                        " member_password, member_phonenumber, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                i -> {
+                    final String nickname = "loadtest" + i;
+                    final String email = "loadtest" + i + "@avocado.io";
+                    return new Object[]{AES.encryptString(nickname), BlindIndex.hash(nickname),
+                            AES.encryptVersioned(email), BlindIndex.hash(email),
+                            PASSWORD, AES.encryptVersioned("010-0000-" + String.format("%04d", i % 10_000)),
+                            timestamp(i), timestamp(i)};
+                });
+
+        final long hospitalStart = insert("hospital", options.hospitals(),
+                "insert into hospital (hosp_name, hosp_number, hosp_address, ykiho, cl_cd, sido_cd, sggu_cd," +
+                        " latitude, longitude, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                i -> new Object[]{"부하테스트병원" + i, "042-000-" + String.format("%04d", i % 10_000), "대전광역시 유성구 " + i,
+                        "loadtest-" + i, i % 2 == 0 ? "31" : "21", "250000", "250" + (i % 5),
+                        36.30 + (i % 100) * 0.001, 127.30 + (i / 100 % 100) * 0.001, timestamp(i), timestamp(i)});
+
+        final long boardStart = insert("board", options.boards(),
+                "insert into board (board_title, board_body, board_status, dept, member_id, created_at, updated_at)" +
+                        " values (?, ?, 'WRITE', ?, ?, ?, ?)",
+                i -> {
+                    final Template template = template(i);
+                    return new Object[]{template.title(), template.body(), dept(i).name(),
+                            memberStart + i % options.members(), timestamp(i), timestamp(i)};
+                });
+
+        final long reviewStart = insert("review", options.reviews(),
+                "insert into review (review_title, review_body, star_point, target_hospital, target_dept, review_status," +
+                        " member_id, created_at, updated_at) values (?, ?, ?, ?, ?, 'WRITE', ?, ?, ?)",
+                i -> {
+                    final Template template = template(i + 1);
+                    return new Object[]{template.title(), template.body(), i % 5 + 1,
+                            "부하테스트병원" + i % options.hospitals(), dept(i).name(),
+                            memberStart + i % options.members(), timestamp(i), timestamp(i)};
+                });
+
+        insert("appointment", options.appointments(),
+                "insert into appointment (appt_dept, appt_comment, appt_name, appt_phonenumber, appt_pay_status, appt_date," +
+                        " member_id, hosp_id, created_at, updated_at) values (?, ?, ?, ?, 'NONE', ?, ?, ?, ?, ?)",
+                i -> new Object[]{dept(i).name(), template(i).title(), "예약자" + i % 1_000, "010-0000-0000",
+                        timestamp(i + 1_000_000), memberStart + i % options.members(),
+                        hospitalStart + i % options.hospitals(), timestamp(i), timestamp(i)});
+
+        indexSearchTokens(SearchTarget.BOARD, boardStart, Math.min(options.searchIndexed(), options.boards()), 0);
+        indexSearchTokens(SearchTarget.REVIEW, reviewStart, Math.min(options.searchIndexed(), options.reviews()), 1);
+    }
+
+    /**
+     * count 건을 배치로 insert 하고 생성된 첫 번째 id를 반환
+     */
+    private long insert(final String table, final int count, final String sql, final IntFunction<Object[]> rowMapper) {
+
+        final long started = System.nanoTime();
+        final String idColumn = idColumn(table);
+        final Long before = jdbcTemplate.queryForObject("select coalesce(max(" + idColumn + "), 0) from " + table, Long.class);
+
+        final List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(rowMapper.apply(i));
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+
+        log.warn("seeded {}[{}] in {} ms", table, count, (System.nanoTime() - started) / 1_000_000);
+        return before + 1;
+    }
+
+    private void indexSearchTokens(final SearchTarget target, final long firstDocId, final int count, final int templateOffset) {
+
+        final long started = System.nanoTime();
+        final String sql = "insert into search_token (target, doc_id, token, weight) values (?, ?, ?, ?)";
+
+        long rows = 0;
+        final List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            final long docId = firstDocId + i;
+            for (Map.Entry<String, Integer> entry : templateWeights.get((i + templateOffset) % templates.size()).entrySet()) {
+                batch.add(new Object[]{target.name(), docId, entry.getKey(), entry.getValue()});
+                if (batch.size() == BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(sql, batch);
+                    rows += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+            rows += batch.size();
+        }
+
+        log.warn("seeded search_token {}[docs={}, rows={}] in {} ms", target, count, rows, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private Template template(final int i) {
+        return templates.get(i % templates.size());
+    }
+
+    private static HospitalDept dept(final int i) {
+        return DEPTS[i % DEPTS.length];
+    }
+
+    /* id 순서와 작성 시간 순서를 맞추기 위해 1초씩 증가 */
+    private Timestamp timestamp(final int i) {
+        return Timestamp.valueOf(baseTime.plusSeconds(i));
+    }
+
+    private static String idColumn(final String table) {
+        return switch (table) {
+            case "hospital" -> "hosp_id";
+            default -> table + "_id";
+        };
+    }
+}
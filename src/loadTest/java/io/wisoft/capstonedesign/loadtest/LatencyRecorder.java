@@ -0,0 +1,64 @@
+package io.wisoft.capstonedesign.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 스레드 하나, 시나리오 하나의 응답 시간 기록 (동기화 없이 쓰고 끝난 뒤 합친다)
+ */
+final class LatencyRecorder {
+
+    private long[] latencies = new long[1 << 14];
+    private int size;
+    private long errors;
+
+    void record(final long latencyNanos, final boolean success) {
+
+        if (!success) {
+            errors++;
+        }
+
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size << 1);
+        }
+        latencies[size++] = latencyNanos;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    static Summary summarize(final String name, final Iterable<LatencyRecorder> recorders, final double elapsedSeconds) {
+
+        int total = 0;
+        long errors = 0;
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.size;
+            errors += recorder.errors;
+        }
+
+        final long[] merged = new long[total];
+        int position = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.latencies, 0, merged, position, recorder.size);
+            position += recorder.size;
+        }
+        Arrays.sort(merged);
+
+        return new Summary(
+                name, total, errors, total / elapsedSeconds,
+                percentileMillis(merged, 0.50), percentileMillis(merged, 0.90),
+                percentileMillis(merged, 0.99), total == 0 ? 0 : merged[total - 1] / 1_000_000.0);
+    }
+
+    private static double percentileMillis(final long[] sorted, final double percentile) {
+
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    record Summary(String scenario, long requests, long errors, double throughputPerSecond,
+                   double p50Millis, double p90Millis, double p99Millis, double maxMillis) { }
+}
@@ -0,0 +1,114 @@
+package io.wisoft.capstonedesign.loadtest;
+
+import io.wisoft.capstonedesign.loadtest.LatencyRecorder.Summary;
+import io.wisoft.capstonedesign.loadtest.RequestMix.Scenario;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 닫힌 모델(closed model) 부하 생성기
+ * threads 개의 워커가 응답을 받자마자 다음 요청을 보내며, warmup 구간의 기록은 버린다.
+ */
+final class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String baseUrl;
+    private final RequestMix mix;
+    private final int threads;
+
+    LoadGenerator(final String baseUrl, final RequestMix mix, final int threads) {
+        this.baseUrl = baseUrl;
+        this.mix = mix;
+        this.threads = threads;
+    }
+
+    List<Summary> run(final Duration warmup, final Duration duration) throws InterruptedException {
+
+        if (!warmup.isZero()) {
+            drive(warmup);
+        }
+
+        final long started = System.nanoTime();
+        final List<Map<String, LatencyRecorder>> perThread = drive(duration);
+        final double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        final List<Summary> summaries = new ArrayList<>();
+        final List<LatencyRecorder> all = new ArrayList<>();
+        for (Scenario scenario : mix.scenarios()) {
+            final List<LatencyRecorder> recorders = perThread.stream()
+                    .map(recorderMap -> recorderMap.get(scenario.name()))
+                    .toList();
+            all.addAll(recorders);
+            summaries.add(LatencyRecorder.summarize(scenario.name(), recorders, elapsedSeconds));
+        }
+        summaries.add(LatencyRecorder.summarize("total", all, elapsedSeconds));
+        return summaries;
+    }
+
+    private List<Map<String, LatencyRecorder>> drive(final Duration duration) throws InterruptedException {
+
+        final long deadline = System.nanoTime() + duration.toNanos();
+        final CountDownLatch done = new CountDownLatch(threads);
+        final List<Map<String, LatencyRecorder>> perThread = new ArrayList<>(threads);
+
+        for (int t = 0; t < threads; t++) {
+            final Map<String, LatencyRecorder> recorders = new HashMap<>();
+            mix.scenarios().forEach(scenario -> recorders.put(scenario.name(), new LatencyRecorder()));
+            perThread.add(recorders);
+
+            final Thread worker = new Thread(() -> {
+                try {
+                    work(recorders, deadline);
+                } finally {
+                    done.countDown();
+                }
+            }, "load-worker-" + t);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        done.await();
+        return perThread;
+    }
+
+    private void work(final Map<String, LatencyRecorder> recorders, final long deadline) {
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            final Scenario scenario = mix.next(random);
+            final HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + scenario.pathFactory().apply(random)))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+
+            final long started = System.nanoTime();
+            boolean success;
+            try {
+                final HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() / 100 == 2;
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                success = false;
+            }
+            recorders.get(scenario.name()).record(System.nanoTime() - started, success);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.wisoft.capstonedesign.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (-Dloadtest.xxx 시스템 프로퍼티, 없으면 기본값)
+ */
+public record LoadTestOptions(
+        int members,
+        int hospitals,
+        int boards,
+        int reviews,
+        int appointments,
+        int searchIndexed,
+        int threads,
+        Duration warmup,
+        Duration duration,
+        String mix,
+        Path reportDir) {
+
+    static final String DEFAULT_MIX = "boards=35,boards-dept=15,boards-cursor=10,reviews=25,search-boards=10,search-reviews=5";
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                intValue("members", 10_000),
+                intValue("hospitals", 2_000),
+                intValue("boards", 1_000_000),
+                intValue("reviews", 1_000_000),
+                intValue("appointments", 1_000_000),
+                intValue("search-indexed", 100_000),
+                intValue("threads", 32),
+                Duration.ofSeconds(intValue("warmup-seconds", 10)),
+                Duration.ofSeconds(intValue("duration-seconds", 60)),
+                System.getProperty("loadtest.mix", DEFAULT_MIX),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/load-test")));
+    }
+
+    private static int intValue(final String name, final int defaultValue) {
+        final String value = System.getProperty("loadtest." + name);
+        return value == null ? defaultValue : Integer.parseInt(value.replace("_", ""));
+    }
+}
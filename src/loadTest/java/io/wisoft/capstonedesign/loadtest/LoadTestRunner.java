@@ -0,0 +1,100 @@
+package io.wisoft.capstonedesign.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.wisoft.capstonedesign.CapstoneDesignApplication;
+import io.wisoft.capstonedesign.loadtest.LatencyRecorder.Summary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 진입점 (./gradlew loadTest -Dloadtest.boards=1000000 ...)
+ * 1. 내장 Redis, H2(PostgreSQL 모드)로 애플리케이션 기동 (loadtest 프로필)
+ * 2. JDBC 배치로 회원/병원/게시글/리뷰/예약/검색 색인 적재
+ * 3. 요청 비율대로 부하를 주고 시나리오별 p50/p90/p99, 처리량을 출력하고 JSON으로 저장
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(final String[] args) throws Exception {
+
+        final LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        final int redisPort = freePort();
+
+        final RedisServer redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CapstoneDesignApplication.class)
+                .profiles("loadtest")
+                .properties("jasypt.encryptor.password=loadtest")
+                .run("--spring.data.redis.port=" + redisPort, "--server.port=0")) {
+
+            new BulkSeeder(context.getBean(JdbcTemplate.class), options).seed();
+            clearCounters(context.getBean(StringRedisTemplate.class));
+
+            final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            final RequestMix mix = RequestMix.parse(options.mix(), options);
+            final List<Summary> summaries = new LoadGenerator("http://localhost:" + port, mix, options.threads())
+                    .run(options.warmup(), options.duration());
+
+            print(summaries);
+            writeReport(options, summaries);
+        } finally {
+            redisServer.stop();
+        }
+    }
+
+    /* 적재 전에 계산된 페이지 카운터가 남아있지 않도록 비운다. */
+    private static void clearCounters(final StringRedisTemplate redisTemplate) {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+    }
+
+    private static void print(final List<Summary> summaries) {
+
+        System.out.printf("%n%-16s %10s %8s %12s %10s %10s %10s %10s%n",
+                "scenario", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        for (Summary summary : summaries) {
+            System.out.printf("%-16s %10d %8d %12.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    summary.scenario(), summary.requests(), summary.errors(), summary.throughputPerSecond(),
+                    summary.p50Millis(), summary.p90Millis(), summary.p99Millis(), summary.maxMillis());
+        }
+    }
+
+    private static void writeReport(final LoadTestOptions options, final List<Summary> summaries) throws IOException {
+
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("options", options.toString());
+        report.put("results", summaries);
+
+        Files.createDirectories(options.reportDir());
+        final Path file = options.reportDir()
+                .resolve("load-test-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        log.warn("load test report written to {}", file.toAbsolutePath());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.wisoft.capstonedesign.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 요청 시나리오와 비율 ("boards=35,reviews=25,..." 형식)
+ * - 페이징 시나리오는 80%는 앞쪽 10페이지, 20%는 전체 범위에서 무작위 페이지를 조회한다.
+ */
+final class RequestMix {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DEPT_COUNT = 15;
+
+    private final List<Scenario> scenarios;
+    private final int totalWeight;
+
+    private RequestMix(final List<Scenario> scenarios) {
+        this.scenarios = scenarios;
+        this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+    }
+
+    static RequestMix parse(final String mix, final LoadTestOptions options) {
+
+        final Map<String, Function<ThreadLocalRandom, String>> available = Map.of(
+                "boards", random -> "/api/boards?page=" + page(random, options.boards()) + "&size=" + PAGE_SIZE,
+                "boards-dept", random -> "/api/boards?dept=" + (random.nextInt(DEPT_COUNT) + 1)
+                        + "&page=" + page(random, options.boards() / DEPT_COUNT) + "&size=" + PAGE_SIZE,
+                "boards-cursor", random -> "/api/boards?after=&size=" + PAGE_SIZE,
+                "reviews", random -> "/api/reviews?page=" + page(random, options.reviews()) + "&size=" + PAGE_SIZE,
+                "search-boards", random -> "/api/search/boards?size=" + PAGE_SIZE + "&q=" + query(random),
+                "search-reviews", random -> "/api/search/reviews?size=" + PAGE_SIZE + "&q=" + query(random));
+
+        final List<Scenario> scenarios = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            final String[] nameAndWeight = entry.trim().split("=");
+            final Function<ThreadLocalRandom, String> pathFactory = available.get(nameAndWeight[0]);
+            if (pathFactory == null || nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("알 수 없는 시나리오입니다: " + entry + " (사용 가능: " + available.keySet() + ")");
+            }
+            scenarios.add(new Scenario(nameAndWeight[0], Integer.parseInt(nameAndWeight[1]), pathFactory));
+        }
+        return new RequestMix(scenarios);
+    }
+
+    List<Scenario> scenarios() {
+        return scenarios;
+    }
+
+    Scenario next(final ThreadLocalRandom random) {
+
+        int point = random.nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            point -= scenario.weight();
+            if (point < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private static int page(final ThreadLocalRandom random, final int rows) {
+        final int lastPage = Math.max(1, rows / PAGE_SIZE);
+        return random.nextInt(100) < 80 ? random.nextInt(Math.min(10, lastPage)) : random.nextInt(lastPage);
+    }
+
+    private static String query(final ThreadLocalRandom random) {
+        final String symptom = SeedVocabulary.SYMPTOMS[random.nextInt(SeedVocabulary.SYMPTOMS.length)];
+        return URLEncoder.encode(symptom, StandardCharsets.UTF_8);
+    }
+
+    record Scenario(String name, int weight, Function<ThreadLocalRandom, String> pathFactory) { }
+}
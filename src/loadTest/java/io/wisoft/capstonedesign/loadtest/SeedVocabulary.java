@@ -0,0 +1,43 @@
+package io.wisoft.capstonedesign.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시드 데이터의 제목/본문 템플릿
+ * 적은 수의 템플릿을 돌려 쓰므로 검색 색인의 토큰 분포도 템플릿 단위로 미리 계산할 수 있다.
+ */
+final class SeedVocabulary {
+
+    static final String[] SYMPTOMS = {
+            "두통", "복통", "치통", "요통", "어지럼증", "기침", "발열", "불면증",
+            "소화불량", "관절통증", "시력저하", "피부발진", "손목통증", "가슴통증", "코막힘", "이명"
+    };
+
+    private static final String[] SUFFIXES = {
+            "이 계속돼요", "때문에 병원을 찾고 있어요", "이 심해졌어요", "치료 후기입니다"
+    };
+
+    static final int TEMPLATE_COUNT = SYMPTOMS.length * SUFFIXES.length;
+
+    private SeedVocabulary() {
+    }
+
+    static List<Template> templates() {
+
+        final List<Template> templates = new ArrayList<>(TEMPLATE_COUNT);
+        for (int i = 0; i < TEMPLATE_COUNT; i++) {
+            final String symptom = SYMPTOMS[i % SYMPTOMS.length];
+            final String other = SYMPTOMS[(i * 7 + 3) % SYMPTOMS.length];
+            final String suffix = SUFFIXES[i / SYMPTOMS.length];
+
+            templates.add(new Template(
+                    symptom + suffix,
+                    symptom + suffix + ". " + other + "도 함께 있어서 진료과를 어디로 가야 할지 궁금합니다. "
+                            + "근처 병원 추천이나 " + symptom + " 경험 있으시면 알려주세요."));
+        }
+        return templates;
+    }
+
+    record Template(String title, String body) { }
+}
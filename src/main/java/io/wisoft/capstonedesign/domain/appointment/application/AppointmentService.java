@@ -2,6 +2,7 @@ package io.wisoft.capstonedesign.domain.appointment.application;
 
 import io.wisoft.capstonedesign.domain.appointment.persistence.Appointment;
 import io.wisoft.capstonedesign.domain.appointment.persistence.AppointmentRepository;
+import io.wisoft.capstonedesign.domain.appointment.persistence.AppointmentSlot;
 import io.wisoft.capstonedesign.domain.appointment.web.dto.CreateAppointmentRequest;
 import io.wisoft.capstonedesign.domain.appointment.web.dto.UpdateAppointmentRequest;
 import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
@@ -32,6 +33,7 @@ public class AppointmentService {
     private final AppointmentRepository appointmentRepository;
     private final MemberService memberService;
     private final HospitalService hospitalService;
+    private final AppointmentSlotService appointmentSlotService;
 
     /**
      * 예약 정보 작성
@@ -41,6 +43,11 @@ public class AppointmentService {
             final CreateAppointmentRequest request) {
 
         validateAppointmentDate(request.appointmentDate());
+        validateDept(request.dept());
+
+        //슬롯 차감 (정원이 관리되는 시간대라면 마감 시 예외)
+        final AppointmentSlot slot = appointmentSlotService.reserve(
+                request.hospitalId(), HospitalDept.valueOf(request.dept()), request.appointmentDate()).orElse(null);
 
         //엔티티 조회
         final Member member = memberService.findById(request.memberId());
@@ -48,6 +55,7 @@ public class AppointmentService {
 
         //예약 정보 생성
         final Appointment appointment = createAppointment(request, member, hospital);
+        appointment.changeSlot(slot);
         log.info("appointment[{}]", appointment);
 
         appointmentRepository.save(appointment);
@@ -60,6 +68,7 @@ public class AppointmentService {
     @Transactional
     public void deleteAppointment(final Long appointmentId) {
         final Appointment appointment = findById(appointmentId);
+        appointmentSlotService.release(appointment.getSlot());
         appointmentRepository.delete(appointment);
     }
 
@@ -72,7 +81,17 @@ public class AppointmentService {
         validateDept(request.dept());
 
         final Appointment appointment = findById(appointmentId);
-        appointment.update(HospitalDept.valueOf(request.dept()), request.comment(), request.appointName(), request.appointPhonenumber());
+        final HospitalDept dept = HospitalDept.valueOf(request.dept());
+
+        //진료과가 바뀌면 새 슬롯을 먼저 차감한 뒤 기존 슬롯을 반환
+        if (dept != appointment.getDept()) {
+            final AppointmentSlot slot = appointmentSlotService.reserve(
+                    appointment.getHospital().getId(), dept, appointment.getAppointmentDate()).orElse(null);
+            appointmentSlotService.release(appointment.getSlot());
+            appointment.changeSlot(slot);
+        }
+
+        appointment.update(dept, request.comment(), request.appointName(), request.appointPhonenumber());
     }
 
     private void validateAppointmentDate(final LocalDateTime appointmentDate) {
@@ -116,6 +135,15 @@ public class AppointmentService {
     }
 
 
+    /**
+     * 예약 결제 완료 처리 - 동시에 들어온 결제 중 하나만 성공한다.
+     */
+    @Transactional
+    public boolean markPaid(final Long appointmentId) {
+        return appointmentRepository.markPaid(appointmentId, PayStatus.COMPLETED) == 1;
+    }
+
+
     /* 조회 로직 */
 
     public Appointment findDetailById(final Long appointmentId) {
@@ -0,0 +1,124 @@
+package io.wisoft.capstonedesign.domain.appointment.application;
+
+import io.wisoft.capstonedesign.domain.appointment.persistence.AppointmentSlot;
+import io.wisoft.capstonedesign.domain.appointment.persistence.AppointmentSlotBulkRepository;
+import io.wisoft.capstonedesign.domain.appointment.persistence.AppointmentSlotRepository;
+import io.wisoft.capstonedesign.domain.appointment.web.dto.OpenAppointmentSlotRequest;
+import io.wisoft.capstonedesign.domain.hospital.application.HospitalService;
+import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 예약 슬롯 재고 관리
+ * - 예약 시 슬롯 행 하나에 대한 조건부 update로 차감하므로 정원을 넘는 예약은 생기지 않는다.
+ * - 차감은 예약 저장과 같은 트랜잭션에서 일어나 예약 저장이 실패하면 함께 롤백된다.
+ * - 슬롯이 없는 시간대는 정원을 관리하지 않는 것으로 보고 기존처럼 예약을 받는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class AppointmentSlotService {
+
+    private static final int MAX_OPEN_SLOT_COUNT = 14 * 24 * 60 / AppointmentSlot.SLOT_MINUTES;
+
+    private final AppointmentSlotRepository appointmentSlotRepository;
+    private final AppointmentSlotBulkRepository appointmentSlotBulkRepository;
+    private final HospitalService hospitalService;
+
+    /**
+     * 슬롯 열기 - 이미 열린 슬롯은 정원만 변경
+     * 없는 슬롯은 insert-if-absent 로 만들어서 같은 구간을 동시에 열어도 유니크 제약 위반이 나지 않는다.
+     */
+    @Transactional
+    public int openSlots(final OpenAppointmentSlotRequest request) {
+
+        final HospitalDept dept = HospitalDept.valueOf(request.dept());
+        final List<LocalDateTime> startTimes = startTimes(request.from(), request.to());
+        final Hospital hospital = hospitalService.findById(request.hospitalId());
+
+        appointmentSlotBulkRepository.insertIfAbsent(hospital.getId(), dept, startTimes, request.capacity());
+
+        final LocalDateTime end = startTimes.get(startTimes.size() - 1).plusMinutes(AppointmentSlot.SLOT_MINUTES);
+        appointmentSlotRepository.findSlots(hospital.getId(), dept, startTimes.get(0), end).stream()
+                .filter(slot -> slot.getCapacity() != request.capacity())
+                .forEach(slot -> changeCapacity(slot, request.capacity()));
+
+        log.info("hospital[{}], dept[{}] slots opened[{}]", hospital.getId(), dept, startTimes.size());
+        return startTimes.size();
+    }
+
+    private List<LocalDateTime> startTimes(final LocalDateTime from, final LocalDateTime to) {
+
+        final LocalDateTime first = AppointmentSlot.startOf(from);
+        if (!first.isBefore(to) || from.isBefore(LocalDateTime.now().minusMinutes(AppointmentSlot.SLOT_MINUTES))) {
+            log.info("from[{}], to[{}] is invalid", from, to);
+            throw new IllegalValueException("슬롯 구간이 올바르지 않습니다.", ErrorCode.ILLEGAL_DATE);
+        }
+
+        final List<LocalDateTime> startTimes = new ArrayList<>();
+        for (LocalDateTime startAt = first; startAt.isBefore(to); startAt = startAt.plusMinutes(AppointmentSlot.SLOT_MINUTES)) {
+            if (startTimes.size() == MAX_OPEN_SLOT_COUNT) {
+                log.info("from[{}], to[{}] slot count exceeded", from, to);
+                throw new IllegalValueException("한 번에 열 수 있는 슬롯은 " + MAX_OPEN_SLOT_COUNT + "개까지입니다.", ErrorCode.ILLEGAL_PARAM);
+            }
+            startTimes.add(startAt);
+        }
+        return startTimes;
+    }
+
+    private void changeCapacity(final AppointmentSlot slot, final int capacity) {
+
+        if (appointmentSlotRepository.changeCapacity(slot.getId(), capacity) == 0) {
+            log.info("slot[{}] capacity[{}] is less than booked", slot.getId(), capacity);
+            throw new IllegalValueException("이미 예약된 인원보다 정원을 줄일 수 없습니다.", ErrorCode.ILLEGAL_PARAM);
+        }
+    }
+
+    /**
+     * 예약 시간이 속한 슬롯에서 한 자리 차감 (슬롯이 없으면 empty)
+     */
+    @Transactional
+    public Optional<AppointmentSlot> reserve(final Long hospitalId, final HospitalDept dept, final LocalDateTime appointmentDate) {
+
+        final Optional<AppointmentSlot> slot = appointmentSlotRepository.findSlot(hospitalId, dept, AppointmentSlot.startOf(appointmentDate));
+
+        slot.ifPresent(target -> {
+            if (appointmentSlotRepository.decreaseRemaining(target.getId()) == 0) {
+                log.info("slot[{}] is full", target.getId());
+                throw new IllegalValueException("해당 시간대의 예약이 마감되었습니다.", ErrorCode.FULL_APPOINTMENT_SLOT);
+            }
+        });
+        return slot;
+    }
+
+    /**
+     * 예약 취소/변경 시 한 자리 반환
+     */
+    @Transactional
+    public void release(final AppointmentSlot slot) {
+        if (slot != null) {
+            appointmentSlotRepository.increaseRemaining(slot.getId());
+        }
+    }
+
+    /**
+     * 특정 날짜의 슬롯 목록
+     */
+    public List<AppointmentSlot> findSlots(final Long hospitalId, final String dept, final LocalDate date) {
+        return appointmentSlotRepository.findSlots(
+                hospitalId, HospitalDept.valueOf(dept), date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+}
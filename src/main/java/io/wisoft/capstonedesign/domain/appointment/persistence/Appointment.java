@@ -54,6 +54,11 @@ public class Appointment extends BaseEntity {
     @JoinColumn(name = "hosp_id")
     private Hospital hospital;
 
+    /* 정원이 관리되는 시간대의 예약이면 차감한 슬롯, 아니면 null */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "slot_id")
+    private AppointmentSlot slot;
+
     /* 연관관계 편의메서드 */
     public void setHospital(final Hospital hospital) {
         //comment: 기존 관계 제거
@@ -122,6 +127,13 @@ public class Appointment extends BaseEntity {
         Assert.notNull(appointmentDate, "예약 날짜는 필수입니다.");
     }
 
+    /**
+     * 예약 슬롯 지정 (예약 생성, 진료과 변경으로 슬롯이 바뀌는 경우)
+     */
+    public void changeSlot(final AppointmentSlot slot) {
+        this.slot = slot;
+    }
+
     /**
      * 예약 수정
      */
@@ -1,6 +1,8 @@
 package io.wisoft.capstonedesign.domain.appointment.persistence;
 
+import io.wisoft.capstonedesign.global.enumeration.status.PayStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,6 +17,11 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
      */
     @Query("select a from Appointment a join fetch a.hospital h where a.id =:id")
     Optional<Appointment> findDetailById(@Param("id") final Long id);
-}
-
 
+    /**
+     * 아직 결제되지 않은 예약일 때만 결제 완료로 변경 (반환값이 0이면 이미 결제됨)
+     */
+    @Modifying
+    @Query("update Appointment a set a.payStatus = :completed where a.id = :id and a.payStatus <> :completed")
+    int markPaid(@Param("id") final Long id, @Param("completed") final PayStatus completed);
+}
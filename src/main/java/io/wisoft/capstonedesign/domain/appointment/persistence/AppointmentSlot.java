@@ -0,0 +1,86 @@
+package io.wisoft.capstonedesign.domain.appointment.persistence;
+
+import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
+import io.wisoft.capstonedesign.global.BaseEntity;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.util.Assert;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 병원/진료과/시간대별 예약 가능 인원
+ * - remaining은 조건부 update(remaining > 0)로만 감소시켜 동시 예약에서도 capacity를 넘지 않는다.
+ * - 잠금은 해당 슬롯 행에만 걸리므로 다른 슬롯의 예약은 서로 기다리지 않는다.
+ */
+@Entity
+@Getter
+@Table(name = "appointment_slot",
+        uniqueConstraints = @UniqueConstraint(name = "uk_appointment_slot", columnNames = {"hosp_id", "slot_dept", "slot_start"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AppointmentSlot extends BaseEntity {
+
+    public static final int SLOT_MINUTES = 30;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "slot_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hosp_id", nullable = false)
+    private Hospital hospital;
+
+    @Column(name = "slot_dept", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private HospitalDept dept;
+
+    @Column(name = "slot_start", nullable = false)
+    private LocalDateTime startAt;
+
+    @Column(name = "slot_capacity", nullable = false)
+    private int capacity;
+
+    @Column(name = "slot_remaining", nullable = false)
+    private int remaining;
+
+    /* 정적 생성 메서드 */
+    @Builder
+    public static AppointmentSlot newInstance(
+            final Hospital hospital,
+            final HospitalDept dept,
+            final LocalDateTime startAt,
+            final int capacity) {
+
+        validateParam(hospital, dept, startAt, capacity);
+
+        final AppointmentSlot slot = new AppointmentSlot();
+        slot.hospital = hospital;
+        slot.dept = dept;
+        slot.startAt = startOf(startAt);
+        slot.capacity = capacity;
+        slot.remaining = capacity;
+
+        slot.createEntity();
+        return slot;
+    }
+
+    private static void validateParam(final Hospital hospital, final HospitalDept dept, final LocalDateTime startAt, final int capacity) {
+        Assert.notNull(hospital, "hospital는 필수입니다.");
+        Assert.notNull(dept, "dept는 필수입니다.");
+        Assert.notNull(startAt, "시작 시간은 필수입니다.");
+        Assert.isTrue(capacity > 0, "capacity는 1 이상이어야 합니다.");
+    }
+
+    /**
+     * 예약 시간이 속한 슬롯의 시작 시간 (SLOT_MINUTES 단위로 내림)
+     */
+    public static LocalDateTime startOf(final LocalDateTime time) {
+        final LocalDateTime hour = time.truncatedTo(ChronoUnit.HOURS);
+        return hour.plusMinutes((long) (time.getMinute() / SLOT_MINUTES) * SLOT_MINUTES);
+    }
+}
@@ -0,0 +1,74 @@
+package io.wisoft.capstonedesign.domain.appointment.persistence;
+
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 슬롯 일괄 생성 - 이미 있는 슬롯은 건드리지 않는다.
+ * 같은 슬롯을 동시에 열어도 uk_appointment_slot 위반 없이 한 행만 남는다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AppointmentSlotBulkRepository {
+
+    private static final String POSTGRESQL_INSERT_IF_ABSENT =
+            "insert into appointment_slot (hosp_id, slot_dept, slot_start, slot_capacity, slot_remaining, created_at, updated_at)" +
+                    " values (?, ?, ?, ?, ?, ?, ?)" +
+                    " on conflict (hosp_id, slot_dept, slot_start) do nothing";
+
+    private static final String H2_INSERT_IF_ABSENT =
+            "merge into appointment_slot s" +
+                    " using (values (?, ?, ?, ?, ?, ?, ?))" +
+                    " v (hosp_id, slot_dept, slot_start, slot_capacity, slot_remaining, created_at, updated_at)" +
+                    " on s.hosp_id = v.hosp_id and s.slot_dept = v.slot_dept and s.slot_start = v.slot_start" +
+                    " when not matched then insert (hosp_id, slot_dept, slot_start, slot_capacity, slot_remaining, created_at, updated_at)" +
+                    " values (v.hosp_id, v.slot_dept, v.slot_start, v.slot_capacity, v.slot_remaining, v.created_at, v.updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String insertSql;
+
+    public void insertIfAbsent(
+            final Long hospitalId,
+            final HospitalDept dept,
+            final List<LocalDateTime> startTimes,
+            final int capacity) {
+
+        if (startTimes.isEmpty()) {
+            return;
+        }
+
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(insertSql(), startTimes, startTimes.size(), (ps, startAt) -> {
+            ps.setLong(1, hospitalId);
+            ps.setString(2, dept.name());
+            ps.setTimestamp(3, Timestamp.valueOf(startAt));
+            ps.setInt(4, capacity);
+            ps.setInt(5, capacity);
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+
+    private String insertSql() {
+
+        if (insertSql == null) {
+            final String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            log.info("database product[{}]", productName);
+
+            insertSql = "H2".equalsIgnoreCase(productName) ? H2_INSERT_IF_ABSENT : POSTGRESQL_INSERT_IF_ABSENT;
+        }
+
+        return insertSql;
+    }
+}
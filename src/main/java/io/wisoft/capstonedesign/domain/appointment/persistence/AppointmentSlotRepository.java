@@ -0,0 +1,55 @@
+package io.wisoft.capstonedesign.domain.appointment.persistence;
+
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AppointmentSlotRepository extends JpaRepository<AppointmentSlot, Long> {
+
+    @Query("select s from AppointmentSlot s" +
+            " where s.hospital.id = :hospitalId and s.dept = :dept and s.startAt = :startAt")
+    Optional<AppointmentSlot> findSlot(
+            @Param("hospitalId") final Long hospitalId,
+            @Param("dept") final HospitalDept dept,
+            @Param("startAt") final LocalDateTime startAt);
+
+    @Query("select s from AppointmentSlot s" +
+            " where s.hospital.id = :hospitalId and s.dept = :dept and s.startAt >= :from and s.startAt < :to" +
+            " order by s.startAt")
+    List<AppointmentSlot> findSlots(
+            @Param("hospitalId") final Long hospitalId,
+            @Param("dept") final HospitalDept dept,
+            @Param("from") final LocalDateTime from,
+            @Param("to") final LocalDateTime to);
+
+    /**
+     * 남은 자리가 있을 때만 1 감소 (반환값이 0이면 마감)
+     */
+    @Modifying
+    @Query("update AppointmentSlot s set s.remaining = s.remaining - 1 where s.id = :id and s.remaining > 0")
+    int decreaseRemaining(@Param("id") final Long id);
+
+    /**
+     * 예약 취소 시 1 증가 (capacity를 넘지 않음)
+     */
+    @Modifying
+    @Query("update AppointmentSlot s set s.remaining = s.remaining + 1 where s.id = :id and s.remaining < s.capacity")
+    int increaseRemaining(@Param("id") final Long id);
+
+    /**
+     * 정원 변경 - 이미 예약된 인원보다 작게 줄이려 하면 0 반환
+     */
+    @Modifying
+    @Query("update AppointmentSlot s" +
+            " set s.remaining = s.remaining + (:capacity - s.capacity), s.capacity = :capacity" +
+            " where s.id = :id and s.capacity - s.remaining <= :capacity")
+    int changeCapacity(@Param("id") final Long id, @Param("capacity") final int capacity);
+}
@@ -2,14 +2,20 @@ package io.wisoft.capstonedesign.domain.appointment.web;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.wisoft.capstonedesign.domain.appointment.application.AppointmentService;
+import io.wisoft.capstonedesign.domain.appointment.application.AppointmentSlotService;
 import io.wisoft.capstonedesign.domain.appointment.web.dto.*;
+import io.wisoft.capstonedesign.domain.staff.application.StaffService;
 import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApi;
 import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApiFailWithAuth;
 import jakarta.validation.Valid;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 
 @Tag(name = "예약")
 @Slf4j
@@ -19,8 +25,10 @@ import org.springframework.web.bind.annotation.*;
 public class AppointmentApiController {
 
     private final AppointmentService appointmentService;
+    private final AppointmentSlotService appointmentSlotService;
+    private final StaffService staffService;
 
-    @SwaggerApi(summary = "예약 저장", implementation = CreateAppointmentResponse.class)
+    @SwaggerApi(summary = "예약 저장 (정원이 있는 시간대는 마감 시 409)", implementation = CreateAppointmentResponse.class)
     @SwaggerApiFailWithAuth
     @PostMapping
     public CreateAppointmentResponse createAppointment(
@@ -59,4 +67,32 @@ public class AppointmentApiController {
         log.info("appointment Id[{}]", id);
         return new Result(new AppointmentDto(appointmentService.findDetailById(id)));
     }
+
+
+    @SwaggerApi(summary = "예약 슬롯 열기 (해당 병원 의료진 전용, 30분 단위, 이미 열린 슬롯은 정원 변경)", implementation = OpenAppointmentSlotResponse.class)
+    @SwaggerApiFailWithAuth
+    @PostMapping("/slots")
+    public OpenAppointmentSlotResponse openSlots(
+            @RequestAttribute("email") final String email,
+            @RequestBody @Valid final OpenAppointmentSlotRequest request) {
+
+        log.info("email[{}], OpenAppointmentSlotRequest[{}]", email, request);
+        staffService.validateHospitalStaff(email, request.hospitalId());
+        return new OpenAppointmentSlotResponse(appointmentSlotService.openSlots(request));
+    }
+
+
+    @SwaggerApi(summary = "특정 날짜의 예약 슬롯 조회", implementation = Result.class)
+    @SwaggerApiFailWithAuth
+    @GetMapping("/slots")
+    public Result<List<AppointmentSlotDto>> slots(
+            @RequestParam final Long hospitalId,
+            @RequestParam final String dept,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate date) {
+
+        log.info("hospitalId[{}], dept[{}], date[{}]", hospitalId, dept, date);
+        return new Result<>(appointmentSlotService.findSlots(hospitalId, dept, date).stream()
+                .map(AppointmentSlotDto::new)
+                .toList());
+    }
 }
@@ -0,0 +1,12 @@
+package io.wisoft.capstonedesign.domain.appointment.web.dto;
+
+import io.wisoft.capstonedesign.domain.appointment.persistence.AppointmentSlot;
+
+import java.time.LocalDateTime;
+
+public record AppointmentSlotDto(Long id, String dept, LocalDateTime startAt, int capacity, int remaining) {
+
+    public AppointmentSlotDto(final AppointmentSlot slot) {
+        this(slot.getId(), slot.getDept().toString(), slot.getStartAt(), slot.getCapacity(), slot.getRemaining());
+    }
+}
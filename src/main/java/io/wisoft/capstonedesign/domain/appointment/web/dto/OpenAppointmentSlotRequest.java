@@ -0,0 +1,26 @@
+package io.wisoft.capstonedesign.domain.appointment.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * [from, to) 구간을 슬롯 단위(30분)로 나눠 capacity 만큼 예약을 받는다.
+ */
+@Builder
+public record OpenAppointmentSlotRequest(
+        @NotNull Long hospitalId,
+        @NotBlank String dept,
+        @NotNull
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss", shape = JsonFormat.Shape.STRING, timezone = "Asia/Seoul")
+        LocalDateTime from,
+        @NotNull
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss", shape = JsonFormat.Shape.STRING, timezone = "Asia/Seoul")
+        LocalDateTime to,
+        @Min(1) int capacity
+) {
+}
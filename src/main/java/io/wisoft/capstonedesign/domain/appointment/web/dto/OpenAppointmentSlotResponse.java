@@ -0,0 +1,3 @@
+package io.wisoft.capstonedesign.domain.appointment.web.dto;
+
+public record OpenAppointmentSlotResponse(int openedCount) { }
@@ -1,8 +1,6 @@
 package io.wisoft.capstonedesign.domain.auth.application;
 
 
-import io.wisoft.capstonedesign.domain.auth.persistence.DBMailAuthentication;
-import io.wisoft.capstonedesign.domain.auth.persistence.MailAuthenticationRepository;
 import io.wisoft.capstonedesign.domain.auth.web.dto.LoginResponse;
 import io.wisoft.capstonedesign.global.config.bcrypt.EncryptHelper;
 import io.wisoft.capstonedesign.domain.auth.web.dto.CreateMemberRequest;
@@ -11,6 +9,7 @@ import io.wisoft.capstonedesign.domain.hospital.application.HospitalService;
 import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
 import io.wisoft.capstonedesign.domain.member.persistence.Member;
 import io.wisoft.capstonedesign.domain.member.persistence.MemberRepository;
+import io.wisoft.capstonedesign.domain.staff.application.StaffChangedEvent;
 import io.wisoft.capstonedesign.domain.staff.persistence.Staff;
 import io.wisoft.capstonedesign.domain.staff.persistence.StaffRepository;
 import io.wisoft.capstonedesign.domain.auth.web.dto.CreateStaffRequest;
@@ -24,6 +23,7 @@ import io.wisoft.capstonedesign.global.redis.RedisAdapter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,8 +47,9 @@ public class AuthService {
     private final HospitalService hospitalService;
     private final EncryptHelper encryptHelper;
     private final JwtTokenProvider jwtTokenProvider;
-    private final MailAuthenticationRepository mailAuthenticationRepository;
+    private final EmailVerificationStore emailVerificationStore;
     private final RedisAdapter redisAdapter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /*
      * 회원가입
@@ -56,7 +57,7 @@ public class AuthService {
     @Transactional
     public Long signUpMember(final CreateMemberRequest request) {
 
-        validateEmailVerified(request.email());
+        consumeEmailVerified(request.email());
         validateDuplicateNickname(request.nickname());
 
         final Member member = createMember(request);
@@ -65,10 +66,6 @@ public class AuthService {
         //회원 저장
         memberRepository.save(member);
 
-        //인증을 위해 저장했던 이메일 삭제
-        final var mailAuthentication = mailAuthenticationRepository.findByEmail(request.email()).get();
-        mailAuthenticationRepository.delete(mailAuthentication);
-
         log.debug("{}님이 회원가입을 하셨습니다.", member.getNickname());
         return member.getId();
     }
@@ -85,6 +82,12 @@ public class AuthService {
 
         validatePassword(request, member.getPassword());
 
+        //해시 설정(cost)이 올라간 경우 로그인 시점에 다시 해시
+        if (encryptHelper.needsRehash(member.getPassword())) {
+            log.info("member[{}] password rehash", member.getId());
+            member.updatePassword(encryptHelper.encrypt(request.password()));
+        }
+
         final String accessToken = jwtTokenProvider.createAccessToken(member.getEmail());
         final String refreshToken = jwtTokenProvider.createRefreshToken(member.getEmail());
 
@@ -101,7 +104,7 @@ public class AuthService {
      */
     @Transactional
     public Long signUpStaff(final CreateStaffRequest request) {
-        validateEmailVerified(request.email());
+        consumeEmailVerified(request.email());
 
         //엔티티 조회
         final Hospital hospital = hospitalService.findByHospitalName(request.hospitalName());
@@ -111,10 +114,7 @@ public class AuthService {
 
         //의료진 저장
         staffRepository.save(staff);
-
-        //이메일 인증을 위해 저장했던 이메일 삭제
-        final var mailAuthentication = mailAuthenticationRepository.findByEmail(request.email()).get();
-        mailAuthenticationRepository.delete(mailAuthentication);
+        eventPublisher.publishEvent(StaffChangedEvent.of(hospital.getId()));
 
         return staff.getId();
     }
@@ -131,6 +131,12 @@ public class AuthService {
 
         validatePassword(request, staff.getPassword());
 
+        //해시 설정(cost)이 올라간 경우 로그인 시점에 다시 해시
+        if (encryptHelper.needsRehash(staff.getPassword())) {
+            log.info("staff[{}] password rehash", staff.getId());
+            staff.updatePassword(encryptHelper.encrypt(request.password()));
+        }
+
         final String accessToken = jwtTokenProvider.createAccessToken(staff.getEmail());
         final String refreshToken = jwtTokenProvider.createRefreshToken(staff.getEmail());
 
@@ -157,16 +163,13 @@ public class AuthService {
         }
     }
 
-    private void validateEmailVerified(final String email) throws IllegalStateException {
-        final DBMailAuthentication mail = mailAuthenticationRepository.findByEmail(email).orElseThrow(() -> {
-
-            log.info("email[{}] not exist", email);
-            return new NotFoundException("이메일 인증 정보 조회 실패");
-        });
-
-        if (!mail.isVerified()) {
+    /**
+     * 이메일 인증 완료 표시 소비 (가입이 롤백되면 되돌린다)
+     */
+    private void consumeEmailVerified(final String email) {
+        if (!emailVerificationStore.consumeVerified(email)) {
             log.info("email[{}] not verified", email);
-            throw new IllegalValueException("이메일 인증을 완료해주세요.", ErrorCode.ILLEGAL_STATE);
+            throw new NotFoundException("이메일 인증 정보 조회 실패");
         }
     }
 
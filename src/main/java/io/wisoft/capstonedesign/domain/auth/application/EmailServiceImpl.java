@@ -1,7 +1,5 @@
 package io.wisoft.capstonedesign.domain.auth.application;
 
-import io.wisoft.capstonedesign.domain.auth.persistence.DBMailAuthentication;
-import io.wisoft.capstonedesign.domain.auth.persistence.MailAuthenticationRepository;
 import io.wisoft.capstonedesign.domain.auth.web.dto.CertificateMailRequest;
 import io.wisoft.capstonedesign.global.config.bcrypt.EncryptHelper;
 import io.wisoft.capstonedesign.domain.member.persistence.Member;
@@ -12,20 +10,14 @@ import io.wisoft.capstonedesign.global.exception.ErrorCode;
 import io.wisoft.capstonedesign.global.exception.duplicate.DuplicateEmailException;
 import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
 import io.wisoft.capstonedesign.global.exception.notfound.NotFoundException;
-import io.wisoft.capstonedesign.global.redis.RedisAdapter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 @Slf4j
@@ -34,21 +26,19 @@ import java.util.stream.IntStream;
 @RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService {
 
-    @Value("${spring.mail.username}")
-    private String AVOCADO_ADDRESS;
-    private final int MAIL_AUTH_EXPIRED_TIME = 3 * 60;
-
-    private final JavaMailSender emailSender;
+    private final MailOutboxService mailOutboxService;
     private final EncryptHelper encryptHelper;
     private final StaffRepository staffRepository;
     private final MemberRepository memberRepository;
-    private final RedisAdapter redisAdapter;
-    private final MailAuthenticationRepository mailAuthenticationRepository;
+    private final EmailVerificationStore emailVerificationStore;
 
     private final String EMAIL_CERTIFICATION_SUBJECT = "🥑 AVOCADO 이메일 인증 코드입니다.";
     private final String PASSWORD_RESET_SUBJECT = "🥑 AVOCADO 임시 비밀번호입니다.";
 
-    @Async
+    /**
+     * 중복 이메일 검증은 요청 안에서 하고, 메일은 outbox 에 저장해 MailOutboxDispatcher 가 발송한다.
+     */
+    @Transactional
     public String sendCertificationCode(final String to) {
 
         log.info("to[{}]", to);
@@ -58,7 +48,7 @@ public class EmailServiceImpl implements EmailService {
         sendEmail(to, EMAIL_CERTIFICATION_SUBJECT, authenticateCode);
         log.info("authenticateCode[{}]", authenticateCode);
 
-        redisAdapter.setValue(to, authenticateCode, MAIL_AUTH_EXPIRED_TIME, TimeUnit.SECONDS);
+        emailVerificationStore.issue(to, authenticateCode);
         log.info("redis : {} 를 3분간 저장합니다.", to);
 
         return authenticateCode;
@@ -74,47 +64,26 @@ public class EmailServiceImpl implements EmailService {
         }
     }
 
-    @Transactional
+    /**
+     * 코드 비교와 소비를 Redis 에서 한 번에 처리하고, 인증 완료 표시는 회원가입 시 소비된다.
+     */
     public void certificateEmail(final CertificateMailRequest request) {
 
-        //메일 정보 조회
-        final String codeByRedis = getRedisValue(request.email());
-        log.info("codeByRedis[{}]", codeByRedis);
-
-        //메일 정보 검증
-        validateBeforeCertificateEmail(codeByRedis, request);
-
-        //Redis에서 메일 정보 삭제
-        redisAdapter.deleteValue(request.email());
-
-        //인증된 이메일 목록으로 DB에 저장 - 회원가입 성공시 삭제
-        mailAuthenticationRepository.save(
-                DBMailAuthentication.builder()
-                        .email(request.email())
-                        .isVerified(true)
-                        .build()
-        );
-    }
-
-    private String getRedisValue(final String key) {
-        log.info("key[{}]", key);
-        final String code = redisAdapter.getValue(key);
-
-        if (code == null) {
-            log.info("key[{}] not found in redis", key);
-            throw new NotFoundException("해당 이메일에 대한 응답코드 송신 기록이 없습니다.");
-        }
-        return code;
-    }
-
-    private void validateBeforeCertificateEmail(final String code, final CertificateMailRequest request) {
-        if (!request.code().equals(code)) {
-            log.info("request code[{}] not valid", request.code());
-            throw new IllegalValueException("인증 코드가 달라 인증에 실패하였습니다.", ErrorCode.ILLEGAL_CODE);
+        final String code = request.code() == null ? "" : request.code();
+
+        switch (emailVerificationStore.verify(request.email(), code)) {
+            case NOT_FOUND -> {
+                log.info("email[{}] not found in redis", request.email());
+                throw new NotFoundException("해당 이메일에 대한 응답코드 송신 기록이 없습니다.");
+            }
+            case MISMATCH -> {
+                log.info("request code[{}] not valid", request.code());
+                throw new IllegalValueException("인증 코드가 달라 인증에 실패하였습니다.", ErrorCode.ILLEGAL_CODE);
+            }
+            case VERIFIED -> log.info("email[{}] verified", request.email());
         }
     }
 
-    @Async
     @Transactional
     public void sendResetMemberPassword(final String email) {
         final Member member = memberRepository.findByEmail(email).orElseThrow(() -> {
@@ -123,14 +92,12 @@ public class EmailServiceImpl implements EmailService {
         });
 
         final String resetPassword = createRandomCode();
-        sendEmail(email, PASSWORD_RESET_SUBJECT, resetPassword);
-
         member.updatePassword(encryptHelper.encrypt(resetPassword));
+        sendEmail(email, PASSWORD_RESET_SUBJECT, resetPassword);
 
         log.info("{}으로 임시 비밀번호를 발급합니다.", email);
     }
 
-    @Async
     @Transactional
     public void sendResetStaffPassword(final String email) {
         final Staff staff = staffRepository.findByEmail(email).orElseThrow(() -> {
@@ -139,9 +106,8 @@ public class EmailServiceImpl implements EmailService {
         });
 
         final String resetPassword = createRandomCode();
-        sendEmail(email, PASSWORD_RESET_SUBJECT, resetPassword);
-
         staff.updatePassword(encryptHelper.encrypt(resetPassword));
+        sendEmail(email, PASSWORD_RESET_SUBJECT, resetPassword);
 
         log.info("{}으로 임시 비밀번호를 발급합니다.", email);
     }
@@ -150,21 +116,7 @@ public class EmailServiceImpl implements EmailService {
     private void sendEmail(final String to, final String subject, final String body) {
 
         log.info("to[{}], subject[{}], body[{}]", to, subject, body);
-
-        final SimpleMailMessage message = createMessage(to, subject, body);
-        emailSender.send(message);
-
-        log.info("{} 으로 {}를 발송합니다.", to, body);
-    }
-
-    @NotNull
-    private SimpleMailMessage createMessage(final String to, final String subject, final String code) {
-        final SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(AVOCADO_ADDRESS);
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(code);
-        return message;
+        mailOutboxService.enqueue(to, subject, body);
     }
 
     private String createRandomCode() {
@@ -0,0 +1,119 @@
+package io.wisoft.capstonedesign.domain.auth.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일 인증 상태 (Redis)
+ * - mail:{email}:code     인증 코드 hash (code, attempts), 3분 TTL
+ * - mail:{email}:verified 인증 완료 표시, 가입 시 한 번만 소비된다.
+ * 두 키는 같은 hash tag 를 써서 Lua 스크립트 하나로 검증과 소비를 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailVerificationStore {
+
+    static final Duration CODE_TTL = Duration.ofMinutes(3);
+    static final Duration VERIFIED_TTL = Duration.ofMinutes(30);
+    static final int MAX_ATTEMPTS = 5;
+
+    /* KEYS[1] 코드 hash, ARGV[1] 코드, ARGV[2] TTL(ms) */
+    private static final RedisScript<Long> ISSUE = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /* KEYS[1] 코드 hash, KEYS[2] 인증 완료 표시, ARGV[1] 요청 코드, ARGV[2] 최대 시도 횟수, ARGV[3] 인증 완료 TTL(ms) */
+    private static final RedisScript<Long> VERIFY = new DefaultRedisScript<>("""
+            local code = redis.call('HGET', KEYS[1], 'code')
+            if not code then
+                return -1
+            end
+            if code ~= ARGV[1] then
+                if redis.call('HINCRBY', KEYS[1], 'attempts', 1) >= tonumber(ARGV[2]) then
+                    redis.call('DEL', KEYS[1])
+                end
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SET', KEYS[2], '1', 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void issue(final String email, final String code) {
+        redisTemplate.execute(ISSUE, List.of(codeKey(email)), code, String.valueOf(CODE_TTL.toMillis()));
+    }
+
+    /**
+     * 코드가 일치하면 코드를 지우고 인증 완료 표시를 남긴다. (MAX_ATTEMPTS 번 틀리면 코드를 폐기)
+     */
+    public VerifyResult verify(final String email, final String code) {
+
+        final Long result = redisTemplate.execute(
+                VERIFY,
+                List.of(codeKey(email), verifiedKey(email)),
+                code,
+                String.valueOf(MAX_ATTEMPTS),
+                String.valueOf(VERIFIED_TTL.toMillis()));
+
+        if (result == null || result < 0) {
+            return VerifyResult.NOT_FOUND;
+        }
+        return result == 1 ? VerifyResult.VERIFIED : VerifyResult.MISMATCH;
+    }
+
+    public void markVerified(final String email) {
+        redisTemplate.opsForValue().set(verifiedKey(email), "1", VERIFIED_TTL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 인증 완료 표시 소비 - 동시에 가입해도 한 요청만 성공한다.
+     * 트랜잭션 안이라면 롤백될 때 표시를 되돌려 다시 인증하지 않아도 되게 한다.
+     */
+    public boolean consumeVerified(final String email) {
+
+        if (!Boolean.TRUE.equals(redisTemplate.delete(verifiedKey(email)))) {
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        log.info("email[{}] verification restored after rollback", email);
+                        markVerified(email);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    private String codeKey(final String email) {
+        return "mail:{" + email + "}:code";
+    }
+
+    private String verifiedKey(final String email) {
+        return "mail:{" + email + "}:verified";
+    }
+
+    public enum VerifyResult {
+        VERIFIED, MISMATCH, NOT_FOUND
+    }
+}
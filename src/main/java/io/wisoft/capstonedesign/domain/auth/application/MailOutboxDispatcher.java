@@ -0,0 +1,185 @@
+package io.wisoft.capstonedesign.domain.auth.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.wisoft.capstonedesign.domain.auth.persistence.MailOutbox;
+import io.wisoft.capstonedesign.global.outbox.OutboxService;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * mail_outbox 의 메일을 주기적으로 발송
+ * - 한 번에 batchSize 건을 선점해서 SMTP 연결 하나로 보내고, 결과는 건별로 기록한다.
+ * - 실패한 메일은 지수 backoff(최대 maxBackoff, jitter 포함) 후 재시도한다.
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private final MailOutboxService mailOutboxService;
+    private final JavaMailSender mailSender;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Timer latencyTimer;
+    private final Timer sendTimer;
+
+    @Value("${spring.mail.username}")
+    private String from;
+
+    @Value("${mail.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.lease-ms:60000}")
+    private long leaseMillis;
+
+    @Value("${mail.outbox.base-backoff-ms:5000}")
+    private long baseBackoffMillis;
+
+    @Value("${mail.outbox.max-backoff-ms:600000}")
+    private long maxBackoffMillis;
+
+    public MailOutboxDispatcher(
+            final MailOutboxService mailOutboxService,
+            final JavaMailSender mailSender,
+            final ObjectProvider<MeterRegistry> meterRegistryProvider) {
+
+        this.mailOutboxService = mailOutboxService;
+        this.mailSender = mailSender;
+
+        final MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.sentCounter = Counter.builder("mail.outbox.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.outbox.failed").register(meterRegistry);
+        this.latencyTimer = Timer.builder("mail.outbox.latency")
+                .description("outbox 저장부터 발송 완료까지")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("mail.outbox.send")
+                .description("배치 하나의 SMTP 발송 시간")
+                .register(meterRegistry);
+        Gauge.builder("mail.outbox.depth", mailOutboxService, MailOutboxService::countReady)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.error("mail outbox dispatch failed", e);
+        }
+    }
+
+    /**
+     * 한 배치 발송 후 처리한 건수 반환
+     */
+    public int dispatch() {
+
+        final List<MailOutbox> outboxes = mailOutboxService.claim(batchSize, Duration.ofMillis(leaseMillis));
+        if (outboxes.isEmpty()) {
+            return 0;
+        }
+
+        final Map<MimeMessage, MailOutbox> messages = new IdentityHashMap<>();
+        for (final MailOutbox outbox : outboxes) {
+            try {
+                messages.put(createMessage(outbox), outbox);
+            } catch (MessagingException e) {
+                fail(outbox, e);
+            }
+        }
+
+        final Map<Object, Exception> failedMessages = send(messages.keySet().toArray(MimeMessage[]::new));
+
+        messages.forEach((message, outbox) -> {
+            final Exception exception = failedMessages.get(message);
+            if (exception != null) {
+                fail(outbox, exception);
+                return;
+            }
+
+            mailOutboxService.markDone(outbox.getId());
+            sentCounter.increment();
+            latencyTimer.record(Duration.between(outbox.getCreatedAt(), LocalDateTime.now()));
+        });
+        return outboxes.size();
+    }
+
+    /**
+     * 배치를 연결 하나로 발송하고 실패한 메일만 반환
+     */
+    private Map<Object, Exception> send(final MimeMessage[] messages) {
+
+        if (messages.length == 0) {
+            return Map.of();
+        }
+
+        final Timer.Sample sample = Timer.start();
+        try {
+            mailSender.send(messages);
+            return Map.of();
+        } catch (MailSendException e) {
+            return e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            return allFailed(messages, e);
+        } finally {
+            sample.stop(sendTimer);
+        }
+    }
+
+    private Map<Object, Exception> allFailed(final MimeMessage[] messages, final Exception exception) {
+        final Map<Object, Exception> failedMessages = new IdentityHashMap<>();
+        for (final MimeMessage message : messages) {
+            failedMessages.put(message, exception);
+        }
+        return failedMessages;
+    }
+
+    private void fail(final MailOutbox outbox, final Exception exception) {
+        log.info("mail outbox[{}] attempt[{}] failed: {}", outbox.getId(), outbox.getAttempts(), exception.toString());
+        failedCounter.increment();
+        mailOutboxService.markFailed(outbox.getId(), exception.toString(), maxAttempts, backoff(outbox.getAttempts()));
+    }
+
+    private MimeMessage createMessage(final MailOutbox outbox) throws MessagingException {
+        final MimeMessage message = mailSender.createMimeMessage();
+        final MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(from);
+        helper.setTo(outbox.getRecipient());
+        helper.setSubject(outbox.getSubject());
+        helper.setText(outbox.getBody());
+        return message;
+    }
+
+    private Duration backoff(final int attempts) {
+        return OutboxService.backoff(attempts, baseBackoffMillis, maxBackoffMillis);
+    }
+}
@@ -0,0 +1,57 @@
+package io.wisoft.capstonedesign.domain.auth.application;
+
+import io.wisoft.capstonedesign.domain.auth.persistence.MailOutbox;
+import io.wisoft.capstonedesign.domain.auth.persistence.MailOutboxRepository;
+import io.wisoft.capstonedesign.global.enumeration.status.OutboxStatus;
+import io.wisoft.capstonedesign.global.outbox.OutboxService;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailParseException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class MailOutboxService extends OutboxService<MailOutbox> {
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    public MailOutboxService(final MailOutboxRepository mailOutboxRepository) {
+        super(mailOutboxRepository);
+        this.mailOutboxRepository = mailOutboxRepository;
+    }
+
+    /**
+     * 메일 발송 요청 저장 - 주소 형식은 요청 안에서 바로 검증하고, 호출한 트랜잭션이 커밋될 때만 남는다.
+     */
+    @Transactional
+    public void enqueue(final String to, final String subject, final String body) {
+
+        validateAddress(to);
+
+        final MailOutbox outbox = mailOutboxRepository.save(MailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .build());
+        log.info("mail to[{}] enqueued outbox[{}]", to, outbox.getId());
+    }
+
+    private void validateAddress(final String to) {
+        try {
+            new InternetAddress(to).validate();
+        } catch (AddressException e) {
+            log.info("to[{}] is not valid address", to);
+            throw new MailParseException("이메일 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    /**
+     * 발송 대기 중인 메일 수 (mail.outbox.depth)
+     */
+    public long countReady() {
+        return mailOutboxRepository.countByStatus(OutboxStatus.READY);
+    }
+}
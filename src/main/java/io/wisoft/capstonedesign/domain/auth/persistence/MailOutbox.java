@@ -0,0 +1,67 @@
+package io.wisoft.capstonedesign.domain.auth.persistence;
+
+import io.wisoft.capstonedesign.global.outbox.Outbox;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.util.Assert;
+
+/**
+ * 발송할 메일 (outbox)
+ * - 요청 트랜잭션에서 저장되고, MailOutboxDispatcher 가 SMTP로 발송한다.
+ * - 본문에는 인증 코드/임시 비밀번호가 담기므로 발송이 끝나면(DONE, DEAD) 지운다.
+ */
+@Entity
+@Getter
+@Table(name = "mail_outbox",
+        indexes = @Index(name = "idx_mail_outbox_due", columnList = "outbox_status, outbox_next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailOutbox extends Outbox {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "mail_recipient", nullable = false, length = 320)
+    private String recipient;
+
+    @Column(name = "mail_subject", nullable = false)
+    private String subject;
+
+    @Column(name = "mail_body", length = 1000)
+    private String body;
+
+    /* 정적 생성 메서드 */
+    @Builder
+    public static MailOutbox newInstance(
+            final String recipient,
+            final String subject,
+            final String body) {
+
+        Assert.hasText(recipient, "recipient는 필수입니다.");
+        Assert.hasText(subject, "subject는 필수입니다.");
+        Assert.hasText(body, "body는 필수입니다.");
+
+        final MailOutbox outbox = new MailOutbox();
+        outbox.recipient = recipient;
+        outbox.subject = subject;
+        outbox.body = body;
+        outbox.ready();
+
+        return outbox;
+    }
+
+    @Override
+    public void done() {
+        super.done();
+        this.body = null;
+    }
+
+    @Override
+    protected void dead(final String error) {
+        super.dead(error);
+        this.body = null;
+    }
+}
@@ -0,0 +1,13 @@
+package io.wisoft.capstonedesign.domain.auth.persistence;
+
+import io.wisoft.capstonedesign.global.enumeration.status.OutboxStatus;
+import io.wisoft.capstonedesign.global.outbox.OutboxRepository;
+
+import java.util.List;
+
+public interface MailOutboxRepository extends OutboxRepository<MailOutbox> {
+
+    long countByStatus(final OutboxStatus status);
+
+    List<MailOutbox> findAllByRecipient(final String recipient);
+}
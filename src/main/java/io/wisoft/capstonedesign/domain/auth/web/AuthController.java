@@ -9,6 +9,7 @@ import io.wisoft.capstonedesign.domain.auth.web.dto.LoginRequest;
 import io.wisoft.capstonedesign.domain.auth.web.dto.LoginResponse;
 import io.wisoft.capstonedesign.domain.auth.web.dto.CreateStaffRequest;
 import io.wisoft.capstonedesign.domain.auth.web.dto.CreateStaffResponse;
+import io.wisoft.capstonedesign.global.annotation.RateLimit;
 import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApi;
 import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApiFailWithAuth;
 import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApiFailWithoutAuth;
@@ -60,6 +61,7 @@ public class AuthController {
 
     @SwaggerApi(summary = "회원 로그인", implementation = ResponseEntity.class)
     @SwaggerApiFailWithoutAuth
+    @RateLimit(name = "login", capacity = 20)
     @PostMapping("/login/members")
     public ResponseEntity<LoginResponse> loginMember(@RequestBody @Valid final LoginRequest request) {
 
@@ -98,6 +100,7 @@ public class AuthController {
 
     @SwaggerApi(summary = "의료진 로그인", implementation = ResponseEntity.class)
     @SwaggerApiFailWithoutAuth
+    @RateLimit(name = "login", capacity = 20)
     @PostMapping("/login/staff")
     public ResponseEntity<LoginResponse> loginStaff(@RequestBody @Valid final LoginRequest request) {
 
@@ -4,20 +4,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import io.wisoft.capstonedesign.domain.auth.application.EmailService;
 import io.wisoft.capstonedesign.domain.auth.web.dto.CertificateMailRequest;
 import io.wisoft.capstonedesign.domain.auth.web.dto.MailObject;
+import io.wisoft.capstonedesign.global.annotation.RateLimit;
 import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApi;
 import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApiFailWithoutAuth;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.concurrent.CompletableFuture;
-
 @Tag(name = "이메일 인증")
 @Slf4j
 @RestController
@@ -26,26 +23,22 @@ import java.util.concurrent.CompletableFuture;
 public class MailController {
 
     private final EmailService emailService;
-    @Qualifier("asyncExecutor")
-    private final ThreadPoolTaskExecutor executor;
 
     @SwaggerApi(summary = "이메일 인증 코드 전송", implementation = ResponseEntity.class)
     @SwaggerApiFailWithoutAuth
+    @RateLimit(name = "mail", capacity = 10)
     @PostMapping("/certification-code")
     public ResponseEntity<String> sendCertificationCode(@RequestBody final MailObject mailObject) {
 
         log.info("MailObject[{}]", mailObject);
 
-        final CompletableFuture<String> future = CompletableFuture.supplyAsync(
-                        () -> emailService.sendCertificationCode(mailObject.email()), executor);
-
-        final String code = future.join();
-        return ResponseEntity.ok(code);
+        return ResponseEntity.ok(emailService.sendCertificationCode(mailObject.email()));
     }
 
 
     @SwaggerApi(summary = "이메일 인증", implementation = ResponseEntity.class)
     @SwaggerApiFailWithoutAuth
+    @RateLimit(capacity = 10)
     @PostMapping("/certification-email")
     public ResponseEntity<String> certificateEmail(@RequestBody final CertificateMailRequest request) {
 
@@ -58,6 +51,7 @@ public class MailController {
 
     @SwaggerApi(summary = "회원 비밀번호 찾기", implementation = ResponseEntity.class)
     @SwaggerApiFailWithoutAuth
+    @RateLimit(name = "mail", capacity = 10)
     @PostMapping("/member/password")
     public ResponseEntity<String> resetMemberPassword(@RequestBody final MailObject mailObject) {
 
@@ -69,6 +63,7 @@ public class MailController {
 
     @SwaggerApi(summary = "의료진 비밀번호 찾기", implementation = ResponseEntity.class)
     @SwaggerApiFailWithoutAuth
+    @RateLimit(name = "mail", capacity = 10)
     @PostMapping("/staff/password")
     public ResponseEntity<String> resetStaffPassword(@RequestBody final MailObject mailObject) {
 
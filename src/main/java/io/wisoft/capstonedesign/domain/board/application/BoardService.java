@@ -2,19 +2,29 @@ package io.wisoft.capstonedesign.domain.board.application;
 
 import io.wisoft.capstonedesign.domain.board.persistence.Board;
 import io.wisoft.capstonedesign.domain.board.persistence.BoardRepository;
+import io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto;
 import io.wisoft.capstonedesign.domain.board.web.dto.CreateBoardRequest;
 import io.wisoft.capstonedesign.domain.board.web.dto.UpdateBoardRequest;
 import io.wisoft.capstonedesign.domain.member.application.MemberService;
 import io.wisoft.capstonedesign.domain.member.persistence.Member;
+import io.wisoft.capstonedesign.domain.search.application.SearchService;
+import io.wisoft.capstonedesign.global.counter.CountKey;
+import io.wisoft.capstonedesign.global.counter.PageCounter;
 import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import io.wisoft.capstonedesign.global.enumeration.SearchTarget;
+import io.wisoft.capstonedesign.global.enumeration.status.BoardStatus;
 import io.wisoft.capstonedesign.global.exception.ErrorCode;
 import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
 import io.wisoft.capstonedesign.global.exception.notfound.NotFoundException;
 import io.wisoft.capstonedesign.global.mapper.DeptMapper;
+import io.wisoft.capstonedesign.global.pagination.CursorResult;
+import io.wisoft.capstonedesign.global.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -31,6 +41,8 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final MemberService memberService;
     private final BoardImageService boardImageService;
+    private final PageCounter pageCounter;
+    private final SearchService searchService;
 
     /**
      * 게시글 작성
@@ -46,6 +58,11 @@ public class BoardService {
         final Board board = createBoard(request, member);
         log.info("board[{}]", board);
         boardRepository.save(board);
+        pageCounter.increase(
+                CountKey.writtenBoards(),
+                CountKey.boardsByDept(board.getDept()),
+                CountKey.memberBoards(member.getId()));
+        searchService.indexBoard(board);
 
         // 게시글 이미지 저장(로컬)
         boardImageService.save(board.getId(), multipartFiles);
@@ -67,7 +84,12 @@ public class BoardService {
      */
     @Transactional
     public void deleteBoard(final Long boardId) {
-        boardRepository.deleteById(boardId);
+        final Board board = findById(boardId);
+        log.info("board[{}]", board);
+
+        board.delete();
+        pageCounter.decrease(CountKey.writtenBoards());
+        searchService.remove(SearchTarget.BOARD, board.getId());
     }
 
     /**
@@ -80,6 +102,7 @@ public class BoardService {
 
         final Board board = findById(boardId);
         board.updateTitleBody(request.newTitle(), request.newBody());
+        searchService.indexBoard(board);
     }
 
     private void validateUpdateParam(final UpdateBoardRequest request) {
@@ -95,7 +118,7 @@ public class BoardService {
      * 게시글 단건 상세 조회
      */
     public Board findDetailById(final Long boardId) {
-        return boardRepository.findById(boardId).orElseThrow(() -> {
+        return boardRepository.findDetailById(boardId).orElseThrow(() -> {
             log.info("boardId[{}] not found", boardId);
             return new NotFoundException("게시글 조회 실패");
         });
@@ -117,21 +140,74 @@ public class BoardService {
 
 
     /**
-     * 게시글 목록을 페이징 조회
+     * 게시글 목록 페이징 조회 (목록 DTO 프로젝션)
+     */
+    public Page<BoardListDto> findListUsingPaging(final Pageable pageable) {
+        return PageableExecutionUtils.getPage(boardRepository.findListUsingPaging(pageable), pageable, this::countWrittenBoards);
+    }
+
+    private long countWrittenBoards() {
+        return pageCounter.get(CountKey.writtenBoards(), () -> boardRepository.countByStatus(BoardStatus.WRITE));
+    }
+
+    /**
+     * 특정 병과의 게시글 목록 페이징 조회 (목록 DTO 프로젝션)
      */
-    public Page<Board> findAllUsingPaging(final Pageable pageable) {
-        return boardRepository.findAllUsingPaging(pageable);
+    public Page<BoardListDto> findListByDeptUsingPagingMultiValue(final List<String> deptList, final Pageable pageable) {
+
+        final List<HospitalDept> list = toDeptList(deptList);
+
+        return PageableExecutionUtils.getPage(
+                boardRepository.findListUsingPagingMultiValue(list, pageable),
+                pageable,
+                () -> countBoardsByDept(list));
+    }
+
+    private long countBoardsByDept(final List<HospitalDept> list) {
+        return pageCounter.sum(list, CountKey::boardsByDept, boardRepository::countByDept);
     }
 
+
     /**
-     * 특정 병과의 게시글 목록 페이징 조회
+     * 게시글 목록 키셋 조회 (dept가 비어있으면 전체 조회, 목록 DTO 프로젝션)
+     * 다음 페이지 존재 여부 확인을 위해 size + 1 건을 조회한다.
      */
-    public Page<Board> findAllByDeptUsingPagingMultiValue(final List<String> deptList, final Pageable pageable) {
+    public CursorResult<BoardListDto> findAllUsingKeyset(final List<String> deptList, final String after, final int size) {
+
+        final KeysetCursor cursor = KeysetCursor.decode(after);
+        final Pageable limit = PageRequest.of(0, size + 1);
+
+        final List<BoardListDto> boardList = (deptList == null || deptList.isEmpty())
+                ? findKeysetPage(cursor, limit)
+                : findKeysetPageByDept(toDeptList(deptList), cursor, limit);
+
+        final boolean hasNext = boardList.size() > size;
+        final List<BoardListDto> content = hasNext ? boardList.subList(0, size) : boardList;
+
+        final String next = hasNext
+                ? new KeysetCursor(content.get(size - 1).getCreateAt(), content.get(size - 1).getId()).encode()
+                : null;
+
+        return new CursorResult<>(content, next, hasNext);
+    }
 
-        final List<HospitalDept> list = deptList.stream()
+    private List<BoardListDto> findKeysetPage(final KeysetCursor cursor, final Pageable limit) {
+        if (cursor == null) {
+            return boardRepository.findFirstUsingKeyset(limit);
+        }
+        return boardRepository.findAllUsingKeyset(cursor.createdAt(), cursor.id(), limit);
+    }
+
+    private List<BoardListDto> findKeysetPageByDept(final List<HospitalDept> list, final KeysetCursor cursor, final Pageable limit) {
+        if (cursor == null) {
+            return boardRepository.findFirstUsingKeysetMultiValue(list, limit);
+        }
+        return boardRepository.findAllUsingKeysetMultiValue(list, cursor.createdAt(), cursor.id(), limit);
+    }
+
+    private List<HospitalDept> toDeptList(final List<String> deptList) {
+        return deptList.stream()
                 .map(DeptMapper::numberToDept)
                 .toList();
-
-        return boardRepository.findAllUsingPagingMultiValue(list, pageable);
     }
-}
\ No newline at end of file
+}
@@ -18,6 +18,10 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_board_status_created_at_id", columnList = "board_status, created_at, board_id"),
+        @Index(name = "idx_board_dept_status_created_at_id", columnList = "dept, board_status, created_at, board_id")
+})
 public class Board extends BaseEntity {
 
     @Id
@@ -1,13 +1,17 @@
 package io.wisoft.capstonedesign.domain.board.persistence;
 
+import io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto;
+import io.wisoft.capstonedesign.domain.search.persistence.SearchDocument;
 import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
-import org.springframework.data.domain.Page;
+import io.wisoft.capstonedesign.global.enumeration.status.BoardStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,31 +20,122 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 
 
     /**
-     * 게시글 단건 상세 조회
+     * 게시글 단건 상세 조회 - 작성자, 답변, 답변 작성자를 한 번에 조회 (답변이 없는 게시글 포함)
      */
     @Query("select b from Board b" +
             " join fetch b.member m" +
-            " join b.boardReplyList br" +
+            " left join fetch b.boardReplyList br" +
+            " left join fetch br.staff s" +
             " where b.id = :id")
 //    @Query(value = "SELECT * FROM board WHERE board_id = :id", nativeQuery = true)
     Optional<Board> findDetailById(@Param("id") final Long id);
 
 
     /**
-     * 게시글 목록을 페이징 조회
+     * 게시글 목록 프로젝션 조회 - 목록에 필요한 컬럼만 한 번의 쿼리로 조회
      */
-    @Query(value = "select b from Board b where b.status = 'WRITE' order by b.createdAt desc", countQuery = "select count(b) from Board b")
-    Page<Board> findAllUsingPaging(final Pageable pageable);
+    @Query("select new io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto(" +
+            " b.id, b.title, b.body, b.dept, m.nickname, b.status, b.createdAt, b.updatedAt)" +
+            " from Board b" +
+            " join b.member m" +
+            " where b.status = 'WRITE' order by b.createdAt desc")
+    List<BoardListDto> findListUsingPaging(final Pageable pageable);
 
 
     /**
-     * 특정 병과의 게시글 목록 페이징 조회
+     * 특정 병과의 게시글 목록 프로젝션 조회
      */
-    @Query(value = "select b from Board b where b.dept in :list order by b.createdAt desc",
-            countQuery = "select count(b) from Board b")
-    Page<Board> findAllUsingPagingMultiValue(@Param("list") final List<HospitalDept> list, final Pageable pageable);
+    @Query("select new io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto(" +
+            " b.id, b.title, b.body, b.dept, m.nickname, b.status, b.createdAt, b.updatedAt)" +
+            " from Board b" +
+            " join b.member m" +
+            " where b.dept in :list order by b.createdAt desc")
+    List<BoardListDto> findListUsingPagingMultiValue(@Param("list") final List<HospitalDept> list, final Pageable pageable);
+
+
+    long countByStatus(final BoardStatus status);
+
+
+    long countByDept(final HospitalDept dept);
 
 
     @Query("select b from Board b join fetch b.member m order by b.createdAt desc")
     List<Board> findAllByMember();
+
+
+    /**
+     * 게시글 목록 키셋 프로젝션 조회 - 첫 페이지
+     */
+    @Query("select new io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto(" +
+            " b.id, b.title, b.body, b.dept, m.nickname, b.status, b.createdAt, b.updatedAt)" +
+            " from Board b" +
+            " join b.member m" +
+            " where b.status = 'WRITE'" +
+            " order by b.createdAt desc, b.id desc")
+    List<BoardListDto> findFirstUsingKeyset(final Pageable pageable);
+
+
+    /**
+     * 게시글 목록 키셋 조회 - (createdAt, id) 커서 이후
+     */
+    @Query("select new io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto(" +
+            " b.id, b.title, b.body, b.dept, m.nickname, b.status, b.createdAt, b.updatedAt)" +
+            " from Board b" +
+            " join b.member m" +
+            " where b.status = 'WRITE'" +
+            " and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id))" +
+            " order by b.createdAt desc, b.id desc")
+    List<BoardListDto> findAllUsingKeyset(
+            @Param("createdAt") final LocalDateTime createdAt,
+            @Param("id") final Long id,
+            final Pageable pageable);
+
+
+    /**
+     * 특정 병과의 게시글 목록 키셋 프로젝션 조회 - 첫 페이지
+     */
+    @Query("select new io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto(" +
+            " b.id, b.title, b.body, b.dept, m.nickname, b.status, b.createdAt, b.updatedAt)" +
+            " from Board b" +
+            " join b.member m" +
+            " where b.status = 'WRITE' and b.dept in :list" +
+            " order by b.createdAt desc, b.id desc")
+    List<BoardListDto> findFirstUsingKeysetMultiValue(@Param("list") final List<HospitalDept> list, final Pageable pageable);
+
+
+    /**
+     * 특정 병과의 게시글 목록 키셋 조회 - (createdAt, id) 커서 이후
+     */
+    @Query("select new io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto(" +
+            " b.id, b.title, b.body, b.dept, m.nickname, b.status, b.createdAt, b.updatedAt)" +
+            " from Board b" +
+            " join b.member m" +
+            " where b.status = 'WRITE' and b.dept in :list" +
+            " and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id))" +
+            " order by b.createdAt desc, b.id desc")
+    List<BoardListDto> findAllUsingKeysetMultiValue(
+            @Param("list") final List<HospitalDept> list,
+            @Param("createdAt") final LocalDateTime createdAt,
+            @Param("id") final Long id,
+            final Pageable pageable);
+
+
+    /**
+     * id 목록으로 게시글 목록 조회 (검색 결과, 목록 DTO 프로젝션)
+     */
+    @Query("select new io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto(" +
+            " b.id, b.title, b.body, b.dept, m.nickname, b.status, b.createdAt, b.updatedAt)" +
+            " from Board b" +
+            " join b.member m" +
+            " where b.id in :ids and b.status = 'WRITE'")
+    List<BoardListDto> findListByIdIn(@Param("ids") final Collection<Long> ids);
+
+    /**
+     * 작성 상태 게시글을 id 순으로 lastId 다음부터 조회 (검색 색인 재생성용 프로젝션)
+     */
+    @Query("select new io.wisoft.capstonedesign.domain.search.persistence.SearchDocument(b.id, b.title, b.body)" +
+            " from Board b" +
+            " where b.status = 'WRITE' and b.id > :lastId" +
+            " order by b.id")
+    List<SearchDocument> findSearchDocumentsAfter(@Param("lastId") final Long lastId, final Pageable pageable);
 }
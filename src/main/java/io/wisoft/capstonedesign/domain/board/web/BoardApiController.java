@@ -8,6 +8,9 @@ import io.wisoft.capstonedesign.domain.board.web.dto.*;
 import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApi;
 import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApiFailWithAuth;
 import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApiFailWithoutAuth;
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
+import io.wisoft.capstonedesign.global.pagination.CursorResult;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +30,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardApiController {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final BoardService boardService;
     private final BoardImageService boardImageService;
 
@@ -50,10 +55,31 @@ public class BoardApiController {
         log.info("deptNumberList[{}]", deptNumberList);
 
         if (deptNumberList == null) {
-            return boardService.findAllUsingPaging(pageable).map(BoardListDto::new);
+            return boardService.findListUsingPaging(pageable);
         }
 
-        return boardService.findAllByDeptUsingPagingMultiValue(deptNumberList, pageable).map(BoardListDto::new);
+        return boardService.findListByDeptUsingPagingMultiValue(deptNumberList, pageable);
+    }
+
+
+    @SwaggerApi(summary = "게시글 목록 커서 기반 조회 (after가 비어있으면 첫 페이지)", implementation = CursorResult.class)
+    @SwaggerApiFailWithoutAuth
+    @GetMapping(params = "after")
+    public CursorResult<BoardListDto> boardsUsingCursor(
+            @RequestParam final String after,
+            @RequestParam(required = false) final List<String> dept,
+            @RequestParam(defaultValue = "20") final int size) {
+
+        log.info("after[{}], deptNumberList[{}], size[{}]", after, dept, size);
+        validateCursorSize(size);
+
+        return boardService.findAllUsingKeyset(dept, after, size);
+    }
+
+    private void validateCursorSize(final int size) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new IllegalValueException("size는 1 ~ " + MAX_CURSOR_SIZE + " 사이여야 합니다.", ErrorCode.ILLEGAL_PARAM);
+        }
     }
 
 
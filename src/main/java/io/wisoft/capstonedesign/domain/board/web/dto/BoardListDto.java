@@ -1,6 +1,8 @@
 package io.wisoft.capstonedesign.domain.board.web.dto;
 
 import io.wisoft.capstonedesign.domain.board.persistence.Board;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import io.wisoft.capstonedesign.global.enumeration.status.BoardStatus;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -32,4 +34,25 @@ public class BoardListDto {
         this.createAt = board.getCreatedAt();
         this.updateAt = board.getUpdatedAt();
     }
+
+    /* 목록 조회 프로젝션 (JPQL 생성자 표현식) */
+    public BoardListDto(
+            final Long id,
+            final String title,
+            final String body,
+            final HospitalDept dept,
+            final String writer,
+            final BoardStatus status,
+            final LocalDateTime createAt,
+            final LocalDateTime updateAt) {
+
+        this.id = id;
+        this.title = title;
+        this.body = body;
+        this.dept = dept.toString();
+        this.writer = writer;
+        this.status = status.toString();
+        this.createAt = createAt;
+        this.updateAt = updateAt;
+    }
 }
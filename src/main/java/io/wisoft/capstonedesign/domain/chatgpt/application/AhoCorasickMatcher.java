@@ -0,0 +1,150 @@
+package io.wisoft.capstonedesign.domain.chatgpt.application;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 키워드를 문자열 한 번 순회로 모두 찾는 Aho-Corasick 매처
+ * - 생성 시 trie + failure link 를 만들고, 노드별 자식은 정렬된 char 배열로 압축해 이진 탐색한다.
+ * - 생성 후에는 읽기 전용이므로 여러 스레드에서 동시에 사용해도 된다.
+ */
+final class AhoCorasickMatcher {
+
+    @FunctionalInterface
+    interface MatchListener {
+        /**
+         * text[start, end) 에서 keywordId 키워드가 발견됨
+         */
+        void onMatch(int keywordId, int start, int end);
+    }
+
+    private static final int ROOT = 0;
+    private static final int[] EMPTY = new int[0];
+
+    private final char[][] labels;
+    private final int[][] children;
+    private final int[] fail;
+    private final int[][] outputs;
+    private final int[] lengths;
+
+    AhoCorasickMatcher(final List<String> keywords) {
+
+        final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        final List<List<Integer>> ends = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ends.add(new ArrayList<>());
+
+        this.lengths = new int[keywords.size()];
+        for (int id = 0; id < keywords.size(); id++) {
+            final String keyword = keywords.get(id);
+            lengths[id] = keyword.length();
+
+            int node = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                final Integer next = trie.get(node).get(keyword.charAt(i));
+                if (next != null) {
+                    node = next;
+                    continue;
+                }
+                trie.add(new TreeMap<>());
+                ends.add(new ArrayList<>());
+                trie.get(node).put(keyword.charAt(i), trie.size() - 1);
+                node = trie.size() - 1;
+            }
+            ends.get(node).add(id);
+        }
+
+        final int size = trie.size();
+        this.labels = new char[size][];
+        this.children = new int[size][];
+        this.fail = new int[size];
+        this.outputs = new int[size][];
+
+        for (int node = 0; node < size; node++) {
+            final TreeMap<Character, Integer> edges = trie.get(node);
+            labels[node] = new char[edges.size()];
+            children[node] = new int[edges.size()];
+
+            int index = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                labels[node][index] = edge.getKey();
+                children[node][index] = edge.getValue();
+                index++;
+            }
+        }
+
+        buildFailureLinks(ends);
+    }
+
+    /**
+     * BFS 순서로 failure link 를 계산하고, failure 노드의 출력을 합쳐 둔다.
+     */
+    private void buildFailureLinks(final List<List<Integer>> ends) {
+
+        final Deque<Integer> queue = new ArrayDeque<>();
+        outputs[ROOT] = EMPTY;
+        for (int child : children[ROOT]) {
+            fail[child] = ROOT;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            final int node = queue.poll();
+            outputs[node] = merge(ends.get(node), outputs[fail[node]]);
+
+            for (int i = 0; i < labels[node].length; i++) {
+                final char label = labels[node][i];
+                final int child = children[node][i];
+
+                int state = fail[node];
+                while (state != ROOT && next(state, label) < 0) {
+                    state = fail[state];
+                }
+                final int target = next(state, label);
+                fail[child] = target < 0 || target == child ? ROOT : target;
+                queue.add(child);
+            }
+        }
+    }
+
+    void match(final CharSequence text, final MatchListener listener) {
+
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+
+            while (state != ROOT && next(state, c) < 0) {
+                state = fail[state];
+            }
+            final int target = next(state, c);
+            state = target < 0 ? ROOT : target;
+
+            for (int keywordId : outputs[state]) {
+                listener.onMatch(keywordId, i + 1 - lengths[keywordId], i + 1);
+            }
+        }
+    }
+
+    private int next(final int node, final char c) {
+        final int index = Arrays.binarySearch(labels[node], c);
+        return index < 0 ? -1 : children[node][index];
+    }
+
+    private static int[] merge(final List<Integer> own, final int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+
+        final int[] merged = new int[own.size() + inherited.length];
+        for (int i = 0; i < own.size(); i++) {
+            merged[i] = own.get(i);
+        }
+        System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+        return merged;
+    }
+}
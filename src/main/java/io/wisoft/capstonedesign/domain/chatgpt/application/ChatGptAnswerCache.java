@@ -0,0 +1,82 @@
+package io.wisoft.capstonedesign.domain.chatgpt.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.wisoft.capstonedesign.global.redis.RedisAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI 답변 캐시 (로컬 Caffeine -> Redis 순으로 조회)
+ * - 키는 정규화된 증상 문장의 SHA-256 해시라서 띄어쓰기/특수문자만 다른 질문은 같은 답변을 공유한다.
+ * - Redis 장애 시에는 로컬 캐시만 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatGptAnswerCache {
+
+    private static final String KEY_PREFIX = "chatgpt:answer:";
+    private static final long MAX_SIZE = 10_000;
+    private static final long LOCAL_EXPIRE_MINUTE = 10;
+    private static final long REDIS_EXPIRE_HOUR = 24;
+
+    private final RedisAdapter redisAdapter;
+
+    private final Cache<String, String> localCache = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(LOCAL_EXPIRE_MINUTE, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * 캐시된 답변, 없으면 null
+     */
+    public String get(final String question) {
+
+        final String key = key(question);
+        final String local = localCache.getIfPresent(key);
+        if (local != null) {
+            return local;
+        }
+
+        try {
+            final String answer = redisAdapter.getValue(key);
+            if (answer != null) {
+                localCache.put(key, answer);
+            }
+            return answer;
+        } catch (DataAccessException e) {
+            log.warn("chatgpt answer cache get failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public void put(final String question, final String answer) {
+
+        final String key = key(question);
+        localCache.put(key, answer);
+
+        try {
+            redisAdapter.setValue(key, answer, REDIS_EXPIRE_HOUR, TimeUnit.HOURS);
+        } catch (DataAccessException e) {
+            log.warn("chatgpt answer cache put failed: {}", e.getMessage());
+        }
+    }
+
+    private String key(final String question) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(question.getBytes(StandardCharsets.UTF_8));
+            return KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.wisoft.capstonedesign.domain.chatgpt.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.wisoft.capstonedesign.domain.chatgpt.web.dto.ChatGptRequest;
+import io.wisoft.capstonedesign.domain.chatgpt.web.dto.ChatGptResponse;
+import io.wisoft.capstonedesign.global.config.ChatGptConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.wisoft.capstonedesign.global.config.ChatGptConfig.MEDIA_TYPE;
+
+/**
+ * OpenAI completion API
+ * - HttpClient 하나를 재사용해 커넥션을 풀링하고, 요청은 requestTimeout 안에 끝나지 않으면 TimeoutException으로 완료된다.
+ */
+@Slf4j
+@Component
+public class ChatGptClient implements DisposableBean {
+
+    private final ChatGptConfig chatGptConfig;
+    private final ObjectMapper objectMapper;
+    private final Duration requestTimeout;
+
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+
+    public ChatGptClient(
+            final ChatGptConfig chatGptConfig,
+            final ObjectMapper objectMapper,
+            @Value("${chatgpt.connect-timeout-ms:2000}") final long connectTimeoutMs,
+            @Value("${chatgpt.request-timeout-ms:10000}") final long requestTimeoutMs,
+            @Value("${chatgpt.threads:4}") final int threads) {
+
+        this.chatGptConfig = chatGptConfig;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "chatgpt-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(executor)
+                .build();
+    }
+
+    public CompletableFuture<ChatGptResponse> ask(final String prompt) {
+
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(chatGptConfig.URL))
+                .header(HttpHeaders.CONTENT_TYPE, MEDIA_TYPE)
+                .header(chatGptConfig.AUTHORIZATION, chatGptConfig.TOKEN_TYPE + chatGptConfig.API_KEY)
+                .timeout(requestTimeout)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(new ChatGptRequest(
+                        chatGptConfig.MODEL,
+                        prompt,
+                        chatGptConfig.MAX_TOKEN,
+                        chatGptConfig.TEMPERATURE,
+                        chatGptConfig.TOP_P))))
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(this::parse);
+    }
+
+    private ChatGptResponse parse(final HttpResponse<byte[]> response) {
+
+        if (response.statusCode() != 200) {
+            log.info("OpenAI request failed status[{}]", response.statusCode());
+            throw new IllegalStateException("OpenAI 요청 실패: " + response.statusCode());
+        }
+
+        try {
+            return objectMapper.readValue(response.body(), ChatGptResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] toJson(final ChatGptRequest request) {
+        try {
+            return objectMapper.writeValueAsBytes(request);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
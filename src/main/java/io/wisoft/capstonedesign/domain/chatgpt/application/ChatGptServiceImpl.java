@@ -1,105 +1,163 @@
 package io.wisoft.capstonedesign.domain.chatgpt.application;
 
-import io.wisoft.capstonedesign.domain.chatgpt.web.dto.ChatGptRequest;
 import io.wisoft.capstonedesign.domain.chatgpt.web.dto.ChatGptResponse;
 import io.wisoft.capstonedesign.domain.chatgpt.web.dto.ChatGptResponseV2;
 import io.wisoft.capstonedesign.domain.chatgpt.web.dto.ChatRequest;
-import io.wisoft.capstonedesign.global.config.ChatGptConfig;
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.token.TooManyRequestException;
+import io.wisoft.capstonedesign.global.ratelimit.RedisRateLimiter;
 import lombok.extern.slf4j.Slf4j;
-import org.jetbrains.annotations.NotNull;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.StringUtils;
 
-import static io.wisoft.capstonedesign.global.config.ChatGptConfig.MEDIA_TYPE;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Slf4j
 @Service
 public class ChatGptServiceImpl implements ChatGptService {
-    private static final RestTemplate restTemplate = new RestTemplate();
-    private final ChatGptConfig ChatGptConfig;
+    private static final String FALLBACK_PROMPT = "다음 증상이 있을 때 방문해야 할 진료과 이름만 답해줘: %s";
+    private static final String UPSTREAM_BUCKET = "rate:chatgpt:upstream";
 
-    public ChatGptServiceImpl(ChatGptConfig chatGptConfig) {
-        this.ChatGptConfig = chatGptConfig;
+    private final ChatGptClient chatGptClient;
+    private final ChatGptAnswerCache chatGptAnswerCache;
+    private final SymptomTriageEngine symptomTriageEngine;
+    private final RedisRateLimiter redisRateLimiter;
+    private final int upstreamCapacity;
+    private final long upstreamPeriodMillis;
+
+    /** 정규화된 증상 -> 진행 중인 OpenAI 호출 (같은 질문은 한 번만 보낸다) */
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public ChatGptServiceImpl(
+            final ChatGptClient chatGptClient,
+            final ChatGptAnswerCache chatGptAnswerCache,
+            final SymptomTriageEngine symptomTriageEngine,
+            final RedisRateLimiter redisRateLimiter,
+            @Value("${chatgpt.upstream.capacity:3}") final int upstreamCapacity,
+            @Value("${chatgpt.upstream.period-ms:60000}") final long upstreamPeriodMillis) {
+
+        this.chatGptClient = chatGptClient;
+        this.chatGptAnswerCache = chatGptAnswerCache;
+        this.symptomTriageEngine = symptomTriageEngine;
+        this.redisRateLimiter = redisRateLimiter;
+        this.upstreamCapacity = upstreamCapacity;
+        this.upstreamPeriodMillis = upstreamPeriodMillis;
     }
 
 
     @Override
     public ChatGptResponse askQuestion(final ChatRequest chatRequest) {
-        final ChatGptResponse response = this.getResponse(
-                this.buildHttpEntity(
-                        new ChatGptRequest(
-                                ChatGptConfig.MODEL,
-                                chatRequest.symptom(),
-                                ChatGptConfig.MAX_TOKEN,
-                                ChatGptConfig.TEMPERATURE,
-                                ChatGptConfig.TOP_P)));
+        final ChatGptResponse response = chatGptClient.ask(chatRequest.symptom()).join();
 
         log.info("OpenAI 요청이 들어왔습니다 : {} ", chatRequest.symptom());
-        log.info("답변 : {}", response.choices().get(0).text());
+        log.info("답변 : {}", answerText(response));
         return response;
     }
 
+    /**
+     * 증상 사전으로 먼저 분류하고, 일치하는 키워드가 없을 때만 OpenAI에 진료과를 묻는다.
+     */
     @Override
     public ChatGptResponseV2 askQuestionV2(final ChatRequest chatRequest) {
-        return new ChatGptResponseV2(getMessage(chatRequest));
+
+        final List<TriageCandidate> candidates = symptomTriageEngine.triage(chatRequest.symptom());
+        if (!candidates.isEmpty()) {
+            log.debug("symptom[{}] triage{}", chatRequest.symptom(), candidates);
+            return ChatGptResponseV2.from(candidates);
+        }
+
+        if (!StringUtils.hasText(chatRequest.symptom())) {
+            return ChatGptResponseV2.unmatched();
+        }
+        return askFallback(chatRequest.symptom());
     }
 
+    /**
+     * OpenAI 답변에서 진료과 이름을 다시 사전으로 찾는다. (호출 실패 시 질문 게시판 안내)
+     * - 캐시된 답변이 있으면 OpenAI를 호출하지 않는다.
+     */
+    private ChatGptResponseV2 askFallback(final String symptom) {
+
+        final String question = SymptomKeyword.normalize(symptom);
+        if (question.isEmpty()) {
+            return ChatGptResponseV2.unmatched();
+        }
 
-    //comment: Build headers
-    private HttpEntity<ChatGptRequest> buildHttpEntity(final ChatGptRequest chatGptRequest) {
-        final HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(MEDIA_TYPE));
-        headers.add(ChatGptConfig.AUTHORIZATION, ChatGptConfig.TOKEN_TYPE + ChatGptConfig.API_KEY);
-        return new HttpEntity<>(chatGptRequest, headers);
+        final String cached = chatGptAnswerCache.get(question);
+        if (cached != null) {
+            return ChatGptResponseV2.from(symptomTriageEngine.triage(cached));
+        }
+
+        final String answer;
+        try {
+            answer = askOnce(question, symptom).join();
+        } catch (CompletionException e) {
+            final Throwable cause = unwrap(e);
+            if (cause instanceof TooManyRequestException tooManyRequest) {
+                throw tooManyRequest;
+            }
+            log.warn("OpenAI fallback failed: {}", cause.toString());
+            return ChatGptResponseV2.unmatched();
+        }
+        return ChatGptResponseV2.from(symptomTriageEngine.triage(answer));
     }
 
-    //comment: Generate response
-    private ChatGptResponse getResponse(final HttpEntity<ChatGptRequest> chatGptRequestHttpEntity) {
-        final ResponseEntity<ChatGptResponse> responseEntity = restTemplate.postForEntity(
-                ChatGptConfig.URL,
-                chatGptRequestHttpEntity,
-                ChatGptResponse.class);
+    /**
+     * 같은 질문이 이미 진행 중이면 그 결과를 함께 기다리고, 처음 들어온 요청만 토큰을 소비해 OpenAI를 호출한다.
+     * (OpenAI 호출 한도는 클라이언트별 제한과 별개로 모든 인스턴스가 Redis 버킷 하나를 공유한다)
+     */
+    private CompletableFuture<String> askOnce(final String question, final String symptom) {
+
+        final CompletableFuture<String> created = new CompletableFuture<>();
+        final CompletableFuture<String> running = inFlight.putIfAbsent(question, created);
+        if (running != null) {
+            return running;
+        }
+
+        try {
+            if (!redisRateLimiter.tryAcquire(UPSTREAM_BUCKET, upstreamCapacity, upstreamPeriodMillis).allowed()) {
+                log.debug("too many request");
+                throw new TooManyRequestException("너무 많은 요청을 보냈습니다!", ErrorCode.TOO_MANY_REQUESTS);
+            }
+
+            chatGptClient.ask(String.format(FALLBACK_PROMPT, symptom))
+                    .thenApply(this::answerText)
+                    .whenComplete((answer, throwable) -> {
+                        if (throwable == null) {
+                            chatGptAnswerCache.put(question, answer);
+                        }
+                        inFlight.remove(question, created);
+
+                        if (throwable == null) {
+                            created.complete(answer);
+                        } else {
+                            created.completeExceptionally(unwrap(throwable));
+                        }
+                    });
+        } catch (RuntimeException e) {
+            inFlight.remove(question, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
 
-        return responseEntity.getBody();
+    private String answerText(final ChatGptResponse response) {
+        if (response == null || response.choices() == null || response.choices().isEmpty()) {
+            throw new IllegalStateException("OpenAI 답변이 비어 있습니다.");
+        }
+        return response.choices().get(0).text();
     }
 
-    @NotNull
-    private String getMessage(final ChatRequest chatRequest) {
-        return switch (chatRequest.symptom()) {
-            case "뼈가 부었어요" ->
-                    "주변 정형외과를 방문해보시길 바랍니다. 대전을 기준으로 리뷰가 많은 정형외과는 아래 3곳이 있습니다. 1. 대전센텀병원 2. 마라톤정형외과병원 3. S&K병원";
-            case "이가 시려요" ->
-                    "주변 치과를 방문해보시길 바랍니다. 대전을 기준으로 리뷰가 많은 치과는 아래 3곳이 있습니다. 1. 서울브라운치과병원 2. 세상에하나뿐인치과의원 3. 연세고운미소치과의원";
-            case "코를 높이고 싶어요" ->
-                    "주변 성형외과를 방문해보시길 바랍니다. 대전을 기준으로 리뷰가 많은 성형외과는 아래 3곳이 있습니다. 1. 페이스성형외과의원 2. 양승돈성형외과의원 3. 닥터스미성형외과의원";
-            case "가슴통증" -> "순환기내과";
-            case "골다공증", "발목접질림", "방사통", "손목통증" -> "정형외과";
-            case "관절통증" -> "류마티스내과";
-            case "기억장애・치매", "불면증・기면증", "손・발 저림" -> "신경과";
-            case "목・허리통증", "삼킴곤란・사래걸림" -> "재활의학과";
-            case "다리부종" -> "혈관이식외과";
-            case "담석" -> "간담췌외과";
-            case "만성통증" -> "마취통증의학과";
-            case "목 종괴" -> "갑상선외과";
-            case "목 이물감", "코골이・무호흡" -> "이비인후과";
-            case "미숙아성장부진", "소아천식・아토피", "잦은 감염・발육부진" -> "소아청소년과";
-            case "복통・설사・혈변", "복부통증" -> "소화기내과";
-            case "배뇨장애・혈뇨" -> "비뇨의학과";
-            case "비만" -> "위장관외과";
-            case "시력저하" -> "안과";
-            case "손발톱변형", "안면홍조" -> "피부과";
-            case "안면통증・안면종괴" -> "성형외과";
-            case "옆구리통증・혈뇨・거품뇨" -> "신장내과";
-            case "월경통・질출혈" -> "산부인과";
-            case "유방함・유방 종괴" -> "유방외과";
-            case "입냄새", "코골이" -> "치과";
-            case "급격한 체중변화" -> "내분비내과";
-            case "학습장애・집중력저하" -> "정신건강의학과";
-            default -> "질문 게시판을 활용해 보세요.";
-        };
+    private Throwable unwrap(final Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
     }
 }
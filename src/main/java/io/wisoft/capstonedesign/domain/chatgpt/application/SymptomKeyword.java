@@ -0,0 +1,36 @@
+package io.wisoft.capstonedesign.domain.chatgpt.application;
+
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * 증상 키워드 사전의 한 줄
+ *
+ * @param keyword 정규화된 키워드 (공백, 특수문자 제거)
+ * @param label   안내할 세부 진료과 (없으면 HospitalDept 이름)
+ */
+public record SymptomKeyword(String keyword, HospitalDept dept, int weight, String label) {
+
+    public SymptomKeyword {
+        Assert.hasText(keyword, "keyword는 필수입니다.");
+        Assert.notNull(dept, "dept는 필수입니다.");
+        Assert.isTrue(weight > 0, "weight는 양수여야 합니다.");
+        keyword = normalize(keyword);
+        label = StringUtils.hasText(label) ? label : dept.getDescription();
+    }
+
+    /**
+     * 글자/숫자만 남기고 소문자로 변환 ("손・발 저림" -> "손발저림")
+     */
+    public static String normalize(final String text) {
+        final StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,216 @@
+package io.wisoft.capstonedesign.domain.chatgpt.application;
+
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 증상 문장 -> 진료과 후보 분류
+ * - 시작 시 키워드 사전을 Aho-Corasick 매처로 만들어 두고, 문장 한 번 순회로 모든 키워드를 찾는다.
+ * - 다른 키워드 안에 포함된 짧은 키워드(정형외과 안의 외과 등)는 점수에서 제외한다.
+ * - 일치하는 키워드가 없으면 글자 bigram 이 충분히 겹치는 키워드로 낮은 점수를 준다.
+ * - 후보는 진료과별 점수(weight x 키워드 길이) 합으로 정렬한다.
+ */
+@Slf4j
+@Component
+public class SymptomTriageEngine {
+
+    private static final int MAX_CANDIDATES = 3;
+    private static final double FUZZY_THRESHOLD = 0.6;
+    private static final double FUZZY_PENALTY = 0.5;
+
+    private final List<SymptomKeyword> keywords;
+    private final AhoCorasickMatcher matcher;
+    private final Map<String, int[]> bigramIndex;
+    private final int[] bigramCounts;
+
+    @Autowired
+    public SymptomTriageEngine(@Value("${triage.dictionary:classpath:triage/symptom-dictionary.tsv}") final Resource dictionary) {
+        this(load(dictionary));
+    }
+
+    public SymptomTriageEngine(final List<SymptomKeyword> keywords) {
+
+        this.keywords = List.copyOf(keywords);
+        this.matcher = new AhoCorasickMatcher(this.keywords.stream().map(SymptomKeyword::keyword).toList());
+        this.bigramCounts = new int[this.keywords.size()];
+
+        final Map<String, List<Integer>> index = new HashMap<>();
+        for (int id = 0; id < this.keywords.size(); id++) {
+            final Set<String> bigrams = bigrams(this.keywords.get(id).keyword());
+            bigramCounts[id] = bigrams.size();
+
+            final int keywordId = id;
+            bigrams.forEach(bigram -> index.computeIfAbsent(bigram, key -> new ArrayList<>()).add(keywordId));
+        }
+
+        this.bigramIndex = new HashMap<>(index.size() * 2);
+        index.forEach((bigram, ids) -> bigramIndex.put(bigram, ids.stream().mapToInt(Integer::intValue).toArray()));
+
+        log.info("symptom dictionary loaded: {} keywords", this.keywords.size());
+    }
+
+    /**
+     * 점수가 높은 순으로 최대 MAX_CANDIDATES 개 (일치하는 키워드가 없으면 빈 리스트)
+     */
+    public List<TriageCandidate> triage(final String symptom) {
+
+        if (!StringUtils.hasText(symptom)) {
+            return List.of();
+        }
+
+        final String text = SymptomKeyword.normalize(symptom);
+        final Map<HospitalDept, Score> scores = new EnumMap<>(HospitalDept.class);
+
+        matchExact(text, scores);
+        final boolean fuzzy = scores.isEmpty();
+        if (fuzzy) {
+            matchFuzzy(text, scores);
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<HospitalDept, Score>comparingByValue(Comparator.comparingDouble(Score::total)).reversed())
+                .limit(MAX_CANDIDATES)
+                .map(entry -> new TriageCandidate(entry.getKey(), entry.getValue().label, entry.getValue().total, fuzzy))
+                .toList();
+    }
+
+    private void matchExact(final String text, final Map<HospitalDept, Score> scores) {
+
+        final List<int[]> matches = new ArrayList<>();
+        matcher.match(text, (keywordId, start, end) -> matches.add(new int[]{keywordId, start, end}));
+
+        final Set<Integer> counted = new HashSet<>();
+        for (int[] match : matches) {
+            if (isCovered(match, matches) || !counted.add(match[0])) {
+                continue;
+            }
+
+            final SymptomKeyword keyword = keywords.get(match[0]);
+            add(scores, keyword, keyword.weight() * keyword.keyword().length());
+        }
+    }
+
+    /**
+     * 더 긴 다른 키워드 구간 안에 포함된 매치인지
+     */
+    private boolean isCovered(final int[] match, final List<int[]> matches) {
+        for (int[] other : matches) {
+            final boolean longer = other[2] - other[1] > match[2] - match[1];
+            if (longer && other[1] <= match[1] && match[2] <= other[2]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void matchFuzzy(final String text, final Map<HospitalDept, Score> scores) {
+
+        final int[] hits = new int[keywords.size()];
+        for (String bigram : bigrams(text)) {
+            final int[] ids = bigramIndex.get(bigram);
+            if (ids == null) {
+                continue;
+            }
+            for (int id : ids) {
+                hits[id]++;
+            }
+        }
+
+        for (int id = 0; id < hits.length; id++) {
+            if (hits[id] == 0) {
+                continue;
+            }
+
+            final double containment = (double) hits[id] / bigramCounts[id];
+            if (containment >= FUZZY_THRESHOLD) {
+                final SymptomKeyword keyword = keywords.get(id);
+                add(scores, keyword, keyword.weight() * keyword.keyword().length() * containment * FUZZY_PENALTY);
+            }
+        }
+    }
+
+    private void add(final Map<HospitalDept, Score> scores, final SymptomKeyword keyword, final double score) {
+        scores.computeIfAbsent(keyword.dept(), dept -> new Score()).add(keyword.label(), score);
+    }
+
+    private static Set<String> bigrams(final String text) {
+        final Set<String> bigrams = new HashSet<>();
+        for (int i = 0; i + 1 < text.length(); i++) {
+            bigrams.add(text.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    /**
+     * keyword<TAB>HospitalDept<TAB>weight[<TAB>label] 형식, # 으로 시작하는 줄은 주석
+     */
+    static List<SymptomKeyword> load(final Resource dictionary) {
+
+        final List<SymptomKeyword> keywords = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(dictionary.getInputStream(), StandardCharsets.UTF_8))) {
+
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!StringUtils.hasText(line) || line.startsWith("#")) {
+                    continue;
+                }
+
+                final String[] columns = line.split("\t");
+                if (columns.length < 3) {
+                    throw new IllegalStateException("증상 사전 형식 오류 " + dictionary.getFilename() + ":" + lineNumber);
+                }
+                keywords.add(new SymptomKeyword(
+                        columns[0],
+                        HospitalDept.valueOf(columns[1].trim()),
+                        Integer.parseInt(columns[2].trim()),
+                        columns.length > 3 ? columns[3].trim() : null));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return keywords;
+    }
+
+    /**
+     * 진료과별 점수 합계와 가장 점수가 큰 키워드의 세부 진료과
+     */
+    private static final class Score {
+
+        private double total;
+        private double best;
+        private String label;
+
+        private void add(final String label, final double score) {
+            total += score;
+            if (score > best) {
+                best = score;
+                this.label = label;
+            }
+        }
+
+        private double total() {
+            return total;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.wisoft.capstonedesign.domain.chatgpt.application;
+
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+
+/**
+ * 증상 분류 결과 후보
+ *
+ * @param label 안내할 세부 진료과 (예: 순환기내과)
+ * @param fuzzy 정확히 일치하는 키워드 없이 n-gram 유사도로만 찾은 후보인지 여부
+ */
+public record TriageCandidate(HospitalDept dept, String label, double score, boolean fuzzy) { }
@@ -1,12 +1,17 @@
 package io.wisoft.capstonedesign.domain.chatgpt.web.dto;
 
-import java.time.LocalDate;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import java.util.List;
 
+/**
+ * @param created 생성 시각 (epoch second)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
 public record ChatGptResponse(
         String id,
         String object,
-        LocalDate created,
+        Long created,
         String model,
         List<Choice>choices
 ) { }
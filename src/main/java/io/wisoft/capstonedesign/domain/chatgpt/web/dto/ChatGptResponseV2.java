@@ -1,4 +1,25 @@
 package io.wisoft.capstonedesign.domain.chatgpt.web.dto;
 
-public record ChatGptResponseV2(String message) {
+import io.wisoft.capstonedesign.domain.chatgpt.application.TriageCandidate;
+
+import java.util.List;
+
+/**
+ * @param message    가장 점수가 높은 진료과 안내 (후보가 없으면 질문 게시판 안내)
+ * @param candidates 점수 순 진료과 후보
+ */
+public record ChatGptResponseV2(String message, List<TriageCandidate> candidates) {
+
+    private static final String UNMATCHED_MESSAGE = "질문 게시판을 활용해 보세요.";
+
+    public static ChatGptResponseV2 from(final List<TriageCandidate> candidates) {
+        if (candidates.isEmpty()) {
+            return unmatched();
+        }
+        return new ChatGptResponseV2(candidates.get(0).label(), candidates);
+    }
+
+    public static ChatGptResponseV2 unmatched() {
+        return new ChatGptResponseV2(UNMATCHED_MESSAGE, List.of());
+    }
 }
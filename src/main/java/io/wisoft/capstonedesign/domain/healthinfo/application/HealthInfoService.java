@@ -6,12 +6,15 @@ import io.wisoft.capstonedesign.domain.healthinfo.persistence.HealthInfoReposito
 import io.wisoft.capstonedesign.domain.healthinfo.web.dto.CreateHealthInfoRequest;
 import io.wisoft.capstonedesign.domain.staff.persistence.Staff;
 import io.wisoft.capstonedesign.domain.staff.application.StaffService;
+import io.wisoft.capstonedesign.global.counter.CountKey;
+import io.wisoft.capstonedesign.global.counter.PageCounter;
 import io.wisoft.capstonedesign.global.exception.notfound.NotFoundException;
 import io.wisoft.capstonedesign.global.mapper.DeptMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +28,7 @@ public class HealthInfoService {
 
     private final HealthInfoRepository healthInfoRepository;
     private final StaffService staffService;
+    private final PageCounter pageCounter;
 
     /**
      * 건강정보 저장
@@ -39,6 +43,8 @@ public class HealthInfoService {
         log.info("healthInfo[{}]", healthInfo);
 
         healthInfoRepository.save(healthInfo);
+        pageCounter.increase(CountKey.healthInfos(), CountKey.healthInfosByDept(healthInfo.getDept()));
+
         return healthInfo.getId();
     }
 
@@ -56,7 +62,10 @@ public class HealthInfoService {
      */
     @Transactional
     public void delete(final Long healthInfoId) {
-        healthInfoRepository.delete(findById(healthInfoId));
+        final HealthInfo healthInfo = findById(healthInfoId);
+
+        healthInfoRepository.delete(healthInfo);
+        pageCounter.decrease(CountKey.healthInfos(), CountKey.healthInfosByDept(healthInfo.getDept()));
     }
 
     /* 조회 로직 */
@@ -87,13 +96,19 @@ public class HealthInfoService {
                 .map(DeptMapper::numberToDept)
                 .toList();
 
-        return healthInfoRepository.findAllByDeptUsingPagingMultiValue(list, pageable);
+        return PageableExecutionUtils.getPage(
+                healthInfoRepository.findContentByDeptUsingPagingMultiValue(list, pageable),
+                pageable,
+                () -> pageCounter.sum(list, CountKey::healthInfosByDept, healthInfoRepository::countByDept));
     }
 
     /**
      * 건강정보 목록을 페이지별로 조회하기
      */
     public Page<HealthInfo> findByUsingPaging(final Pageable pageable) {
-        return healthInfoRepository.findByUsingPaging(pageable);
+        return PageableExecutionUtils.getPage(
+                healthInfoRepository.findContentUsingPaging(pageable),
+                pageable,
+                () -> pageCounter.get(CountKey.healthInfos(), healthInfoRepository::count));
     }
 }
@@ -19,7 +19,7 @@ public interface HealthInfoRepository extends JpaRepository<HealthInfo, Long> {
     @Query(value = "select hi from HealthInfo hi" +
             " join fetch hi.staff s" +
             " where hi.dept in :list",
-            countQuery = "select count(hi) from HealthInfo hi")
+            countQuery = "select count(hi) from HealthInfo hi where hi.dept in :list")
     Page<HealthInfo> findAllByDeptUsingPagingMultiValue(@Param("list") final List<HospitalDept> list, final Pageable pageable);
 
 
@@ -30,6 +30,21 @@ public interface HealthInfoRepository extends JpaRepository<HealthInfo, Long> {
     Page<HealthInfo> findByUsingPaging(final Pageable pageable);
 
 
+    /** 특정 병과의 건강정보 목록 조회 (전체 개수는 PageCounter로 계산) */
+    @Query("select hi from HealthInfo hi" +
+            " join fetch hi.staff s" +
+            " where hi.dept in :list")
+    List<HealthInfo> findContentByDeptUsingPagingMultiValue(@Param("list") final List<HospitalDept> list, final Pageable pageable);
+
+
+    /** 건강정보 목록 조회 (전체 개수는 PageCounter로 계산) */
+    @Query("select hi from HealthInfo hi join fetch hi.staff s")
+    List<HealthInfo> findContentUsingPaging(final Pageable pageable);
+
+
+    long countByDept(final HospitalDept dept);
+
+
     /**
      * 건강정보 상세 조회
      */
@@ -0,0 +1,58 @@
+package io.wisoft.capstonedesign.domain.hospital.application;
+
+import io.wisoft.capstonedesign.domain.hospital.application.HiraHospitalXmlParser.HiraPage;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalInfoResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class HiraHospitalApiClient implements HiraHospitalClient {
+
+    private final RestTemplate restTemplate;
+    private final HiraHospitalXmlParser parser;
+    private final String url;
+    private final String serviceKey;
+
+    public HiraHospitalApiClient(
+            final HiraHospitalXmlParser parser,
+            @Value("${hira.url:https://apis.data.go.kr/B551182/hospInfoServicev2/getHospBasisList}") final String url,
+            @Value("${hira.service-key:}") final String serviceKey) {
+
+        final SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(5_000);
+        requestFactory.setReadTimeout(60_000);
+
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.parser = parser;
+        this.url = url;
+        this.serviceKey = serviceKey;
+    }
+
+    /**
+     * 응답 본문을 메모리에 올리지 않고 스트림 그대로 파서에 넘긴다.
+     * serviceKey는 공공데이터포털에서 발급한 인코딩된 키를 그대로 사용한다.
+     */
+    @Override
+    public HiraPage fetchPage(final int pageNo, final int numOfRows, final Consumer<HospitalInfoResponse.Item> consumer) {
+
+        final URI uri = UriComponentsBuilder.fromHttpUrl(url)
+                .queryParam("serviceKey", serviceKey)
+                .queryParam("pageNo", pageNo)
+                .queryParam("numOfRows", numOfRows)
+                .build(true)
+                .toUri();
+
+        log.info("fetch hira hospital page[{}]", pageNo);
+        return restTemplate.execute(uri, HttpMethod.GET, null,
+                response -> parser.parse(response.getBody(), consumer));
+    }
+}
@@ -0,0 +1,14 @@
+package io.wisoft.capstonedesign.domain.hospital.application;
+
+import io.wisoft.capstonedesign.domain.hospital.application.HiraHospitalXmlParser.HiraPage;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalInfoResponse;
+
+import java.util.function.Consumer;
+
+/**
+ * HIRA 병원정보 API에서 한 페이지를 조회해 item을 순서대로 넘긴다.
+ */
+public interface HiraHospitalClient {
+
+    HiraPage fetchPage(final int pageNo, final int numOfRows, final Consumer<HospitalInfoResponse.Item> consumer);
+}
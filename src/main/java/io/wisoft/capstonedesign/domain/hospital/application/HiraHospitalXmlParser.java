@@ -0,0 +1,145 @@
+package io.wisoft.capstonedesign.domain.hospital.application;
+
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalInfoResponse;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * HIRA 병원정보 XML 응답을 StAX로 읽는다.
+ * 문서 전체를 객체로 만들지 않고 item 하나씩 consumer로 넘기므로 페이지 크기와 무관하게 메모리 사용량이 일정하다.
+ */
+@Component
+public class HiraHospitalXmlParser {
+
+    private static final String SUCCESS_CODE = "00";
+
+    private final XMLInputFactory xmlInputFactory;
+
+    public HiraHospitalXmlParser() {
+        this.xmlInputFactory = XMLInputFactory.newFactory();
+        this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    public HiraPage parse(final InputStream inputStream, final Consumer<HospitalInfoResponse.Item> consumer) {
+
+        XMLStreamReader reader = null;
+        try {
+            reader = xmlInputFactory.createXMLStreamReader(inputStream);
+            return readResponse(reader, consumer);
+
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("병원정보 XML 파싱에 실패했습니다.", e);
+        } finally {
+            close(reader);
+        }
+    }
+
+    private HiraPage readResponse(final XMLStreamReader reader, final Consumer<HospitalInfoResponse.Item> consumer) throws XMLStreamException {
+
+        String resultCode = null;
+        String resultMsg = null;
+        int pageNo = 0;
+        int numOfRows = 0;
+        int totalCount = 0;
+        int itemCount = 0;
+
+        while (reader.hasNext()) {
+            if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            switch (reader.getLocalName()) {
+                case "resultCode" -> resultCode = reader.getElementText().trim();
+                case "resultMsg" -> resultMsg = reader.getElementText().trim();
+                case "item" -> {
+                    consumer.accept(readItem(reader));
+                    itemCount++;
+                }
+                case "pageNo" -> pageNo = parseInt(reader.getElementText());
+                case "numOfRows" -> numOfRows = parseInt(reader.getElementText());
+                case "totalCount" -> totalCount = parseInt(reader.getElementText());
+                default -> { }
+            }
+        }
+
+        if (resultCode != null && !SUCCESS_CODE.equals(resultCode)) {
+            throw new IllegalStateException("병원정보 API 오류 : " + resultCode + " " + resultMsg);
+        }
+
+        return new HiraPage(pageNo, numOfRows, totalCount, itemCount);
+    }
+
+    private HospitalInfoResponse.Item readItem(final XMLStreamReader reader) throws XMLStreamException {
+
+        final HospitalInfoResponse.Item item = new HospitalInfoResponse.Item();
+
+        while (reader.hasNext()) {
+            final int event = reader.next();
+
+            if (event == XMLStreamConstants.END_ELEMENT && "item".equals(reader.getLocalName())) {
+                return item;
+            }
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final String name = reader.getLocalName();
+                final String text = reader.getElementText().trim();
+
+                switch (name) {
+                    case "addr" -> item.setAddr(text);
+                    case "clCd" -> item.setClCd(text);
+                    case "clCdNm" -> item.setClCdNm(text);
+                    case "drTotCnt" -> item.setDrTotCnt(text);
+                    case "estbDd" -> item.setEstbDd(text);
+                    case "hospUrl" -> item.setHospUrl(text);
+                    case "postNo" -> item.setPostNo(text);
+                    case "sgguCd" -> item.setSgguCd(text);
+                    case "sgguCdNm" -> item.setSgguCdNm(text);
+                    case "sidoCd" -> item.setSidoCd(text);
+                    case "sidoCdNm" -> item.setSidoCdNm(text);
+                    case "telno" -> item.setTelno(text);
+                    case "XPos" -> item.setXPos(text);
+                    case "YPos" -> item.setYPos(text);
+                    case "yadmNm" -> item.setYadmNm(text);
+                    case "ykiho" -> item.setYkiho(text);
+                    default -> { }
+                }
+            }
+        }
+
+        throw new IllegalStateException("item 요소가 닫히지 않았습니다.");
+    }
+
+    private int parseInt(final String text) {
+        return Integer.parseInt(text.trim());
+    }
+
+    private void close(final XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException ignored) {
+        }
+    }
+
+    /**
+     * 페이지 정보 (itemCount : 해당 페이지에서 실제로 읽은 item 개수)
+     */
+    public record HiraPage(int pageNo, int numOfRows, int totalCount, int itemCount) {
+
+        public int lastPageNo() {
+            if (numOfRows == 0) {
+                return pageNo;
+            }
+            return (totalCount + numOfRows - 1) / numOfRows;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package io.wisoft.capstonedesign.domain.hospital.application;
+
+import io.wisoft.capstonedesign.domain.hospital.persistence.HospitalLocation;
+import io.wisoft.capstonedesign.domain.hospital.persistence.HospitalRepository;
+import io.wisoft.capstonedesign.domain.staff.application.StaffChangedEvent;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 병원 위치 공간 인덱스 (위경도 격자)
+ * - 좌표를 CELL_DEGREE 크기의 격자로 나누어 메모리에 보관하고, 반경이 걸치는 격자만 탐색한다.
+ * - 시작 시와 공공데이터 적재 후에 다시 만들며, 조회 중에는 이전 스냅샷을 그대로 사용한다.
+ * - 의료진이 가입/소속 변경/탈퇴하면 커밋 후 해당 병원의 진료과만 다시 읽어 새 스냅샷으로 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HospitalGeoIndex {
+
+    static final double CELL_DEGREE = 0.02;
+    private static final double EARTH_RADIUS_METER = 6_371_000;
+    private static final double METER_PER_LATITUDE_DEGREE = 111_320;
+
+    private final HospitalRepository hospitalRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 인덱스 재생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        load(hospitalRepository.findAllLocations(), hospitalRepository.findStaffDepts());
+    }
+
+    /**
+     * 의료진 변경 반영 - 변경된 병원의 진료과만 다시 조회
+     */
+    @TransactionalEventListener
+    public synchronized void onStaffChanged(final StaffChangedEvent event) {
+        updateDepts(event.hospitalIds(), hospitalRepository.findStaffDeptsByHospitalIds(event.hospitalIds()));
+    }
+
+    synchronized void load(final List<HospitalLocation> locations, final List<Object[]> staffDepts) {
+
+        final Map<Long, Set<HospitalDept>> deptMap = toDeptMap(staffDepts);
+
+        final Map<Long, List<GeoPoint>> cells = new HashMap<>();
+        for (final HospitalLocation location : locations) {
+            final Set<HospitalDept> depts = deptMap.getOrDefault(location.id(), Collections.emptySet());
+            cells.computeIfAbsent(cellKey(toLatIndex(location.latitude()), toLngIndex(location.longitude())), key -> new ArrayList<>())
+                    .add(new GeoPoint(location, depts));
+        }
+
+        snapshot = new Snapshot(cells, locations.size());
+        log.info("hospital geo index rebuilt[hospitals={}, cells={}]", locations.size(), cells.size());
+    }
+
+    synchronized void updateDepts(final Set<Long> hospitalIds, final List<Object[]> staffDepts) {
+
+        final Map<Long, Set<HospitalDept>> deptMap = toDeptMap(staffDepts);
+        final Snapshot current = snapshot;
+
+        final Map<Long, List<GeoPoint>> cells = new HashMap<>(current.cells());
+        current.cells().forEach((key, points) -> {
+            if (points.stream().noneMatch(point -> hospitalIds.contains(point.location().id()))) {
+                return;
+            }
+            cells.put(key, points.stream()
+                    .map(point -> hospitalIds.contains(point.location().id())
+                            ? new GeoPoint(point.location(), deptMap.getOrDefault(point.location().id(), Collections.emptySet()))
+                            : point)
+                    .toList());
+        });
+
+        snapshot = new Snapshot(cells, current.size());
+        log.info("hospital geo index depts updated[hospitals={}]", hospitalIds);
+    }
+
+    private static Map<Long, Set<HospitalDept>> toDeptMap(final List<Object[]> staffDepts) {
+
+        final Map<Long, Set<HospitalDept>> deptMap = new HashMap<>();
+        for (final Object[] row : staffDepts) {
+            deptMap.computeIfAbsent((Long) row[0], id -> EnumSet.noneOf(HospitalDept.class))
+                    .add((HospitalDept) row[1]);
+        }
+        return deptMap;
+    }
+
+    /**
+     * 반경 내 가까운 병원 조회 (dept가 null이면 진료과 무관)
+     */
+    public List<NearbyHospital> findNearby(
+            final double latitude,
+            final double longitude,
+            final double radiusMeter,
+            final HospitalDept dept,
+            final int limit) {
+
+        final Snapshot current = snapshot;
+        final double latitudeDelta = radiusMeter / METER_PER_LATITUDE_DEGREE;
+        final double longitudeDelta = radiusMeter / (METER_PER_LATITUDE_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        //거리가 먼 순서로 꺼내지는 힙 - limit 개만 유지
+        final PriorityQueue<NearbyHospital> nearest =
+                new PriorityQueue<>(limit + 1, Comparator.comparingDouble(NearbyHospital::distance).reversed());
+
+        for (int latIndex = toLatIndex(latitude - latitudeDelta); latIndex <= toLatIndex(latitude + latitudeDelta); latIndex++) {
+            for (int lngIndex = toLngIndex(longitude - longitudeDelta); lngIndex <= toLngIndex(longitude + longitudeDelta); lngIndex++) {
+
+                final List<GeoPoint> points = current.cells().get(cellKey(latIndex, lngIndex));
+                if (points == null) {
+                    continue;
+                }
+
+                for (final GeoPoint point : points) {
+                    if (dept != null && !point.depts().contains(dept)) {
+                        continue;
+                    }
+
+                    final double distance = distance(latitude, longitude, point.location().latitude(), point.location().longitude());
+                    if (distance > radiusMeter) {
+                        continue;
+                    }
+
+                    nearest.offer(new NearbyHospital(point.location(), distance));
+                    if (nearest.size() > limit) {
+                        nearest.poll();
+                    }
+                }
+            }
+        }
+
+        final List<NearbyHospital> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(NearbyHospital::distance));
+        return result;
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    /* 하버사인 거리(m) */
+    static double distance(final double lat1, final double lng1, final double lat2, final double lng2) {
+        final double dLat = Math.toRadians(lat2 - lat1);
+        final double dLng = Math.toRadians(lng2 - lng1);
+        final double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METER * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static int toLatIndex(final double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREE);
+    }
+
+    private static int toLngIndex(final double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREE);
+    }
+
+    private static long cellKey(final int latIndex, final int lngIndex) {
+        return ((long) latIndex << 32) | (lngIndex & 0xffffffffL);
+    }
+
+    private record GeoPoint(HospitalLocation location, Set<HospitalDept> depts) { }
+
+    private record Snapshot(Map<Long, List<GeoPoint>> cells, int size) {
+        private static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), 0);
+    }
+
+    public record NearbyHospital(HospitalLocation location, double distance) { }
+}
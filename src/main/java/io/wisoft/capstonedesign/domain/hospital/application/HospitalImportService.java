@@ -0,0 +1,116 @@
+package io.wisoft.capstonedesign.domain.hospital.application;
+
+import io.wisoft.capstonedesign.domain.hospital.application.HiraHospitalXmlParser.HiraPage;
+import io.wisoft.capstonedesign.domain.hospital.persistence.HospitalBulkRepository;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalInfoResponse;
+import io.wisoft.capstonedesign.global.redis.RedisAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HIRA 공공데이터 병원정보 일괄 적재
+ * - 페이지 단위로 스트리밍 파싱 후 BATCH_SIZE 만큼 모아서 upsert
+ * - 페이지를 마칠 때마다 Redis에 체크포인트를 남겨 중단된 페이지부터 재개할 수 있다.
+ * - 마지막 페이지까지 끝나면 체크포인트를 지워 다음 적재는 1페이지부터 시작한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HospitalImportService {
+
+    public static final String CHECKPOINT_KEY = "hospital:import:last-page";
+    private static final long CHECKPOINT_EXPIRE_DAY = 7;
+    private static final int BATCH_SIZE = 500;
+    private static final int NUM_OF_ROWS = 1000;
+
+    private final HiraHospitalClient hiraHospitalClient;
+    private final HospitalBulkRepository hospitalBulkRepository;
+    private final HospitalService hospitalService;
+    private final HospitalGeoIndex hospitalGeoIndex;
+    private final RedisAdapter redisAdapter;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 병원정보 적재 (fromPage가 없으면 체크포인트 다음 페이지부터)
+     */
+    public ImportResult importHospitals(final Integer fromPage) {
+
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("병원정보 적재가 이미 진행 중입니다.");
+        }
+
+        try {
+            return importFrom(fromPage == null ? nextPage() : fromPage);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ImportResult importFrom(final int startPage) {
+
+        final List<HospitalInfoResponse.Item> buffer = new ArrayList<>(BATCH_SIZE);
+        final AtomicLong importedCount = new AtomicLong();
+
+        int pageNo = startPage;
+        int lastPage = startPage;
+        int processedPage = startPage - 1;
+
+        while (pageNo <= lastPage) {
+            final HiraPage page = hiraHospitalClient.fetchPage(pageNo, NUM_OF_ROWS, item -> {
+                if (!StringUtils.hasText(item.getYkiho()) || !StringUtils.hasText(item.getYadmNm())) {
+                    log.info("skip item without ykiho or name[{}]", item.getYadmNm());
+                    return;
+                }
+
+                buffer.add(item);
+                importedCount.incrementAndGet();
+
+                if (buffer.size() == BATCH_SIZE) {
+                    flush(buffer);
+                }
+            });
+            flush(buffer);
+
+            if (page.itemCount() == 0) {
+                break;
+            }
+
+            saveCheckpoint(pageNo);
+            processedPage = pageNo;
+            lastPage = page.lastPageNo();
+            log.info("hospital import page[{}/{}] done", pageNo, lastPage);
+
+            pageNo++;
+        }
+
+        redisAdapter.deleteValue(CHECKPOINT_KEY);
+        hospitalService.evictCache();
+        hospitalGeoIndex.rebuild();
+        return new ImportResult(startPage, processedPage, importedCount.get());
+    }
+
+    private void flush(final List<HospitalInfoResponse.Item> buffer) {
+        hospitalBulkRepository.upsertAll(buffer);
+        buffer.clear();
+    }
+
+    private int nextPage() {
+        final String lastPage = redisAdapter.getValue(CHECKPOINT_KEY);
+        return lastPage == null ? 1 : Integer.parseInt(lastPage) + 1;
+    }
+
+    private void saveCheckpoint(final int pageNo) {
+        redisAdapter.setValue(CHECKPOINT_KEY, String.valueOf(pageNo), CHECKPOINT_EXPIRE_DAY, TimeUnit.DAYS);
+    }
+
+    public record ImportResult(int startPage, int endPage, long importedCount) { }
+}
@@ -1,15 +1,28 @@
 package io.wisoft.capstonedesign.domain.hospital.application;
 
 import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
+import io.wisoft.capstonedesign.domain.hospital.persistence.HospitalQueryRepository;
 import io.wisoft.capstonedesign.domain.hospital.persistence.HospitalRepository;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalListDto;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalSearchCondition;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
 import io.wisoft.capstonedesign.global.exception.ErrorCode;
 import io.wisoft.capstonedesign.global.exception.duplicate.DuplicateHospitalException;
 import io.wisoft.capstonedesign.domain.hospital.web.dto.CreateHospitalRequest;
 import io.wisoft.capstonedesign.global.exception.notfound.NotFoundException;
+import io.wisoft.capstonedesign.global.mapper.DeptMapper;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -20,6 +33,9 @@ import java.util.List;
 public class HospitalService {
 
     private final HospitalRepository hospitalRepository;
+    private final HospitalQueryRepository hospitalQueryRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final HospitalGeoIndex hospitalGeoIndex;
 
     /**
      * 병원 저장
@@ -33,9 +49,36 @@ public class HospitalService {
         log.info("hospital[{}]", hospital);
 
         hospitalRepository.save(hospital);
+        evictCacheAfterCommit();
+
         return hospital.getId();
     }
 
+    /**
+     * 병원 캐시 무효화 - JDBC 일괄 적재처럼 Hibernate를 거치지 않는 변경 후에도 호출한다.
+     */
+    public void evictCache() {
+        final Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Hospital.class);
+        cache.evictQueryRegion(Hospital.QUERY_CACHE_REGION);
+        log.info("hospital cache evicted");
+    }
+
+    private void evictCacheAfterCommit() {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictCache();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictCache();
+            }
+        });
+    }
+
     private Hospital createHospital(final CreateHospitalRequest request) {
         return Hospital.builder()
                 .name(request.name())
@@ -75,9 +118,33 @@ public class HospitalService {
     }
 
     /**
-     * 병원 목록 조회
+     * 병원 목록 조건 검색 (페이징)
+     */
+    public Page<HospitalListDto> findList(final HospitalSearchCondition condition, final Pageable pageable) {
+        return PageableExecutionUtils.getPage(
+                hospitalQueryRepository.findList(condition, pageable),
+                pageable,
+                () -> hospitalQueryRepository.count(condition));
+    }
+
+    /**
+     * 병원 목록 조건 검색 - lastId 다음부터 size 개 (전체 목록 스트리밍용)
      */
-    public List<Hospital> findAll() {
-        return hospitalRepository.findAll();
+    public List<HospitalListDto> findChunkAfter(final HospitalSearchCondition condition, final Long lastId, final int size) {
+        return hospitalQueryRepository.findChunkAfter(condition, lastId, size);
+    }
+
+    /**
+     * 반경 내 가까운 병원 조회 - 공간 인덱스 사용 (deptNumber가 없으면 진료과 무관)
+     */
+    public List<HospitalGeoIndex.NearbyHospital> findNearby(
+            final double latitude,
+            final double longitude,
+            final double radiusMeter,
+            final String deptNumber,
+            final int size) {
+
+        final HospitalDept dept = deptNumber == null ? null : DeptMapper.numberToDept(deptNumber);
+        return hospitalGeoIndex.findNearby(latitude, longitude, radiusMeter, dept, size);
     }
 }
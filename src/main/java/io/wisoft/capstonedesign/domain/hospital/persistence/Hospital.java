@@ -9,6 +9,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.util.Assert;
 
 import java.util.ArrayList;
@@ -17,13 +19,23 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_hospital_name", columnList = "hosp_name, hosp_id"),
+        @Index(name = "idx_hospital_sido_sggu_name", columnList = "sido_cd, sggu_cd, hosp_name"),
+        @Index(name = "idx_hospital_cl_cd_name", columnList = "cl_cd, hosp_name")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Hospital.CACHE_REGION)
 public class Hospital extends BaseEntity {
 
+    public static final String CACHE_REGION = "hospital";
+    public static final String QUERY_CACHE_REGION = "hospital-query";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "hosp_id")
     private Long id;
 
-    @Column(name = "hosp_name", unique = true, nullable = false)
+    @Column(name = "hosp_name", nullable = false)
     private String name;
 
     @Column(name = "hosp_number", nullable = false)
@@ -35,6 +47,26 @@ public class Hospital extends BaseEntity {
     @Column(name = "hosp_operatingtime", columnDefinition="TEXT")
     private String operatingTime;
 
+    /* 건강보험심사평가원(HIRA) 공공데이터 - 일괄 적재 시에만 채워진다. */
+    @Column(name = "ykiho", unique = true)
+    private String ykiho;
+
+    @Column(name = "cl_cd")
+    private String clCd;
+
+    @Column(name = "sido_cd")
+    private String sidoCd;
+
+    @Column(name = "sggu_cd")
+    private String sgguCd;
+
+    /* WGS84 좌표 (공공데이터 YPos / XPos) */
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @OneToMany(mappedBy = "hospital")
     private final List<Appointment> appointmentList = new ArrayList<>();
 
@@ -0,0 +1,114 @@
+package io.wisoft.capstonedesign.domain.hospital.persistence;
+
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalInfoResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 공공데이터 병원 정보 일괄 적재 - ykiho 기준 upsert를 JDBC batch로 실행한다.
+ * 이미 있는 병원은 created_at 을 유지하고 나머지 컬럼과 updated_at 만 갱신한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class HospitalBulkRepository {
+
+    private static final String POSTGRESQL_UPSERT =
+            "insert into hospital (hosp_name, hosp_number, hosp_address, ykiho, cl_cd, sido_cd, sggu_cd, latitude, longitude, created_at, updated_at)" +
+                    " values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)" +
+                    " on conflict (ykiho) do update set" +
+                    " hosp_name = excluded.hosp_name," +
+                    " hosp_number = excluded.hosp_number," +
+                    " hosp_address = excluded.hosp_address," +
+                    " cl_cd = excluded.cl_cd," +
+                    " sido_cd = excluded.sido_cd," +
+                    " sggu_cd = excluded.sggu_cd," +
+                    " latitude = excluded.latitude," +
+                    " longitude = excluded.longitude," +
+                    " updated_at = excluded.updated_at";
+
+    private static final String H2_UPSERT =
+            "merge into hospital h" +
+                    " using (values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?))" +
+                    " v (hosp_name, hosp_number, hosp_address, ykiho, cl_cd, sido_cd, sggu_cd, latitude, longitude, created_at, updated_at)" +
+                    " on h.ykiho = v.ykiho" +
+                    " when matched then update set" +
+                    " hosp_name = v.hosp_name," +
+                    " hosp_number = v.hosp_number," +
+                    " hosp_address = v.hosp_address," +
+                    " cl_cd = v.cl_cd," +
+                    " sido_cd = v.sido_cd," +
+                    " sggu_cd = v.sggu_cd," +
+                    " latitude = v.latitude," +
+                    " longitude = v.longitude," +
+                    " updated_at = v.updated_at" +
+                    " when not matched then insert" +
+                    " (hosp_name, hosp_number, hosp_address, ykiho, cl_cd, sido_cd, sggu_cd, latitude, longitude, created_at, updated_at)" +
+                    " values (v.hosp_name, v.hosp_number, v.hosp_address, v.ykiho, v.cl_cd, v.sido_cd, v.sggu_cd," +
+                    " v.latitude, v.longitude, v.created_at, v.updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String upsertSql;
+
+    public void upsertAll(final List<HospitalInfoResponse.Item> items) {
+
+        if (items.isEmpty()) {
+            return;
+        }
+
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(upsertSql(), items, items.size(), (ps, item) -> {
+            ps.setString(1, item.getYadmNm());
+            ps.setString(2, nullToEmpty(item.getTelno()));
+            ps.setString(3, nullToEmpty(item.getAddr()));
+            ps.setString(4, item.getYkiho());
+            ps.setString(5, item.getClCd());
+            ps.setString(6, item.getSidoCd());
+            ps.setString(7, item.getSgguCd());
+            ps.setObject(8, toCoordinate(item.getYPos()), Types.DOUBLE);
+            ps.setObject(9, toCoordinate(item.getXPos()), Types.DOUBLE);
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+    }
+
+    private String upsertSql() {
+
+        if (upsertSql == null) {
+            final String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            log.info("database product[{}]", productName);
+
+            upsertSql = "H2".equalsIgnoreCase(productName) ? H2_UPSERT : POSTGRESQL_UPSERT;
+        }
+
+        return upsertSql;
+    }
+
+    private Double toCoordinate(final String value) {
+
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            log.info("invalid coordinate[{}]", value);
+            return null;
+        }
+    }
+
+    private String nullToEmpty(final String value) {
+        return value == null ? "" : value;
+    }
+}
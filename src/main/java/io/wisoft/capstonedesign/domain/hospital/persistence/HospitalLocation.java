@@ -0,0 +1,13 @@
+package io.wisoft.capstonedesign.domain.hospital.persistence;
+
+/**
+ * 좌표가 있는 병원 - 공간 인덱스 적재용 프로젝션
+ */
+public record HospitalLocation(
+        Long id,
+        String name,
+        String address,
+        String number,
+        Double latitude,
+        Double longitude) {
+}
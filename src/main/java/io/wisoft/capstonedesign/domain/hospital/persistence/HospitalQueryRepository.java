@@ -0,0 +1,119 @@
+package io.wisoft.capstonedesign.domain.hospital.persistence;
+
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalListDto;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalSearchCondition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 병원 목록 동적 검색
+ * - 값이 있는 조건만 where 절에 넣어 (sido_cd, sggu_cd, hosp_name) 등의 인덱스를 그대로 탈 수 있게 한다.
+ * - 엔티티 대신 HospitalListDto로 바로 조회하므로 영속성 컨텍스트와 2차 캐시를 거치지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HospitalQueryRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final EntityManager em;
+
+    /** 페이지 조회 - 이름, id 순 정렬 */
+    public List<HospitalListDto> findList(final HospitalSearchCondition condition, final Pageable pageable) {
+
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+        final CriteriaQuery<HospitalListDto> query = cb.createQuery(HospitalListDto.class);
+        final Root<Hospital> hospital = query.from(Hospital.class);
+
+        query.select(toListDto(cb, hospital))
+                .where(toPredicates(cb, hospital, condition).toArray(Predicate[]::new))
+                .orderBy(cb.asc(hospital.get("name")), cb.asc(hospital.get("id")));
+
+        return em.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    /** 조건에 맞는 병원 수 */
+    public long count(final HospitalSearchCondition condition) {
+
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<Hospital> hospital = query.from(Hospital.class);
+
+        query.select(cb.count(hospital))
+                .where(toPredicates(cb, hospital, condition).toArray(Predicate[]::new));
+
+        return em.createQuery(query).getSingleResult();
+    }
+
+    /** lastId 다음부터 size 개 조회 (id 순) - 전체 목록을 나누어 내려줄 때 사용 */
+    public List<HospitalListDto> findChunkAfter(final HospitalSearchCondition condition, final Long lastId, final int size) {
+
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+        final CriteriaQuery<HospitalListDto> query = cb.createQuery(HospitalListDto.class);
+        final Root<Hospital> hospital = query.from(Hospital.class);
+
+        final List<Predicate> predicates = toPredicates(cb, hospital, condition);
+        if (lastId != null) {
+            predicates.add(cb.greaterThan(hospital.get("id"), lastId));
+        }
+
+        query.select(toListDto(cb, hospital))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(hospital.get("id")));
+
+        return em.createQuery(query)
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    private CompoundSelection<HospitalListDto> toListDto(final CriteriaBuilder cb, final Root<Hospital> hospital) {
+        return cb.construct(HospitalListDto.class,
+                hospital.get("id"),
+                hospital.get("name"),
+                hospital.get("address"),
+                hospital.get("number"),
+                hospital.get("clCd"),
+                hospital.get("sidoCd"),
+                hospital.get("sgguCd"));
+    }
+
+    private List<Predicate> toPredicates(final CriteriaBuilder cb, final Root<Hospital> hospital, final HospitalSearchCondition condition) {
+
+        final List<Predicate> predicates = new ArrayList<>();
+
+        if (StringUtils.hasText(condition.sidoCd())) {
+            predicates.add(cb.equal(hospital.get("sidoCd"), condition.sidoCd()));
+        }
+        if (StringUtils.hasText(condition.sgguCd())) {
+            predicates.add(cb.equal(hospital.get("sgguCd"), condition.sgguCd()));
+        }
+        if (StringUtils.hasText(condition.clCd())) {
+            predicates.add(cb.equal(hospital.get("clCd"), condition.clCd()));
+        }
+        if (StringUtils.hasText(condition.name())) {
+            predicates.add(cb.like(hospital.get("name"), escapeLike(condition.name()) + "%", LIKE_ESCAPE));
+        }
+
+        return predicates;
+    }
+
+    private String escapeLike(final String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
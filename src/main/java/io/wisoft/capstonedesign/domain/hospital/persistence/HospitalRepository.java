@@ -1,11 +1,38 @@
 package io.wisoft.capstonedesign.domain.hospital.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface HospitalRepository extends JpaRepository<Hospital, Long> {
+
+    /** 병원 이름으로 조회 - 결과는 2차 캐시(쿼리 캐시)에 저장 */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = Hospital.QUERY_CACHE_REGION)
+    })
     List<Hospital> findByName(final String name);
+
+    /** 좌표가 있는 병원 목록 조회 - 공간 인덱스 적재용 */
+    @Query("select new io.wisoft.capstonedesign.domain.hospital.persistence.HospitalLocation(" +
+            "h.id, h.name, h.address, h.number, h.latitude, h.longitude)" +
+            " from Hospital h" +
+            " where h.latitude is not null and h.longitude is not null")
+    List<HospitalLocation> findAllLocations();
+
+    /** 병원별 의료진 진료과 조회 - [hospitalId, dept] */
+    @Query("select distinct s.hospital.id, s.dept from Staff s")
+    List<Object[]> findStaffDepts();
+
+    /** 특정 병원들의 의료진 진료과 조회 - [hospitalId, dept] */
+    @Query("select distinct s.hospital.id, s.dept from Staff s where s.hospital.id in :hospitalIds")
+    List<Object[]> findStaffDeptsByHospitalIds(@Param("hospitalIds") final Collection<Long> hospitalIds);
 }
@@ -1,18 +1,41 @@
 package io.wisoft.capstonedesign.domain.hospital.web;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import io.wisoft.capstonedesign.domain.hospital.application.HospitalImportService;
 import io.wisoft.capstonedesign.domain.hospital.application.HospitalService;
 import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
 import io.wisoft.capstonedesign.domain.hospital.web.dto.CreateHospitalRequest;
 import io.wisoft.capstonedesign.domain.hospital.web.dto.CreateHospitalResponse;
 import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalDto;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalListDto;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalSearchCondition;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.ImportHospitalResponse;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.NearbyHospitalDto;
 import io.wisoft.capstonedesign.domain.hospital.web.dto.Result;
+import io.wisoft.capstonedesign.domain.staff.application.StaffService;
 import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApi;
+import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApiFailWithAuth;
 import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApiFailWithoutAuth;
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "병원정보")
 @Slf4j
@@ -21,7 +44,17 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class HospitalApiController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int STREAM_CHUNK_SIZE = 1000;
+    private static final int MAX_NEARBY_RADIUS = 20_000;
+    private static final int MAX_NEARBY_SIZE = 100;
+
     private final HospitalService hospitalService;
+    private final HospitalImportService hospitalImportService;
+    private final StaffService staffService;
+    @Qualifier("asyncExecutor")
+    private final ThreadPoolTaskExecutor executor;
+    private final ObjectMapper objectMapper;
 
     /* 병원 저장 */
     @PostMapping
@@ -36,6 +69,29 @@ public class HospitalApiController {
     }
 
 
+    @SwaggerApi(summary = "공공데이터 병원정보 일괄 적재 (의료진 전용, fromPage가 없으면 마지막 체크포인트부터)", implementation = ImportHospitalResponse.class)
+    @SwaggerApiFailWithAuth
+    @PostMapping("/import")
+    public ImportHospitalResponse importHospitals(
+            @RequestAttribute("email") final String email,
+            @RequestParam(required = false) final Integer fromPage) {
+
+        log.info("email[{}], fromPage[{}]", email, fromPage);
+        staffService.findAuthorizedStaff(email);
+
+        CompletableFuture.supplyAsync(() -> hospitalImportService.importHospitals(fromPage), executor)
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        log.error("hospital import failed", throwable);
+                        return;
+                    }
+                    log.info("hospital import result[{}]", result);
+                });
+
+        return new ImportHospitalResponse(fromPage, "STARTED");
+    }
+
+
     /* 병원 단건 조회 */
     @GetMapping("/{id}/details")
     public Result hospital(@PathVariable final Long id) {
@@ -45,12 +101,88 @@ public class HospitalApiController {
     }
 
 
-    @SwaggerApi(summary = "병원 목록 조회", implementation = Result.class)
+    @SwaggerApi(summary = "병원 목록 조회 (시도/시군구 코드, 이름 앞부분, 종별 코드로 검색)", implementation = Page.class)
     @SwaggerApiFailWithoutAuth
     @GetMapping
-    public Result hospitals() {
-        return new Result(hospitalService.findAll()
-                .stream().map(HospitalDto::new)
+    public Page<HospitalListDto> hospitals(final HospitalSearchCondition condition, final Pageable pageable) {
+
+        log.info("condition[{}], pageable[{}]", condition, pageable);
+        validatePageSize(pageable);
+
+        return hospitalService.findList(condition, pageable);
+    }
+
+
+    @SwaggerApi(summary = "병원 목록 전체 스트리밍 조회 (JSON 배열, 대량 조회용)", implementation = HospitalListDto.class)
+    @SwaggerApiFailWithoutAuth
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> hospitalsStream(final HospitalSearchCondition condition) {
+
+        log.info("condition[{}]", condition);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> writeHospitals(condition, outputStream));
+    }
+
+    /* STREAM_CHUNK_SIZE 개씩 나누어 조회하고 바로 응답에 쓴다 - 조회마다 트랜잭션이 짧게 끝난다. */
+    private void writeHospitals(final HospitalSearchCondition condition, final OutputStream outputStream) throws IOException {
+
+        try (final JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
+
+            Long lastId = null;
+            List<HospitalListDto> chunk;
+            do {
+                chunk = hospitalService.findChunkAfter(condition, lastId, STREAM_CHUNK_SIZE);
+                for (final HospitalListDto hospital : chunk) {
+                    generator.writeObject(hospital);
+                }
+                generator.flush();
+
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).id();
+                }
+            } while (chunk.size() == STREAM_CHUNK_SIZE);
+
+            generator.writeEndArray();
+        }
+    }
+
+    private void validatePageSize(final Pageable pageable) {
+        if (pageable.getPageSize() > MAX_PAGE_SIZE) {
+            throw new IllegalValueException("size는 " + MAX_PAGE_SIZE + " 이하여야 합니다.", ErrorCode.ILLEGAL_PARAM);
+        }
+    }
+
+
+    @SwaggerApi(summary = "주변 병원 조회 (radius: m, dept: 진료과 번호)", implementation = Result.class)
+    @SwaggerApiFailWithoutAuth
+    @GetMapping("/nearby")
+    public Result nearbyHospitals(
+            @RequestParam final double lat,
+            @RequestParam final double lng,
+            @RequestParam(defaultValue = "3000") final int radius,
+            @RequestParam(required = false) final String dept,
+            @RequestParam(defaultValue = "20") final int size) {
+
+        log.info("lat[{}], lng[{}], radius[{}], dept[{}], size[{}]", lat, lng, radius, dept, size);
+        validateNearbyParam(lat, lng, radius, size);
+
+        return new Result(hospitalService.findNearby(lat, lng, radius, dept, size)
+                .stream().map(NearbyHospitalDto::new)
                 .toList());
     }
-}
\ No newline at end of file
+
+    private void validateNearbyParam(final double lat, final double lng, final int radius, final int size) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new IllegalValueException("위도/경도 범위가 올바르지 않습니다.", ErrorCode.ILLEGAL_PARAM);
+        }
+        if (radius < 1 || radius > MAX_NEARBY_RADIUS) {
+            throw new IllegalValueException("radius는 1 ~ " + MAX_NEARBY_RADIUS + " 사이여야 합니다.", ErrorCode.ILLEGAL_PARAM);
+        }
+        if (size < 1 || size > MAX_NEARBY_SIZE) {
+            throw new IllegalValueException("size는 1 ~ " + MAX_NEARBY_SIZE + " 사이여야 합니다.", ErrorCode.ILLEGAL_PARAM);
+        }
+    }
+}
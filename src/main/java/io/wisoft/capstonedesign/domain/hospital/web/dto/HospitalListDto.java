@@ -0,0 +1,11 @@
+package io.wisoft.capstonedesign.domain.hospital.web.dto;
+
+public record HospitalListDto(
+        Long id,
+        String name,
+        String address,
+        String number,
+        String clCd,
+        String sidoCd,
+        String sgguCd) {
+}
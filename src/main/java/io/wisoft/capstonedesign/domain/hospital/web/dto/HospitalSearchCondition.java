@@ -0,0 +1,11 @@
+package io.wisoft.capstonedesign.domain.hospital.web.dto;
+
+/**
+ * 병원 목록 검색 조건 - 값이 없는 조건은 무시한다.
+ */
+public record HospitalSearchCondition(
+        String sidoCd,
+        String sgguCd,
+        String name,
+        String clCd) {
+}
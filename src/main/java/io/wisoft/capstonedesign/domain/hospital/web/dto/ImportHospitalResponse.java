@@ -0,0 +1,3 @@
+package io.wisoft.capstonedesign.domain.hospital.web.dto;
+
+public record ImportHospitalResponse(Integer fromPage, String status) { }
@@ -0,0 +1,23 @@
+package io.wisoft.capstonedesign.domain.hospital.web.dto;
+
+import io.wisoft.capstonedesign.domain.hospital.application.HospitalGeoIndex.NearbyHospital;
+
+public record NearbyHospitalDto(
+        Long id,
+        String name,
+        String address,
+        String number,
+        Double latitude,
+        Double longitude,
+        long distance) {
+
+    public NearbyHospitalDto(final NearbyHospital nearbyHospital) {
+        this(nearbyHospital.location().id(),
+                nearbyHospital.location().name(),
+                nearbyHospital.location().address(),
+                nearbyHospital.location().number(),
+                nearbyHospital.location().latitude(),
+                nearbyHospital.location().longitude(),
+                Math.round(nearbyHospital.distance()));
+    }
+}
@@ -1,13 +1,16 @@
 package io.wisoft.capstonedesign.domain.member.application;
 
 import io.wisoft.capstonedesign.domain.appointment.persistence.Appointment;
-import io.wisoft.capstonedesign.domain.board.persistence.Board;
+import io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto;
 import io.wisoft.capstonedesign.domain.member.persistence.MemberMyPageRepository;
-import io.wisoft.capstonedesign.domain.pick.persistence.Pick;
-import io.wisoft.capstonedesign.domain.review.persistence.Review;
+import io.wisoft.capstonedesign.domain.pick.web.dto.PickDto;
+import io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto;
+import io.wisoft.capstonedesign.global.counter.CountKey;
+import io.wisoft.capstonedesign.global.counter.PageCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,32 +22,43 @@ import java.util.List;
 public class MemberMyPageService {
 
     private final MemberMyPageRepository memberMyPageRepository;
+    private final PageCounter pageCounter;
 
     /**
-     * 자신이 쓴 리뷰 목록 페이징 조회
+     * 자신의 예약 정보 목록 조회
      */
-    public Page<Review> findReviewsByMemberIdUsingPaging(final Long memberId, final Pageable pageable) {
-        return memberMyPageRepository.findReviewsByMemberIdUsingPaging(memberId, pageable);
+    public List<Appointment> findAppointmentsByMemberId(final Long memberId) {
+        return memberMyPageRepository.findAppointmentsByMemberId(memberId);
     }
 
+
     /**
-     * 자신이 쓴 게시글 목록 페이징 조회
+     * 자신이 쓴 리뷰 목록 페이징 조회 (목록 DTO 프로젝션)
      */
-    public Page<Board> findBoardsByMemberIdUsingPaging(final Long memberId, final Pageable pageable) {
-        return memberMyPageRepository.findBoardsByMemberIdUsingPaging(memberId, pageable);
+    public Page<ReviewListDto> findReviewListByMemberId(final Long memberId, final Pageable pageable) {
+        return PageableExecutionUtils.getPage(
+                memberMyPageRepository.findReviewListByMemberId(memberId, pageable),
+                pageable,
+                () -> pageCounter.get(CountKey.memberReviews(memberId), () -> memberMyPageRepository.countReviewsByMemberId(memberId)));
     }
 
     /**
-     * 자신의 예약 정보 목록 조회
+     * 자신이 쓴 게시글 목록 페이징 조회 (목록 DTO 프로젝션)
      */
-    public List<Appointment> findAppointmentsByMemberId(final Long memberId) {
-        return memberMyPageRepository.findAppointmentsByMemberId(memberId);
+    public Page<BoardListDto> findBoardListByMemberId(final Long memberId, final Pageable pageable) {
+        return PageableExecutionUtils.getPage(
+                memberMyPageRepository.findBoardListByMemberId(memberId, pageable),
+                pageable,
+                () -> pageCounter.get(CountKey.memberBoards(memberId), () -> memberMyPageRepository.countBoardsByMemberId(memberId)));
     }
 
     /**
-     * 자신이 찜한 병원 목록 페이징 조회
+     * 자신이 찜한 병원 목록 페이징 조회 (목록 DTO 프로젝션)
      */
-    public Page<Pick> findPicksByMemberIdUsingPaging(final Long memberId, final Pageable pageable) {
-        return memberMyPageRepository.findPicksByMemberIdUsingPaging(memberId, pageable);
+    public Page<PickDto> findPickListByMemberId(final Long memberId, final Pageable pageable) {
+        return PageableExecutionUtils.getPage(
+                memberMyPageRepository.findPickListByMemberId(memberId, pageable),
+                pageable,
+                () -> pageCounter.get(CountKey.memberPicks(memberId), () -> memberMyPageRepository.countPicksByMemberId(memberId)));
     }
 }
@@ -9,6 +9,8 @@ import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
 import io.wisoft.capstonedesign.global.exception.notfound.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -77,6 +79,22 @@ public class MemberService {
         memberRepository.delete(member);
     }
 
+    /**
+     * 블라인드 인덱스가 없는 기존 회원을 기동 시점에 보정
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillBlindIndex() {
+
+        final List<Member> memberList = memberRepository.findAllByEmailBlindIndexIsNullOrNicknameBlindIndexIsNull();
+        if (memberList.isEmpty()) {
+            return;
+        }
+
+        memberList.forEach(Member::refreshBlindIndex);
+        log.info("member blind index backfilled[{}]", memberList.size());
+    }
+
     /*
      * 회원 조회
      */
@@ -6,7 +6,11 @@ import io.wisoft.capstonedesign.domain.reviewreply.persistence.ReviewReply;
 import io.wisoft.capstonedesign.domain.pick.persistence.Pick;
 import io.wisoft.capstonedesign.domain.review.persistence.Review;
 import io.wisoft.capstonedesign.global.BaseEntity;
+import io.wisoft.capstonedesign.global.config.aes.AES;
 import io.wisoft.capstonedesign.global.config.aes.AESConverter;
+import io.wisoft.capstonedesign.global.config.aes.BlindIndex;
+import io.wisoft.capstonedesign.global.config.aes.EncryptedString;
+import io.wisoft.capstonedesign.global.config.aes.LazyAESConverter;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,6 +23,10 @@ import java.util.List;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "uk_member_nickname_bidx", columnList = "member_nickname_bidx", unique = true),
+        @Index(name = "uk_member_email_bidx", columnList = "member_email_bidx", unique = true)
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member extends BaseEntity {
 
@@ -28,19 +36,29 @@ public class Member extends BaseEntity {
     private Long id;
 
     @Convert(converter = AESConverter.class)
-    @Column(name = "member_nickname", unique = true, nullable = false)
+    @Column(name = "member_nickname", length = AES.ENCRYPTED_COLUMN_LENGTH, nullable = false)
     private String nickname;
 
-    @Convert(converter = AESConverter.class)
-    @Column(name = "member_email", unique = true, nullable = false)
-    private String email;
+    /* 닉네임 검색용 블라인드 인덱스 */
+    @Column(name = "member_nickname_bidx", length = 64)
+    private String nicknameBlindIndex;
+
+    @Getter(AccessLevel.NONE)
+    @Convert(converter = LazyAESConverter.class)
+    @Column(name = "member_email", length = AES.ENCRYPTED_COLUMN_LENGTH, nullable = false)
+    private EncryptedString email;
+
+    /* 이메일 검색용 블라인드 인덱스 */
+    @Column(name = "member_email_bidx", length = 64)
+    private String emailBlindIndex;
 
     @Column(name = "member_password", nullable = false)
     private String password;
 
-    @Convert(converter = AESConverter.class)
-    @Column(name = "member_phonenumber", nullable = false)
-    private String phoneNumber;
+    @Getter(AccessLevel.NONE)
+    @Convert(converter = LazyAESConverter.class)
+    @Column(name = "member_phonenumber", length = AES.ENCRYPTED_COLUMN_LENGTH, nullable = false)
+    private EncryptedString phoneNumber;
 
     @Column(name = "member_photo_path")
     private String memberPhotoPath;
@@ -72,9 +90,10 @@ public class Member extends BaseEntity {
 
         final Member member = new Member();
         member.nickname = nickname;
-        member.email = email;
+        member.email = EncryptedString.fromPlainText(email);
         member.password = password;
-        member.phoneNumber = phoneNumber;
+        member.phoneNumber = EncryptedString.fromPlainText(phoneNumber);
+        member.refreshBlindIndex();
         member.createEntity();
 
         return member;
@@ -88,6 +107,18 @@ public class Member extends BaseEntity {
     }
 
 
+    /**
+     * 암호화 컬럼은 getter를 처음 호출할 때 복호화
+     */
+    public String getEmail() {
+        return email == null ? null : email.plainText();
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber == null ? null : phoneNumber.plainText();
+    }
+
+
     /**
      * 수정 로직
      */
@@ -98,6 +129,7 @@ public class Member extends BaseEntity {
 
     public void updateNickname(final String newNickname) {
         this.nickname = newNickname;
+        this.nicknameBlindIndex = BlindIndex.hash(newNickname);
         this.updateEntity();
     }
 
@@ -106,4 +138,9 @@ public class Member extends BaseEntity {
         this.updateEntity();
     }
 
+    /* 블라인드 인덱스 갱신 - 인덱스가 없던 기존 회원 보정에도 사용 */
+    public void refreshBlindIndex() {
+        this.nicknameBlindIndex = BlindIndex.hash(nickname);
+        this.emailBlindIndex = BlindIndex.hash(getEmail());
+    }
 }
@@ -1,5 +1,6 @@
 package io.wisoft.capstonedesign.domain.member.persistence;
 
+import io.wisoft.capstonedesign.global.config.aes.BlindIndex;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,9 +24,31 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
             " where m.id = :id")
     Optional<Member> findDetailById(@Param("id") final Long id);
 
-    Optional<Member> findByEmail(final String email);
+    /**
+     * 이메일, 닉네임 조회는 암호문 대신 블라인드 인덱스로 조회
+     */
+    default Optional<Member> findByEmail(final String email) {
+        return findByEmailBlindIndex(BlindIndex.hash(email));
+    }
+
+    default List<Member> findValidateMemberByNickname(final String nickname) {
+        return findAllByNicknameBlindIndex(BlindIndex.hash(nickname));
+    }
+
+    default List<Member> findValidateMemberByEmail(final String email) {
+        return findAllByEmailBlindIndex(BlindIndex.hash(email));
+    }
 
-    List<Member> findValidateMemberByNickname(final String nickname);
-    List<Member> findValidateMemberByEmail(final String email);
-    Optional<Member> findMemberByEmail(final String email);
+    default Optional<Member> findMemberByEmail(final String email) {
+        return findByEmail(email);
+    }
+
+    Optional<Member> findByEmailBlindIndex(final String emailBlindIndex);
+    List<Member> findAllByEmailBlindIndex(final String emailBlindIndex);
+    List<Member> findAllByNicknameBlindIndex(final String nicknameBlindIndex);
+
+    /**
+     * 블라인드 인덱스가 채워지지 않은 기존 회원
+     */
+    List<Member> findAllByEmailBlindIndexIsNullOrNicknameBlindIndexIsNull();
 }
@@ -34,8 +34,7 @@ public class MemberMyPageController {
 
         log.info("memberId[{}]", id);
 
-        return memberMyPageService.findReviewsByMemberIdUsingPaging(id,pageable)
-                .map(ReviewListDto::new);
+        return memberMyPageService.findReviewListByMemberId(id, pageable);
     }
 
 
@@ -45,7 +44,7 @@ public class MemberMyPageController {
     public Page<BoardListDto> boardsByMemberUsingPaging(
             @PathVariable("member-id") final Long id, final Pageable pageable) {
         log.info("memberId[{}]", id);
-        return memberMyPageService.findBoardsByMemberIdUsingPaging(id, pageable).map(BoardListDto::new);
+        return memberMyPageService.findBoardListByMemberId(id, pageable);
     }
 
 
@@ -68,6 +67,6 @@ public class MemberMyPageController {
             @PathVariable("member-id") final Long memberId, final Pageable pageable) {
 
         log.info("memberId[{}]", memberId);
-        return memberMyPageService.findPicksByMemberIdUsingPaging(memberId, pageable).map(PickDto::new);
+        return memberMyPageService.findPickListByMemberId(memberId, pageable);
     }
 }
@@ -0,0 +1,27 @@
+package io.wisoft.capstonedesign.domain.payment.application;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+
+/**
+ * PG 결제 내역 (필요한 필드만 매핑)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GatewayPayment(
+        @JsonProperty("imp_uid") String impUid,
+        @JsonProperty("merchant_uid") String merchantUid,
+        @JsonProperty("status") String status,
+        @JsonProperty("amount") BigDecimal amount,
+        @JsonProperty("pg_provider") String pgProvider,
+        @JsonProperty("pay_method") String payMethod,
+        @JsonProperty("buyer_email") String buyerEmail,
+        @JsonProperty("buyer_name") String buyerName) {
+
+    private static final String PAID = "paid";
+
+    public boolean isPaid() {
+        return PAID.equals(status);
+    }
+}
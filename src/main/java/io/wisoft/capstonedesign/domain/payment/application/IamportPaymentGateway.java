@@ -0,0 +1,200 @@
+package io.wisoft.capstonedesign.domain.payment.application;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 아임포트 REST API
+ * - HttpClient 하나를 재사용해 커넥션을 풀링하고, sendAsync로 요청 스레드를 막지 않는다.
+ * - 모든 요청은 requestTimeout 안에 끝나지 않으면 TimeoutException으로 완료된다.
+ * - API 토큰은 만료 시각(expired_at)까지 캐싱한다.
+ */
+@Slf4j
+@Component
+public class IamportPaymentGateway implements PaymentGateway, DisposableBean {
+
+    private static final Duration TOKEN_EXPIRE_MARGIN = Duration.ofMinutes(1);
+
+    private final String baseUrl;
+    private final String apiKey;
+    private final String apiSecret;
+    private final Duration requestTimeout;
+    private final ObjectMapper objectMapper;
+
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final AtomicReference<CompletableFuture<AccessToken>> token = new AtomicReference<>();
+
+    public IamportPaymentGateway(
+            @Value("${iamport.base-url:https://api.iamport.kr}") final String baseUrl,
+            @Value("${iamport.api-key}") final String apiKey,
+            @Value("${iamport.api-secret}") final String apiSecret,
+            @Value("${iamport.connect-timeout-ms:2000}") final long connectTimeoutMs,
+            @Value("${iamport.request-timeout-ms:5000}") final long requestTimeoutMs,
+            @Value("${iamport.threads:4}") final int threads,
+            final ObjectMapper objectMapper) {
+
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.apiSecret = apiSecret;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.objectMapper = objectMapper;
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "iamport-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(executor)
+                .build();
+    }
+
+    @Override
+    public CompletableFuture<GatewayPayment> findPayment(final String impUid) {
+        return accessToken().thenCompose(bearer -> send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/payments/" + URLEncoder.encode(impUid, StandardCharsets.UTF_8)))
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .GET(),
+                GatewayPayment.class));
+    }
+
+    @Override
+    public CompletableFuture<Void> cancel(final String impUid, final String merchantUid, final String reason) {
+
+        final Map<String, String> body = new HashMap<>();
+        if (impUid != null) {
+            body.put("imp_uid", impUid);
+        } else {
+            body.put("merchant_uid", merchantUid);
+        }
+        body.put("reason", reason);
+
+        return accessToken().thenCompose(bearer -> send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/payments/cancel"))
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .POST(jsonBody(body)),
+                GatewayPayment.class))
+                .thenAccept(payment -> log.info("imp_uid[{}], merchant_uid[{}] canceled", impUid, merchantUid));
+    }
+
+    /**
+     * API 토큰 - 만료 TOKEN_EXPIRE_MARGIN 전까지 재사용하고, 발급 중이면 진행 중인 요청을 공유한다.
+     */
+    @Override
+    public CompletableFuture<String> accessToken() {
+
+        final CompletableFuture<AccessToken> current = token.get();
+        if (current != null && !isStale(current)) {
+            return current.thenApply(AccessToken::accessToken);
+        }
+
+        final CompletableFuture<AccessToken> issued = new CompletableFuture<>();
+        if (!token.compareAndSet(current, issued)) {
+            return accessToken();
+        }
+
+        send(HttpRequest.newBuilder(URI.create(baseUrl + "/users/getToken"))
+                        .POST(jsonBody(Map.of("imp_key", apiKey, "imp_secret", apiSecret))),
+                AccessToken.class)
+                .whenComplete((accessToken, throwable) -> {
+                    if (throwable != null) {
+                        token.compareAndSet(issued, null);
+                        issued.completeExceptionally(throwable);
+                    } else {
+                        issued.complete(accessToken);
+                    }
+                });
+        return issued.thenApply(AccessToken::accessToken);
+    }
+
+    private boolean isStale(final CompletableFuture<AccessToken> accessToken) {
+        if (!accessToken.isDone()) {
+            return false;
+        }
+        if (accessToken.isCompletedExceptionally()) {
+            return true;
+        }
+        return Instant.now().plus(TOKEN_EXPIRE_MARGIN).getEpochSecond() >= accessToken.join().expiredAt();
+    }
+
+    private <T> CompletableFuture<T> send(final HttpRequest.Builder builder, final Class<T> responseType) {
+
+        final HttpRequest request = builder
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .timeout(requestTimeout)
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(response -> parse(request, response, responseType));
+    }
+
+    private <T> T parse(final HttpRequest request, final HttpResponse<byte[]> response, final Class<T> responseType) {
+
+        final JavaType type = objectMapper.getTypeFactory().constructParametricType(IamportResponse.class, responseType);
+        try {
+            final IamportResponse<T> body = objectMapper.readValue(response.body(), type);
+
+            if (response.statusCode() != 200 || body.code() != 0 || body.response() == null) {
+                log.info("iamport request[{}] failed status[{}], message[{}]", request.uri().getPath(), response.statusCode(), body.message());
+                throw new PaymentGatewayException("아임포트 요청 실패: " + body.message());
+            }
+            return body.response();
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(final Map<String, String> body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record IamportResponse<T>(int code, String message, T response) { }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record AccessToken(
+            @JsonProperty("access_token") String accessToken,
+            @JsonProperty("expired_at") long expiredAt) { }
+}
@@ -0,0 +1,25 @@
+package io.wisoft.capstonedesign.domain.payment.application;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 결제 대행사(PG) API
+ * 모든 호출은 요청 스레드를 막지 않고 제한 시간 안에 완료되거나 예외로 끝난다.
+ */
+public interface PaymentGateway {
+
+    /**
+     * imp_uid 로 결제 내역 조회
+     */
+    CompletableFuture<GatewayPayment> findPayment(final String impUid);
+
+    /**
+     * 결제 전액 취소 (imp_uid 가 없으면 merchant_uid 로 취소)
+     */
+    CompletableFuture<Void> cancel(final String impUid, final String merchantUid, final String reason);
+
+    /**
+     * API 토큰 (만료 전까지 재사용)
+     */
+    CompletableFuture<String> accessToken();
+}
@@ -0,0 +1,11 @@
+package io.wisoft.capstonedesign.domain.payment.application;
+
+/**
+ * PG가 실패 응답(code != 0)을 준 경우
+ */
+public class PaymentGatewayException extends RuntimeException {
+
+    public PaymentGatewayException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,95 @@
+package io.wisoft.capstonedesign.domain.payment.application;
+
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentOutbox;
+import io.wisoft.capstonedesign.global.outbox.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * payment_outbox 의 PG 결제 취소 요청을 주기적으로 전달
+ * - 한 번에 batchSize 건을 선점해서 동시에 요청하고, 결과는 건별로 기록한다.
+ * - 실패한 요청은 지수 backoff(최대 maxBackoff, jitter 포함) 후 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxDispatcher {
+
+    private final PaymentOutboxService paymentOutboxService;
+    private final PaymentGateway paymentGateway;
+
+    @Value("${payment.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${payment.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${payment.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${payment.outbox.lease-ms:60000}")
+    private long leaseMillis;
+
+    @Value("${payment.outbox.base-backoff-ms:1000}")
+    private long baseBackoffMillis;
+
+    @Value("${payment.outbox.max-backoff-ms:600000}")
+    private long maxBackoffMillis;
+
+    @Scheduled(fixedDelayString = "${payment.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.error("payment outbox dispatch failed", e);
+        }
+    }
+
+    /**
+     * 한 배치 전달 후 처리한 건수 반환
+     */
+    public int dispatch() {
+
+        final List<PaymentOutbox> outboxes = paymentOutboxService.claim(batchSize, Duration.ofMillis(leaseMillis));
+        if (outboxes.isEmpty()) {
+            return 0;
+        }
+
+        final List<CompletableFuture<Throwable>> results = outboxes.stream()
+                .map(outbox -> paymentGateway.cancel(outbox.getImpUid(), outbox.getMerchantUid(), outbox.getReason())
+                        .handle((ignored, throwable) -> throwable))
+                .toList();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+        for (int i = 0; i < outboxes.size(); i++) {
+            final PaymentOutbox outbox = outboxes.get(i);
+            final Throwable throwable = results.get(i).join();
+
+            if (throwable == null) {
+                paymentOutboxService.markDone(outbox.getId());
+                continue;
+            }
+
+            final Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+            log.info("payment outbox[{}] attempt[{}] failed: {}", outbox.getId(), outbox.getAttempts(), cause.toString());
+            paymentOutboxService.markFailed(outbox.getId(), cause.toString(), maxAttempts, backoff(outbox.getAttempts()));
+        }
+        return outboxes.size();
+    }
+
+    private Duration backoff(final int attempts) {
+        return OutboxService.backoff(attempts, baseBackoffMillis, maxBackoffMillis);
+    }
+}
@@ -0,0 +1,38 @@
+package io.wisoft.capstonedesign.domain.payment.application;
+
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentEntity;
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentOutbox;
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentOutboxRepository;
+import io.wisoft.capstonedesign.global.outbox.OutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PaymentOutboxService extends OutboxService<PaymentOutbox> {
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+
+    public PaymentOutboxService(final PaymentOutboxRepository paymentOutboxRepository) {
+        super(paymentOutboxRepository);
+        this.paymentOutboxRepository = paymentOutboxRepository;
+    }
+
+    /**
+     * PG 결제 취소 요청 저장 - 호출한 트랜잭션이 커밋될 때만 남는다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueCancel(final PaymentEntity payment, final String merchantUid, final String reason) {
+
+        final PaymentOutbox outbox = paymentOutboxRepository.save(PaymentOutbox.builder()
+                .paymentId(payment.getId())
+                .impUid(payment.getImpUid())
+                .merchantUid(payment.getMerchantUid() != null ? payment.getMerchantUid() : merchantUid)
+                .reason(reason)
+                .build());
+        log.info("payment[{}] cancel enqueued outbox[{}]", payment.getId(), outbox.getId());
+    }
+}
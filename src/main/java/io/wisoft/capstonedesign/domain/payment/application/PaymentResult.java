@@ -0,0 +1,22 @@
+package io.wisoft.capstonedesign.domain.payment.application;
+
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentEntity;
+import io.wisoft.capstonedesign.global.enumeration.status.PayStatus;
+
+/**
+ * 결제 검증 결과
+ */
+public record PaymentResult(Long paymentId, PayStatus payStatus) {
+
+    public static PaymentResult from(final PaymentEntity payment) {
+        return new PaymentResult(payment.getId(), payment.getPayStatus());
+    }
+
+    public boolean isCompleted() {
+        return payStatus == PayStatus.COMPLETED;
+    }
+
+    public boolean isPending() {
+        return payStatus == PayStatus.PENDING;
+    }
+}
@@ -1,53 +1,136 @@
 package io.wisoft.capstonedesign.domain.payment.application;
 
-import com.siot.IamportRestClient.response.Payment;
 import io.wisoft.capstonedesign.domain.appointment.application.AppointmentService;
 import io.wisoft.capstonedesign.domain.appointment.persistence.Appointment;
 import io.wisoft.capstonedesign.domain.payment.persistence.PaymentEntity;
 import io.wisoft.capstonedesign.domain.payment.persistence.PaymentRepository;
+import io.wisoft.capstonedesign.global.enumeration.status.PayStatus;
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
+import io.wisoft.capstonedesign.global.exception.notfound.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.Optional;
+
 @Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class PaymentService {
 
+    private static final String VERIFICATION_CANCEL_REASON = "결제 검증 실패";
+    private static final String REFUND_REASON = "예약 취소";
+
     private final PaymentRepository paymentRepository;
     private final AppointmentService appointmentService;
+    private final PaymentOutboxService paymentOutboxService;
 
+    @Value("${payment.deposit-amount:1000}")
+    private BigDecimal depositAmount;
+
+    /**
+     * 결제 콜백 등록 - 같은 imp_uid 는 한 번만 저장된다.
+     * 결제되어야 할 예약금을 함께 저장해서 검증 시 PG 결제 금액과 비교한다.
+     * 동시에 들어온 중복 콜백은 imp_uid 유니크 제약에 걸려 DataIntegrityViolationException 이 발생한다.
+     */
     @Transactional
-    public Long save(final Long appointmentId, final Payment payment) {
-        //예약 정보 조회
+    public PaymentEntity register(final Long appointmentId, final String impUid, final String merchantUid) {
+
+        final Optional<PaymentEntity> registered = paymentRepository.findByImpUid(impUid);
+        if (registered.isPresent()) {
+            log.info("impUid[{}] is already registered", impUid);
+            validateSameAppointment(registered.get(), appointmentId);
+            return registered.get();
+        }
+
         final Appointment appointment = appointmentService.findById(appointmentId);
-        log.info("appointment[{}]", appointment);
+        if (appointment.getPayStatus() == PayStatus.COMPLETED) {
+            log.info("appointment[{}] is already pay", appointmentId);
+            throw new IllegalValueException("이미 결제된 예약입니다.", ErrorCode.ILLEGAL_STATE);
+        }
 
-        //해당 예약건 결제
-        appointment.payment();
-        log.info("appointment[{}] pay success", appointment);
+        return paymentRepository.saveAndFlush(PaymentEntity.pending(appointment, impUid, merchantUid, depositAmount));
+    }
 
-        //결제 정보 생성(매핑) 후 저장
-        final PaymentEntity paymentEntity = paymentToPaymentEntity(payment);
-        log.info("paymentEntity[{}]", paymentEntity);
+    /**
+     * PG 결제 내역으로 대기 중인 결제를 확정
+     * 결제 상태를 먼저 flush 해서 같은 결제를 동시에 확정하려는 트랜잭션은 버전 충돌로 실패하게 하고,
+     * 예약은 조건부 update 로 결제 완료 처리해서 한 예약에 결제가 두 번 반영되지 않게 한다.
+     * PG에서는 결제되었지만 반영할 수 없는 결제는 같은 트랜잭션에서 결제 취소 요청을 남긴다.
+     */
+    @Transactional
+    public PaymentEntity complete(final Long paymentId, final GatewayPayment gatewayPayment) {
+
+        final PaymentEntity payment = findById(paymentId);
+        if (!payment.isPending()) {
+            log.info("payment[{}] is already {}", paymentId, payment.getPayStatus());
+            return payment;
+        }
+
+        if (!isValid(payment, gatewayPayment)) {
+            log.info("payment[{}] verification failed, gateway status[{}] amount[{}]",
+                    paymentId, gatewayPayment.status(), gatewayPayment.amount());
+            payment.fail();
+            if (gatewayPayment.isPaid()) {
+                paymentOutboxService.enqueueCancel(payment, null, VERIFICATION_CANCEL_REASON);
+            }
+            return payment;
+        }
+
+        payment.complete(
+                gatewayPayment.pgProvider(),
+                gatewayPayment.payMethod(),
+                gatewayPayment.buyerEmail(),
+                gatewayPayment.buyerName());
+        paymentRepository.saveAndFlush(payment);
 
-        return paymentRepository.save(paymentEntity).getId();
+        if (!appointmentService.markPaid(payment.getAppointment().getId())) {
+            log.info("appointment of payment[{}] is already pay", paymentId);
+            payment.fail();
+            paymentOutboxService.enqueueCancel(payment, null, VERIFICATION_CANCEL_REASON);
+        }
+        return payment;
     }
 
-    private PaymentEntity paymentToPaymentEntity(final Payment payment) {
-        return PaymentEntity.createPaymentEntity(
-                payment.getPgProvider(),
-                payment.getPayMethod(),
-                "아보카도 병원 예약금",
-                payment.getBuyerEmail(),
-                payment.getBuyerName()
-        );
+    /**
+     * PG가 결제 내역을 거절한 경우 (없는 imp_uid 등)
+     */
+    @Transactional
+    public PaymentEntity fail(final Long paymentId) {
+
+        final PaymentEntity payment = findById(paymentId);
+        if (payment.isPending()) {
+            payment.fail();
+        }
+        return payment;
+    }
+
+    private boolean isValid(final PaymentEntity payment, final GatewayPayment gatewayPayment) {
+        return gatewayPayment.isPaid()
+                && payment.isPaidAmount(gatewayPayment.amount())
+                && Objects.equals(payment.getImpUid(), gatewayPayment.impUid())
+                && Objects.equals(payment.getMerchantUid(), gatewayPayment.merchantUid());
     }
 
+    private void validateSameAppointment(final PaymentEntity payment, final Long appointmentId) {
+        if (!Objects.equals(payment.getAppointment().getId(), appointmentId)) {
+            log.info("payment[{}] belongs to another appointment", payment.getId());
+            throw new IllegalValueException("다른 예약의 결제 정보입니다.", ErrorCode.ILLEGAL_STATE);
+        }
+    }
+
+    /**
+     * 예약 환불 - 상태 변경과 PG 결제 취소 요청을 같은 트랜잭션에 저장하고, 실제 취소는 PaymentOutboxDispatcher 가 전달한다.
+     * (imp_uid 가 없는 이전 결제는 요청받은 merchantUid 로 취소)
+     */
     @Transactional
-    public Long refund(final Long appointmentId) {
+    public Long refund(final Long appointmentId, final String merchantUid) {
 
         //예약 정보 조회
         final Appointment appointment = appointmentService.findById(appointmentId);
@@ -58,12 +141,33 @@ public class PaymentService {
         log.info("appointment[{}] refund success", appointment);
 
         //결제 정보 조회
-        final PaymentEntity paymentEntity = paymentRepository.findByAppointment(appointment);
+        final PaymentEntity paymentEntity = paymentRepository
+                .findFirstByAppointmentAndPayStatusOrderByIdDesc(appointment, PayStatus.COMPLETED)
+                .orElseThrow(() -> {
+                    log.info("completed payment of appointment[{}] not found", appointmentId);
+                    return new NotFoundException("payment 조회 실패");
+                });
         log.info("paymentEntity[{}]", paymentEntity);
 
         paymentEntity.refund();
         log.info("paymentEntity[{}] refund success", paymentEntity);
 
+        paymentOutboxService.enqueueCancel(paymentEntity, merchantUid, REFUND_REASON);
+
         return paymentEntity.getId();
     }
+
+
+    /* 조회 로직 */
+
+    public PaymentEntity findById(final Long paymentId) {
+        return paymentRepository.findById(paymentId).orElseThrow(() -> {
+            log.info("paymentId[{}] not found", paymentId);
+            return new NotFoundException("payment 조회 실패");
+        });
+    }
+
+    public Optional<PaymentEntity> findByImpUid(final String impUid) {
+        return paymentRepository.findByImpUid(impUid);
+    }
 }
@@ -0,0 +1,104 @@
+package io.wisoft.capstonedesign.domain.payment.application;
+
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 결제 콜백 검증
+ * - imp_uid 를 멱등 키로 결제를 먼저 등록하고, PG 조회는 요청 스레드를 막지 않고 비동기로 진행한다.
+ * - 같은 결제에 대한 검증이 진행 중이면 새로 조회하지 않고 진행 중인 결과를 공유한다.
+ * - PG 응답이 제한 시간을 넘기면 결제를 PENDING 으로 남겨두고, 재시도된 콜백이 다시 검증한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentVerificationService {
+
+    private final PaymentService paymentService;
+    private final PaymentGateway paymentGateway;
+
+    @Qualifier("asyncExecutor")
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Map<Long, CompletableFuture<PaymentResult>> inFlight = new ConcurrentHashMap<>();
+
+    public CompletableFuture<PaymentResult> verify(final Long appointmentId, final String impUid, final String merchantUid) {
+
+        final PaymentEntity payment = register(appointmentId, impUid, merchantUid);
+        if (!payment.isPending()) {
+            return CompletableFuture.completedFuture(PaymentResult.from(payment));
+        }
+
+        final Long paymentId = payment.getId();
+        final CompletableFuture<PaymentResult> result = new CompletableFuture<>();
+        final CompletableFuture<PaymentResult> running = inFlight.putIfAbsent(paymentId, result);
+        if (running != null) {
+            log.info("payment[{}] verification is already running", paymentId);
+            return running;
+        }
+
+        paymentGateway.findPayment(impUid)
+                .handleAsync((gatewayPayment, throwable) -> throwable == null
+                        ? complete(paymentId, gatewayPayment)
+                        : handleGatewayError(paymentId, throwable), executor)
+                .whenComplete((paymentResult, throwable) -> {
+                    inFlight.remove(paymentId, result);
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable);
+                    } else {
+                        result.complete(paymentResult);
+                    }
+                });
+
+        return result;
+    }
+
+    /**
+     * 중복 콜백이 동시에 등록되면 먼저 저장된 결제를 사용
+     */
+    private PaymentEntity register(final Long appointmentId, final String impUid, final String merchantUid) {
+        try {
+            return paymentService.register(appointmentId, impUid, merchantUid);
+        } catch (DataIntegrityViolationException e) {
+            log.info("impUid[{}] is registered concurrently", impUid);
+            return paymentService.findByImpUid(impUid).orElseThrow(() -> e);
+        }
+    }
+
+    private PaymentResult complete(final Long paymentId, final GatewayPayment gatewayPayment) {
+
+        try {
+            return PaymentResult.from(paymentService.complete(paymentId, gatewayPayment));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.info("payment[{}] is completed concurrently", paymentId);
+            return PaymentResult.from(paymentService.findById(paymentId));
+        }
+    }
+
+    private PaymentResult handleGatewayError(final Long paymentId, final Throwable throwable) {
+
+        final Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        if (cause instanceof TimeoutException || cause instanceof IOException || cause instanceof UncheckedIOException) {
+            log.info("payment[{}] gateway not responding, keep pending: {}", paymentId, cause.toString());
+            return PaymentResult.from(paymentService.findById(paymentId));
+        }
+        if (cause instanceof PaymentGatewayException) {
+            return PaymentResult.from(paymentService.fail(paymentId));
+        }
+        throw new CompletionException(cause);
+    }
+}
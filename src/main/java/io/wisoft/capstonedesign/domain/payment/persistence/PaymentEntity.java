@@ -6,16 +6,35 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.util.Assert;
+
+import java.math.BigDecimal;
 
 @Entity
 @Getter
-@Table(name = "payment")
+@Table(name = "payment", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payment_imp_uid", columnNames = "imp_uid")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PaymentEntity {
 
+    public static final String PAYMENT_NAME = "아보카도 병원 예약금";
+
     @Id
     @GeneratedValue
     private Long id;
+
+    /** 결제 콜백의 멱등 키 */
+    @Column(name = "imp_uid")
+    private String impUid;
+
+    @Column(name = "merchant_uid")
+    private String merchantUid;
+
+    /** 결제되어야 할 예약금 - PG 결제 금액과 비교한다. */
+    @Column(name = "amount", precision = 12, scale = 2)
+    private BigDecimal amount;
+
     private String pg;
     private String paymentMethod;
     private String paymentName;
@@ -26,7 +45,7 @@ public class PaymentEntity {
     @Version
     private Integer version;
 
-    @OneToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "appt_id")
     private Appointment appointment;
 
@@ -48,6 +67,64 @@ public class PaymentEntity {
         return payment;
     }
 
+    /**
+     * 결제 콜백 수신 - PG 검증 전 대기 상태로 생성
+     */
+    public static PaymentEntity pending(
+            final Appointment appointment,
+            final String impUid,
+            final String merchantUid,
+            final BigDecimal amount) {
+
+        Assert.notNull(appointment, "appointment는 필수입니다.");
+        Assert.hasText(impUid, "impUid는 필수입니다.");
+        Assert.notNull(amount, "amount는 필수입니다.");
+
+        final PaymentEntity payment = new PaymentEntity();
+        payment.appointment = appointment;
+        payment.impUid = impUid;
+        payment.merchantUid = merchantUid;
+        payment.amount = amount;
+        payment.paymentName = PAYMENT_NAME;
+        payment.payStatus = PayStatus.PENDING;
+
+        return payment;
+    }
+
+    /**
+     * PG 검증 성공
+     */
+    public void complete(
+            final String pg,
+            final String paymentMethod,
+            final String buyerEmail,
+            final String buyerName) {
+
+        this.pg = pg;
+        this.paymentMethod = paymentMethod;
+        this.buyerEmail = buyerEmail;
+        this.buyerName = buyerName;
+        this.payStatus = PayStatus.COMPLETED;
+    }
+
+    /**
+     * PG 검증 실패
+     */
+    public void fail() {
+        this.payStatus = PayStatus.FAILED;
+    }
+
+    /**
+     * PG 결제 금액이 예약금과 같은지 (scale 차이는 무시)
+     */
+    public boolean isPaidAmount(final BigDecimal paidAmount) {
+        return this.amount != null && paidAmount != null && this.amount.compareTo(paidAmount) == 0;
+    }
+
+    public boolean isPending() {
+        return this.payStatus == PayStatus.PENDING;
+    }
+
     public void refund() {
         this.payStatus = PayStatus.REFUND;
     }
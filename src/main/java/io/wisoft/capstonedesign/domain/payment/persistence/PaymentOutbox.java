@@ -0,0 +1,60 @@
+package io.wisoft.capstonedesign.domain.payment.persistence;
+
+import io.wisoft.capstonedesign.global.outbox.Outbox;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.util.Assert;
+
+/**
+ * PG 결제 취소 요청 (transactional outbox)
+ * - 결제/예약 상태 변경과 같은 트랜잭션에서 저장되고, PaymentOutboxDispatcher 가 PG에 전달한다.
+ * - 선점/재시도 상태는 Outbox 에서 관리한다.
+ */
+@Entity
+@Getter
+@Table(name = "payment_outbox",
+        indexes = @Index(name = "idx_payment_outbox_due", columnList = "outbox_status, outbox_next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentOutbox extends Outbox {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "payment_id", nullable = false)
+    private Long paymentId;
+
+    @Column(name = "imp_uid")
+    private String impUid;
+
+    @Column(name = "merchant_uid")
+    private String merchantUid;
+
+    @Column(name = "outbox_reason", nullable = false)
+    private String reason;
+
+    /* 정적 생성 메서드 */
+    @Builder
+    public static PaymentOutbox newInstance(
+            final Long paymentId,
+            final String impUid,
+            final String merchantUid,
+            final String reason) {
+
+        Assert.notNull(paymentId, "paymentId는 필수입니다.");
+        Assert.isTrue(impUid != null || merchantUid != null, "impUid 또는 merchantUid는 필수입니다.");
+        Assert.hasText(reason, "reason은 필수입니다.");
+
+        final PaymentOutbox outbox = new PaymentOutbox();
+        outbox.paymentId = paymentId;
+        outbox.impUid = impUid;
+        outbox.merchantUid = merchantUid;
+        outbox.reason = reason;
+        outbox.ready();
+
+        return outbox;
+    }
+}
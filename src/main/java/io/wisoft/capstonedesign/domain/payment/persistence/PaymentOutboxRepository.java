@@ -0,0 +1,10 @@
+package io.wisoft.capstonedesign.domain.payment.persistence;
+
+import io.wisoft.capstonedesign.global.outbox.OutboxRepository;
+
+import java.util.List;
+
+public interface PaymentOutboxRepository extends OutboxRepository<PaymentOutbox> {
+
+    List<PaymentOutbox> findAllByPaymentId(final Long paymentId);
+}
@@ -2,9 +2,17 @@ package io.wisoft.capstonedesign.domain.payment.persistence;
 
 
 import io.wisoft.capstonedesign.domain.appointment.persistence.Appointment;
+import io.wisoft.capstonedesign.global.enumeration.status.PayStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface PaymentRepository extends JpaRepository<PaymentEntity, Long> {
 
-    PaymentEntity findByAppointment(final Appointment appointment);
+    Optional<PaymentEntity> findByImpUid(final String impUid);
+
+    /**
+     * 예약의 최근 결제 건 조회 (실패/대기 중인 콜백은 제외)
+     */
+    Optional<PaymentEntity> findFirstByAppointmentAndPayStatusOrderByIdDesc(final Appointment appointment, final PayStatus payStatus);
 }
@@ -7,6 +7,8 @@ import io.wisoft.capstonedesign.domain.pick.persistence.PickRepository;
 import io.wisoft.capstonedesign.domain.pick.web.dto.CreatePickRequest;
 import io.wisoft.capstonedesign.domain.hospital.application.HospitalService;
 import io.wisoft.capstonedesign.domain.member.application.MemberService;
+import io.wisoft.capstonedesign.global.counter.CountKey;
+import io.wisoft.capstonedesign.global.counter.PageCounter;
 import io.wisoft.capstonedesign.global.exception.notfound.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +24,7 @@ public class PickService {
     private final PickRepository pickRepository;
     private final MemberService memberService;
     private final HospitalService hospitalService;
+    private final PageCounter pageCounter;
 
     /**
      * 찜하기 생성
@@ -41,6 +44,8 @@ public class PickService {
 
 
         pickRepository.save(pick);
+        pageCounter.increase(CountKey.memberPicks(member.getId()));
+
         return pick.getId();
     }
 
@@ -49,7 +54,10 @@ public class PickService {
      */
     @Transactional
     public void cancelPick(final Long pickId) {
-        pickRepository.delete(findById(pickId));
+        final Pick pick = findById(pickId);
+
+        pickRepository.delete(pick);
+        pageCounter.decrease(CountKey.memberPicks(pick.getMember().getId()));
     }
 
     /* 조회 로직 */
@@ -17,4 +17,10 @@ public class PickDto {
         this.name = pick.getMember().getNickname();
         this.hospital = pick.getHospital().getName();
     }
+
+    /* 목록 조회 프로젝션 (JPQL 생성자 표현식) */
+    public PickDto(final String name, final String hospital) {
+        this.name = name;
+        this.hospital = hospital;
+    }
 }
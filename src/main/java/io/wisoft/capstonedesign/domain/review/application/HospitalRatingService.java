@@ -0,0 +1,123 @@
+package io.wisoft.capstonedesign.domain.review.application;
+
+import io.wisoft.capstonedesign.domain.review.persistence.HospitalRating;
+import io.wisoft.capstonedesign.domain.review.persistence.HospitalRatingRepository;
+import io.wisoft.capstonedesign.domain.review.persistence.Review;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class HospitalRatingService {
+
+    private final HospitalRatingRepository hospitalRatingRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 리뷰 작성 반영 - ReviewService 트랜잭션에 참여한다.
+     */
+    @Transactional
+    public void addReview(final Review review) {
+
+        if (review.getTargetDept() == null) {
+            return;
+        }
+
+        final HospitalRating hospitalRating = findOrCreateForUpdate(review.getTargetHospital(), review.getTargetDept());
+        hospitalRating.addReview(review.getStarPoint());
+    }
+
+    /**
+     * 집계 행 잠금 조회 - 첫 리뷰라면 빈 집계 행을 별도 트랜잭션에서 먼저 만들고 다시 잠근다.
+     * 같은 (병원, 병과)의 첫 리뷰가 동시에 작성되면 한쪽은 유니크 제약에 걸리지만, 이미 만들어진 행을 사용한다.
+     */
+    private HospitalRating findOrCreateForUpdate(final String targetHospital, final HospitalDept targetDept) {
+
+        final Optional<HospitalRating> hospitalRating = hospitalRatingRepository.findForUpdate(targetHospital, targetDept);
+        if (hospitalRating.isPresent()) {
+            return hospitalRating.get();
+        }
+
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transactionTemplate.executeWithoutResult(status -> hospitalRatingRepository.saveAndFlush(HospitalRating.builder()
+                    .targetHospital(targetHospital)
+                    .targetDept(targetDept)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            log.info("targetHospital[{}], targetDept[{}] rating is created concurrently", targetHospital, targetDept);
+        }
+
+        return hospitalRatingRepository.findForUpdate(targetHospital, targetDept)
+                .orElseThrow(() -> new IllegalStateException("별점 집계를 만들지 못했습니다."));
+    }
+
+    /**
+     * 리뷰 삭제 반영 - ReviewService 트랜잭션에 참여한다.
+     */
+    @Transactional
+    public void removeReview(final Review review) {
+
+        if (review.getTargetDept() == null) {
+            return;
+        }
+
+        hospitalRatingRepository.findForUpdate(review.getTargetHospital(), review.getTargetDept())
+                .ifPresentOrElse(
+                        hospitalRating -> hospitalRating.removeReview(review.getStarPoint()),
+                        () -> log.info("targetHospital[{}], targetDept[{}] rating not found", review.getTargetHospital(), review.getTargetDept()));
+    }
+
+    /**
+     * 특정 병원의 병과별 별점 집계 조회
+     */
+    public List<HospitalRating> findByTargetHospital(final String targetHospital) {
+        return hospitalRatingRepository.findByTargetHospital(targetHospital);
+    }
+
+    /**
+     * 집계 테이블이 비어있다면 기존 리뷰로부터 한 번 재구성한다.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+
+        if (hospitalRatingRepository.count() > 0) {
+            return;
+        }
+
+        final Map<String, HospitalRating> ratingMap = new HashMap<>();
+
+        for (final Object[] row : hospitalRatingRepository.countWrittenReviewsGroupByStarPoint()) {
+            final String targetHospital = (String) row[0];
+            final HospitalDept targetDept = (HospitalDept) row[1];
+            final int starPoint = ((Number) row[2]).intValue();
+            final long count = ((Number) row[3]).longValue();
+
+            final HospitalRating hospitalRating = ratingMap.computeIfAbsent(targetHospital + ":" + targetDept,
+                    key -> HospitalRating.builder().targetHospital(targetHospital).targetDept(targetDept).build());
+
+            hospitalRating.addReviews(starPoint, count);
+        }
+
+        hospitalRatingRepository.saveAll(ratingMap.values());
+        log.info("hospital rating rebuilt[{}]", ratingMap.size());
+    }
+}
@@ -5,8 +5,14 @@ import io.wisoft.capstonedesign.domain.member.persistence.Member;
 import io.wisoft.capstonedesign.domain.review.persistence.Review;
 import io.wisoft.capstonedesign.domain.review.persistence.ReviewRepository;
 import io.wisoft.capstonedesign.domain.review.web.dto.CreateReviewRequest;
+import io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto;
 import io.wisoft.capstonedesign.domain.review.web.dto.UpdateReviewRequest;
+import io.wisoft.capstonedesign.domain.search.application.SearchService;
+import io.wisoft.capstonedesign.global.counter.CountKey;
+import io.wisoft.capstonedesign.global.counter.PageCounter;
 import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import io.wisoft.capstonedesign.global.enumeration.SearchTarget;
+import io.wisoft.capstonedesign.global.enumeration.status.ReviewStatus;
 import io.wisoft.capstonedesign.global.exception.ErrorCode;
 import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
 import io.wisoft.capstonedesign.domain.member.application.MemberService;
@@ -16,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -31,6 +38,9 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final MemberService memberService;
     private final HospitalRepository hospitalRepository;
+    private final PageCounter pageCounter;
+    private final SearchService searchService;
+    private final HospitalRatingService hospitalRatingService;
 
     /**
      * 리뷰 작성
@@ -57,6 +67,14 @@ public class ReviewService {
         log.info("review[{}]", review);
 
         reviewRepository.save(review);
+        hospitalRatingService.addReview(review);
+        pageCounter.increase(
+                CountKey.writtenReviews(),
+                CountKey.writtenReviewsByHospital(review.getTargetHospital()),
+                CountKey.reviewsByDept(review.getTargetDept()),
+                CountKey.memberReviews(member.getId()));
+        searchService.indexReview(review);
+
         return review.getId();
     }
 
@@ -84,6 +102,11 @@ public class ReviewService {
         log.info("review[{}]", review);
 
         review.delete();
+        hospitalRatingService.removeReview(review);
+        pageCounter.decrease(
+                CountKey.writtenReviews(),
+                CountKey.writtenReviewsByHospital(review.getTargetHospital()));
+        searchService.remove(SearchTarget.REVIEW, review.getId());
     }
 
     /**
@@ -97,6 +120,7 @@ public class ReviewService {
         log.info("review[{}]", review);
 
         review.updateTitleBody(request.newTitle(), request.newBody());
+        searchService.indexReview(review);
     }
 
     private void validateTitleBody(final UpdateReviewRequest request) {
@@ -128,28 +152,45 @@ public class ReviewService {
     }
 
     /**
-     * 리뷰 목록 페이징 조회
+     * 리뷰 목록 페이징 조회 (목록 DTO 프로젝션)
      */
-    public Page<Review> findByUsingPaging(final Pageable pageable) {
-        return reviewRepository.findByUsingPaging(pageable);
+    public Page<ReviewListDto> findListUsingPaging(final Pageable pageable) {
+        return PageableExecutionUtils.getPage(reviewRepository.findListUsingPaging(pageable), pageable, this::countWrittenReviews);
+    }
+
+    private long countWrittenReviews() {
+        return pageCounter.get(CountKey.writtenReviews(), () -> reviewRepository.countByStatus(ReviewStatus.WRITE));
     }
 
     /**
-     * 특정 병원의 리뷰 페이징 조회
+     * 특정 병원의 리뷰 페이징 조회 (목록 DTO 프로젝션)
      */
-    public Page<Review> findByTargetHospital(final String targetHospital, final Pageable pageable) {
-
-        final Page<Review> result = reviewRepository.findByTargetHospitalUsingPaging(targetHospital, pageable);
+    public Page<ReviewListDto> findListByTargetHospital(final String targetHospital, final Pageable pageable) {
+        return PageableExecutionUtils.getPage(
+                reviewRepository.findListByTargetHospitalUsingPaging(targetHospital, pageable),
+                pageable,
+                () -> countWrittenReviewsByHospital(targetHospital));
+    }
 
-        log.info("result[{}]", result);
-        return result;
+    private long countWrittenReviewsByHospital(final String targetHospital) {
+        return pageCounter.get(
+                CountKey.writtenReviewsByHospital(targetHospital),
+                () -> reviewRepository.countByTargetHospitalAndStatus(targetHospital, ReviewStatus.WRITE));
     }
 
-    public Page<Review> findByDeptUsingPaging(final String deptNum, final Pageable pageable) {
+    /**
+     * 특정 병과의 리뷰 페이징 조회 (목록 DTO 프로젝션)
+     */
+    public Page<ReviewListDto> findListByDeptUsingPaging(final String deptNum, final Pageable pageable) {
 
-        final Page<Review> result = reviewRepository.findByDeptUsingPaging(DeptMapper.numberToDept(deptNum), pageable);
+        final HospitalDept dept = DeptMapper.numberToDept(deptNum);
+        return PageableExecutionUtils.getPage(
+                reviewRepository.findListByDeptUsingPaging(dept, pageable),
+                pageable,
+                () -> countReviewsByDept(dept));
+    }
 
-        log.info("result[{}]", result);
-        return result;
+    private long countReviewsByDept(final HospitalDept dept) {
+        return pageCounter.get(CountKey.reviewsByDept(dept), () -> reviewRepository.countByTargetDept(dept));
     }
 }
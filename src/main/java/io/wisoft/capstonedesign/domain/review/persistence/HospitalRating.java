@@ -0,0 +1,118 @@
+package io.wisoft.capstonedesign.domain.review.persistence;
+
+import io.wisoft.capstonedesign.global.BaseEntity;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.util.Assert;
+
+/**
+ * (병원, 병과) 단위 리뷰 별점 집계
+ * 리뷰 작성/삭제와 같은 트랜잭션에서 갱신된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_hospital_rating_hospital_dept", columnNames = {"target_hospital", "target_dept"}))
+public class HospitalRating extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "hospital_rating_id")
+    private Long id;
+
+    @Column(name = "target_hospital", nullable = false)
+    private String targetHospital;
+
+    @Column(name = "target_dept", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private HospitalDept targetDept;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "star_point_sum", nullable = false)
+    private long starPointSum;
+
+    @Column(name = "one_star_count", nullable = false)
+    private long oneStarCount;
+
+    @Column(name = "two_star_count", nullable = false)
+    private long twoStarCount;
+
+    @Column(name = "three_star_count", nullable = false)
+    private long threeStarCount;
+
+    @Column(name = "four_star_count", nullable = false)
+    private long fourStarCount;
+
+    @Column(name = "five_star_count", nullable = false)
+    private long fiveStarCount;
+
+    /* 정적 생성 메서드 */
+    @Builder
+    public static HospitalRating createHospitalRating(final String targetHospital, final HospitalDept targetDept) {
+
+        Assert.hasText(targetHospital, "targetHospital은 필수입니다.");
+        Assert.notNull(targetDept, "targetDept는 필수입니다.");
+
+        final HospitalRating hospitalRating = new HospitalRating();
+        hospitalRating.targetHospital = targetHospital;
+        hospitalRating.targetDept = targetDept;
+        hospitalRating.createEntity();
+
+        return hospitalRating;
+    }
+
+    /**
+     * 리뷰 반영
+     */
+    public void addReview(final int starPoint) {
+        addReviews(starPoint, 1);
+    }
+
+    /**
+     * 같은 별점의 리뷰 여러 건 반영 (집계 재구성 시 사용)
+     */
+    public void addReviews(final int starPoint, final long count) {
+        apply(starPoint, count);
+    }
+
+    /**
+     * 리뷰 삭제 반영
+     */
+    public void removeReview(final int starPoint) {
+
+        if (reviewCount == 0) {
+            throw new IllegalStateException("집계된 리뷰가 없습니다.");
+        }
+
+        apply(starPoint, -1);
+    }
+
+    /**
+     * 별점별 리뷰 개수 (index 0 = 1점)
+     */
+    public long[] getHistogram() {
+        return new long[]{oneStarCount, twoStarCount, threeStarCount, fourStarCount, fiveStarCount};
+    }
+
+    private void apply(final int starPoint, final long delta) {
+
+        switch (starPoint) {
+            case 1 -> oneStarCount += delta;
+            case 2 -> twoStarCount += delta;
+            case 3 -> threeStarCount += delta;
+            case 4 -> fourStarCount += delta;
+            case 5 -> fiveStarCount += delta;
+            default -> throw new IllegalArgumentException("별점의 범위는 1~5 사이여야 합니다.");
+        }
+
+        reviewCount += delta;
+        starPointSum += starPoint * delta;
+        this.updateEntity();
+    }
+}
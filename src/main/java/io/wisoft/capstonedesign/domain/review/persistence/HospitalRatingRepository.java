@@ -0,0 +1,45 @@
+package io.wisoft.capstonedesign.domain.review.persistence;
+
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface HospitalRatingRepository extends JpaRepository<HospitalRating, Long> {
+
+
+    /**
+     * 집계 갱신용 조회 - 동시에 작성된 리뷰가 서로의 갱신을 덮어쓰지 않도록 행 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select hr from HospitalRating hr" +
+            " where hr.targetHospital = :targetHospital" +
+            " and hr.targetDept = :targetDept")
+    Optional<HospitalRating> findForUpdate(
+            @Param("targetHospital") final String targetHospital,
+            @Param("targetDept") final HospitalDept targetDept);
+
+
+    /**
+     * 특정 병원의 병과별 별점 집계 조회
+     */
+    List<HospitalRating> findByTargetHospital(final String targetHospital);
+
+
+    /**
+     * 집계 재구성용 - (병원, 병과, 별점)별 작성된 리뷰 개수
+     */
+    @Query("select r.targetHospital, r.targetDept, r.starPoint, count(r)" +
+            " from Review r" +
+            " where r.status = 'WRITE' and r.targetDept is not null" +
+            " and r.starPoint between 1 and 5" +
+            " group by r.targetHospital, r.targetDept, r.starPoint")
+    List<Object[]> countWrittenReviewsGroupByStarPoint();
+}
@@ -1,13 +1,17 @@
 package io.wisoft.capstonedesign.domain.review.persistence;
 
+import io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto;
+import io.wisoft.capstonedesign.domain.search.persistence.SearchDocument;
 import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
-import org.springframework.data.domain.Page;
+import io.wisoft.capstonedesign.global.enumeration.status.ReviewStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,40 +19,49 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
 
     /**
-     * 특정 페이지의 리뷰 목록 조회
+     * 리뷰 목록 프로젝션 조회 - 목록에 필요한 컬럼만 한 번의 쿼리로 조회
      */
-    @Query(value =
-            "select r" +
-                    " from Review r" +
-                    " join fetch r.member m" +
-                    " where r.status = 'WRITE' order by r.createdAt desc", countQuery = "select count(r) from Review r")
-    Page<Review> findByUsingPaging(final Pageable pageable);
+    @Query("select new io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto(" +
+            " r.id, m.nickname, r.title, r.status, r.targetHospital, r.targetDept, r.starPoint)" +
+            " from Review r" +
+            " join r.member m" +
+            " where r.status = 'WRITE' order by r.createdAt desc")
+    List<ReviewListDto> findListUsingPaging(final Pageable pageable);
 
 
     /**
-     * 특정 병원의 리뷰 조회
+     * 특정 병원의 리뷰 목록 프로젝션 조회
      */
-    @Query(value =
-            "select r" +
-                    " from Review r" +
-                    " where r.targetHospital = :targetHospital" +
-                    " and r.status = 'WRITE' order by r.createdAt desc", countQuery = "select count(r) from Review r")
-    Page<Review> findByTargetHospitalUsingPaging(
+    @Query("select new io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto(" +
+            " r.id, m.nickname, r.title, r.status, r.targetHospital, r.targetDept, r.starPoint)" +
+            " from Review r" +
+            " join r.member m" +
+            " where r.targetHospital = :targetHospital" +
+            " and r.status = 'WRITE' order by r.createdAt desc")
+    List<ReviewListDto> findListByTargetHospitalUsingPaging(
             @Param("targetHospital") final String targetHospital, final Pageable pageable);
 
 
     /**
-     * 특정 병과의 리뷰 조회
+     * 특정 병과의 리뷰 목록 프로젝션 조회
      */
-    @Query(value =
-            "select r" +
-                    " from Review r" +
-                    " where r.targetDept = :dept" +
-                    " order by r.starPoint desc, r.createdAt desc ", countQuery = "select count(r) from Review r")
-    Page<Review> findByDeptUsingPaging(
-            @Param("dept") final HospitalDept dept, final Pageable pageable);
+    @Query("select new io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto(" +
+            " r.id, m.nickname, r.title, r.status, r.targetHospital, r.targetDept, r.starPoint)" +
+            " from Review r" +
+            " join r.member m" +
+            " where r.targetDept = :dept" +
+            " order by r.starPoint desc, r.createdAt desc ")
+    List<ReviewListDto> findListByDeptUsingPaging(@Param("dept") final HospitalDept dept, final Pageable pageable);
 
 
+    long countByStatus(final ReviewStatus status);
+
+
+    long countByTargetHospitalAndStatus(final String targetHospital, final ReviewStatus status);
+
+
+    long countByTargetDept(final HospitalDept targetDept);
+
 
     /**
      * 상세 조회
@@ -58,4 +71,24 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             " join r.reviewReplyList rr" +
             " where r.id = :id")
     Optional<Review> findDetailById(@Param("id") final Long id);
+
+
+    /**
+     * id 목록으로 리뷰 목록 조회 (검색 결과, 목록 DTO 프로젝션)
+     */
+    @Query("select new io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto(" +
+            " r.id, m.nickname, r.title, r.status, r.targetHospital, r.targetDept, r.starPoint)" +
+            " from Review r" +
+            " join r.member m" +
+            " where r.id in :ids and r.status = 'WRITE'")
+    List<ReviewListDto> findListByIdIn(@Param("ids") final Collection<Long> ids);
+
+    /**
+     * 작성 상태 리뷰를 id 순으로 lastId 다음부터 조회 (검색 색인 재생성용 프로젝션)
+     */
+    @Query("select new io.wisoft.capstonedesign.domain.search.persistence.SearchDocument(r.id, r.title, r.body)" +
+            " from Review r" +
+            " where r.status = 'WRITE' and r.id > :lastId" +
+            " order by r.id")
+    List<SearchDocument> findSearchDocumentsAfter(@Param("lastId") final Long lastId, final Pageable pageable);
 }
@@ -2,6 +2,7 @@ package io.wisoft.capstonedesign.domain.review.web;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.wisoft.capstonedesign.domain.review.persistence.Review;
+import io.wisoft.capstonedesign.domain.review.application.HospitalRatingService;
 import io.wisoft.capstonedesign.domain.review.application.ReviewService;
 import io.wisoft.capstonedesign.domain.review.web.dto.*;
 import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApi;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class ReviewApiController {
 
     private final ReviewService reviewService;
+    private final HospitalRatingService hospitalRatingService;
 
     @SwaggerApi(summary = "리뷰 단건 조회", implementation = Result.class)
     @SwaggerApiFailWithoutAuth
@@ -44,10 +46,10 @@ public class ReviewApiController {
         log.info("deptNum[{}]", deptNum);
 
         if (StringUtils.hasText(deptNum)) {
-            return reviewService.findByDeptUsingPaging(deptNum, pageable).map(ReviewListDto::new);
+            return reviewService.findListByDeptUsingPaging(deptNum, pageable);
         }
 
-        return reviewService.findByUsingPaging(pageable).map(ReviewListDto::new);
+        return reviewService.findListUsingPaging(pageable);
     }
 
 
@@ -58,8 +60,18 @@ public class ReviewApiController {
 
         log.info("targetHospital[{}]", targetHospital);
 
-        return reviewService.findByTargetHospital(targetHospital, pageable)
-                .map(ReviewListDto::new);
+        return reviewService.findListByTargetHospital(targetHospital, pageable);
+    }
+
+
+    @SwaggerApi(summary = "특정 병원의 별점 요약 조회", implementation = Result.class)
+    @SwaggerApiFailWithoutAuth
+    @GetMapping("/hospital/rating")
+    public Result hospitalRating(@RequestParam final String targetHospital) {
+
+        log.info("targetHospital[{}]", targetHospital);
+
+        return new Result(new HospitalRatingDto(targetHospital, hospitalRatingService.findByTargetHospital(targetHospital)));
     }
 
 
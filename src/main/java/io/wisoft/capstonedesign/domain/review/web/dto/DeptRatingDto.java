@@ -0,0 +1,25 @@
+package io.wisoft.capstonedesign.domain.review.web.dto;
+
+import io.wisoft.capstonedesign.domain.review.persistence.HospitalRating;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeptRatingDto {
+
+    private String targetDept;
+    private long reviewCount;
+    private double averageStarPoint;
+    private long[] histogram;
+
+    public DeptRatingDto(final HospitalRating hospitalRating) {
+        this.targetDept = hospitalRating.getTargetDept().name();
+        this.reviewCount = hospitalRating.getReviewCount();
+        this.averageStarPoint = HospitalRatingDto.average(hospitalRating.getStarPointSum(), hospitalRating.getReviewCount());
+        this.histogram = hospitalRating.getHistogram();
+    }
+}
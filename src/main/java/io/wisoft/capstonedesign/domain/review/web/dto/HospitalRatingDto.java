@@ -0,0 +1,53 @@
+package io.wisoft.capstonedesign.domain.review.web.dto;
+
+import io.wisoft.capstonedesign.domain.review.persistence.HospitalRating;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 병원 별점 요약 - 병과별 집계의 합으로 계산한다. (병과 수만큼의 행만 읽음)
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HospitalRatingDto {
+
+    private String targetHospital;
+    private long reviewCount;
+    private double averageStarPoint;
+    private long[] histogram;
+    private List<DeptRatingDto> deptRatingList;
+
+    public HospitalRatingDto(final String targetHospital, final List<HospitalRating> hospitalRatingList) {
+        this.targetHospital = targetHospital;
+        this.histogram = new long[5];
+
+        long starPointSum = 0;
+        for (final HospitalRating hospitalRating : hospitalRatingList) {
+            this.reviewCount += hospitalRating.getReviewCount();
+            starPointSum += hospitalRating.getStarPointSum();
+
+            final long[] deptHistogram = hospitalRating.getHistogram();
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] += deptHistogram[i];
+            }
+        }
+
+        this.averageStarPoint = average(starPointSum, reviewCount);
+        this.deptRatingList = hospitalRatingList.stream()
+                .filter(hospitalRating -> hospitalRating.getReviewCount() > 0)
+                .map(DeptRatingDto::new)
+                .toList();
+    }
+
+    static double average(final long starPointSum, final long reviewCount) {
+        if (reviewCount == 0) {
+            return 0;
+        }
+        return Math.round(starPointSum * 10.0 / reviewCount) / 10.0;
+    }
+}
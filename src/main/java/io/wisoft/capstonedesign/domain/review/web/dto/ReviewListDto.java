@@ -1,6 +1,8 @@
 package io.wisoft.capstonedesign.domain.review.web.dto;
 
 import io.wisoft.capstonedesign.domain.review.persistence.Review;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import io.wisoft.capstonedesign.global.enumeration.status.ReviewStatus;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -28,4 +30,23 @@ public class ReviewListDto {
         this.targetDept = review.getTargetDept().name();
         this.starPoint = review.getStarPoint();
     }
+
+    /* 목록 조회 프로젝션 (JPQL 생성자 표현식) */
+    public ReviewListDto(
+            final Long id,
+            final String writer,
+            final String title,
+            final ReviewStatus status,
+            final String targetHospital,
+            final HospitalDept targetDept,
+            final int starPoint) {
+
+        this.id = id;
+        this.writer = writer;
+        this.title = title;
+        this.status = status.toString();
+        this.targetHospital = targetHospital;
+        this.targetDept = targetDept == null ? null : targetDept.name();
+        this.starPoint = starPoint;
+    }
 }
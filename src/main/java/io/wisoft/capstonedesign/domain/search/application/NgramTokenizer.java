@@ -0,0 +1,87 @@
+package io.wisoft.capstonedesign.domain.search.application;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한글 검색용 bigram 토크나이저
+ * - 형태소 분석 없이 글자/숫자 연속 구간을 2글자 단위로 잘라 색인한다. (예: "정형외과" -> 정형, 형외, 외과)
+ * - 한 글자 단어는 그대로 토큰으로 사용한다.
+ */
+public final class NgramTokenizer {
+
+    /* 색인 규칙을 바꾸면 올린다 - 기동 시 색인의 버전과 다르면 SearchService가 색인을 다시 만든다. */
+    public static final int VERSION = 2;
+
+    private static final int GRAM = 2;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 색인용 - 토큰별 등장 횟수
+     */
+    public static Map<String, Integer> tokenize(final String text) {
+
+        final Map<String, Integer> tokens = new HashMap<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        for (final String word : words(text)) {
+            for (final String gram : grams(word)) {
+                tokens.merge(gram, 1, Integer::sum);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어용 - 중복 없는 토큰
+     */
+    public static Set<String> queryTokens(final String query) {
+
+        final Set<String> tokens = new LinkedHashSet<>();
+        if (query == null) {
+            return tokens;
+        }
+
+        for (final String word : words(query)) {
+            tokens.addAll(grams(word));
+        }
+        return tokens;
+    }
+
+    private static String[] words(final String text) {
+        final String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return normalized.codePoints()
+                .map(codePoint -> Character.isLetterOrDigit(codePoint) ? codePoint : ' ')
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString()
+                .trim()
+                .split("\\s+");
+    }
+
+    private static Set<String> grams(final String word) {
+
+        final Set<String> grams = new LinkedHashSet<>();
+        if (word.isEmpty()) {
+            return grams;
+        }
+
+        final int[] codePoints = word.codePoints().toArray();
+        if (codePoints.length < GRAM) {
+            grams.add(word);
+            return grams;
+        }
+
+        for (int i = 0; i + GRAM <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM));
+        }
+        return grams;
+    }
+}
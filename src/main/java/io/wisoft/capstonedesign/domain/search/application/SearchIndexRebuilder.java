@@ -0,0 +1,94 @@
+package io.wisoft.capstonedesign.domain.search.application;
+
+import io.wisoft.capstonedesign.domain.board.persistence.BoardRepository;
+import io.wisoft.capstonedesign.domain.review.persistence.ReviewRepository;
+import io.wisoft.capstonedesign.domain.search.persistence.SearchDocument;
+import io.wisoft.capstonedesign.domain.search.persistence.SearchTokenRepository;
+import io.wisoft.capstonedesign.global.enumeration.SearchTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * 검색 색인 재생성
+ * - 색인을 만든 토크나이저 버전이 현재와 다르면(또는 기록이 없으면) 작성 상태의 게시글/리뷰로 다시 만든다.
+ * - 문서를 id 순으로 CHUNK_SIZE 개씩 프로젝션으로 읽고, 청크마다 트랜잭션을 짧게 끝낸다.
+ * - 중간에 실패하면 버전을 기록하지 않으므로 다음 기동 때 처음부터 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexRebuilder {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final SearchTokenRepository searchTokenRepository;
+    private final BoardRepository boardRepository;
+    private final ReviewRepository reviewRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfOutdated() {
+
+        final Integer indexVersion = searchTokenRepository.findTokenizerVersion();
+        if (indexVersion != null && indexVersion == NgramTokenizer.VERSION) {
+            return;
+        }
+
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> searchTokenRepository.deleteAll());
+
+        final long boards = rebuild(transactionTemplate, SearchTarget.BOARD, boardRepository::findSearchDocumentsAfter);
+        final long reviews = rebuild(transactionTemplate, SearchTarget.REVIEW, reviewRepository::findSearchDocumentsAfter);
+
+        transactionTemplate.executeWithoutResult(status -> searchTokenRepository.saveTokenizerVersion(NgramTokenizer.VERSION));
+        log.info("search index rebuilt[version={} -> {}, boards={}, reviews={}]",
+                indexVersion, NgramTokenizer.VERSION, boards, reviews);
+    }
+
+    /* lastId 다음 문서를 청크 단위로 읽어 색인한다 - 청크 하나가 트랜잭션 하나 */
+    private long rebuild(
+            final TransactionTemplate transactionTemplate,
+            final SearchTarget target,
+            final BiFunction<Long, Pageable, List<SearchDocument>> loader) {
+
+        final Pageable chunkRequest = PageRequest.ofSize(CHUNK_SIZE);
+        long lastId = 0L;
+        long indexed = 0L;
+        List<SearchDocument> chunk;
+        do {
+            final long after = lastId;
+            chunk = transactionTemplate.execute(status -> indexChunk(target, loader.apply(after, chunkRequest)));
+
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).id();
+                indexed += chunk.size();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+
+        return indexed;
+    }
+
+    private List<SearchDocument> indexChunk(final SearchTarget target, final List<SearchDocument> chunk) {
+
+        final Map<Long, Map<String, Integer>> weightsByDocId = new LinkedHashMap<>();
+        for (final SearchDocument document : chunk) {
+            weightsByDocId.put(document.id(), SearchService.documentWeights(document.title(), document.body()));
+        }
+
+        searchTokenRepository.replaceDocuments(target, weightsByDocId);
+        return chunk;
+    }
+}
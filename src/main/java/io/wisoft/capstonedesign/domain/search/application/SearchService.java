@@ -0,0 +1,155 @@
+package io.wisoft.capstonedesign.domain.search.application;
+
+import io.wisoft.capstonedesign.domain.board.persistence.Board;
+import io.wisoft.capstonedesign.domain.board.persistence.BoardRepository;
+import io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto;
+import io.wisoft.capstonedesign.domain.review.persistence.Review;
+import io.wisoft.capstonedesign.domain.review.persistence.ReviewRepository;
+import io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto;
+import io.wisoft.capstonedesign.domain.search.persistence.SearchTokenRepository;
+import io.wisoft.capstonedesign.domain.search.persistence.SearchTokenRepository.SearchHit;
+import io.wisoft.capstonedesign.global.enumeration.SearchTarget;
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
+import io.wisoft.capstonedesign.global.pagination.CursorResult;
+import io.wisoft.capstonedesign.global.pagination.RankCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 게시글/리뷰 검색
+ * - 작성/수정/삭제 시 BoardService, ReviewService 트랜잭션 안에서 bigram 역색인을 갱신한다.
+ * - 검색어 토큰을 모두 포함하는 문서만 찾고, 제목 가중치를 더한 점수 순으로 커서 페이징한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MAX_TERM_FREQUENCY = 10;
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_QUERY_LENGTH = 20;
+
+    private final SearchTokenRepository searchTokenRepository;
+    private final BoardRepository boardRepository;
+    private final ReviewRepository reviewRepository;
+
+    /**
+     * 게시글 색인 (작성/수정)
+     */
+    @Transactional
+    public void indexBoard(final Board board) {
+        index(SearchTarget.BOARD, board.getId(), board.getTitle(), board.getBody());
+    }
+
+    /**
+     * 리뷰 색인 (작성/수정)
+     */
+    @Transactional
+    public void indexReview(final Review review) {
+        index(SearchTarget.REVIEW, review.getId(), review.getTitle(), review.getBody());
+    }
+
+    /**
+     * 색인 삭제
+     */
+    @Transactional
+    public void remove(final SearchTarget target, final Long docId) {
+        searchTokenRepository.deleteDocument(target, docId);
+    }
+
+    private void index(final SearchTarget target, final Long docId, final String title, final String body) {
+        searchTokenRepository.deleteDocument(target, docId);
+        searchTokenRepository.insertTokens(target, docId, documentWeights(title, body));
+    }
+
+    /**
+     * 문서의 토큰별 가중치 (제목 토큰은 TITLE_WEIGHT 배)
+     */
+    public static Map<String, Integer> documentWeights(final String title, final String body) {
+
+        final Map<String, Integer> weights = new HashMap<>();
+        NgramTokenizer.tokenize(title).forEach((token, count) ->
+                weights.merge(token, Math.min(count, MAX_TERM_FREQUENCY) * TITLE_WEIGHT, Integer::sum));
+        NgramTokenizer.tokenize(body).forEach((token, count) ->
+                weights.merge(token, Math.min(count, MAX_TERM_FREQUENCY), Integer::sum));
+        return weights;
+    }
+
+    /**
+     * 게시글 검색
+     */
+    public CursorResult<BoardListDto> searchBoards(final String query, final String after, final int size) {
+        return search(SearchTarget.BOARD, query, after, size, boardRepository::findListByIdIn, BoardListDto::getId);
+    }
+
+    /**
+     * 리뷰 검색
+     */
+    public CursorResult<ReviewListDto> searchReviews(final String query, final String after, final int size) {
+        return search(SearchTarget.REVIEW, query, after, size, reviewRepository::findListByIdIn, ReviewListDto::getId);
+    }
+
+    /* size + 1 건을 조회해 다음 페이지 여부를 확인하고, 문서는 한 번의 in 쿼리로 가져와 점수 순서대로 정렬한다. */
+    private <T> CursorResult<T> search(
+            final SearchTarget target,
+            final String query,
+            final String after,
+            final int size,
+            final Function<Collection<Long>, List<T>> loader,
+            final Function<T, Long> idMapper) {
+
+        final Set<String> tokens = NgramTokenizer.queryTokens(query);
+        validateQuery(query, tokens);
+
+        final List<SearchHit> hits = searchTokenRepository.search(target, tokens, RankCursor.decode(after), size + 1);
+
+        if (hits.isEmpty()) {
+            return new CursorResult<>(List.of(), null, false);
+        }
+
+        final boolean hasNext = hits.size() > size;
+        final List<SearchHit> content = hasNext ? hits.subList(0, size) : hits;
+
+        final Map<Long, T> documents = new HashMap<>();
+        for (final T document : loader.apply(content.stream().map(SearchHit::docId).toList())) {
+            documents.put(idMapper.apply(document), document);
+        }
+
+        final String next = hasNext
+                ? new RankCursor(content.get(size - 1).score(), content.get(size - 1).docId()).encode()
+                : null;
+
+        return new CursorResult<>(
+                content.stream().map(hit -> documents.get(hit.docId())).filter(Objects::nonNull).toList(),
+                next,
+                hasNext);
+    }
+
+    /*
+     * 검색어 길이는 앞뒤 공백을 뺀 글자 수(code point)로 센다.
+     * 한 글자 검색어는 해당 글자가 들어간 문서 대부분을 읽게 되므로 받지 않는다.
+     */
+    private void validateQuery(final String query, final Set<String> tokens) {
+
+        final String trimmed = query == null ? "" : query.strip();
+        final int length = trimmed.codePointCount(0, trimmed.length());
+        if (tokens.isEmpty() || length < MIN_QUERY_LENGTH || length > MAX_QUERY_LENGTH) {
+            log.info("query[{}], tokens[{}]", query, tokens);
+            throw new IllegalValueException(
+                    "검색어는 " + MIN_QUERY_LENGTH + " ~ " + MAX_QUERY_LENGTH + "자 사이여야 합니다.", ErrorCode.ILLEGAL_PARAM);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package io.wisoft.capstonedesign.domain.search.persistence;
+
+/**
+ * 색인 재생성용 문서 프로젝션 - 색인에 필요한 id, 제목, 본문만 조회한다.
+ */
+public record SearchDocument(Long id, String title, String body) { }
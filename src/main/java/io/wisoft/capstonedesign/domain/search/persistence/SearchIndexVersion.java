@@ -0,0 +1,27 @@
+package io.wisoft.capstonedesign.domain.search.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 역색인을 만든 토크나이저 버전 - 한 행만 둔다.
+ * 쓰기/조회는 SearchTokenRepository(JDBC)에서 처리하고, 엔티티는 테이블 정의에만 사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "search_index_version")
+public class SearchIndexVersion {
+
+    @Id
+    @Column(name = "search_index_version_id")
+    private Long id;
+
+    @Column(name = "tokenizer_version", nullable = false)
+    private int tokenizerVersion;
+}
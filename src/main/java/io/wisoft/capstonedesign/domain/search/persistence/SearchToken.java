@@ -0,0 +1,37 @@
+package io.wisoft.capstonedesign.domain.search.persistence;
+
+import io.wisoft.capstonedesign.global.enumeration.SearchTarget;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 역색인 - (대상, 문서 id, bigram 토큰) 당 한 행
+ * 쓰기/조회는 SearchTokenRepository(JDBC)에서 처리하고, 엔티티는 테이블/인덱스 정의에만 사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "search_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_search_token_target_doc_token", columnNames = {"target", "doc_id", "token"}),
+        indexes = @Index(name = "idx_search_token_token_target_doc", columnList = "token, target, doc_id, weight"))
+public class SearchToken {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "search_token_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target", nullable = false, length = 20)
+    private SearchTarget target;
+
+    @Column(name = "doc_id", nullable = false)
+    private Long docId;
+
+    @Column(name = "token", nullable = false, length = 8)
+    private String token;
+
+    @Column(name = "weight", nullable = false)
+    private int weight;
+}
@@ -0,0 +1,136 @@
+package io.wisoft.capstonedesign.domain.search.persistence;
+
+import io.wisoft.capstonedesign.global.enumeration.SearchTarget;
+import io.wisoft.capstonedesign.global.pagination.RankCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 역색인 읽기/쓰기 - 토큰 단위 행이 많아 JDBC batch로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchTokenRepository {
+
+    private static final String DELETE_DOCUMENT = "delete from search_token where target = ? and doc_id = ?";
+    private static final String INSERT_TOKEN = "insert into search_token (target, doc_id, token, weight) values (?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String SELECT_VERSION = "select tokenizer_version from search_index_version where search_index_version_id = 1";
+    private static final String DELETE_VERSION = "delete from search_index_version";
+    private static final String INSERT_VERSION = "insert into search_index_version (search_index_version_id, tokenizer_version) values (1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void deleteDocument(final SearchTarget target, final Long docId) {
+        jdbcTemplate.update(DELETE_DOCUMENT, target.name(), docId);
+    }
+
+    public void insertTokens(final SearchTarget target, final Long docId, final Map<String, Integer> weights) {
+
+        if (weights.isEmpty()) {
+            return;
+        }
+
+        final List<Map.Entry<String, Integer>> entries = new ArrayList<>(weights.entrySet());
+        jdbcTemplate.batchUpdate(INSERT_TOKEN, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, target.name());
+            ps.setLong(2, docId);
+            ps.setString(3, entry.getKey());
+            ps.setInt(4, entry.getValue());
+        });
+    }
+
+    /**
+     * 여러 문서의 색인을 한 번에 교체 - 문서별 삭제 후 전체 토큰을 BATCH_SIZE 행씩 batch insert
+     */
+    public void replaceDocuments(final SearchTarget target, final Map<Long, Map<String, Integer>> weightsByDocId) {
+
+        if (weightsByDocId.isEmpty()) {
+            return;
+        }
+
+        final List<Long> docIds = new ArrayList<>(weightsByDocId.keySet());
+        jdbcTemplate.batchUpdate(DELETE_DOCUMENT, docIds, BATCH_SIZE, (ps, docId) -> {
+            ps.setString(1, target.name());
+            ps.setLong(2, docId);
+        });
+
+        final List<TokenRow> rows = new ArrayList<>();
+        weightsByDocId.forEach((docId, weights) ->
+                weights.forEach((token, weight) -> rows.add(new TokenRow(docId, token, weight))));
+        jdbcTemplate.batchUpdate(INSERT_TOKEN, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setString(1, target.name());
+            ps.setLong(2, row.docId());
+            ps.setString(3, row.token());
+            ps.setInt(4, row.weight());
+        });
+    }
+
+    public void deleteAll() {
+        jdbcTemplate.update("delete from search_token");
+    }
+
+    /**
+     * 색인을 만든 토크나이저 버전 (기록이 없으면 null)
+     */
+    public Integer findTokenizerVersion() {
+        final List<Integer> versions = jdbcTemplate.queryForList(SELECT_VERSION, Integer.class);
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    public void saveTokenizerVersion(final int version) {
+        jdbcTemplate.update(DELETE_VERSION);
+        jdbcTemplate.update(INSERT_VERSION, version);
+    }
+
+    /**
+     * 검색어 토큰을 모두 포함하는 문서를 가중치 합 내림차순, 문서 id 내림차순으로 조회
+     */
+    public List<SearchHit> search(
+            final SearchTarget target,
+            final Collection<String> tokens,
+            final RankCursor cursor,
+            final int limit) {
+
+        if (tokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final StringBuilder sql = new StringBuilder()
+                .append("select doc_id, sum(weight) as score from search_token")
+                .append(" where target = ? and token in (")
+                .append(String.join(", ", Collections.nCopies(tokens.size(), "?")))
+                .append(") group by doc_id having count(*) = ?");
+
+        final List<Object> args = new ArrayList<>();
+        args.add(target.name());
+        args.addAll(tokens);
+        args.add(tokens.size());
+
+        if (cursor != null) {
+            sql.append(" and (sum(weight) < ? or (sum(weight) = ? and doc_id < ?))");
+            args.add(cursor.score());
+            args.add(cursor.score());
+            args.add(cursor.id());
+        }
+
+        sql.append(" order by score desc, doc_id desc limit ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new SearchHit(rs.getLong("doc_id"), rs.getLong("score")),
+                args.toArray());
+    }
+
+    public record SearchHit(Long docId, long score) { }
+
+    private record TokenRow(Long docId, String token, int weight) { }
+}
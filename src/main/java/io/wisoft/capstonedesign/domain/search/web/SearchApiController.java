@@ -0,0 +1,67 @@
+package io.wisoft.capstonedesign.domain.search.web;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto;
+import io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto;
+import io.wisoft.capstonedesign.domain.search.application.SearchService;
+import io.wisoft.capstonedesign.global.annotation.RateLimit;
+import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApi;
+import io.wisoft.capstonedesign.global.annotation.swagger.SwaggerApiFailWithoutAuth;
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
+import io.wisoft.capstonedesign.global.pagination.CursorResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "검색")
+@Slf4j
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchApiController {
+
+    private static final int MAX_CURSOR_SIZE = 100;
+
+    private final SearchService searchService;
+
+    @SwaggerApi(summary = "게시글 검색 (after가 비어있으면 첫 페이지)", implementation = CursorResult.class)
+    @SwaggerApiFailWithoutAuth
+    @RateLimit(capacity = 30)
+    @GetMapping("/boards")
+    public CursorResult<BoardListDto> searchBoards(
+            @RequestParam final String q,
+            @RequestParam(required = false) final String after,
+            @RequestParam(defaultValue = "20") final int size) {
+
+        log.info("q[{}], after[{}], size[{}]", q, after, size);
+        validateCursorSize(size);
+
+        return searchService.searchBoards(q, after, size);
+    }
+
+
+    @SwaggerApi(summary = "리뷰 검색 (after가 비어있으면 첫 페이지)", implementation = CursorResult.class)
+    @SwaggerApiFailWithoutAuth
+    @RateLimit(capacity = 30)
+    @GetMapping("/reviews")
+    public CursorResult<ReviewListDto> searchReviews(
+            @RequestParam final String q,
+            @RequestParam(required = false) final String after,
+            @RequestParam(defaultValue = "20") final int size) {
+
+        log.info("q[{}], after[{}], size[{}]", q, after, size);
+        validateCursorSize(size);
+
+        return searchService.searchReviews(q, after, size);
+    }
+
+    private void validateCursorSize(final int size) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new IllegalValueException("size는 1 ~ " + MAX_CURSOR_SIZE + " 사이여야 합니다.", ErrorCode.ILLEGAL_PARAM);
+        }
+    }
+}
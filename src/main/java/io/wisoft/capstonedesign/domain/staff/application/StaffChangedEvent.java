@@ -0,0 +1,14 @@
+package io.wisoft.capstonedesign.domain.staff.application;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 의료진 가입/소속 변경/탈퇴 - 커밋 후 병원 공간 인덱스의 진료과 정보를 갱신한다.
+ */
+public record StaffChangedEvent(Set<Long> hospitalIds) {
+
+    public static StaffChangedEvent of(final Long... hospitalIds) {
+        return new StaffChangedEvent(Set.copyOf(Arrays.asList(hospitalIds)));
+    }
+}
@@ -7,15 +7,18 @@ import io.wisoft.capstonedesign.domain.staff.persistence.Staff;
 import io.wisoft.capstonedesign.domain.staff.persistence.StaffRepository;
 import io.wisoft.capstonedesign.domain.staff.web.dto.UpdateStaffPasswordRequest;
 import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.forbidden.ForbiddenException;
 import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
 import io.wisoft.capstonedesign.global.exception.notfound.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -26,6 +29,7 @@ public class StaffService {
     private final StaffRepository staffRepository;
     private final HospitalService hospitalService;
     private final EncryptHelper encryptHelper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 의료진 비밀번호 수정
@@ -60,7 +64,9 @@ public class StaffService {
         log.info("staff[{}]", staff);
 
         if (StringUtils.hasText(hospitalName)) {
+            final Long beforeHospitalId = staff.getHospital().getId();
             staff.updateHospital(hospitalService.findByHospitalName(hospitalName));
+            eventPublisher.publishEvent(StaffChangedEvent.of(beforeHospitalId, staff.getHospital().getId()));
         }
 
         if (StringUtils.hasText(photoPath)) {
@@ -72,7 +78,32 @@ public class StaffService {
     /* 의료진 탈퇴 */
     @Transactional
     public void deleteStaff(final Long staffId) {
-        staffRepository.delete(findById(staffId));
+
+        final Staff staff = findById(staffId);
+        staffRepository.delete(staff);
+        eventPublisher.publishEvent(StaffChangedEvent.of(staff.getHospital().getId()));
+    }
+
+    /**
+     * 토큰의 이메일로 의료진 확인 - 의료진이 아니면 권한 없음
+     */
+    public Staff findAuthorizedStaff(final String email) {
+        return staffRepository.findByEmail(email).orElseThrow(() -> {
+            log.info("email[{}] is not staff", email);
+            return new ForbiddenException("의료진만 요청할 수 있습니다.", ErrorCode.FORBIDDEN_STAFF);
+        });
+    }
+
+    /**
+     * 토큰의 이메일이 해당 병원 소속 의료진인지 확인
+     */
+    public void validateHospitalStaff(final String email, final Long hospitalId) {
+
+        final Staff staff = findAuthorizedStaff(email);
+        if (staff.getHospital() == null || !Objects.equals(staff.getHospital().getId(), hospitalId)) {
+            log.info("staff[{}] does not belong to hospital[{}]", staff.getId(), hospitalId);
+            throw new ForbiddenException("소속 병원의 요청만 처리할 수 있습니다.", ErrorCode.FORBIDDEN_STAFF);
+        }
     }
 
     /**
@@ -3,6 +3,7 @@ package io.wisoft.capstonedesign.domain.staff.persistence;
 import io.wisoft.capstonedesign.domain.boardreply.persistence.BoardReply;
 import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
 import io.wisoft.capstonedesign.global.BaseEntity;
+import io.wisoft.capstonedesign.global.config.aes.AES;
 import io.wisoft.capstonedesign.global.config.aes.AESConverter;
 import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
 import io.wisoft.capstonedesign.domain.healthinfo.persistence.HealthInfo;
@@ -26,11 +27,11 @@ public class Staff extends BaseEntity {
     private Long id;
 
     @Convert(converter = AESConverter.class)
-    @Column(name = "staff_name", nullable = false)
+    @Column(name = "staff_name", length = AES.ENCRYPTED_COLUMN_LENGTH, nullable = false)
     private String name;
 
     @Convert(converter = AESConverter.class)
-    @Column(name = "staff_email", unique = true, nullable = false)
+    @Column(name = "staff_email", length = AES.ENCRYPTED_COLUMN_LENGTH, unique = true, nullable = false)
     private String email;
 
     @Column(name = "staff_password", nullable = false)
@@ -0,0 +1,28 @@
+package io.wisoft.capstonedesign.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트(JWT subject, 없으면 IP)별 처리율 제한
+ * - period 동안 capacity 만큼 요청할 수 있고, 토큰은 period에 걸쳐 조금씩 충전된다.
+ * - 버킷은 Redis에 있어 모든 인스턴스가 같은 한도를 공유한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+
+    /**
+     * 버킷 이름 (비어 있으면 컨트롤러.메서드 이름)
+     */
+    String name() default "";
+
+    int capacity();
+
+    long period() default 60;
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
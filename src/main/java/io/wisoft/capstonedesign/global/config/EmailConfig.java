@@ -2,15 +2,20 @@ package io.wisoft.capstonedesign.global.config;
 
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.ComponentScan;
-import org.springframework.context.annotation.PropertySource;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Properties;
-@ComponentScan(basePackages = { "io.wisoft.capstonedesign.domain.auth.application" })
-@PropertySource(value={"classpath:application.properties"})
+
+/**
+ * SMTP 발송 설정
+ * - MailOutboxDispatcher 가 배치 단위로 send(MimeMessage...) 를 호출해 연결 하나로 여러 메일을 보낸다.
+ * - 연결/읽기/쓰기 timeout 을 두어 SMTP 서버가 응답하지 않아도 dispatcher 가 멈추지 않게 한다.
+ */
+@Configuration
 public class EmailConfig {
 
     @Value("${spring.mail.host}")
@@ -22,21 +27,28 @@ public class EmailConfig {
     @Value("${spring.mail.username}")
     private String mailServerUsername;
 
-    @Value("${spring.mail.password}")
+    @Value("${spring.mail.password:}")
     private String mailServerPassword;
 
-    @Value("${spring.mail.properties.mail.smtp.auth}")
+    @Value("${spring.mail.properties.mail.smtp.auth:true}")
     private String mailServerAuth;
 
-    @Value("${spring.mail.properties.mail.smtp.starttls.enable}")
+    @Value("${spring.mail.properties.mail.smtp.starttls.enable:true}")
     private String mailServerStartTls;
 
+    @Value("${mail.smtp.connection-timeout-ms:5000}")
+    private String connectionTimeoutMillis;
+
+    @Value("${mail.smtp.timeout-ms:10000}")
+    private String timeoutMillis;
+
     @Bean
     public JavaMailSender getJavaMailSender() {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
 
         mailSender.setHost(mailServerHost);
         mailSender.setPort(mailServerPort);
+        mailSender.setDefaultEncoding(StandardCharsets.UTF_8.name());
 
         mailSender.setUsername(mailServerUsername);
         mailSender.setPassword(mailServerPassword);
@@ -45,7 +57,9 @@ public class EmailConfig {
         props.put("mail.transport.protocol", "smtp");
         props.put("mail.smtp.auth", mailServerAuth);
         props.put("mail.smtp.starttls.enable", mailServerStartTls);
-        props.put("mail.debug", "true");
+        props.put("mail.smtp.connectiontimeout", connectionTimeoutMillis);
+        props.put("mail.smtp.timeout", timeoutMillis);
+        props.put("mail.smtp.writetimeout", timeoutMillis);
 
         return mailSender;
     }
@@ -0,0 +1,28 @@
+package io.wisoft.capstonedesign.global.config;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 병원과 같이 거의 변경되지 않는 참조 데이터를 위한 Hibernate 2차 캐시 설정
+ * - 저장소 : Caffeine(JCache), 크기/만료 제한은 application.conf 참고
+ * - 통계 : actuator의 hibernate.second.level.cache.* 메트릭으로 hit/miss 노출
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.PROVIDER, "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package io.wisoft.capstonedesign.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.wisoft.capstonedesign.global.slack.SlackAlertPublisher;
+import io.wisoft.capstonedesign.global.slack.SlackService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SlackAlertConfig {
+
+    /**
+     * window 동안 쌓인 에러 알림을 묶어서 전송 (종료 시 남은 알림 전송)
+     */
+    @Bean(destroyMethod = "shutdown")
+    SlackAlertPublisher slackAlertPublisher(
+            final SlackService slackService,
+            @Value("${slack.alert.queue-capacity:1000}") final int queueCapacity,
+            @Value("${slack.alert.window-ms:10000}") final long windowMillis,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+
+        return new SlackAlertPublisher(
+                slackService,
+                queueCapacity,
+                windowMillis,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
@@ -1,6 +1,7 @@
 package io.wisoft.capstonedesign.global.config;
 
 import io.wisoft.capstonedesign.global.interceptor.BearerAuthInterceptor;
+import io.wisoft.capstonedesign.global.interceptor.RateLimitInterceptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Configuration;
@@ -12,10 +13,14 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final BearerAuthInterceptor bearerAuthInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
     private final Logger logger = LoggerFactory.getLogger(WebMvcConfig.class);
 
-    public WebMvcConfig(final BearerAuthInterceptor bearerAuthInterceptor) {
+    public WebMvcConfig(
+            final BearerAuthInterceptor bearerAuthInterceptor,
+            final RateLimitInterceptor rateLimitInterceptor) {
         this.bearerAuthInterceptor = bearerAuthInterceptor;
+        this.rateLimitInterceptor = rateLimitInterceptor;
     }
 
     @Override
@@ -52,6 +57,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .addPathPatterns("/api/reviews/**")
                 .excludePathPatterns("/api/reviews/{id}/details")
                 .excludePathPatterns("/api/reviews/hospital")
+                .excludePathPatterns("/api/reviews/hospital/rating")
                 .excludePathPatterns("/api/reviews")
 
                 .addPathPatterns("/api/boards/**")
@@ -73,10 +79,15 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .excludePathPatterns("/api/bus-info/{id}/details")
                 .excludePathPatterns("/api/bus-info/area/{area}/details")
 
+                .addPathPatterns("/api/hospitals/import")
+
                 .addPathPatterns("/payment")
                 .addPathPatterns("/payment/**")
 
         ;
 
+        //인증 이후에 실행되어야 JWT subject 별로 제한할 수 있다. (@RateLimit 이 붙은 핸들러만 대상)
+        registry.addInterceptor(rateLimitInterceptor);
+
     }
 }
@@ -1,22 +1,82 @@
 package io.wisoft.capstonedesign.global.config.aes;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.codec.binary.Hex;
 import org.apache.logging.log4j.util.Strings;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * 컬럼 암호화
+ * - 레거시 포맷 : 접두사 없는 hex, AES/ECB (같은 평문은 같은 암호문이라 암호문으로 조회 가능)
+ * - 버전 포맷 : "v1:{keyId}:{hex(iv + 암호문)}", AES/GCM (키 교체 시 keyId로 복호화 키를 고른다)
+ *   키는 security.aes.keys("keyId:키,keyId:키", ENC(...) 가능), 암호화 키는 security.aes.current-key-id 설정에서 읽는다.
+ * - 키와 Cipher는 매 호출마다 만들지 않고 캐시/스레드별로 재사용한다.
+ */
 @Slf4j
 @Component
 public final class AES {
 
+    /**
+     * 암호문 컬럼 길이 - 버전 포맷은 5 + 2 * (12 + 평문 바이트 + 16) 자라 평문 289바이트(이메일 최대 254자 포함)까지 저장된다.
+     */
+    public static final int ENCRYPTED_COLUMN_LENGTH = 640;
+
     private static final String KEY = "3aq1b922pi106o35fe8025947de7cd71"; // 32byte 암호화 키
     private static final String ENCRYPTION_ALGORITHM = "AES";
 
+    private static final String GCM_TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_BIT = 128;
+
+    private static final String VERSION_PREFIX = "v1:";
+    private static final int VERSION_HEADER_LENGTH = VERSION_PREFIX.length() + 2; // "v1:" + keyId + ":"
+
+    /* 버전 포맷 키, 키 교체 시 새 키를 추가하고 current-key-id만 바꾼다. */
+    private static volatile VersionedKeys versionedKeys;
+
+    private static final SecretKeySpec LEGACY_KEY = generateMySqlAesKey(KEY, StandardCharsets.UTF_8.toString());
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /* Cipher는 thread-safe 하지 않으므로 스레드마다 하나씩 재사용 */
+    private static final ThreadLocal<Cipher> LEGACY_ENCRYPTOR = ThreadLocal.withInitial(() -> newCipher(ENCRYPTION_ALGORITHM, Cipher.ENCRYPT_MODE));
+    private static final ThreadLocal<Cipher> LEGACY_DECRYPTOR = ThreadLocal.withInitial(() -> newCipher(ENCRYPTION_ALGORITHM, Cipher.DECRYPT_MODE));
+    private static final ThreadLocal<Cipher> GCM_CIPHER = ThreadLocal.withInitial(() -> newCipher(GCM_TRANSFORMATION, 0));
+
+    public AES(
+            @Value("${security.aes.keys}") final String keys,
+            @Value("${security.aes.current-key-id}") final char currentKeyId) {
+        configure(parseKeys(keys), currentKeyId);
+    }
+
+    /**
+     * 버전 포맷 키 설정 (keyId -> 16, 24, 32byte 키)
+     */
+    public static void configure(final Map<Character, String> keys, final char currentKeyId) {
+
+        final Map<Character, SecretKeySpec> specs = new HashMap<>();
+        keys.forEach((keyId, key) -> specs.put(keyId, newVersionedKey(keyId, key)));
+
+        if (!specs.containsKey(currentKeyId)) {
+            throw new IllegalStateException("current-key-id[" + currentKeyId + "]에 해당하는 키가 없습니다.");
+        }
+
+        versionedKeys = new VersionedKeys(Map.copyOf(specs), VERSION_PREFIX + currentKeyId + ":", specs.get(currentKeyId));
+    }
+
+    public static boolean isConfigured() {
+        return versionedKeys != null;
+    }
+
     /**
      * 16byte 키 생성 메서드
      * 16byte 이상은 잘라서 다시 앞쪽부터 byte 단위로 XOR 연산 시행
@@ -42,49 +102,162 @@ public final class AES {
     }
 
     /**
-     * 평문을 AES 알고리즘으로 암호화
+     * 평문을 레거시 포맷(AES/ECB)으로 암호화
+     * 암호문으로 조회하는 컬럼처럼 결정적 암호화가 필요한 경우에 사용
      *
      * @param plainText : 암호화할 평문
      * @return String : 암호화된 문자
-     * @throws Exception : 발생하는 예외
      */
     public static String encryptString(final String plainText) {
 
         try {
-            final Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, generateMySqlAesKey(KEY, StandardCharsets.UTF_8.toString()));
+            final byte[] encrypted = LEGACY_ENCRYPTOR.get().doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+
+            final char[] result = new char[encrypted.length * 2];
+            HexCodec.encode(encrypted, 0, encrypted.length, result, 0);
+            return new String(result);
+
+        } catch (Exception e) {
+            LEGACY_ENCRYPTOR.remove();
+            log.warn("plainText:[{}] can not be encrypt", plainText);
+        }
+        return Strings.EMPTY;
+    }
+
+    /**
+     * 평문을 버전 포맷(AES/GCM, 현재 키)으로 암호화
+     * 같은 평문도 매번 다른 암호문이 나오므로 암호문으로 조회하지 않는 컬럼에 사용
+     *
+     * @param plainText : 암호화할 평문
+     * @return String : "v1:{keyId}:" 로 시작하는 암호문
+     */
+    public static String encryptVersioned(final String plainText) {
+
+        final VersionedKeys keys = versionedKeys();
+
+        try {
+            final byte[] iv = new byte[GCM_IV_LENGTH];
+            RANDOM.nextBytes(iv);
 
+            final Cipher cipher = GCM_CIPHER.get();
+            cipher.init(Cipher.ENCRYPT_MODE, keys.currentKey(), new GCMParameterSpec(GCM_TAG_BIT, iv));
             final byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
 
-            final String encryptedString = Hex.encodeHexString(encrypted);
-            return encryptedString;
+            final char[] result = new char[VERSION_HEADER_LENGTH + (iv.length + encrypted.length) * 2];
+            keys.currentHeader().getChars(0, VERSION_HEADER_LENGTH, result, 0);
+            final int position = HexCodec.encode(iv, 0, iv.length, result, VERSION_HEADER_LENGTH);
+            HexCodec.encode(encrypted, 0, encrypted.length, result, position);
+            return new String(result);
 
         } catch (Exception e) {
+            GCM_CIPHER.remove();
             log.warn("plainText:[{}] can not be encrypt", plainText);
         }
         return Strings.EMPTY;
     }
 
     /**
-     * 암호화된 문자를 평문으로 복호화
+     * 암호화된 문자를 평문으로 복호화 (레거시 포맷, 버전 포맷 모두 지원)
      *
      * @param encryptedText : 복호화 할 암호문
      * @return String : 복호화된 평문
      */
     public static String decryptString(final String encryptedText) {
 
-        try {
-            final Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, generateMySqlAesKey(KEY, StandardCharsets.UTF_8.toString()));
+        final VersionedKeys keys = isVersioned(encryptedText) ? versionedKeys() : null;
 
-            final byte[] original = cipher.doFinal(Hex.decodeHex(encryptedText.toCharArray()));
+        try {
+            if (keys != null) {
+                return decryptVersioned(keys, encryptedText);
+            }
 
-            final String originalString = new String(original, StandardCharsets.UTF_8);
-            return originalString;
+            final byte[] original = LEGACY_DECRYPTOR.get().doFinal(HexCodec.decode(encryptedText, 0));
+            return new String(original, StandardCharsets.UTF_8);
 
         } catch (Exception e) {
+            LEGACY_DECRYPTOR.remove();
+            GCM_CIPHER.remove();
             log.warn("encryptedText:[{}] can not be decrypt", encryptedText);
         }
         return Strings.EMPTY;
     }
+
+    /**
+     * 버전 포맷 암호문인지 확인
+     */
+    public static boolean isVersioned(final String encryptedText) {
+        return encryptedText != null && encryptedText.startsWith(VERSION_PREFIX);
+    }
+
+    private static String decryptVersioned(final VersionedKeys keys, final String encryptedText) throws GeneralSecurityException {
+
+        final char keyId = encryptedText.charAt(VERSION_PREFIX.length());
+        final SecretKeySpec key = keys.keys().get(keyId);
+        if (key == null || encryptedText.charAt(VERSION_HEADER_LENGTH - 1) != ':') {
+            throw new GeneralSecurityException("unknown key id: " + keyId);
+        }
+
+        final byte[] payload = HexCodec.decode(encryptedText, VERSION_HEADER_LENGTH);
+
+        final Cipher cipher = GCM_CIPHER.get();
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_BIT, payload, 0, GCM_IV_LENGTH));
+        final byte[] original = cipher.doFinal(payload, GCM_IV_LENGTH, payload.length - GCM_IV_LENGTH);
+        return new String(original, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 레거시 키를 매번 새로 생성 (변경 전 구현과 비교하는 벤치마크용)
+     */
+    static SecretKeySpec newLegacyKey() {
+        return generateMySqlAesKey(KEY, StandardCharsets.UTF_8.toString());
+    }
+
+    private static VersionedKeys versionedKeys() {
+
+        final VersionedKeys keys = versionedKeys;
+        if (keys == null) {
+            throw new IllegalStateException("버전 포맷 키가 설정되지 않았습니다.");
+        }
+        return keys;
+    }
+
+    /* "keyId:키,keyId:키" 형식의 설정 값을 keyId -> 키로 변환 */
+    private static Map<Character, String> parseKeys(final String keys) {
+
+        final Map<Character, String> result = new HashMap<>();
+        for (final String entry : keys.split(",")) {
+
+            final String trimmed = entry.trim();
+            if (trimmed.length() < 3 || trimmed.charAt(1) != ':') {
+                throw new IllegalStateException("security.aes.keys 는 keyId:키 형식이어야 합니다.");
+            }
+            result.put(trimmed.charAt(0), trimmed.substring(2));
+        }
+        return result;
+    }
+
+    private static SecretKeySpec newVersionedKey(final char keyId, final String key) {
+
+        final int length = key.getBytes(StandardCharsets.UTF_8).length;
+        if (keyId == ':' || (length != 16 && length != 24 && length != 32)) {
+            throw new IllegalStateException("keyId[" + keyId + "]의 키는 16, 24, 32byte 중 하나여야 합니다.");
+        }
+        return new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), ENCRYPTION_ALGORITHM);
+    }
+
+    private static Cipher newCipher(final String transformation, final int mode) {
+
+        try {
+            final Cipher cipher = Cipher.getInstance(transformation);
+            if (mode != 0) {
+                cipher.init(mode, LEGACY_KEY);
+            }
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher 초기화에 실패했습니다.", e);
+        }
+    }
+
+    private record VersionedKeys(Map<Character, SecretKeySpec> keys, String currentHeader, SecretKeySpec currentKey) {
+    }
 }
@@ -0,0 +1,76 @@
+package io.wisoft.capstonedesign.global.config.aes;
+
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * 암호화 컬럼 검색용 블라인드 인덱스
+ * - 평문을 HMAC-SHA256으로 해시해 같은 값이면 항상 같은 인덱스 값을 만든다.
+ * - 암호문 대신 이 값으로 조회해 유니크 인덱스를 그대로 탈 수 있다.
+ * - HMAC 키는 security.blind-index.key 설정(ENC(...) 가능)에서 읽고, 없으면 기동에 실패한다.
+ */
+@Component
+public final class BlindIndex {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+
+    /* Mac은 thread-safe 하지 않으므로 스레드마다 하나씩 재사용 (키가 바뀌면 새로 만든다) */
+    private static volatile ThreadLocal<Mac> mac;
+
+    public BlindIndex(@Value("${security.blind-index.key}") final String key) {
+        configure(key);
+    }
+
+    /**
+     * HMAC 키 설정 - 32byte 이상, AES 키와 분리해서 사용
+     */
+    public static void configure(final String key) {
+
+        if (key == null || key.getBytes(StandardCharsets.UTF_8).length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("블라인드 인덱스 키는 32byte 이상이어야 합니다.");
+        }
+
+        final SecretKeySpec secretKey = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        mac = ThreadLocal.withInitial(() -> newMac(secretKey));
+    }
+
+    public static boolean isConfigured() {
+        return mac != null;
+    }
+
+    /**
+     * 평문의 블라인드 인덱스 (64자리 hex)
+     */
+    public static String hash(final String plainText) {
+
+        if (plainText == null) {
+            return null;
+        }
+
+        final ThreadLocal<Mac> current = mac;
+        if (current == null) {
+            throw new IllegalStateException("블라인드 인덱스 키가 설정되지 않았습니다.");
+        }
+
+        final byte[] digest = current.get().doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+        return Hex.encodeHexString(digest);
+    }
+
+    private static Mac newMac(final SecretKeySpec secretKey) {
+
+        try {
+            final Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.wisoft.capstonedesign.global.config.aes;
+
+import org.hibernate.annotations.Immutable;
+
+import java.util.Objects;
+
+/**
+ * AES 암호문을 들고 있다가 평문이 처음 필요할 때 복호화하는 값 타입
+ * - 조회 시에는 암호문만 채워두므로 읽지 않는 컬럼은 복호화 비용이 없다.
+ * - 동등성은 암호문 기준이라 dirty checking 에서도 복호화가 일어나지 않는다.
+ */
+@Immutable
+public final class EncryptedString {
+
+    private final String cipherText;
+    private volatile String plainText;
+
+    private EncryptedString(final String cipherText, final String plainText) {
+        this.cipherText = cipherText;
+        this.plainText = plainText;
+    }
+
+    public static EncryptedString fromPlainText(final String plainText) {
+        return new EncryptedString(AES.encryptVersioned(plainText), plainText);
+    }
+
+    public static EncryptedString fromCipherText(final String cipherText) {
+        return new EncryptedString(cipherText, null);
+    }
+
+    public String cipherText() {
+        return cipherText;
+    }
+
+    public String plainText() {
+
+        String result = plainText;
+        if (result == null) {
+            result = AES.decryptString(cipherText);
+            plainText = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EncryptedString that)) return false;
+        return Objects.equals(cipherText, that.cipherText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(cipherText);
+    }
+
+    @Override
+    public String toString() {
+        return "EncryptedString[****]";
+    }
+}
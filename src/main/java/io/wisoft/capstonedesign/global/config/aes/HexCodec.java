@@ -0,0 +1,54 @@
+package io.wisoft.capstonedesign.global.config.aes;
+
+/**
+ * 암호문 hex 인코딩
+ * - 호출하는 쪽이 결과 크기에 맞춰 미리 할당한 버퍼에 바로 쓴다.
+ */
+final class HexCodec {
+
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    private HexCodec() {
+    }
+
+    /**
+     * src[offset, offset + length) 를 dst[dstOffset] 부터 hex로 기록
+     *
+     * @return : 기록을 마친 다음 위치
+     */
+    static int encode(final byte[] src, final int offset, final int length, final char[] dst, final int dstOffset) {
+
+        int position = dstOffset;
+        for (int i = offset; i < offset + length; i++) {
+            dst[position++] = DIGITS[(src[i] >>> 4) & 0x0F];
+            dst[position++] = DIGITS[src[i] & 0x0F];
+        }
+        return position;
+    }
+
+    /**
+     * text[from] 부터 끝까지의 hex 문자열을 byte 배열로 변환
+     */
+    static byte[] decode(final String text, final int from) {
+
+        final int length = text.length() - from;
+        if ((length & 1) != 0) {
+            throw new IllegalArgumentException("hex 문자열의 길이가 홀수입니다.");
+        }
+
+        final byte[] result = new byte[length >> 1];
+        for (int i = 0, j = from; i < result.length; i++, j += 2) {
+            result[i] = (byte) ((digit(text.charAt(j)) << 4) | digit(text.charAt(j + 1)));
+        }
+        return result;
+    }
+
+    private static int digit(final char c) {
+
+        final int digit = Character.digit(c, 16);
+        if (digit < 0) {
+            throw new IllegalArgumentException("hex 문자가 아닙니다: " + c);
+        }
+        return digit;
+    }
+}
@@ -0,0 +1,31 @@
+package io.wisoft.capstonedesign.global.config.aes;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class LazyAESConverter implements AttributeConverter<EncryptedString, String> {
+
+
+    /**
+     * Entity를 데이터베이스에 저장 시, 이미 만들어 둔 암호문을 그대로 사용
+     *
+     * @param attribute the entity attribute value to be converted
+     * @return : 암호화되어 데이터베이스에 저장된 값
+     */
+    @Override
+    public String convertToDatabaseColumn(final EncryptedString attribute) {
+        return attribute == null ? null : attribute.cipherText();
+    }
+
+    /**
+     * 데이터베이스에서 Entity를 조회 시, 복호화하지 않고 암호문만 감싸서 반환
+     *
+     * @param dbData the data from the database column to be converted
+     * @return : 평문을 처음 읽을 때 복호화되는 값
+     */
+    @Override
+    public EncryptedString convertToEntityAttribute(final String dbData) {
+        return dbData == null ? null : EncryptedString.fromCipherText(dbData);
+    }
+}
@@ -3,13 +3,41 @@ package io.wisoft.capstonedesign.global.config.bcrypt;
 import org.mindrot.jbcrypt.BCrypt;
 
 public class BCryptEncoder implements EncryptHelper {
+
+    private static final int DEFAULT_LOG_ROUNDS = 10;
+
+    private final int logRounds;
+
+    public BCryptEncoder() {
+        this(DEFAULT_LOG_ROUNDS);
+    }
+
+    public BCryptEncoder(final int logRounds) {
+        this.logRounds = logRounds;
+    }
+
     @Override
     public String encrypt(final String password) {
-        return BCrypt.hashpw(password, BCrypt.gensalt());
+        return BCrypt.hashpw(password, BCrypt.gensalt(logRounds));
     }
 
     @Override
     public boolean isMatch(final String password, final String hashed) {
         return BCrypt.checkpw(password, hashed);
     }
+
+    /* $2a$10$... 형식에서 cost를 읽어 설정값보다 낮거나 BCrypt 해시가 아니면 true */
+    @Override
+    public boolean needsRehash(final String hashed) {
+
+        if (hashed == null || hashed.length() < 7 || !hashed.startsWith("$2")) {
+            return true;
+        }
+
+        try {
+            return Integer.parseInt(hashed.substring(4, 6)) < logRounds;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
 }
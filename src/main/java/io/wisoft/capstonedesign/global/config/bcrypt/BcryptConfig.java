@@ -1,12 +1,76 @@
 package io.wisoft.capstonedesign.global.config.bcrypt;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+@Slf4j
 @Configuration
 public class BcryptConfig {
-    @Bean
-    EncryptHelper encryptHelper() {
-        return new BCryptEncoder();
+
+    /**
+     * threads가 0이면 CPU 코어 수만큼 사용하고, 어느 쪽이든 WAS 워커의 절반을 넘지 않는다.
+     * max-pending이 음수면 WAS 워커 수에 맞춰 계산하고, 지정한 값도 그 상한을 넘지 않는다.
+     * acquire-timeout-ms가 0이면 자리가 없을 때 기다리지 않고 바로 거절한다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    EncryptHelper encryptHelper(
+            @Value("${security.password.bcrypt.log-rounds:10}") final int logRounds,
+            @Value("${security.password.hash.threads:0}") final int threads,
+            @Value("${security.password.hash.max-pending:-1}") final int maxPending,
+            @Value("${security.password.hash.acquire-timeout-ms:0}") final long acquireTimeoutMillis,
+            @Value("${server.undertow.threads.worker:0}") final int workerThreads,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+
+        final int workers = workerThreads > 0 ? workerThreads : defaultWorkerThreads();
+        final int hashThreads = hashThreads(threads, Runtime.getRuntime().availableProcessors(), workers);
+
+        return new BoundedEncryptHelper(
+                new BCryptEncoder(logRounds),
+                hashThreads,
+                maxPending(maxPending, hashThreads, workers),
+                acquireTimeoutMillis,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    /**
+     * 해시 실행 스레드 수 - 실행 중인 해시만으로 워커의 절반을 넘기지 않도록 제한 (최소 1)
+     */
+    static int hashThreads(final int configured, final int processors, final int workerThreads) {
+
+        final int threads = configured > 0 ? configured : processors;
+        final int limit = Math.max(workerThreads / 2, 1);
+
+        if (threads > limit) {
+            log.warn("password hash threads[{}] exceeds limit[{}] for worker threads[{}]", threads, limit, workerThreads);
+            return limit;
+        }
+        return threads;
+    }
+
+    /**
+     * 해시를 기다리며 묶이는 요청 스레드(실행 중 + 대기 중)가 워커의 절반을 넘지 않도록 대기 개수를 제한
+     */
+    static int maxPending(final int configured, final int hashThreads, final int workerThreads) {
+
+        final int limit = Math.max(workerThreads / 2 - hashThreads, 0);
+        if (configured < 0) {
+            return limit;
+        }
+
+        if (configured > limit) {
+            log.warn("password hash max-pending[{}] exceeds limit[{}] for worker threads[{}]", configured, limit, workerThreads);
+            return limit;
+        }
+        return configured;
+    }
+
+    /* Undertow 기본 워커 수 (io 스레드 * 8) */
+    private static int defaultWorkerThreads() {
+        return Math.max(Runtime.getRuntime().availableProcessors(), 2) * 8;
     }
 }
@@ -0,0 +1,145 @@
+package io.wisoft.capstonedesign.global.config.bcrypt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.unavailable.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀
+ * - CPU를 많이 쓰는 BCrypt 연산을 threads 개의 스레드에서만 실행해, 로그인이 몰려도 WAS 워커 전체가 해시에 묶이지 않게 한다.
+ * - 실행 중 + 대기 중인 작업은 semaphore로 threads + maxPending 개까지만 받고, 자리가 없으면 (acquireTimeout 이 0이면 기다리지 않고) 503으로 거절한다.
+ * - 메트릭 : password.hash.queue(대기 시간), password.hash.execution(실행 시간), password.hash.pending, password.hash.rejected
+ */
+@Slf4j
+public class BoundedEncryptHelper implements EncryptHelper {
+
+    private final EncryptHelper delegate;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMillis;
+
+    private final Timer queueTimer;
+    private final Timer executionTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedEncryptHelper(
+            final EncryptHelper delegate,
+            final int threads,
+            final int maxPending,
+            final long acquireTimeoutMillis,
+            final MeterRegistry meterRegistry) {
+
+        this.delegate = delegate;
+        this.maxPermits = threads + maxPending;
+        this.permits = new Semaphore(maxPermits);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "PasswordHash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.queueTimer = Timer.builder("password.hash.queue").register(meterRegistry);
+        this.executionTimer = Timer.builder("password.hash.execution").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected").register(meterRegistry);
+        Gauge.builder("password.hash.pending", permits, semaphore -> maxPermits - semaphore.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encrypt(final String password) {
+        return await(encryptAsync(password));
+    }
+
+    @Override
+    public boolean isMatch(final String password, final String hashed) {
+        return await(isMatchAsync(password, hashed));
+    }
+
+    @Override
+    public boolean needsRehash(final String hashed) {
+        return delegate.needsRehash(hashed);
+    }
+
+    @Override
+    public CompletableFuture<String> encryptAsync(final String password) {
+        return submit(() -> delegate.encrypt(password));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isMatchAsync(final String password, final String hashed) {
+        return submit(() -> delegate.isMatch(password, hashed));
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(final Supplier<T> task) {
+
+        acquire();
+        final long enqueuedAt = System.nanoTime();
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                        queueTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                        return executionTimer.record(task);
+                    }, executor)
+                    .whenComplete((result, throwable) -> permits.release());
+
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw busy();
+        }
+    }
+
+    private void acquire() {
+        try {
+            final boolean acquired = acquireTimeoutMillis > 0
+                    ? permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)
+                    : permits.tryAcquire();
+            if (!acquired) {
+                throw busy();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw busy();
+        }
+    }
+
+    private ServiceUnavailableException busy() {
+        rejectedCounter.increment();
+        log.warn("password hash pool is busy[pending={}]", maxPermits - permits.availablePermits());
+        return new ServiceUnavailableException("요청이 많아 잠시 후 다시 시도해주세요.", ErrorCode.PASSWORD_HASH_BUSY);
+    }
+
+    private <T> T await(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
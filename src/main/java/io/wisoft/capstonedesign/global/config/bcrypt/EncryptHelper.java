@@ -1,6 +1,23 @@
 package io.wisoft.capstonedesign.global.config.bcrypt;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface EncryptHelper {
     String encrypt(String password);
     boolean isMatch(String password, String hashed);
+
+    /**
+     * 저장된 해시가 현재 설정(알고리즘, cost)보다 약하면 true - 로그인 성공 시 다시 해시한다.
+     */
+    default boolean needsRehash(final String hashed) {
+        return false;
+    }
+
+    default CompletableFuture<String> encryptAsync(final String password) {
+        return CompletableFuture.completedFuture(encrypt(password));
+    }
+
+    default CompletableFuture<Boolean> isMatchAsync(final String password, final String hashed) {
+        return CompletableFuture.completedFuture(isMatch(password, hashed));
+    }
 }
@@ -0,0 +1,55 @@
+package io.wisoft.capstonedesign.global.counter;
+
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 페이징 조회의 필터별 전체 개수를 저장하는 키
+ * 키 하나가 페이징 쿼리의 where 조건 하나와 대응된다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CountKey {
+
+    private static final String PREFIX = "count:";
+
+    public static String writtenBoards() {
+        return PREFIX + "board:WRITE";
+    }
+
+    public static String boardsByDept(final HospitalDept dept) {
+        return PREFIX + "board:dept:" + dept.name();
+    }
+
+    public static String writtenReviews() {
+        return PREFIX + "review:WRITE";
+    }
+
+    public static String writtenReviewsByHospital(final String hospitalName) {
+        return PREFIX + "review:WRITE:hospital:" + hospitalName;
+    }
+
+    public static String reviewsByDept(final HospitalDept dept) {
+        return PREFIX + "review:dept:" + dept.name();
+    }
+
+    public static String healthInfos() {
+        return PREFIX + "health-info";
+    }
+
+    public static String healthInfosByDept(final HospitalDept dept) {
+        return PREFIX + "health-info:dept:" + dept.name();
+    }
+
+    public static String memberReviews(final Long memberId) {
+        return PREFIX + "member:" + memberId + ":review";
+    }
+
+    public static String memberBoards(final Long memberId) {
+        return PREFIX + "member:" + memberId + ":board";
+    }
+
+    public static String memberPicks(final Long memberId) {
+        return PREFIX + "member:" + memberId + ":pick";
+    }
+}
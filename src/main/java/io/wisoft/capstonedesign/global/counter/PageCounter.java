@@ -0,0 +1,117 @@
+package io.wisoft.capstonedesign.global.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 페이징 조회용 전체 개수 카운터
+ * 최초 조회 시에만 count 쿼리를 실행하고, 이후에는 서비스의 생성/삭제 시점에 증감시킨 값을 Redis에서 읽는다.
+ * 서비스를 거치지 않는 변경(cascade 삭제 등)으로 생기는 오차는 TTL 만료 후 재계산으로 보정한다.
+ *
+ * count 쿼리와 저장 사이에 커밋된 증감을 잃지 않도록 lease 를 사용한다.
+ * - 조회 쪽은 count 쿼리 전에 lease 를 잡고, 저장할 때 lease 가 그대로일 때만 저장한다.
+ * - 증감 쪽은 키가 아직 없으면 lease 를 지운다. 그 사이 계산한 값은 저장되지 않고 다음 조회에서 다시 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageCounter {
+
+    private static final long COUNT_TTL_SECOND = 600;
+    private static final long LEASE_TTL_SECOND = 30;
+    private static final String LEASE_SUFFIX = ":lease";
+
+    /* 키가 존재할 때만 증감, 없으면 계산 중인 lease 를 무효화 - 증감 이전 값이 저장되지 않게 하기 위함 */
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return redis.call('incrby', KEYS[1], ARGV[1]) end "
+                    + "redis.call('del', KEYS[2]) return -1",
+            Long.class);
+
+    /* lease 가 그대로일 때만 계산한 값을 저장 */
+    private static final RedisScript<Long> SET_IF_LEASED = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[2]) == ARGV[1] then "
+                    + "redis.call('set', KEYS[1], ARGV[2], 'EX', ARGV[3]) redis.call('del', KEYS[2]) return 1 end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 카운터 조회, 없으면 loader(count 쿼리)로 계산 후 저장
+     */
+    public long get(final String key, final LongSupplier loader) {
+
+        final String cached = redisTemplate.opsForValue().get(key);
+        if (cached != null) {
+            return Long.parseLong(cached);
+        }
+
+        final String lease = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(key + LEASE_SUFFIX, lease, LEASE_TTL_SECOND, TimeUnit.SECONDS);
+
+        final long count = loader.getAsLong();
+        final Long stored = redisTemplate.execute(SET_IF_LEASED, List.of(key, key + LEASE_SUFFIX),
+                lease, String.valueOf(count), String.valueOf(COUNT_TTL_SECOND));
+        log.info("count key[{}] loaded[{}] stored[{}]", key, count, stored);
+        return count;
+    }
+
+    /**
+     * 여러 필터의 합계 조회 (ex. 다중 병과)
+     */
+    public <T> long sum(final Collection<T> filters, final Function<T, String> keyMapper, final ToLongFunction<T> loader) {
+        return filters.stream()
+                .distinct()
+                .mapToLong(filter -> get(keyMapper.apply(filter), () -> loader.applyAsLong(filter)))
+                .sum();
+    }
+
+    public void increase(final String... keys) {
+        add(1, keys);
+    }
+
+    public void decrease(final String... keys) {
+        add(-1, keys);
+    }
+
+    /**
+     * 트랜잭션 안이라면 커밋된 이후에만 반영한다.
+     */
+    private void add(final long delta, final String... keys) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(delta, keys);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(delta, keys);
+            }
+        });
+    }
+
+    private void apply(final long delta, final String... keys) {
+        for (final String key : keys) {
+            try {
+                redisTemplate.execute(INCREMENT_IF_EXISTS, List.of(key, key + LEASE_SUFFIX), String.valueOf(delta));
+            } catch (RuntimeException e) {
+                log.warn("count key[{}] update failed", key, e);
+            }
+        }
+    }
+}
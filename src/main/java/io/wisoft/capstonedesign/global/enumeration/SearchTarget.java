@@ -0,0 +1,6 @@
+package io.wisoft.capstonedesign.global.enumeration;
+
+public enum SearchTarget {
+    BOARD,
+    REVIEW
+}
@@ -0,0 +1,5 @@
+package io.wisoft.capstonedesign.global.enumeration.status;
+
+public enum OutboxStatus {
+    READY, DONE, DEAD
+}
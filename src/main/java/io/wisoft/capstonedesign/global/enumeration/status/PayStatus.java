@@ -3,5 +3,7 @@ package io.wisoft.capstonedesign.global.enumeration.status;
 public enum PayStatus {
     NONE,
     REFUND,
-    COMPLETED
+    COMPLETED,
+    PENDING,
+    FAILED
 }
@@ -34,12 +34,16 @@ public enum ErrorCode {
     ILLEGAL_PARAM(BAD_REQUEST, "Illegal-Param-400", "Parameter is empty"),
     ILLEGAL_STATE(BAD_REQUEST, "Illegal-State-400", "State is something wrong"),
     ILLEGAL_STAR_POINT(BAD_REQUEST, "Illegal-StarPoint-400", "StarPoint between 1 and 5"),
+    ILLEGAL_CURSOR(BAD_REQUEST, "Illegal-Cursor-400", "Cursor is invalid"),
+    FULL_APPOINTMENT_SLOT(CONFLICT, "Appointment-Slot-409", "Appointment slot is full"),
     INVALID_TOKEN(UNAUTHORIZED, "Illegal-Invalid-Token-401", "Token is invalid"),
     NOT_EXIST_TOKEN(UNAUTHORIZED, "Illegal-Not-Exist-Token-401", "Token is not exist"),
     EXPIRED_TOKEN(UNAUTHORIZED, "Illegal-Expired-Token-401", "Token is expired"),
     ALREADY_LOGOUT_TOKEN(FORBIDDEN, "Token-403", "Already logout token"),
+    FORBIDDEN_STAFF(FORBIDDEN, "Staff-403", "Staff of the hospital only"),
     JWT_EXCEPTION(UNAUTHORIZED, "Token-400", "JWT is invalid"),
     TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "Token-429", "Too Many Request"),
+    PASSWORD_HASH_BUSY(SERVICE_UNAVAILABLE, "Password-Hash-503", "Password hashing is busy"),
     TOO_LARGE_FILE(BAD_REQUEST, "Illegal-File-Size-400", "File size exceeded");
 
 
@@ -4,26 +4,24 @@ import io.jsonwebtoken.JwtException;
 import io.wisoft.capstonedesign.global.exception.duplicate.DuplicateEmailException;
 import io.wisoft.capstonedesign.global.exception.duplicate.DuplicateHospitalException;
 import io.wisoft.capstonedesign.global.exception.duplicate.DuplicateNicknameException;
+import io.wisoft.capstonedesign.global.exception.forbidden.ForbiddenException;
 import io.wisoft.capstonedesign.global.exception.illegal.IllegalDeptException;
 import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
 import io.wisoft.capstonedesign.global.exception.notfound.NotFoundException;
 import io.wisoft.capstonedesign.global.exception.token.*;
+import io.wisoft.capstonedesign.global.exception.unavailable.ServiceUnavailableException;
+import io.wisoft.capstonedesign.global.slack.SlackAlertPublisher;
 import io.wisoft.capstonedesign.global.slack.SlackConstant;
-import io.wisoft.capstonedesign.global.slack.SlackErrorMessage;
-import io.wisoft.capstonedesign.global.slack.SlackService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
-import java.time.LocalDateTime;
 import java.util.concurrent.TimeoutException;
 
 @Slf4j
@@ -32,10 +30,7 @@ import java.util.concurrent.TimeoutException;
 @RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
-    private final SlackService slackService;
-
-    @Qualifier("asyncExecutor")
-    private final ThreadPoolTaskExecutor executor;
+    private final SlackAlertPublisher slackAlertPublisher;
 
     /**
      * 파일 저장 요청시 크기 초과
@@ -58,6 +53,17 @@ public class GlobalExceptionHandler {
     }
 
 
+    /**
+     * 비밀번호 해시 풀 등 서버 자원이 포화된 경우, 발생하는 예외
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(final ServiceUnavailableException exception) {
+
+        log.error("handleServiceUnavailableException", exception);
+        return getErrorResponse(exception.getErrorCode());
+    }
+
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(final MethodArgumentNotValidException exception) {
 
@@ -74,10 +80,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(final IllegalArgumentException exception) {
 
         log.error("handleIllegalArgumentException", exception);
-        final ErrorResponse response = new ErrorResponse(ErrorCode.ASSERT_INVALID_INPUT);
-
-        slackService.sendSlackMessage(new SlackErrorMessage(LocalDateTime.now(), response.getMessage()), SlackConstant.ERROR_CHANNEL);
-        return new ResponseEntity<>(response, response.getHttpStatusCode());
+        return getErrorResponse(ErrorCode.ASSERT_INVALID_INPUT);
     }
 
 
@@ -85,10 +88,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleIllegalStateException(final IllegalStateException exception) {
 
         log.error("handleIllegalArgumentException", exception);
-        final ErrorResponse response = new ErrorResponse(ErrorCode.ILLEGAL_STATE);
-
-        slackService.sendSlackMessage(new SlackErrorMessage(LocalDateTime.now(), response.getMessage()), SlackConstant.ERROR_CHANNEL);
-        return new ResponseEntity<>(response, response.getHttpStatusCode());
+        return getErrorResponse(ErrorCode.ILLEGAL_STATE);
     }
 
 
@@ -170,6 +170,17 @@ public class GlobalExceptionHandler {
     }
 
 
+    /**
+     * 권한이 없는 요청 (의료진 전용 API 등)
+     */
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<ErrorResponse> handleForbiddenException(final ForbiddenException exception) {
+
+        log.error("handleForbiddenException", exception);
+        return getErrorResponse(exception.getErrorCode());
+    }
+
+
     /**
      * JWT exception
      */
@@ -223,10 +234,7 @@ public class GlobalExceptionHandler {
     private ResponseEntity<ErrorResponse> getErrorResponse(final ErrorCode errorCode) {
         final ErrorResponse response = new ErrorResponse(errorCode);
 
-        executor.execute(() -> {
-            slackService.sendSlackMessage(new SlackErrorMessage(LocalDateTime.now(), errorCode.getMessage()), SlackConstant.ERROR_CHANNEL);
-        });
-
+        slackAlertPublisher.publish(errorCode, SlackConstant.ERROR_CHANNEL);
         return new ResponseEntity<>(response, errorCode.getHttpStatusCode());
     }
 }
@@ -0,0 +1,15 @@
+package io.wisoft.capstonedesign.global.exception.forbidden;
+
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class ForbiddenException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public ForbiddenException(final String message, final ErrorCode errorCode) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+}
@@ -0,0 +1,15 @@
+package io.wisoft.capstonedesign.global.exception.unavailable;
+
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public ServiceUnavailableException(final String message, final ErrorCode errorCode) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+}
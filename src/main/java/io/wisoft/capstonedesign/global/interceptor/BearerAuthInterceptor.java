@@ -40,10 +40,8 @@ public class BearerAuthInterceptor implements HandlerInterceptor {
             throw new NotExistTokenException("토큰이 적재되지 않음", ErrorCode.NOT_EXIST_TOKEN);
         }
 
-        //토큰을 디코딩
-        final String email = jwtTokenProvider.getSubject(accessToken);
-
-        jwtTokenProvider.validateToken(email, accessToken);
+        //토큰 검증 및 디코딩 (검증된 토큰은 로컬 캐시 사용)
+        final String email = jwtTokenProvider.authenticate(accessToken);
 
         //디코딩한 값으로 세팅
         request.setAttribute("email", email);
@@ -0,0 +1,98 @@
+package io.wisoft.capstonedesign.global.interceptor;
+
+import io.wisoft.capstonedesign.global.annotation.RateLimit;
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.token.TooManyRequestException;
+import io.wisoft.capstonedesign.global.jwt.AuthorizationExtractor;
+import io.wisoft.capstonedesign.global.jwt.JwtTokenProvider;
+import io.wisoft.capstonedesign.global.ratelimit.RateLimitResult;
+import io.wisoft.capstonedesign.global.ratelimit.RedisRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * @RateLimit 이 붙은 핸들러의 처리율 제한
+ * - 인증된 요청은 JWT subject, 그 외에는 클라이언트 IP 별로 버킷을 나눈다.
+ * - 응답에 X-RateLimit-Limit/Remaining/Reset(초), 거부 시 Retry-After(초) 헤더를 담는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String KEY_PREFIX = "rate:";
+
+    private final RedisRateLimiter redisRateLimiter;
+    private final AuthorizationExtractor authExtractor;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public boolean preHandle(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler) {
+
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        final RateLimit rateLimit = handlerMethod.getMethodAnnotation(RateLimit.class);
+        if (rateLimit == null) {
+            return true;
+        }
+
+        final String key = KEY_PREFIX + bucketName(rateLimit, handlerMethod) + ":" + clientKey(request);
+        final RateLimitResult result = redisRateLimiter.tryAcquire(
+                key, rateLimit.capacity(), rateLimit.unit().toMillis(rateLimit.period()));
+
+        response.setHeader("X-RateLimit-Limit", String.valueOf(result.limit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(result.remaining()));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(toSeconds(result.resetMillis())));
+
+        if (!result.allowed()) {
+            log.info("rate limit exceeded key[{}]", key);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(result.retryAfterMillis())));
+            throw new TooManyRequestException("너무 많은 요청을 보냈습니다!", ErrorCode.TOO_MANY_REQUESTS);
+        }
+        return true;
+    }
+
+    private String bucketName(final RateLimit rateLimit, final HandlerMethod handlerMethod) {
+        if (StringUtils.hasText(rateLimit.name())) {
+            return rateLimit.name();
+        }
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+
+    /**
+     * BearerAuthInterceptor 가 검증한 email, 검증되지 않은 경로라면 토큰을 직접 검증하고 실패 시 IP
+     */
+    private String clientKey(final HttpServletRequest request) {
+
+        final Object email = request.getAttribute("email");
+        if (email != null) {
+            return "user:" + email;
+        }
+
+        final String accessToken = authExtractor.extract(request, "Bearer");
+        if (StringUtils.hasText(accessToken)) {
+            try {
+                return "user:" + jwtTokenProvider.authenticate(accessToken);
+            } catch (RuntimeException e) {
+                log.debug("rate limit falls back to ip: {}", e.getMessage());
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private long toSeconds(final long millis) {
+        return (millis + 999) / 1000;
+    }
+}
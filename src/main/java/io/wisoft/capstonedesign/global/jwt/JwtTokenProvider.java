@@ -21,16 +21,19 @@ public class JwtTokenProvider {
     private final long ACCESS_TOKEN_EXPIRE_SECOND;
     private final long REFRESH_TOKEN_EXPIRE_SECOND;
     private final RedisAdapter redisAdapter;
+    private final JwtValidationCache jwtValidationCache;
 
     public JwtTokenProvider(
             @Value("${security.jwt.token.secret-key}") final String secretKey,
             @Value("${security.jwt.token.access-expire-length}") final long ACCESS_TOKEN_EXPIRE_SECOND,
             @Value("${security.jwt.token.refresh-expire-length}") final long REFRESH_TOKEN_EXPIRE_SECOND,
-            final RedisAdapter redisAdapter) {
+            final RedisAdapter redisAdapter,
+            final JwtValidationCache jwtValidationCache) {
         this.secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
         this.ACCESS_TOKEN_EXPIRE_SECOND = ACCESS_TOKEN_EXPIRE_SECOND;
         this.REFRESH_TOKEN_EXPIRE_SECOND = REFRESH_TOKEN_EXPIRE_SECOND;
         this.redisAdapter = redisAdapter;
+        this.jwtValidationCache = jwtValidationCache;
     }
 
     public String createAccessToken(final String subject) {
@@ -74,13 +77,33 @@ public class JwtTokenProvider {
                 .getSubject();
     }
 
-    public boolean validateToken(final String email, final String accessToken) {
+    /**
+     * access token 인증 - 검증된 토큰은 로컬 캐시에서 바로 subject(email)를 반환한다.
+     * 캐시에 없으면 한 번만 파싱하고, Redis 로그인 상태를 한 번만 조회한 뒤 캐시에 저장한다.
+     */
+    public String authenticate(final String accessToken) {
 
-        /** 유효하지 않은 토큰일 경우 */
-        isValidToken(email);
+        final String cachedEmail = jwtValidationCache.get(accessToken);
+        if (cachedEmail != null) {
+            return cachedEmail;
+        }
 
-        /** 로그아웃 처리된 토큰으로 요청할 경우 */
-        validIsAlreadyLogout(email);
+        final Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(accessToken);
+        final String email = claims.getBody().getSubject();
+
+        //Redis 조회 전에 무효화 세대를 받아 두고, 그 사이 로그아웃되었으면 캐시에 넣지 않는다.
+        final long generation = jwtValidationCache.generation(email);
+        validateLoginStatus(email);
+        isExpiredToken(claims);
+
+        jwtValidationCache.put(accessToken, email, claims.getBody().getExpiration(), generation);
+        return email;
+    }
+
+    public boolean validateToken(final String email, final String accessToken) {
+
+        /** 유효하지 않은 토큰이거나 로그아웃 처리된 토큰으로 요청할 경우 */
+        validateLoginStatus(email);
 
         try {
             final Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(accessToken);
@@ -94,11 +117,18 @@ public class JwtTokenProvider {
         }
     }
 
-    private void isValidToken(final String email) {
+    /* 로그인 상태 확인 - Redis 조회 한 번으로 키 존재 여부와 로그아웃 여부를 함께 확인한다. */
+    private void validateLoginStatus(final String email) {
 
-        if (!redisAdapter.hasKey(email)) {
+        final String value = redisAdapter.getValue(email);
+
+        if (value == null) {
             throw new InvalidTokenException("유효하지 않은 토큰입니다.", ErrorCode.INVALID_TOKEN);
         }
+
+        if (value.equals("LOGOUT_STATUS")) {
+            throw new AlreadyLogoutException("로그아웃 처리된 토큰입니다.", ErrorCode.ALREADY_LOGOUT_TOKEN);
+        }
     }
 
 
@@ -108,14 +138,4 @@ public class JwtTokenProvider {
             throw new ExpiredTokenException("만료시간이 지난 토큰입니다.", ErrorCode.EXPIRED_TOKEN);
         }
     }
-
-
-    private void validIsAlreadyLogout(final String email) {
-
-        final String value = redisAdapter.getValue(email);
-
-        if (value.equals("LOGOUT_STATUS")) {
-            throw new AlreadyLogoutException("로그아웃 처리된 토큰입니다.", ErrorCode.ALREADY_LOGOUT_TOKEN);
-        }
-    }
 }
@@ -0,0 +1,138 @@
+package io.wisoft.capstonedesign.global.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증이 끝난 access token 로컬 캐시
+ * - 토큰 원문 대신 SHA-256 해시를 키로 사용하고, 토큰 만료 시각(최대 MAX_CACHE_SECOND)까지만 보관한다.
+ * - 로그아웃 시 INVALIDATE_CHANNEL 로 이메일을 발행하면 모든 서버가 해당 이메일의 캐시를 지운다.
+ * - 이메일별 무효화 세대를 두어, Redis 조회 뒤 무효화가 일어났으면 조회 결과를 캐시에 넣지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtValidationCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "jwt:invalidate";
+    private static final long MAX_SIZE = 10_000;
+    private static final long MAX_CACHE_SECOND = 5 * 60;
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    /* 이메일별 마지막 무효화 세대 - 캐시 항목보다 오래 남아 있으면 되므로 MAX_CACHE_SECOND 동안만 보관한다. */
+    private final AtomicLong invalidationSequence = new AtomicLong();
+    private final Cache<String, Long> invalidationGenerations = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(MAX_CACHE_SECOND, TimeUnit.SECONDS)
+            .build();
+
+    private final Cache<String, VerifiedToken> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(final String key, final VerifiedToken value, final long currentTime) {
+                    final long remainMillis = value.expiresAt() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, Math.min(remainMillis, TimeUnit.SECONDS.toMillis(MAX_CACHE_SECOND))));
+                }
+
+                @Override
+                public long expireAfterUpdate(final String key, final VerifiedToken value, final long currentTime, final long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(final String key, final VerifiedToken value, final long currentTime, final long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 캐시된 토큰이면 subject(email), 없거나 만료되었으면 null
+     */
+    public String get(final String accessToken) {
+
+        final VerifiedToken verifiedToken = cache.getIfPresent(hash(accessToken));
+
+        if (verifiedToken == null || verifiedToken.expiresAt() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return verifiedToken.email();
+    }
+
+    /**
+     * 이메일의 현재 무효화 세대 - 로그인 상태를 Redis에서 읽기 전에 받아 두고 put 에 넘긴다.
+     */
+    public long generation(final String email) {
+        final Long generation = invalidationGenerations.getIfPresent(email);
+        return generation == null ? 0L : generation;
+    }
+
+    /**
+     * 검증한 토큰 저장 - generation 이후 해당 이메일이 무효화되었으면 저장하지 않는다.
+     * 저장 직후 다시 확인해, 확인과 저장 사이에 끼어든 무효화가 지우지 못한 항목도 제거한다.
+     */
+    public void put(final String accessToken, final String email, final Date expiration, final long generation) {
+
+        if (generation(email) != generation) {
+            return;
+        }
+
+        final String key = hash(accessToken);
+        cache.put(key, new VerifiedToken(email, expiration.getTime()));
+
+        if (generation(email) != generation) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * 해당 이메일로 발급된 토큰 캐시 삭제 (로그아웃은 드물어 전체를 훑는다.)
+     * 세대를 먼저 올려, 진행 중인 인증이 무효화 이전의 Redis 조회 결과를 캐시에 넣지 못하게 한다.
+     */
+    public void invalidate(final String email) {
+        invalidationGenerations.put(email, invalidationSequence.incrementAndGet());
+        cache.asMap().values().removeIf(verifiedToken -> verifiedToken.email().equals(email));
+        log.info("jwt cache invalidated[{}]", email);
+    }
+
+    /* 다른 서버에서 발행한 무효화 메시지 */
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private String hash(final String accessToken) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(String email, long expiresAt) { }
+}
@@ -14,6 +14,7 @@ public class RedisJwtBlackList {
 
     private final int TIME_OUT = 1 * 60 * 60; //1 hour
     private final RedisAdapter redisAdapter;
+    private final JwtValidationCache jwtValidationCache;
     private final String LOGOUT_STATUS = "LOGOUT_STATUS";
 
     public void addToBlackList(final String email) {
@@ -23,6 +24,10 @@ public class RedisJwtBlackList {
         }
 
         redisAdapter.setValue(email, LOGOUT_STATUS, TIME_OUT, TimeUnit.SECONDS);
+
+        //로컬 캐시는 바로 지우고, 다른 서버에는 pub/sub으로 알린다.
+        jwtValidationCache.invalidate(email);
+        redisAdapter.publish(JwtValidationCache.INVALIDATE_CHANNEL, email);
         log.info("redis : {}을 로그아웃 처리합니다.", email);
     }
 
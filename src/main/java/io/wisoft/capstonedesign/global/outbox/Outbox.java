@@ -0,0 +1,86 @@
+package io.wisoft.capstonedesign.global.outbox;
+
+import io.wisoft.capstonedesign.global.BaseEntity;
+import io.wisoft.capstonedesign.global.enumeration.status.OutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * transactional outbox 공통 상태 (결제 취소, 메일 발송)
+ * - dispatcher 가 claim 으로 lease 동안 선점하고, 결과에 따라 done / fail 을 기록한다.
+ * - 실패하면 nextAttemptAt 을 뒤로 미뤄 재시도하고, 최대 횟수를 넘기면 DEAD 로 남긴다.
+ */
+@Getter
+@MappedSuperclass
+public abstract class Outbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Column(name = "outbox_status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    @Column(name = "outbox_attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "outbox_next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "outbox_last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /* 생성 직후 바로 전달 대상이 된다. */
+    protected void ready() {
+        this.status = OutboxStatus.READY;
+        this.nextAttemptAt = LocalDateTime.now();
+        this.createEntity();
+    }
+
+    /**
+     * 전달 시작 - leaseUntil 까지 다른 dispatcher 가 가져가지 않는다.
+     */
+    public void claim(final LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+        this.updateEntity();
+    }
+
+    public void done() {
+        this.status = OutboxStatus.DONE;
+        this.lastError = null;
+        this.updateEntity();
+    }
+
+    /**
+     * 전달 실패 - maxAttempts 전까지는 backoff 후 재시도, 넘기면 DEAD
+     */
+    public void fail(final String error, final int maxAttempts, final Duration backoff) {
+        if (attempts >= maxAttempts) {
+            dead(error);
+            return;
+        }
+
+        this.lastError = truncate(error);
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff);
+        this.updateEntity();
+    }
+
+    protected void dead(final String error) {
+        this.status = OutboxStatus.DEAD;
+        this.lastError = truncate(error);
+        this.updateEntity();
+    }
+
+    private static String truncate(final String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
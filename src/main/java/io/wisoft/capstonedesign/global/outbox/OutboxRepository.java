@@ -0,0 +1,30 @@
+package io.wisoft.capstonedesign.global.outbox;
+
+import io.wisoft.capstonedesign.global.enumeration.status.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@NoRepositoryBean
+public interface OutboxRepository<T extends Outbox> extends JpaRepository<T, Long> {
+
+    /**
+     * 전달할 차례가 된 outbox 조회 - 다른 dispatcher 가 잠근 행은 건너뛴다. (lock timeout -2 : SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from #{#entityName} o where o.status = :status and o.nextAttemptAt <= :now order by o.id")
+    List<T> findDueForUpdate(
+            @Param("status") final OutboxStatus status,
+            @Param("now") final LocalDateTime now,
+            final Pageable pageable);
+}
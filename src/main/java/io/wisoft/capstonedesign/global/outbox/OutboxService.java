@@ -0,0 +1,67 @@
+package io.wisoft.capstonedesign.global.outbox;
+
+import io.wisoft.capstonedesign.global.enumeration.status.OutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * outbox 선점/결과 기록 - 결제 취소, 메일 발송 outbox 서비스가 상속한다.
+ */
+@Slf4j
+public abstract class OutboxService<T extends Outbox> {
+
+    private final OutboxRepository<T> outboxRepository;
+
+    protected OutboxService(final OutboxRepository<T> outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    /**
+     * 전달할 outbox 를 batchSize 만큼 가져와 lease 동안 선점
+     */
+    @Transactional
+    public List<T> claim(final int batchSize, final Duration lease) {
+
+        final LocalDateTime now = LocalDateTime.now();
+        final List<T> outboxes = outboxRepository.findDueForUpdate(OutboxStatus.READY, now, PageRequest.of(0, batchSize));
+
+        outboxes.forEach(outbox -> outbox.claim(now.plus(lease)));
+        return outboxes;
+    }
+
+    @Transactional
+    public void markDone(final Long outboxId) {
+        outboxRepository.findById(outboxId).ifPresent(Outbox::done);
+    }
+
+    /**
+     * 전달 실패 - maxAttempts 전까지는 backoff 후 재시도
+     */
+    @Transactional
+    public void markFailed(final Long outboxId, final String error, final int maxAttempts, final Duration backoff) {
+
+        outboxRepository.findById(outboxId).ifPresent(outbox -> {
+            outbox.fail(error, maxAttempts, backoff);
+            if (outbox.getStatus() == OutboxStatus.DEAD) {
+                log.error("{}[{}] gave up after {} attempts: {}",
+                        outbox.getClass().getSimpleName(), outboxId, outbox.getAttempts(), error);
+            }
+        });
+    }
+
+    /**
+     * 지수 backoff - baseMillis * 2^(attempts - 1), 최대 maxMillis 에 최대 20% jitter 를 더한다.
+     */
+    public static Duration backoff(final int attempts, final long baseMillis, final long maxMillis) {
+        final long exponential = baseMillis << Math.min(attempts - 1, 20);
+        final long capped = Math.min(exponential, maxMillis);
+        final long jitter = ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+        return Duration.ofMillis(capped + jitter);
+    }
+}
@@ -0,0 +1,5 @@
+package io.wisoft.capstonedesign.global.pagination;
+
+import java.util.List;
+
+public record CursorResult<T>(List<T> data, String next, boolean hasNext) { }
@@ -0,0 +1,46 @@
+package io.wisoft.capstonedesign.global.pagination;
+
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 기반 키셋 페이징 커서
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출한다.
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        final String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 빈 문자열이면 첫 페이지를 의미하므로 null 반환
+     */
+    public static KeysetCursor decode(final String cursor) {
+
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int index = raw.lastIndexOf(DELIMITER);
+
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1)));
+
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalValueException("유효하지 않은 커서입니다.", ErrorCode.ILLEGAL_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.wisoft.capstonedesign.global.pagination;
+
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * (score, id) 기반 검색 결과 커서 - 점수 내림차순, id 내림차순 정렬에서 사용한다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출한다.
+ */
+public record RankCursor(long score, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        final String raw = score + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 빈 문자열이면 첫 페이지를 의미하므로 null 반환
+     */
+    public static RankCursor decode(final String cursor) {
+
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int index = raw.lastIndexOf(DELIMITER);
+
+            return new RankCursor(
+                    Long.parseLong(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1)));
+
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException("유효하지 않은 커서입니다.", ErrorCode.ILLEGAL_CURSOR);
+        }
+    }
+}
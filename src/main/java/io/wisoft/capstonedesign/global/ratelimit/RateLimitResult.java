@@ -0,0 +1,15 @@
+package io.wisoft.capstonedesign.global.ratelimit;
+
+/**
+ * @param retryAfterMillis 다음 토큰이 충전될 때까지 남은 시간 (허용된 경우 0)
+ * @param resetMillis      버킷이 가득 찰 때까지 남은 시간
+ */
+public record RateLimitResult(boolean allowed, int limit, long remaining, long retryAfterMillis, long resetMillis) {
+
+    /**
+     * Redis 장애 시 요청은 막지 않는다.
+     */
+    public static RateLimitResult unlimited(final int limit) {
+        return new RateLimitResult(true, limit, limit, 0, 0);
+    }
+}
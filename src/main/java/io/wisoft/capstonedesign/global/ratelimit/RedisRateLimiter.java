@@ -0,0 +1,78 @@
+package io.wisoft.capstonedesign.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 토큰 버킷
+ * - 충전과 차감을 Lua 스크립트 하나로 처리해 여러 인스턴스가 동시에 요청해도 한도를 넘지 않는다.
+ * - 시각은 Redis 서버의 TIME을 사용해 인스턴스 간 시계 차이의 영향을 받지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisRateLimiter {
+
+    /* KEYS[1] 버킷, ARGV[1] capacity, ARGV[2] period(ms) -> {허용 여부, 남은 토큰, retry-after(ms), reset(ms)} */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local period = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1])
+            local ts = tonumber(bucket[2])
+            if tokens == nil or ts == nil then
+                tokens = capacity
+                ts = now
+            end
+
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * capacity / period)
+            local allowed = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], period)
+
+            local retryAfter = 0
+            if allowed == 0 then
+                retryAfter = math.ceil((1 - tokens) * period / capacity)
+            end
+            return {allowed, math.floor(tokens), retryAfter, math.ceil((capacity - tokens) * period / capacity)}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RateLimitResult tryAcquire(final String key, final int capacity, final long periodMillis) {
+
+        try {
+            final List<?> result = redisTemplate.execute(
+                    TOKEN_BUCKET, List.of(key), String.valueOf(capacity), String.valueOf(periodMillis));
+
+            return new RateLimitResult(
+                    toLong(result.get(0)) == 1,
+                    capacity,
+                    toLong(result.get(1)),
+                    toLong(result.get(2)),
+                    toLong(result.get(3)));
+        } catch (RuntimeException e) {
+            log.warn("rate limit key[{}] failed, request allowed", key, e);
+            return RateLimitResult.unlimited(capacity);
+        }
+    }
+
+    private long toLong(final Object value) {
+        return ((Number) value).longValue();
+    }
+}
@@ -31,4 +31,8 @@ public class RedisAdapter {
     public boolean hasKey(final String key) {
         return redisTemplate.hasKey(key);
     }
+
+    public void publish(final String channel, final String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
 }
@@ -0,0 +1,151 @@
+package io.wisoft.capstonedesign.global.slack;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 에러 알림 비동기 전송
+ * - 요청 스레드는 크기가 정해진 큐에 넣기만 하고, 큐가 가득 차면 기다리지 않고 버린 뒤 개수만 센다.
+ * - 전용 스레드 하나가 window 마다 큐를 비우고 채널별로 ErrorCode 발생 횟수를 묶어 메시지 하나로 보낸다.
+ * - 메트릭 : slack.alert.published, slack.alert.dropped, slack.alert.sent, slack.alert.failed, slack.alert.queue
+ */
+@Slf4j
+public class SlackAlertPublisher {
+
+    private final SlackService slackService;
+    private final BlockingQueue<Alert> queue;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong droppedSinceFlush = new AtomicLong();
+
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public SlackAlertPublisher(
+            final SlackService slackService,
+            final int queueCapacity,
+            final long windowMillis,
+            final MeterRegistry meterRegistry) {
+
+        this.slackService = slackService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.publishedCounter = Counter.builder("slack.alert.published").register(meterRegistry);
+        this.droppedCounter = Counter.builder("slack.alert.dropped").register(meterRegistry);
+        this.sentCounter = Counter.builder("slack.alert.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("slack.alert.failed").register(meterRegistry);
+        Gauge.builder("slack.alert.queue", queue, BlockingQueue::size).register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "SlackAlert");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flushQuietly, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 알림 등록 (요청 스레드를 막지 않음)
+     */
+    public void publish(final ErrorCode errorCode, final SlackConstant slackConstant) {
+
+        if (slackService.isOff()) {
+            return;
+        }
+
+        if (queue.offer(new Alert(slackConstant, errorCode, LocalDateTime.now()))) {
+            publishedCounter.increment();
+            return;
+        }
+
+        droppedCounter.increment();
+        droppedSinceFlush.incrementAndGet();
+    }
+
+    /**
+     * 큐에 쌓인 알림을 채널별 요약 메시지로 전송
+     */
+    public synchronized void flush() {
+
+        final List<Alert> alerts = new ArrayList<>(queue.size());
+        queue.drainTo(alerts);
+        final long dropped = droppedSinceFlush.getAndSet(0);
+
+        if (alerts.isEmpty() && dropped == 0) {
+            return;
+        }
+
+        final Map<SlackConstant, Map<ErrorCode, Count>> grouped = new LinkedHashMap<>();
+        for (Alert alert : alerts) {
+            grouped.computeIfAbsent(alert.channel(), channel -> new EnumMap<>(ErrorCode.class))
+                    .computeIfAbsent(alert.errorCode(), errorCode -> new Count(alert.occurredAt()))
+                    .add(alert.occurredAt());
+        }
+        if (dropped > 0) {
+            grouped.computeIfAbsent(SlackConstant.ERROR_CHANNEL, channel -> new EnumMap<>(ErrorCode.class));
+        }
+
+        final LocalDateTime now = LocalDateTime.now();
+        grouped.forEach((channel, counts) -> {
+            final List<SlackErrorMessage.ErrorCount> errors = new ArrayList<>(counts.size());
+            counts.forEach((errorCode, count) -> errors.add(
+                    new SlackErrorMessage.ErrorCount(errorCode, count.count, count.firstAt, count.lastAt)));
+
+            final long channelDropped = channel == SlackConstant.ERROR_CHANNEL ? dropped : 0;
+            if (slackService.sendSlackMessage(new SlackErrorMessage(now, errors, channelDropped), channel)) {
+                sentCounter.increment();
+            } else {
+                failedCounter.increment();
+            }
+        });
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("slack alert flush failed", e);
+        }
+    }
+
+    private record Alert(SlackConstant channel, ErrorCode errorCode, LocalDateTime occurredAt) { }
+
+    private static final class Count {
+
+        private int count;
+        private final LocalDateTime firstAt;
+        private LocalDateTime lastAt;
+
+        private Count(final LocalDateTime firstAt) {
+            this.firstAt = firstAt;
+            this.lastAt = firstAt;
+        }
+
+        private void add(final LocalDateTime occurredAt) {
+            count++;
+            lastAt = occurredAt;
+        }
+    }
+}
@@ -1,13 +1,32 @@
 package io.wisoft.capstonedesign.global.slack;
 
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+
 import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 집계 구간 동안 발생한 에러 요약
+ */
+public record SlackErrorMessage(LocalDateTime dateTime, List<ErrorCount> errors, long dropped) {
 
-public record SlackErrorMessage(LocalDateTime dateTime, String message) {
+    public record ErrorCount(ErrorCode errorCode, int count, LocalDateTime firstAt, LocalDateTime lastAt) { }
 
     @Override
     public String toString() {
-        return  "장애 발생! 🔥" +
-                "\n에러 발생 일시 = " + dateTime +
-                "\n에러 메시지 = " + message;
+        final StringBuilder sb = new StringBuilder("장애 발생! 🔥")
+                .append("\n집계 일시 = ").append(dateTime);
+
+        for (ErrorCount error : errors) {
+            sb.append("\n- [").append(error.errorCode().getErrorCode()).append("] ")
+                    .append(error.errorCode().getMessage())
+                    .append(" : ").append(error.count()).append("회")
+                    .append(" (").append(error.firstAt()).append(" ~ ").append(error.lastAt()).append(")");
+        }
+
+        if (dropped > 0) {
+            sb.append("\n큐가 가득 차 유실된 알림 = ").append(dropped);
+        }
+        return sb.toString();
     }
 }
@@ -1,44 +1,67 @@
 package io.wisoft.capstonedesign.global.slack;
 
 import com.slack.api.Slack;
+import com.slack.api.SlackConfig;
 import com.slack.api.methods.MethodsClient;
 import com.slack.api.methods.SlackApiException;
 import com.slack.api.methods.request.chat.ChatPostMessageRequest;
+import com.slack.api.methods.response.chat.ChatPostMessageResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 
+/**
+ * Slack 메시지 전송 - MethodsClient 하나를 만들어 재사용한다.
+ */
 @Slf4j
 @Service
 public class SlackService {
 
-    @Value(value = "${slack.is-off}")
-    private String slackOff;
+    private final boolean slackOff;
+    private final MethodsClient slackBot;
 
-    @Value(value = "${slack.token}")
-    private String slackToken;
+    public SlackService(
+            @Value("${slack.is-off}") final String slackOff,
+            @Value("${slack.token}") final String slackToken,
+            @Value("${slack.methods-url:https://slack.com/api/}") final String methodsUrl) {
 
-    public void sendSlackMessage(final SlackErrorMessage message, final SlackConstant slackConstant) {
+        this.slackOff = Boolean.parseBoolean(slackOff);
 
-        if (Boolean.parseBoolean(slackOff)) {
-            return;
-        }
+        final SlackConfig config = new SlackConfig();
+        config.setMethodsEndpointUrlPrefix(methodsUrl);
+        this.slackBot = Slack.getInstance(config).methods(slackToken);
+    }
 
-        final String channel = slackConstant.getChannel();
+    public boolean isOff() {
+        return slackOff;
+    }
 
-        try {
-            final MethodsClient slackBot = Slack.getInstance().methods(slackToken);
+    /**
+     * 전송 성공 여부 반환
+     */
+    public boolean sendSlackMessage(final SlackErrorMessage message, final SlackConstant slackConstant) {
 
+        if (slackOff) {
+            return false;
+        }
+
+        try {
             final ChatPostMessageRequest request = ChatPostMessageRequest.builder()
-                    .channel(channel)
+                    .channel(slackConstant.getChannel())
                     .text(message.toString())
                     .build();
 
-            slackBot.chatPostMessage(request);
+            final ChatPostMessageResponse response = slackBot.chatPostMessage(request);
+            if (!response.isOk()) {
+                log.error("slack chat.postMessage failed: {}", response.getError());
+            }
+            return response.isOk();
+
         } catch (SlackApiException | IOException e) {
             log.error(e.getMessage());
+            return false;
         }
     }
 }
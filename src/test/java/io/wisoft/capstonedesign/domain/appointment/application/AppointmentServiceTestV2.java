@@ -42,6 +42,9 @@ public class AppointmentServiceTestV2 {
     @Mock
     private HospitalService hospitalService;
 
+    @Mock
+    private AppointmentSlotService appointmentSlotService;
+
 
     @Nested
     @DisplayName("예약 정보 작성")
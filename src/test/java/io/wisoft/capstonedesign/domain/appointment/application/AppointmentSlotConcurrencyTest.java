@@ -0,0 +1,147 @@
+package io.wisoft.capstonedesign.domain.appointment.application;
+
+import io.wisoft.capstonedesign.domain.appointment.persistence.AppointmentRepository;
+import io.wisoft.capstonedesign.domain.appointment.persistence.AppointmentSlot;
+import io.wisoft.capstonedesign.domain.appointment.persistence.AppointmentSlotRepository;
+import io.wisoft.capstonedesign.domain.appointment.web.dto.CreateAppointmentRequest;
+import io.wisoft.capstonedesign.domain.appointment.web.dto.OpenAppointmentSlotRequest;
+import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
+import io.wisoft.capstonedesign.domain.hospital.persistence.HospitalRepository;
+import io.wisoft.capstonedesign.domain.member.persistence.Member;
+import io.wisoft.capstonedesign.domain.member.persistence.MemberRepository;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.wisoft.capstonedesign.setting.data.HospitalTestData.getDefaultHospital;
+import static io.wisoft.capstonedesign.setting.data.MemberTestData.getDefaultMember;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 예약 시 정원 초과 여부 (트랜잭션이 실제로 커밋되어야 하므로 ServiceTest를 상속하지 않는다)
+ */
+@SpringBootTest
+public class AppointmentSlotConcurrencyTest {
+
+    private static final int CAPACITY = 5;
+    private static final int REQUEST_COUNT = 30;
+    private static final HospitalDept DEPT = HospitalDept.DENTAL;
+
+    @Autowired AppointmentService appointmentService;
+    @Autowired AppointmentSlotService appointmentSlotService;
+    @Autowired AppointmentRepository appointmentRepository;
+    @Autowired AppointmentSlotRepository appointmentSlotRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired HospitalRepository hospitalRepository;
+
+    private final List<Long> appointmentIds = new CopyOnWriteArrayList<>();
+    private final LocalDateTime slotStart = LocalDateTime.now().plusMonths(1).withHour(14).withMinute(0).withSecond(0).withNano(0);
+    private Member member;
+    private Hospital hospital;
+
+    @AfterEach
+    void tearDown() {
+        appointmentRepository.deleteAllById(appointmentIds);
+        appointmentSlotRepository.findSlot(hospital.getId(), DEPT, slotStart).ifPresent(appointmentSlotRepository::delete);
+        hospitalRepository.deleteById(hospital.getId());
+        memberRepository.deleteById(member.getId());
+    }
+
+    @Test
+    public void 동시_예약_정원_초과_방지() throws Exception {
+        //given -- 조건
+        member = memberRepository.save(getDefaultMember());
+        hospital = hospitalRepository.save(getDefaultHospital());
+
+        appointmentSlotService.openSlots(OpenAppointmentSlotRequest.builder()
+                .hospitalId(hospital.getId())
+                .dept(DEPT.name())
+                .from(slotStart)
+                .to(slotStart.plusMinutes(AppointmentSlot.SLOT_MINUTES))
+                .capacity(CAPACITY)
+                .build());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(10);
+        final CountDownLatch ready = new CountDownLatch(1);
+        final AtomicInteger rejected = new AtomicInteger();
+        final List<Future<?>> futures = new ArrayList<>();
+
+        //when -- 동작
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                try {
+                    appointmentIds.add(appointmentService.save(CreateAppointmentRequest.builder()
+                            .memberId(member.getId())
+                            .hospitalId(hospital.getId())
+                            .dept(DEPT.name())
+                            .comment("comment")
+                            .appointName("name")
+                            .appointPhonenumber("phone")
+                            .appointmentDate(slotStart.plusMinutes(5))
+                            .build()));
+                } catch (IllegalValueException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then -- 검증
+        final AppointmentSlot slot = appointmentSlotRepository
+                .findSlot(hospital.getId(), DEPT, slotStart).orElseThrow();
+        assertThat(appointmentIds).hasSize(CAPACITY);
+        assertThat(rejected.get()).isEqualTo(REQUEST_COUNT - CAPACITY);
+        assertThat(slot.getRemaining()).isZero();
+    }
+
+    @Test
+    public void 같은_슬롯_동시_열기() throws Exception {
+        //given -- 조건
+        member = memberRepository.save(getDefaultMember());
+        hospital = hospitalRepository.save(getDefaultHospital());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(10);
+        final CountDownLatch ready = new CountDownLatch(1);
+        final List<Future<Integer>> futures = new ArrayList<>();
+
+        //when -- 동작
+        for (int i = 0; i < 10; i++) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                return appointmentSlotService.openSlots(OpenAppointmentSlotRequest.builder()
+                        .hospitalId(hospital.getId())
+                        .dept(DEPT.name())
+                        .from(slotStart)
+                        .to(slotStart.plusMinutes(AppointmentSlot.SLOT_MINUTES))
+                        .capacity(CAPACITY)
+                        .build());
+            }));
+        }
+        ready.countDown();
+        for (Future<Integer> future : futures) {
+            assertThat(future.get(30, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+        executor.shutdown();
+
+        //then -- 검증
+        final AppointmentSlot slot = appointmentSlotRepository
+                .findSlot(hospital.getId(), DEPT, slotStart).orElseThrow();
+        assertThat(slot.getCapacity()).isEqualTo(CAPACITY);
+        assertThat(slot.getRemaining()).isEqualTo(CAPACITY);
+    }
+}
@@ -0,0 +1,139 @@
+package io.wisoft.capstonedesign.domain.appointment.application;
+
+import io.wisoft.capstonedesign.domain.appointment.persistence.AppointmentSlot;
+import io.wisoft.capstonedesign.domain.appointment.web.dto.CreateAppointmentRequest;
+import io.wisoft.capstonedesign.domain.appointment.web.dto.OpenAppointmentSlotRequest;
+import io.wisoft.capstonedesign.domain.appointment.web.dto.UpdateAppointmentRequest;
+import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
+import io.wisoft.capstonedesign.domain.member.persistence.Member;
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
+import io.wisoft.capstonedesign.setting.common.ServiceTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static io.wisoft.capstonedesign.setting.data.HospitalTestData.getDefaultHospital;
+import static io.wisoft.capstonedesign.setting.data.MemberTestData.getDefaultMember;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AppointmentSlotServiceTest extends ServiceTest {
+
+    @Autowired EntityManager em;
+    @Autowired AppointmentService appointmentService;
+    @Autowired AppointmentSlotService appointmentSlotService;
+
+    private final LocalDateTime slotStart = LocalDateTime.now().plusMonths(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+
+    private Member member;
+    private Hospital hospital;
+
+    @BeforeEach
+    void setUp() {
+        member = getDefaultMember();
+        em.persist(member);
+
+        hospital = getDefaultHospital();
+        em.persist(hospital);
+    }
+
+    @Test
+    public void 슬롯_열기() throws Exception {
+        //given -- 조건
+        final OpenAppointmentSlotRequest request = openRequest(slotStart, slotStart.plusHours(2), 3);
+
+        //when -- 동작
+        final int openedCount = appointmentSlotService.openSlots(request);
+
+        //then -- 검증
+        final List<AppointmentSlot> slots = appointmentSlotService.findSlots(hospital.getId(), "DENTAL", slotStart.toLocalDate());
+        assertThat(openedCount).isEqualTo(4);
+        assertThat(slots).hasSize(4);
+        assertThat(slots).allMatch(slot -> slot.getCapacity() == 3 && slot.getRemaining() == 3);
+    }
+
+    @Test
+    public void 정원_마감시_예약_실패() throws Exception {
+        //given -- 조건
+        appointmentSlotService.openSlots(openRequest(slotStart, slotStart.plusMinutes(30), 2));
+        appointmentService.save(createRequest(slotStart.plusMinutes(10)));
+        appointmentService.save(createRequest(slotStart.plusMinutes(20)));
+
+        //when -- 동작, then -- 검증
+        assertThatThrownBy(() -> appointmentService.save(createRequest(slotStart)))
+                .isInstanceOf(IllegalValueException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FULL_APPOINTMENT_SLOT);
+    }
+
+    @Test
+    public void 예약_취소시_자리_반환() throws Exception {
+        //given -- 조건
+        appointmentSlotService.openSlots(openRequest(slotStart, slotStart.plusMinutes(30), 1));
+        final Long appointmentId = appointmentService.save(createRequest(slotStart));
+
+        //when -- 동작
+        appointmentService.deleteAppointment(appointmentId);
+        em.flush();
+        em.clear();
+
+        //then -- 검증
+        final AppointmentSlot slot = appointmentSlotService.findSlots(hospital.getId(), "DENTAL", slotStart.toLocalDate()).get(0);
+        assertThat(slot.getRemaining()).isEqualTo(1);
+    }
+
+    @Test
+    public void 진료과_변경시_슬롯_이동() throws Exception {
+        //given -- 조건
+        appointmentSlotService.openSlots(openRequest(slotStart, slotStart.plusMinutes(30), 1));
+        final Long appointmentId = appointmentService.save(createRequest(slotStart));
+
+        //when -- 동작
+        appointmentService.update(appointmentId, new UpdateAppointmentRequest("SURGICAL", "comment", "name", "phone"));
+        em.flush();
+        em.clear();
+
+        //then -- 검증
+        final AppointmentSlot slot = appointmentSlotService.findSlots(hospital.getId(), "DENTAL", slotStart.toLocalDate()).get(0);
+        assertThat(slot.getRemaining()).isEqualTo(1);
+        assertThat(appointmentService.findById(appointmentId).getSlot()).isNull();
+    }
+
+    @Test
+    public void 예약_인원보다_정원_축소_실패() throws Exception {
+        //given -- 조건
+        appointmentSlotService.openSlots(openRequest(slotStart, slotStart.plusMinutes(30), 2));
+        appointmentService.save(createRequest(slotStart));
+        appointmentService.save(createRequest(slotStart));
+
+        //when -- 동작, then -- 검증
+        assertThatThrownBy(() -> appointmentSlotService.openSlots(openRequest(slotStart, slotStart.plusMinutes(30), 1)))
+                .isInstanceOf(IllegalValueException.class);
+    }
+
+    private OpenAppointmentSlotRequest openRequest(final LocalDateTime from, final LocalDateTime to, final int capacity) {
+        return OpenAppointmentSlotRequest.builder()
+                .hospitalId(hospital.getId())
+                .dept("DENTAL")
+                .from(from)
+                .to(to)
+                .capacity(capacity)
+                .build();
+    }
+
+    private CreateAppointmentRequest createRequest(final LocalDateTime appointmentDate) {
+        return CreateAppointmentRequest.builder()
+                .memberId(member.getId())
+                .hospitalId(hospital.getId())
+                .dept("DENTAL")
+                .comment("comment")
+                .appointName("name")
+                .appointPhonenumber("phone")
+                .appointmentDate(appointmentDate)
+                .build();
+    }
+}
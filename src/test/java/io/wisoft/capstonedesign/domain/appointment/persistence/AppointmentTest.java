@@ -4,11 +4,13 @@ import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
 import io.wisoft.capstonedesign.domain.member.persistence.Member;
 import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
 import io.wisoft.capstonedesign.global.enumeration.status.PayStatus;
+import io.wisoft.capstonedesign.setting.common.CryptoKeysExtension;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.extension.ExtendWith;
 import java.time.LocalDateTime;
 
+@ExtendWith(CryptoKeysExtension.class)
 class AppointmentTest {
 
     @Test
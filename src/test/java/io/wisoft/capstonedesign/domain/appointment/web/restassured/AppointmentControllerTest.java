@@ -4,11 +4,14 @@ import io.restassured.RestAssured;
 import io.wisoft.capstonedesign.domain.appointment.persistence.Appointment;
 import io.wisoft.capstonedesign.domain.appointment.persistence.AppointmentRepository;
 import io.wisoft.capstonedesign.domain.appointment.web.dto.CreateAppointmentRequest;
+import io.wisoft.capstonedesign.domain.appointment.web.dto.OpenAppointmentSlotRequest;
 import io.wisoft.capstonedesign.domain.appointment.web.dto.UpdateAppointmentRequest;
 import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
 import io.wisoft.capstonedesign.domain.hospital.persistence.HospitalRepository;
 import io.wisoft.capstonedesign.domain.member.persistence.Member;
 import io.wisoft.capstonedesign.domain.member.persistence.MemberRepository;
+import io.wisoft.capstonedesign.domain.staff.persistence.Staff;
+import io.wisoft.capstonedesign.domain.staff.persistence.StaffRepository;
 import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
 import io.wisoft.capstonedesign.global.enumeration.status.PayStatus;
 import io.wisoft.capstonedesign.global.jwt.JwtTokenProvider;
@@ -37,6 +40,9 @@ class AppointmentControllerTest extends ApiTest {
     @Autowired
     private AppointmentRepository appointmentRepository;
 
+    @Autowired
+    private StaffRepository staffRepository;
+
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
@@ -263,6 +269,109 @@ class AppointmentControllerTest extends ApiTest {
         }
     }
 
+    @Nested
+    @DisplayName("예약 슬롯 열기")
+    class OpenSlots {
+
+        @Test
+        @DisplayName("해당 병원 의료진의 요청이면 슬롯이 열려야 한다.")
+        public void 성공() throws Exception {
+
+            //given
+            final String email = "슬롯열기성공@naver.com";
+            final String accessToken = jwtTokenProvider.createAccessToken(email);
+            redisAdapter.setValue(email, accessToken, 3600000, TimeUnit.SECONDS);
+
+            final Hospital hospital = getHospital("슬롯열기성공");
+            getStaff(email, hospital);
+
+            //when
+            final var response = RestAssured
+                    .given()
+                    .log().all()
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .body(슬롯열기요청생성(hospital.getId()))
+                    .when()
+                    .post("/api/appointments/slots")
+                    .then()
+                    .log().all().extract();
+
+            //then
+            Assertions.assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        }
+
+
+        @Test
+        @DisplayName("의료진이 아닌 회원이 요청하면 403 예외가 발생해야 한다.")
+        public void 실패1() throws Exception {
+
+            //given
+            final String email = "슬롯열기실패1@naver.com";
+            final String accessToken = jwtTokenProvider.createAccessToken(email);
+            redisAdapter.setValue(email, accessToken, 3600000, TimeUnit.SECONDS);
+
+            getMember(email, "슬롯열기실패1");
+            final Hospital hospital = getHospital("슬롯열기실패1");
+
+            //when
+            final var response = RestAssured
+                    .given()
+                    .log().all()
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .body(슬롯열기요청생성(hospital.getId()))
+                    .when()
+                    .post("/api/appointments/slots")
+                    .then()
+                    .log().all().extract();
+
+            //then
+            Assertions.assertThat(response.statusCode()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        }
+
+
+        @Test
+        @DisplayName("다른 병원 의료진이 요청하면 403 예외가 발생해야 한다.")
+        public void 실패2() throws Exception {
+
+            //given
+            final String email = "슬롯열기실패2@naver.com";
+            final String accessToken = jwtTokenProvider.createAccessToken(email);
+            redisAdapter.setValue(email, accessToken, 3600000, TimeUnit.SECONDS);
+
+            getStaff(email, getHospital("슬롯열기실패2_소속"));
+            final Hospital otherHospital = getHospital("슬롯열기실패2_다른병원");
+
+            //when
+            final var response = RestAssured
+                    .given()
+                    .log().all()
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .body(슬롯열기요청생성(otherHospital.getId()))
+                    .when()
+                    .post("/api/appointments/slots")
+                    .then()
+                    .log().all().extract();
+
+            //then
+            Assertions.assertThat(response.statusCode()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        }
+    }
+
+
+    private OpenAppointmentSlotRequest 슬롯열기요청생성(final Long hospitalId) {
+        final LocalDateTime from = LocalDateTime.now().plusMonths(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        return OpenAppointmentSlotRequest.builder()
+                .hospitalId(hospitalId)
+                .dept("DENTAL")
+                .from(from)
+                .to(from.plusHours(1))
+                .capacity(3)
+                .build();
+    }
+
     private CreateAppointmentRequest 저장요청생성(
             final Long memberId,
             final Long hospitalId
@@ -311,4 +420,16 @@ class AppointmentControllerTest extends ApiTest {
                         "pass123",
                         "phone"));
     }
+
+    @NotNull
+    private Staff getStaff(final String email, final Hospital hospital) {
+        return staffRepository.save(
+                Staff.newInstance(
+                        hospital,
+                        "staffName",
+                        email,
+                        "pass123",
+                        "license",
+                        HospitalDept.DENTAL));
+    }
 }
@@ -1,6 +1,5 @@
 package io.wisoft.capstonedesign.domain.auth.application;
 
-import io.wisoft.capstonedesign.domain.auth.persistence.MailAuthenticationRepository;
 import io.wisoft.capstonedesign.domain.auth.web.dto.*;
 import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
 import io.wisoft.capstonedesign.domain.member.application.MemberService;
@@ -24,7 +23,6 @@ public class AuthServiceTest extends ServiceTest {
     @Autowired EmailServiceImpl emailService;
     @Autowired MemberService memberService;
     @Autowired StaffService staffService;
-    @Autowired MailAuthenticationRepository mailAuthenticationRepository;
 
     @Test
     public void 회원가입() throws Exception {
@@ -1,6 +1,5 @@
 package io.wisoft.capstonedesign.domain.auth.application;
 
-import io.wisoft.capstonedesign.domain.auth.persistence.MailAuthenticationRepository;
 import io.wisoft.capstonedesign.domain.member.persistence.MemberRepository;
 import io.wisoft.capstonedesign.domain.staff.persistence.StaffRepository;
 import io.wisoft.capstonedesign.setting.common.ServiceTest;
@@ -17,7 +16,6 @@ public class EmailServiceImplTest extends ServiceTest {
     @Autowired EmailService emailService;
     @Autowired MemberRepository memberRepository;
     @Autowired StaffRepository staffRepository;
-    @Autowired MailAuthenticationRepository mailAuthenticationRepository;
     @Autowired StringRedisTemplate redisTemplate;
 
     @Test
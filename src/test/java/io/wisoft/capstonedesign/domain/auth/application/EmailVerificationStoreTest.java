@@ -0,0 +1,77 @@
+package io.wisoft.capstonedesign.domain.auth.application;
+
+import io.wisoft.capstonedesign.domain.auth.application.EmailVerificationStore.VerifyResult;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+@SpringBootTest
+public class EmailVerificationStoreTest {
+
+    private static final String EMAIL = "verification-store@email.com";
+
+    @Autowired private EmailVerificationStore emailVerificationStore;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(List.of("mail:{" + EMAIL + "}:code", "mail:{" + EMAIL + "}:verified"));
+    }
+
+    @Test
+    public void verify_consume_code() throws Exception {
+        //given -- 조건
+        emailVerificationStore.issue(EMAIL, "code1234");
+
+        //when -- 동작
+        final VerifyResult first = emailVerificationStore.verify(EMAIL, "code1234");
+        final VerifyResult second = emailVerificationStore.verify(EMAIL, "code1234");
+
+        //then -- 검증
+        Assertions.assertThat(first).isEqualTo(VerifyResult.VERIFIED);
+        Assertions.assertThat(second).isEqualTo(VerifyResult.NOT_FOUND);
+        Assertions.assertThat(emailVerificationStore.consumeVerified(EMAIL)).isTrue();
+        Assertions.assertThat(emailVerificationStore.consumeVerified(EMAIL)).isFalse();
+    }
+
+    @Test
+    public void verify_mismatch_until_max_attempts() throws Exception {
+        //given -- 조건
+        emailVerificationStore.issue(EMAIL, "code1234");
+
+        //when -- 동작
+        final List<VerifyResult> results = IntStream.range(0, EmailVerificationStore.MAX_ATTEMPTS)
+                .mapToObj(i -> emailVerificationStore.verify(EMAIL, "invalid"))
+                .toList();
+
+        //then -- 검증
+        Assertions.assertThat(results).containsOnly(VerifyResult.MISMATCH);
+        Assertions.assertThat(emailVerificationStore.verify(EMAIL, "code1234")).isEqualTo(VerifyResult.NOT_FOUND);
+        Assertions.assertThat(emailVerificationStore.consumeVerified(EMAIL)).isFalse();
+    }
+
+    @Test
+    public void verify_concurrent_only_once() throws Exception {
+        //given -- 조건
+        emailVerificationStore.issue(EMAIL, "code1234");
+
+        //when -- 동작
+        final List<CompletableFuture<VerifyResult>> futures = IntStream.range(0, 10)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> emailVerificationStore.verify(EMAIL, "code1234")))
+                .toList();
+
+        //then -- 검증
+        final long verified = futures.stream()
+                .map(CompletableFuture::join)
+                .filter(VerifyResult.VERIFIED::equals)
+                .count();
+        Assertions.assertThat(verified).isEqualTo(1);
+    }
+}
@@ -0,0 +1,122 @@
+package io.wisoft.capstonedesign.domain.auth.application;
+
+import io.wisoft.capstonedesign.domain.auth.persistence.MailOutbox;
+import io.wisoft.capstonedesign.domain.auth.persistence.MailOutboxRepository;
+import io.wisoft.capstonedesign.global.enumeration.status.OutboxStatus;
+import io.wisoft.capstonedesign.setting.common.FakeSmtpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.MailParseException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 메일 outbox 발송 (SMTP는 메모리 스텁 서버, 스케줄러는 끄고 dispatch 를 직접 호출)
+ */
+@SpringBootTest
+public class MailOutboxDispatcherTest {
+
+    private static final FakeSmtpServer SMTP = FakeSmtpServer.getInstance();
+
+    @DynamicPropertySource
+    static void smtpProperties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.host", () -> "127.0.0.1");
+        registry.add("spring.mail.port", SMTP::port);
+        registry.add("spring.mail.properties.mail.smtp.auth", () -> false);
+        registry.add("spring.mail.properties.mail.smtp.starttls.enable", () -> false);
+        registry.add("mail.outbox.enabled", () -> false);
+    }
+
+    @Autowired MailOutboxDispatcher mailOutboxDispatcher;
+    @Autowired MailOutboxService mailOutboxService;
+    @Autowired MailOutboxRepository mailOutboxRepository;
+
+    private final List<String> recipients = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        recipients.forEach(recipient -> {
+            SMTP.accept(recipient);
+            mailOutboxRepository.deleteAll(mailOutboxRepository.findAllByRecipient(recipient));
+        });
+    }
+
+    @Test
+    public void 메일은_outbox_를_거쳐_SMTP_연결_하나로_발송() throws Exception {
+        //given -- 조건
+        final List<String> to = List.of(recipient(), recipient(), recipient());
+        to.forEach(recipient -> mailOutboxService.enqueue(recipient, "🥑 AVOCADO 이메일 인증 코드입니다.", "code1234"));
+        assertThat(SMTP.mailsTo(to.get(0))).isEmpty();
+        final int connections = SMTP.connectionCount();
+
+        //when -- 동작
+        mailOutboxDispatcher.dispatch();
+
+        //then -- 검증
+        assertThat(SMTP.connectionCount()).isEqualTo(connections + 1);
+        to.forEach(recipient -> {
+            assertThat(SMTP.mailsTo(recipient)).hasSize(1);
+            final MailOutbox outbox = outbox(recipient);
+            assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.DONE);
+            assertThat(outbox.getBody()).isNull();
+        });
+    }
+
+    @Test
+    public void 수신_거부시_나머지는_발송하고_backoff_후_재시도() throws Exception {
+        //given -- 조건
+        final String rejected = recipient();
+        final String accepted = recipient();
+        SMTP.reject(rejected);
+        mailOutboxService.enqueue(rejected, "🥑 AVOCADO 임시 비밀번호입니다.", "password");
+        mailOutboxService.enqueue(accepted, "🥑 AVOCADO 임시 비밀번호입니다.", "password");
+
+        //when -- 동작
+        mailOutboxDispatcher.dispatch();
+
+        //then -- 검증
+        final MailOutbox retried = outbox(rejected);
+        assertThat(retried.getStatus()).isEqualTo(OutboxStatus.READY);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getLastError()).isNotNull();
+        assertThat(retried.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(outbox(accepted).getStatus()).isEqualTo(OutboxStatus.DONE);
+        assertThat(SMTP.mailsTo(accepted)).hasSize(1);
+    }
+
+    @Test
+    public void 주소_형식이_올바르지_않으면_요청_안에서_실패() throws Exception {
+        //given -- 조건
+        final String invalid = "fail-" + UUID.randomUUID();
+        recipients.add(invalid);
+
+        //when -- 동작
+
+        //then -- 검증
+        assertThatThrownBy(() -> mailOutboxService.enqueue(invalid, "subject", "body"))
+                .isInstanceOf(MailParseException.class);
+        assertThat(mailOutboxRepository.findAllByRecipient(invalid)).isEmpty();
+    }
+
+    private String recipient() {
+        final String recipient = "outbox-" + UUID.randomUUID() + "@email.com";
+        recipients.add(recipient);
+        return recipient;
+    }
+
+    private MailOutbox outbox(final String recipient) {
+        final List<MailOutbox> outboxes = mailOutboxRepository.findAllByRecipient(recipient);
+        assertThat(outboxes).hasSize(1);
+        return outboxes.get(0);
+    }
+}
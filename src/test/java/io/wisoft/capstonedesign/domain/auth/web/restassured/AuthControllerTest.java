@@ -2,8 +2,7 @@ package io.wisoft.capstonedesign.domain.auth.web.restassured;
 
 
 import io.restassured.RestAssured;
-import io.wisoft.capstonedesign.domain.auth.persistence.DBMailAuthentication;
-import io.wisoft.capstonedesign.domain.auth.persistence.MailAuthenticationRepository;
+import io.wisoft.capstonedesign.domain.auth.application.EmailVerificationStore;
 import io.wisoft.capstonedesign.domain.auth.web.AuthController;
 import io.wisoft.capstonedesign.domain.auth.web.dto.CreateMemberRequest;
 import io.wisoft.capstonedesign.domain.auth.web.dto.CreateStaffRequest;
@@ -35,7 +34,7 @@ public class AuthControllerTest extends ApiTest {
     private HospitalRepository hospitalRepository;
 
     @Autowired
-    private MailAuthenticationRepository mailAuthenticationRepository;
+    private EmailVerificationStore emailVerificationStore;
 
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
@@ -683,12 +682,7 @@ public class AuthControllerTest extends ApiTest {
 
 
     private void 이메일인증성공상태로설정(final String email) {
-        mailAuthenticationRepository.save(
-                DBMailAuthentication.builder()
-                        .email(email)
-                        .isVerified(true)
-                        .build()
-        );
+        emailVerificationStore.markVerified(email);
     }
 
     @NotNull
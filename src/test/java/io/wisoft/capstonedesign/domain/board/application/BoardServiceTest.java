@@ -1,6 +1,7 @@
 package io.wisoft.capstonedesign.domain.board.application;
 
 import io.wisoft.capstonedesign.domain.board.persistence.Board;
+import io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto;
 import io.wisoft.capstonedesign.domain.board.web.dto.CreateBoardRequest;
 import io.wisoft.capstonedesign.domain.board.web.dto.UpdateBoardRequest;
 import io.wisoft.capstonedesign.domain.member.persistence.Member;
@@ -195,7 +196,7 @@ public class BoardServiceTest extends ServiceTest {
         final PageRequest pageRequest = PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "createdAt"));
 
         //when -- 동작
-        final List<Board> page = boardService.findAllUsingPaging(pageRequest).getContent();
+        final List<BoardListDto> page = boardService.findListUsingPaging(pageRequest).getContent();
 
         //then -- 검증
         Assertions.assertThat(page.size()).isEqualTo(3);
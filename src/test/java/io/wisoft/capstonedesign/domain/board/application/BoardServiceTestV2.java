@@ -6,6 +6,8 @@ import io.wisoft.capstonedesign.domain.board.web.dto.CreateBoardRequest;
 import io.wisoft.capstonedesign.domain.board.web.dto.UpdateBoardRequest;
 import io.wisoft.capstonedesign.domain.member.application.MemberService;
 import io.wisoft.capstonedesign.domain.member.persistence.Member;
+import io.wisoft.capstonedesign.domain.search.application.SearchService;
+import io.wisoft.capstonedesign.global.counter.PageCounter;
 import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
 import io.wisoft.capstonedesign.global.enumeration.status.BoardStatus;
 import org.assertj.core.api.Assertions;
@@ -40,6 +42,12 @@ class BoardServiceTestV2 {
     @Mock
     private BoardImageService boardImageService;
 
+    @Mock
+    private PageCounter pageCounter;
+
+    @Mock
+    private SearchService searchService;
+
     @Nested
     @DisplayName("게시글 작성")
     class CreateBoard {
@@ -1,24 +1,34 @@
 package io.wisoft.capstonedesign.domain.board.persistence;
 
+import io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto;
+import io.wisoft.capstonedesign.domain.member.persistence.Member;
+import io.wisoft.capstonedesign.global.enumeration.status.BoardStatus;
+import io.wisoft.capstonedesign.setting.common.QueryCounter;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+import static io.wisoft.capstonedesign.setting.data.BoardTestData.getDefaultBoard;
+import static io.wisoft.capstonedesign.setting.data.MemberTestData.getDefaultMember;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 @Transactional
+@Import(QueryCounter.class)
 public class BoardRepositoryTest {
 
     @Autowired BoardRepository boardRepository;
+    @Autowired EntityManager em;
+    @Autowired QueryCounter queryCounter;
 
     @Test
     public void paging() throws Exception {
@@ -26,19 +36,12 @@ public class BoardRepositoryTest {
         final PageRequest pageRequest = PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "createdAt"));
 
         //when -- 동작
-        final Page<Board> page = boardRepository.findAllUsingPaging(pageRequest);
-        final List<Board> content = page.getContent();
-//        Board board1 = body.get(0);
-//        Board board2 = body.get(1);
+        final List<BoardListDto> content = boardRepository.findListUsingPaging(pageRequest);
+        final long count = boardRepository.countByStatus(BoardStatus.WRITE);
 
         //then -- 검증
         assertThat(content.size()).isEqualTo(3);
-        assertThat(page.getTotalElements()).isEqualTo(3);
-        assertThat(page.getTotalPages()).isEqualTo(1);
-        assertThat(page.getNumber()).isEqualTo(0);
-        assertThat(page.isFirst()).isTrue();
-        assertThat(page.hasNext()).isFalse();
-//        assertThat(board1.getCreateAt()).isBefore(board2.getCreateAt());
+        assertThat(count).isEqualTo(3);
     }
 
 
@@ -52,4 +55,45 @@ public class BoardRepositoryTest {
         //then -- 검증
         Assertions.assertThat(boardList.size()).isEqualTo(3);
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void keysetPaging() throws Exception {
+        //given -- 조건
+        final PageRequest limit = PageRequest.of(0, 2);
+
+        //when -- 동작
+        final List<BoardListDto> firstPage = boardRepository.findFirstUsingKeyset(limit);
+        final BoardListDto last = firstPage.get(firstPage.size() - 1);
+        final List<BoardListDto> nextPage = boardRepository.findAllUsingKeyset(last.getCreateAt(), last.getId(), limit);
+
+        //then -- 검증
+        assertThat(firstPage.size()).isEqualTo(2);
+        assertThat(nextPage.size()).isEqualTo(1);
+        assertThat(firstPage).extracting(BoardListDto::getId).doesNotContain(nextPage.get(0).getId());
+        assertThat(nextPage.get(0).getCreateAt()).isBeforeOrEqualTo(last.getCreateAt());
+    }
+
+
+    @Test
+    public void findDetailById_without_reply() throws Exception {
+        //given -- 조건
+        final Member member = getDefaultMember();
+        em.persist(member);
+
+        final Board board = getDefaultBoard(member);
+        em.persist(board);
+
+        em.flush();
+        em.clear();
+        queryCounter.reset();
+
+        //when -- 동작
+        final Board findBoard = boardRepository.findDetailById(board.getId()).orElseThrow();
+
+        //then -- 검증
+        assertThat(findBoard.getBoardReplyList()).isEmpty();
+        assertThat(findBoard.getMember().getNickname()).isEqualTo(member.getNickname());
+        assertThat(queryCounter.count()).isEqualTo(1);
+    }
+}
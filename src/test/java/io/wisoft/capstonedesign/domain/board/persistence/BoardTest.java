@@ -3,11 +3,14 @@ package io.wisoft.capstonedesign.domain.board.persistence;
 import io.wisoft.capstonedesign.domain.member.persistence.Member;
 import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
 import io.wisoft.capstonedesign.global.enumeration.status.BoardStatus;
+import io.wisoft.capstonedesign.setting.common.CryptoKeysExtension;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+@ExtendWith(CryptoKeysExtension.class)
 class BoardTest {
 
     @Test
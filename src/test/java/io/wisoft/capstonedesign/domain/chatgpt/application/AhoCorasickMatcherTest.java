@@ -0,0 +1,57 @@
+package io.wisoft.capstonedesign.domain.chatgpt.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    @DisplayName("겹치거나 서로 포함된 키워드도 한 번 순회로 모두 찾아야 한다.")
+    void match_overlapping_keywords() {
+
+        // given
+        final AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("he", "she", "his", "hers"));
+        final List<String> found = new ArrayList<>();
+
+        // when
+        matcher.match("ushers", (keywordId, start, end) -> found.add(keywordId + "@" + start + "-" + end));
+
+        // then
+        assertThat(found).containsExactlyInAnyOrder("1@1-4", "0@2-4", "3@2-6");
+    }
+
+    @Test
+    @DisplayName("한글 키워드를 위치와 함께 찾아야 한다.")
+    void match_korean() {
+
+        // given
+        final AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("외과", "정형외과", "두통"));
+        final List<String> found = new ArrayList<>();
+
+        // when
+        matcher.match("두통때문에정형외과", (keywordId, start, end) -> found.add(keywordId + "@" + start + "-" + end));
+
+        // then
+        assertThat(found).containsExactlyInAnyOrder("2@0-2", "1@5-9", "0@7-9");
+    }
+
+    @Test
+    @DisplayName("일치하는 키워드가 없으면 아무것도 찾지 않아야 한다.")
+    void match_nothing() {
+
+        // given
+        final AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("치통", "복통"));
+        final List<Integer> found = new ArrayList<>();
+
+        // when
+        matcher.match("머리가아파요", (keywordId, start, end) -> found.add(keywordId));
+
+        // then
+        assertThat(found).isEmpty();
+    }
+}
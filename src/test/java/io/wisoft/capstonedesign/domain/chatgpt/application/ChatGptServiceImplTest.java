@@ -0,0 +1,101 @@
+package io.wisoft.capstonedesign.domain.chatgpt.application;
+
+import io.wisoft.capstonedesign.domain.chatgpt.web.dto.ChatGptResponseV2;
+import io.wisoft.capstonedesign.domain.chatgpt.web.dto.ChatRequest;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import io.wisoft.capstonedesign.setting.common.ChatGptStubServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사전에 없는 증상의 OpenAI fallback (모델은 로컬 스텁 서버)
+ */
+@SpringBootTest
+class ChatGptServiceImplTest {
+
+    private static final ChatGptStubServer OPENAI = ChatGptStubServer.getInstance();
+
+    @DynamicPropertySource
+    static void openAiProperties(final DynamicPropertyRegistry registry) {
+        registry.add("chatgpt.url", OPENAI::url);
+    }
+
+    @Autowired ChatGptService chatGptService;
+
+    @Test
+    @DisplayName("정규화 결과가 같은 질문은 캐시된 답변을 사용해 OpenAI를 다시 호출하지 않아야 한다.")
+    void askQuestionV2_cached() {
+
+        // given
+        final String id = unmatchedId();
+        OPENAI.givenAnswer("내과", 0);
+
+        // when
+        final ChatGptResponseV2 first = chatGptService.askQuestionV2(new ChatRequest("zz " + id));
+        final ChatGptResponseV2 second = chatGptService.askQuestionV2(new ChatRequest("ZZ" + id + "?!"));
+
+        // then
+        assertThat(OPENAI.callCount(id)).isEqualTo(1);
+        assertThat(first.candidates().get(0).dept()).isEqualTo(HospitalDept.INTERNAL_MEDICINE);
+        assertThat(second.candidates()).isEqualTo(first.candidates());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 질문은 OpenAI를 한 번만 호출하고 결과를 공유해야 한다.")
+    void askQuestionV2_coalesced() {
+
+        // given
+        final String id = unmatchedId();
+        final int requestCount = 8;
+        OPENAI.givenAnswer("내과", 300);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        final CountDownLatch ready = new CountDownLatch(1);
+
+        // when
+        final List<CompletableFuture<ChatGptResponseV2>> futures = IntStream.range(0, requestCount)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    await(ready);
+                    return chatGptService.askQuestionV2(new ChatRequest("zz" + id));
+                }, executor))
+                .toList();
+        ready.countDown();
+
+        final List<ChatGptResponseV2> responses = futures.stream().map(CompletableFuture::join).toList();
+        executor.shutdown();
+
+        // then
+        assertThat(OPENAI.callCount(id)).isEqualTo(1);
+        assertThat(responses).allSatisfy(response ->
+                assertThat(response.candidates().get(0).dept()).isEqualTo(HospitalDept.INTERNAL_MEDICINE));
+    }
+
+    /**
+     * 증상 사전과 겹치지 않는 숫자 문자열 (Redis 캐시가 테스트 실행 간 공유되므로 매번 다르게)
+     */
+    private String unmatchedId() {
+        return String.valueOf(ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE));
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
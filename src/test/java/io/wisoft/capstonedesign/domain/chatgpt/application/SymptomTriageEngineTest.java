@@ -0,0 +1,78 @@
+package io.wisoft.capstonedesign.domain.chatgpt.application;
+
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SymptomTriageEngineTest {
+
+    private final SymptomTriageEngine engine = new SymptomTriageEngine(new ClassPathResource("triage/symptom-dictionary.tsv"));
+
+    @Test
+    @DisplayName("기존 switch 문의 증상은 같은 진료과로 분류되어야 한다.")
+    void triage_legacy_symptoms() {
+
+        // when
+        final List<TriageCandidate> chestPain = engine.triage("가슴통증");
+        final List<TriageCandidate> learning = engine.triage("학습장애・집중력저하");
+        final List<TriageCandidate> numbness = engine.triage("손・발 저림");
+
+        // then
+        assertThat(chestPain.get(0).label()).isEqualTo("순환기내과");
+        assertThat(learning.get(0).dept()).isEqualTo(HospitalDept.PSYCHIATRY);
+        assertThat(numbness.get(0).dept()).isEqualTo(HospitalDept.NEUROLOGY);
+    }
+
+    @Test
+    @DisplayName("문장 속 키워드를 찾아 점수 순으로 진료과 후보를 반환해야 한다.")
+    void triage_sentence() {
+
+        // when
+        final List<TriageCandidate> candidates = engine.triage("어제부터 이가 너무 시려요. 잇몸에서 피도 나요");
+
+        // then
+        assertThat(candidates).isNotEmpty();
+        assertThat(candidates.get(0).dept()).isEqualTo(HospitalDept.DENTAL);
+        assertThat(candidates.get(0).fuzzy()).isFalse();
+        assertThat(candidates).isSortedAccordingTo((a, b) -> Double.compare(b.score(), a.score()));
+    }
+
+    @Test
+    @DisplayName("다른 키워드 안에 포함된 짧은 키워드는 점수에 반영하지 않아야 한다.")
+    void ignore_covered_keyword() {
+
+        // when
+        final List<TriageCandidate> candidates = engine.triage("정형외과 가고 싶어요");
+
+        // then
+        assertThat(candidates).extracting(TriageCandidate::dept).containsExactly(HospitalDept.ORTHOPEDICS);
+    }
+
+    @Test
+    @DisplayName("일치하는 키워드가 없으면 bigram 유사도로 찾아야 한다.")
+    void triage_fuzzy() {
+
+        // when
+        final List<TriageCandidate> candidates = engine.triage("머리가 지끈지끈 아파요");
+
+        // then
+        assertThat(candidates).isNotEmpty();
+        assertThat(candidates.get(0).dept()).isEqualTo(HospitalDept.NEUROLOGY);
+        assertThat(candidates.get(0).fuzzy()).isTrue();
+    }
+
+    @Test
+    @DisplayName("관련 없는 문장이나 빈 문자열은 후보가 없어야 한다.")
+    void triage_unmatched() {
+
+        // expect
+        assertThat(engine.triage("오늘 날씨가 좋네요")).isEmpty();
+        assertThat(engine.triage(" ")).isEmpty();
+        assertThat(engine.triage(null)).isEmpty();
+    }
+}
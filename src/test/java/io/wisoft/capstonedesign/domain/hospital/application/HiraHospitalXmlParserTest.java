@@ -0,0 +1,64 @@
+package io.wisoft.capstonedesign.domain.hospital.application;
+
+import io.wisoft.capstonedesign.domain.hospital.application.HiraHospitalXmlParser.HiraPage;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalInfoResponse;
+import io.wisoft.capstonedesign.setting.data.HiraHospitalTestData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HiraHospitalXmlParserTest {
+
+    private final HiraHospitalXmlParser parser = new HiraHospitalXmlParser();
+
+    @Test
+    @DisplayName("페이지의 item을 순서대로 넘기고, 페이지 정보를 반환해야 한다.")
+    void parse() {
+
+        // given
+        final List<HospitalInfoResponse.Item> items = new ArrayList<>();
+
+        // when
+        final HiraPage page = parser.parse(toStream(HiraHospitalTestData.PAGE_1), items::add);
+
+        // then
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).getYkiho()).isEqualTo("TEST-YKIHO-0001");
+        assertThat(items.get(0).getYadmNm()).isEqualTo("아보카도테스트병원");
+        assertThat(items.get(0).getSidoCd()).isEqualTo("230000");
+        assertThat(items.get(1).getTelno()).isNull();
+
+        assertThat(page.pageNo()).isEqualTo(1);
+        assertThat(page.itemCount()).isEqualTo(2);
+        assertThat(page.lastPageNo()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("API가 오류 코드를 응답하면, 예외가 발생해야 한다.")
+    void parse_error_code() {
+
+        // given
+        final String xml = """
+                <response>
+                    <header>
+                        <resultCode>30</resultCode>
+                        <resultMsg>SERVICE KEY IS NOT REGISTERED ERROR.</resultMsg>
+                    </header>
+                </response>
+                """;
+
+        // expected
+        assertThrows(IllegalStateException.class, () -> parser.parse(toStream(xml), item -> { }));
+    }
+
+    private ByteArrayInputStream toStream(final String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,103 @@
+package io.wisoft.capstonedesign.domain.hospital.application;
+
+import io.wisoft.capstonedesign.domain.hospital.application.HospitalGeoIndex.NearbyHospital;
+import io.wisoft.capstonedesign.domain.hospital.persistence.HospitalLocation;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HospitalGeoIndexTest {
+
+    private static final double CITY_HALL_LAT = 37.5663;
+    private static final double CITY_HALL_LNG = 126.9779;
+
+    private final HospitalGeoIndex hospitalGeoIndex = new HospitalGeoIndex(null);
+
+    @BeforeEach
+    void setUp() {
+        hospitalGeoIndex.load(
+                List.of(
+                        new HospitalLocation(1L, "시청앞의원", "서울 중구", "02-000-0001", 37.5665, 126.9780),
+                        new HospitalLocation(2L, "광화문안과", "서울 종로구", "02-000-0002", 37.5759, 126.9768),
+                        new HospitalLocation(3L, "서울역병원", "서울 용산구", "02-000-0003", 37.5547, 126.9707),
+                        new HospitalLocation(4L, "대전병원", "대전 유성구", "042-000-0004", 36.3504, 127.3845)),
+                List.<Object[]>of(
+                        new Object[]{1L, HospitalDept.INTERNAL_MEDICINE},
+                        new Object[]{2L, HospitalDept.OPHTHALMOLOGY},
+                        new Object[]{3L, HospitalDept.OPHTHALMOLOGY},
+                        new Object[]{3L, HospitalDept.INTERNAL_MEDICINE}));
+    }
+
+    @Test
+    @DisplayName("반경 내 병원을 가까운 순서로 limit 개만 반환해야 한다.")
+    void findNearby() {
+
+        // when
+        final List<NearbyHospital> result = hospitalGeoIndex.findNearby(CITY_HALL_LAT, CITY_HALL_LNG, 5000, null, 2);
+
+        // then
+        assertThat(result).extracting(n -> n.location().id()).containsExactly(1L, 2L);
+        assertThat(result.get(0).distance()).isLessThan(result.get(1).distance());
+    }
+
+    @Test
+    @DisplayName("반경 밖의 병원은 포함하지 않아야 한다.")
+    void findNearby_radius() {
+
+        // when
+        final List<NearbyHospital> result = hospitalGeoIndex.findNearby(CITY_HALL_LAT, CITY_HALL_LNG, 500, null, 10);
+
+        // then
+        assertThat(result).extracting(n -> n.location().id()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("진료과를 지정하면 해당 진료과 의료진이 있는 병원만 반환해야 한다.")
+    void findNearby_dept() {
+
+        // when
+        final List<NearbyHospital> result =
+                hospitalGeoIndex.findNearby(CITY_HALL_LAT, CITY_HALL_LNG, 5000, HospitalDept.OPHTHALMOLOGY, 10);
+
+        // then
+        assertThat(result).extracting(n -> n.location().id()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("의료진 변경이 반영된 병원만 진료과 검색 결과가 바뀌어야 한다.")
+    void updateDepts() {
+
+        // given -- 1번 병원에 안과 의료진 가입, 3번 병원 안과 의료진 탈퇴
+        hospitalGeoIndex.updateDepts(
+                Set.of(1L, 3L),
+                List.<Object[]>of(
+                        new Object[]{1L, HospitalDept.INTERNAL_MEDICINE},
+                        new Object[]{1L, HospitalDept.OPHTHALMOLOGY},
+                        new Object[]{3L, HospitalDept.INTERNAL_MEDICINE}));
+
+        // when
+        final List<NearbyHospital> result =
+                hospitalGeoIndex.findNearby(CITY_HALL_LAT, CITY_HALL_LNG, 5000, HospitalDept.OPHTHALMOLOGY, 10);
+
+        // then
+        assertThat(result).extracting(n -> n.location().id()).containsExactly(1L, 2L);
+        assertThat(hospitalGeoIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("하버사인 거리는 서울-대전 간 약 140km여야 한다.")
+    void distance() {
+
+        // when
+        final double distance = HospitalGeoIndex.distance(CITY_HALL_LAT, CITY_HALL_LNG, 36.3504, 127.3845);
+
+        // then
+        assertThat(distance).isBetween(135_000d, 145_000d);
+    }
+}
@@ -0,0 +1,135 @@
+package io.wisoft.capstonedesign.domain.hospital.application;
+
+import io.wisoft.capstonedesign.domain.hospital.application.HospitalImportService.ImportResult;
+import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
+import io.wisoft.capstonedesign.domain.hospital.persistence.HospitalBulkRepository;
+import io.wisoft.capstonedesign.domain.hospital.persistence.HospitalRepository;
+import io.wisoft.capstonedesign.global.redis.RedisAdapter;
+import io.wisoft.capstonedesign.setting.common.ServiceTest;
+import io.wisoft.capstonedesign.setting.data.HiraHospitalTestData;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.transaction.AfterTransaction;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class HospitalImportServiceTest extends ServiceTest {
+
+    @Autowired HiraHospitalXmlParser parser;
+    @Autowired HospitalBulkRepository hospitalBulkRepository;
+    @Autowired HospitalService hospitalService;
+    @Autowired HospitalGeoIndex hospitalGeoIndex;
+    @Autowired HospitalRepository hospitalRepository;
+    @Autowired RedisAdapter redisAdapter;
+    @Autowired EntityManager em;
+
+    private HospitalImportService hospitalImportService;
+
+    @BeforeEach
+    void setUp() {
+        //원격 API 대신 로컬 XML 픽스처를 사용
+        final HiraHospitalClient fixtureClient = (pageNo, numOfRows, consumer) -> parser.parse(
+                new ByteArrayInputStream(HiraHospitalTestData.page(pageNo).getBytes(StandardCharsets.UTF_8)), consumer);
+
+        hospitalImportService = new HospitalImportService(fixtureClient, hospitalBulkRepository, hospitalService, hospitalGeoIndex, redisAdapter);
+        redisAdapter.deleteValue(HospitalImportService.CHECKPOINT_KEY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisAdapter.deleteValue(HospitalImportService.CHECKPOINT_KEY);
+    }
+
+    @AfterTransaction
+    void rebuildGeoIndex() {
+        //롤백된 픽스처 병원이 인덱스에 남지 않도록
+        hospitalGeoIndex.rebuild();
+    }
+
+    @Test
+    public void 전체_페이지_적재_및_ykiho_upsert() throws Exception {
+        //given -- 조건
+
+        //when -- 동작
+        final ImportResult result = hospitalImportService.importHospitals(1);
+
+        //then -- 검증
+        Assertions.assertThat(result.endPage()).isEqualTo(2);
+        Assertions.assertThat(result.importedCount()).isEqualTo(3);
+
+        final List<Hospital> updated = hospitalRepository.findByName("아보카도테스트대학병원");
+        Assertions.assertThat(updated).hasSize(1);
+        Assertions.assertThat(updated.get(0).getYkiho()).isEqualTo("TEST-YKIHO-0001");
+        Assertions.assertThat(updated.get(0).getLatitude()).isEqualTo(36.3504);
+        Assertions.assertThat(updated.get(0).getLongitude()).isEqualTo(127.3015);
+        Assertions.assertThat(hospitalRepository.findByName("아보카도테스트병원")).isEmpty();
+        Assertions.assertThat(hospitalRepository.findByName("아보카도테스트의원")).hasSize(1);
+    }
+
+    @Test
+    public void 체크포인트_이후_페이지부터_재개() throws Exception {
+        //given -- 조건
+        //1페이지까지 적재하고 중단된 상태
+        redisAdapter.setValue(HospitalImportService.CHECKPOINT_KEY, "1", 1, TimeUnit.DAYS);
+
+        //when -- 동작
+        final ImportResult result = hospitalImportService.importHospitals(null);
+
+        //then -- 검증
+        Assertions.assertThat(result.startPage()).isEqualTo(2);
+        Assertions.assertThat(result.endPage()).isEqualTo(2);
+        Assertions.assertThat(redisAdapter.getValue(HospitalImportService.CHECKPOINT_KEY)).isNull();
+    }
+
+    @Test
+    public void 전체_적재_후_다시_적재하면_1페이지부터() throws Exception {
+        //given -- 조건
+        hospitalImportService.importHospitals(null);
+
+        //when -- 동작
+        final ImportResult result = hospitalImportService.importHospitals(null);
+
+        //then -- 검증
+        Assertions.assertThat(result.startPage()).isEqualTo(1);
+        Assertions.assertThat(result.endPage()).isEqualTo(2);
+        Assertions.assertThat(result.importedCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void 적재_후_주변_병원_조회() throws Exception {
+        //given -- 조건
+        hospitalImportService.importHospitals(1);
+
+        //when -- 동작
+        final List<HospitalGeoIndex.NearbyHospital> nearby = hospitalService.findNearby(36.3500, 127.3010, 1000, null, 10);
+
+        //then -- 검증
+        Assertions.assertThat(nearby).extracting(n -> n.location().name()).contains("아보카도테스트대학병원");
+        Assertions.assertThat(nearby).extracting(n -> n.location().name()).doesNotContain("아보카도테스트의원");
+    }
+
+    @Test
+    public void 재적재시_생성일시_유지() throws Exception {
+        //given -- 조건
+        hospitalImportService.importHospitals(1);
+        em.clear();
+        final LocalDateTime createdAt = hospitalRepository.findByName("아보카도테스트대학병원").get(0).getCreatedAt();
+
+        //when -- 동작
+        hospitalImportService.importHospitals(1);
+        em.clear();
+
+        //then -- 검증
+        final Hospital reimported = hospitalRepository.findByName("아보카도테스트대학병원").get(0);
+        Assertions.assertThat(reimported.getCreatedAt()).isEqualTo(createdAt);
+        Assertions.assertThat(reimported.getUpdatedAt()).isAfterOrEqualTo(createdAt);
+    }
+}
@@ -1,13 +1,25 @@
 package io.wisoft.capstonedesign.domain.hospital.application;
 
 import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
+import io.wisoft.capstonedesign.domain.hospital.persistence.HospitalBulkRepository;
 import io.wisoft.capstonedesign.domain.hospital.web.dto.CreateHospitalRequest;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalInfoResponse;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalListDto;
+import io.wisoft.capstonedesign.domain.hospital.web.dto.HospitalSearchCondition;
 import io.wisoft.capstonedesign.global.exception.duplicate.DuplicateHospitalException;
 import io.wisoft.capstonedesign.global.exception.notfound.NotFoundException;
 import io.wisoft.capstonedesign.setting.common.ServiceTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -16,6 +28,10 @@ public class HospitalServiceTest extends ServiceTest {
     @Autowired
     HospitalService hospitalService;
 
+    @Autowired HospitalBulkRepository hospitalBulkRepository;
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+
     @Test
     public void 병원_저장() throws Exception {
         //given -- 조건
@@ -76,4 +92,90 @@ public class HospitalServiceTest extends ServiceTest {
     private CreateHospitalRequest getCreateHospitalRequest(final String number, final String area) {
         return new CreateHospitalRequest("avocado", number, area, "연중무휴");
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void 병원_조회_2차캐시_적중() throws Exception {
+        //given -- 조건
+        final Long hospitalId = hospitalService.save(getCreateHospitalRequest("042", "대전"));
+        em.flush();
+        em.clear();
+        hospitalService.findById(hospitalId); // 2차 캐시 적재
+
+        final CacheRegionStatistics statistics = emf.unwrap(SessionFactory.class)
+                .getStatistics()
+                .getDomainDataRegionStatistics(Hospital.CACHE_REGION);
+        final long beforeHit = statistics.getHitCount();
+
+        //when -- 동작
+        em.clear();
+        hospitalService.findById(hospitalId);
+
+        //then -- 검증
+        Assertions.assertThat(statistics.getHitCount()).isGreaterThan(beforeHit);
+    }
+
+
+    @Test
+    public void 병원_목록_조건_검색() throws Exception {
+        //given -- 조건
+        saveHiraHospitals();
+        final HospitalSearchCondition condition = new HospitalSearchCondition("230000", null, "아보카도", null);
+
+        //when -- 동작
+        final Page<HospitalListDto> page = hospitalService.findList(condition, PageRequest.of(0, 10));
+
+        //then -- 검증
+        Assertions.assertThat(page.getTotalElements()).isEqualTo(2);
+        Assertions.assertThat(page.getContent()).extracting(HospitalListDto::name)
+                .containsExactly("아보카도내과", "아보카도치과");
+    }
+
+
+    @Test
+    public void 병원_목록_이름_검색_와일드카드_무시() throws Exception {
+        //given -- 조건
+        saveHiraHospitals();
+        final HospitalSearchCondition condition = new HospitalSearchCondition(null, null, "아보카도%", null);
+
+        //when -- 동작
+        final Page<HospitalListDto> page = hospitalService.findList(condition, PageRequest.of(0, 10));
+
+        //then -- 검증
+        Assertions.assertThat(page.getContent()).isEmpty();
+    }
+
+
+    @Test
+    public void 병원_목록_청크_조회() throws Exception {
+        //given -- 조건
+        saveHiraHospitals();
+        final HospitalSearchCondition condition = new HospitalSearchCondition(null, null, "아보카도", "31");
+
+        //when -- 동작
+        final List<HospitalListDto> first = hospitalService.findChunkAfter(condition, null, 2);
+        final List<HospitalListDto> second = hospitalService.findChunkAfter(condition, first.get(first.size() - 1).id(), 2);
+
+        //then -- 검증
+        Assertions.assertThat(first).hasSize(2);
+        Assertions.assertThat(second).hasSize(1);
+        Assertions.assertThat(second.get(0).id()).isGreaterThan(first.get(1).id());
+    }
+
+    private void saveHiraHospitals() {
+        hospitalBulkRepository.upsertAll(List.of(
+                hiraItem("TEST-LIST-1", "아보카도치과", "230000", "230003"),
+                hiraItem("TEST-LIST-2", "아보카도내과", "230000", "230001"),
+                hiraItem("TEST-LIST-3", "아보카도안과", "110000", "110016")));
+    }
+
+    private HospitalInfoResponse.Item hiraItem(final String ykiho, final String name, final String sidoCd, final String sgguCd) {
+        final HospitalInfoResponse.Item item = new HospitalInfoResponse.Item();
+        item.setYkiho(ykiho);
+        item.setYadmNm(name);
+        item.setClCd("31");
+        item.setSidoCd(sidoCd);
+        item.setSgguCd(sgguCd);
+        return item;
+    }
+}
@@ -0,0 +1,92 @@
+package io.wisoft.capstonedesign.domain.member.application;
+
+import io.wisoft.capstonedesign.domain.board.application.BoardService;
+import io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto;
+import io.wisoft.capstonedesign.domain.pick.web.dto.PickDto;
+import io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto;
+import io.wisoft.capstonedesign.global.pagination.CursorResult;
+import io.wisoft.capstonedesign.setting.common.QueryCounter;
+import io.wisoft.capstonedesign.setting.common.ServiceTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+/**
+ * 목록 DTO 프로젝션은 작성자 닉네임 등을 위해 추가 쿼리를 실행하지 않아야 한다.
+ * (페이지 크기보다 결과가 적으면 count 쿼리도 생략된다.)
+ */
+@Import(QueryCounter.class)
+public class ListProjectionQueryCountTest extends ServiceTest {
+
+    private final PageRequest request = PageRequest.of(0, 20);
+
+    @Autowired QueryCounter queryCounter;
+    @Autowired BoardService boardService;
+    @Autowired MemberMyPageService memberMyPageService;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter.reset();
+    }
+
+    @Test
+    public void 게시글_목록_단일쿼리() throws Exception {
+        //when -- 동작
+        final List<BoardListDto> list = boardService.findListUsingPaging(request).getContent();
+
+        //then -- 검증
+        Assertions.assertThat(list).isNotEmpty();
+        Assertions.assertThat(list).allMatch(dto -> dto.getWriter() != null);
+        Assertions.assertThat(queryCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void 게시글_키셋_목록_단일쿼리() throws Exception {
+        //when -- 동작
+        final CursorResult<BoardListDto> first = boardService.findAllUsingKeyset(null, "", 2);
+        final CursorResult<BoardListDto> next = boardService.findAllUsingKeyset(null, first.next(), 2);
+
+        //then -- 검증
+        Assertions.assertThat(first.data()).hasSize(2);
+        Assertions.assertThat(first.data()).allMatch(dto -> dto.getWriter() != null);
+        Assertions.assertThat(next.data()).isNotEmpty();
+        Assertions.assertThat(queryCounter.count()).isEqualTo(2);
+    }
+
+    @Test
+    public void 자신의_리뷰_목록_단일쿼리() throws Exception {
+        //when -- 동작
+        final List<ReviewListDto> list = memberMyPageService.findReviewListByMemberId(1L, request).getContent();
+
+        //then -- 검증
+        Assertions.assertThat(list.size()).isGreaterThan(1);
+        Assertions.assertThat(list).allMatch(dto -> dto.getWriter() != null);
+        Assertions.assertThat(queryCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void 자신의_게시글_목록_단일쿼리() throws Exception {
+        //when -- 동작
+        final List<BoardListDto> list = memberMyPageService.findBoardListByMemberId(1L, request).getContent();
+
+        //then -- 검증
+        Assertions.assertThat(list.size()).isEqualTo(1);
+        Assertions.assertThat(queryCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void 자신의_찜_목록_단일쿼리() throws Exception {
+        //when -- 동작
+        final List<PickDto> list = memberMyPageService.findPickListByMemberId(1L, request).getContent();
+
+        //then -- 검증
+        Assertions.assertThat(list.size()).isEqualTo(2);
+        Assertions.assertThat(list).allMatch(dto -> dto.getName() != null && dto.getHospital() != null);
+        Assertions.assertThat(queryCounter.count()).isEqualTo(1);
+    }
+}
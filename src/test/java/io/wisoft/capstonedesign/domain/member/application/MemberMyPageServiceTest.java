@@ -1,9 +1,9 @@
 package io.wisoft.capstonedesign.domain.member.application;
 
 import io.wisoft.capstonedesign.domain.appointment.persistence.Appointment;
-import io.wisoft.capstonedesign.domain.board.persistence.Board;
-import io.wisoft.capstonedesign.domain.pick.persistence.Pick;
-import io.wisoft.capstonedesign.domain.review.persistence.Review;
+import io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto;
+import io.wisoft.capstonedesign.domain.pick.web.dto.PickDto;
+import io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto;
 import io.wisoft.capstonedesign.setting.common.ServiceTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -19,12 +19,12 @@ public class MemberMyPageServiceTest extends ServiceTest {
     MemberMyPageService memberMyPageService;
 
     @Test
-    public void findReviewsByMemberIdUsingPaging() throws Exception {
+    public void findReviewListByMemberId() throws Exception {
         //given -- 조건
         final PageRequest request = PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "createdAt"));
 
         //when -- 동작
-        final List<Review> list = memberMyPageService.findReviewsByMemberIdUsingPaging(1L, request)
+        final List<ReviewListDto> list = memberMyPageService.findReviewListByMemberId(1L, request)
                 .getContent();
 
         //then -- 검증
@@ -32,12 +32,12 @@ public class MemberMyPageServiceTest extends ServiceTest {
     }
 
     @Test
-    public void findBoardsByMemberIdUsingPaging() throws Exception {
+    public void findBoardListByMemberId() throws Exception {
         //given
         final PageRequest request = PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "createdAt"));
 
         //when -- 동작
-        final List<Board> list = memberMyPageService.findBoardsByMemberIdUsingPaging(1L, request)
+        final List<BoardListDto> list = memberMyPageService.findBoardListByMemberId(1L, request)
                 .getContent();
 
         //then -- 검증
@@ -57,12 +57,12 @@ public class MemberMyPageServiceTest extends ServiceTest {
     }
 
     @Test
-    public void findPicksByMemberIdUsingPaging() throws Exception {
+    public void findPickListByMemberId() throws Exception {
         //given
         final PageRequest request = PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "createdAt"));
 
         //when -- 동작
-        final List<Pick> list = memberMyPageService.findPicksByMemberIdUsingPaging(1L, request)
+        final List<PickDto> list = memberMyPageService.findPickListByMemberId(1L, request)
                 .getContent();
 
         //then -- 검증
@@ -2,7 +2,6 @@ package io.wisoft.capstonedesign.domain.member.application;
 
 import io.wisoft.capstonedesign.domain.auth.application.AuthService;
 import io.wisoft.capstonedesign.domain.auth.application.EmailServiceImpl;
-import io.wisoft.capstonedesign.domain.auth.persistence.MailAuthenticationRepository;
 import io.wisoft.capstonedesign.domain.auth.web.dto.CertificateMailRequest;
 import io.wisoft.capstonedesign.domain.auth.web.dto.CreateMemberRequest;
 import io.wisoft.capstonedesign.domain.member.persistence.Member;
@@ -21,7 +20,6 @@ public class MemberServiceTest extends ServiceTest {
     @Autowired AuthService authService;
     @Autowired MemberService memberService;
     @Autowired EmailServiceImpl emailService;
-    @Autowired MailAuthenticationRepository mailAuthenticationRepository;
 
 
     @Test
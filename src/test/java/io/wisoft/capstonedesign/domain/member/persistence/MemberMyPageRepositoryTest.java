@@ -1,13 +1,12 @@
 package io.wisoft.capstonedesign.domain.member.persistence;
 
 import io.wisoft.capstonedesign.domain.appointment.persistence.Appointment;
-import io.wisoft.capstonedesign.domain.board.persistence.Board;
-import io.wisoft.capstonedesign.domain.pick.persistence.Pick;
-import io.wisoft.capstonedesign.domain.review.persistence.Review;
+import io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto;
+import io.wisoft.capstonedesign.domain.pick.web.dto.PickDto;
+import io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,34 +22,29 @@ public class MemberMyPageRepositoryTest {
     @Autowired MemberMyPageRepository memberMyPageRepository;
 
     @Test
-    public void findReviewsByMemberIdUsingPaging() throws Exception {
+    public void findReviewListByMemberId() throws Exception {
         //given -- 조건
         final PageRequest request = PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "createdAt"));
 
         //when -- 동작
-        final Page<Review> page = memberMyPageRepository.findReviewsByMemberIdUsingPaging(1L, request);
-        final List<Review> list = page.getContent();
+        final List<ReviewListDto> list = memberMyPageRepository.findReviewListByMemberId(1L, request);
 
         //then -- 검증
         assertThat(list.size()).isGreaterThan(1);
     }
 
     @Test
-    public void findBoardsByMemberIdUsingPaging() throws Exception {
+    public void findBoardListByMemberId() throws Exception {
         //given -- 조건
         final PageRequest request = PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "createdAt"));
 
         //when -- 동작
-        final Page<Board> page = memberMyPageRepository.findBoardsByMemberIdUsingPaging(1L, request);
-        final List<Board> list = page.getContent();
+        final List<BoardListDto> list = memberMyPageRepository.findBoardListByMemberId(1L, request);
+        final long count = memberMyPageRepository.countBoardsByMemberId(1L);
 
         //then -- 검증
         assertThat(list.size()).isEqualTo(1);
-        assertThat(page.getTotalElements()).isEqualTo(1);
-        assertThat(page.getTotalPages()).isEqualTo(1);
-        assertThat(page.getNumber()).isEqualTo(0);
-        assertThat(page.isFirst()).isTrue();
-        assertThat(page.hasNext()).isFalse();
+        assertThat(count).isEqualTo(1);
     }
 
     @Test
@@ -66,20 +60,16 @@ public class MemberMyPageRepositoryTest {
     }
 
     @Test
-    public void findPicksByMemberIdUsingPaging() throws Exception {
+    public void findPickListByMemberId() throws Exception {
         //given -- 조건
         final PageRequest request = PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "createdAt"));
 
         //when -- 동작
-        final Page<Pick> page = memberMyPageRepository.findPicksByMemberIdUsingPaging(1L, request);
-        final List<Pick> list = page.getContent();
+        final List<PickDto> list = memberMyPageRepository.findPickListByMemberId(1L, request);
+        final long count = memberMyPageRepository.countPicksByMemberId(1L);
 
         //then -- 검증
         assertThat(list.size()).isEqualTo(2);
-        assertThat(page.getTotalElements()).isEqualTo(2);
-        assertThat(page.getTotalPages()).isEqualTo(1);
-        assertThat(page.getNumber()).isEqualTo(0);
-        assertThat(page.isFirst()).isTrue();
-        assertThat(page.hasNext()).isFalse();
+        assertThat(count).isEqualTo(2);
     }
 }
\ No newline at end of file
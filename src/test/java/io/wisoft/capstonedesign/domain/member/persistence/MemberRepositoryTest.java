@@ -25,4 +25,45 @@ public class MemberRepositoryTest {
         //then -- 검증
         assertThat(member.getNickname()).isEqualTo("이동엽");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void findByEmail_blind_index() throws Exception {
+        //given -- 조건
+        final Member member = Member.builder()
+                .nickname("blindIndexNickname")
+                .email("blindindex@naver.com")
+                .password("1111")
+                .phoneNumber("0000")
+                .build();
+        memberRepository.save(member);
+
+        //when -- 동작
+        final Member byEmail = memberRepository.findByEmail("blindindex@naver.com").get();
+        final int byNickname = memberRepository.findValidateMemberByNickname("blindIndexNickname").size();
+
+        //then -- 검증
+        assertThat(byEmail.getId()).isEqualTo(member.getId());
+        assertThat(byEmail.getPhoneNumber()).isEqualTo("0000");
+        assertThat(byNickname).isEqualTo(1);
+        assertThat(memberRepository.findByEmail("not_exist@naver.com")).isEmpty();
+    }
+
+    @Test
+    public void save_long_email() throws Exception {
+        //given -- 조건
+        final String email = "a".repeat(244) + "@naver.com";
+        final Member member = Member.builder()
+                .nickname("longEmailNickname")
+                .email(email)
+                .password("1111")
+                .phoneNumber("0000")
+                .build();
+
+        //when -- 동작
+        memberRepository.saveAndFlush(member);
+
+        //then -- 검증
+        assertThat(email).hasSize(254);
+        assertThat(memberRepository.findByEmail(email).get().getId()).isEqualTo(member.getId());
+    }
+}
@@ -1,10 +1,13 @@
 package io.wisoft.capstonedesign.domain.member.persistence;
 
+import io.wisoft.capstonedesign.setting.common.CryptoKeysExtension;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+@ExtendWith(CryptoKeysExtension.class)
 class MemberTest {
 
     @Test
@@ -0,0 +1,139 @@
+package io.wisoft.capstonedesign.domain.payment.application;
+
+import io.wisoft.capstonedesign.domain.appointment.persistence.Appointment;
+import io.wisoft.capstonedesign.domain.appointment.persistence.AppointmentRepository;
+import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
+import io.wisoft.capstonedesign.domain.hospital.persistence.HospitalRepository;
+import io.wisoft.capstonedesign.domain.member.persistence.Member;
+import io.wisoft.capstonedesign.domain.member.persistence.MemberRepository;
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentEntity;
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentOutbox;
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentOutboxRepository;
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentRepository;
+import io.wisoft.capstonedesign.global.enumeration.status.OutboxStatus;
+import io.wisoft.capstonedesign.global.enumeration.status.PayStatus;
+import io.wisoft.capstonedesign.setting.common.IamportStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static io.wisoft.capstonedesign.setting.data.AppointmentTestData.getDefaultAppointment;
+import static io.wisoft.capstonedesign.setting.data.HospitalTestData.getDefaultHospital;
+import static io.wisoft.capstonedesign.setting.data.MemberTestData.getDefaultMember;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 취소 outbox 전달 (PG는 로컬 스텁 서버, 스케줄러는 끄고 dispatch 를 직접 호출)
+ */
+@SpringBootTest
+public class PaymentOutboxDispatcherTest {
+
+    private static final IamportStubServer GATEWAY = IamportStubServer.getInstance();
+
+    @DynamicPropertySource
+    static void gatewayProperties(final DynamicPropertyRegistry registry) {
+        registry.add("iamport.base-url", GATEWAY::baseUrl);
+        registry.add("payment.outbox.enabled", () -> false);
+    }
+
+    @Autowired PaymentOutboxDispatcher paymentOutboxDispatcher;
+    @Autowired PaymentService paymentService;
+    @Autowired PaymentGateway paymentGateway;
+    @Autowired PaymentRepository paymentRepository;
+    @Autowired PaymentOutboxRepository paymentOutboxRepository;
+    @Autowired AppointmentRepository appointmentRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired HospitalRepository hospitalRepository;
+
+    private Member member;
+    private Hospital hospital;
+    private Appointment appointment;
+    private PaymentEntity payment;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(getDefaultMember());
+        hospital = hospitalRepository.save(getDefaultHospital());
+        appointment = appointmentRepository.save(getDefaultAppointment(member, hospital));
+
+        final String impUid = "imp_" + UUID.randomUUID();
+        final PaymentEntity pending = PaymentEntity.pending(
+                appointment, impUid, "merchant_" + impUid, BigDecimal.valueOf(IamportStubServer.DEFAULT_AMOUNT));
+        pending.complete("html5_inicis", "card", "buyer@naver.com", "buyer");
+        payment = paymentRepository.save(pending);
+    }
+
+    @AfterEach
+    void tearDown() {
+        GATEWAY.failNextCancels(0);
+        paymentOutboxRepository.deleteAll(paymentOutboxRepository.findAllByPaymentId(payment.getId()));
+        paymentRepository.deleteById(payment.getId());
+        appointmentRepository.deleteById(appointment.getId());
+        hospitalRepository.deleteById(hospital.getId());
+        memberRepository.deleteById(member.getId());
+    }
+
+    @Test
+    public void 환불_요청은_outbox_를_거쳐_PG에_전달() throws Exception {
+        //given -- 조건
+        paymentService.refund(appointment.getId(), null);
+        final PaymentOutbox ready = outbox();
+        assertThat(ready.getStatus()).isEqualTo(OutboxStatus.READY);
+        assertThat(GATEWAY.canceled()).noneMatch(body -> body.contains(payment.getImpUid()));
+
+        //when -- 동작
+        paymentOutboxDispatcher.dispatch();
+
+        //then -- 검증
+        assertThat(outbox().getStatus()).isEqualTo(OutboxStatus.DONE);
+        assertThat(GATEWAY.canceled()).anyMatch(body -> body.contains(payment.getImpUid()));
+        assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getPayStatus()).isEqualTo(PayStatus.REFUND);
+    }
+
+    @Test
+    public void PG_취소_실패시_backoff_후_재시도() throws Exception {
+        //given -- 조건
+        paymentService.refund(appointment.getId(), null);
+        GATEWAY.failNextCancels(1);
+
+        //when -- 동작
+        paymentOutboxDispatcher.dispatch();
+
+        //then -- 검증
+        final PaymentOutbox retried = outbox();
+        assertThat(retried.getStatus()).isEqualTo(OutboxStatus.READY);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getLastError()).isNotNull();
+        assertThat(retried.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(GATEWAY.canceled()).noneMatch(body -> body.contains(payment.getImpUid()));
+    }
+
+    @Test
+    public void API_토큰은_만료_전까지_재사용() throws Exception {
+        //given -- 조건
+        paymentGateway.accessToken().join();
+        final int issued = GATEWAY.tokenCount();
+
+        //when -- 동작
+        paymentGateway.accessToken().join();
+        paymentGateway.accessToken().join();
+
+        //then -- 검증
+        assertThat(GATEWAY.tokenCount()).isEqualTo(issued);
+    }
+
+    private PaymentOutbox outbox() {
+        final List<PaymentOutbox> outboxes = paymentOutboxRepository.findAllByPaymentId(payment.getId());
+        assertThat(outboxes).hasSize(1);
+        return outboxes.get(0);
+    }
+}
@@ -0,0 +1,179 @@
+package io.wisoft.capstonedesign.domain.payment.application;
+
+import io.wisoft.capstonedesign.domain.appointment.persistence.Appointment;
+import io.wisoft.capstonedesign.domain.appointment.persistence.AppointmentRepository;
+import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
+import io.wisoft.capstonedesign.domain.hospital.persistence.HospitalRepository;
+import io.wisoft.capstonedesign.domain.member.persistence.Member;
+import io.wisoft.capstonedesign.domain.member.persistence.MemberRepository;
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentEntity;
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentOutbox;
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentOutboxRepository;
+import io.wisoft.capstonedesign.domain.payment.persistence.PaymentRepository;
+import io.wisoft.capstonedesign.global.enumeration.status.PayStatus;
+import io.wisoft.capstonedesign.setting.common.IamportStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.wisoft.capstonedesign.setting.data.AppointmentTestData.getDefaultAppointment;
+import static io.wisoft.capstonedesign.setting.data.HospitalTestData.getDefaultHospital;
+import static io.wisoft.capstonedesign.setting.data.MemberTestData.getDefaultMember;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 검증 (PG는 로컬 스텁 서버, 트랜잭션이 실제로 커밋되어야 하므로 ServiceTest를 상속하지 않는다)
+ */
+@SpringBootTest
+public class PaymentVerificationServiceTest {
+
+    private static final IamportStubServer GATEWAY = IamportStubServer.getInstance();
+    private static final long REQUEST_TIMEOUT_MILLIS = 500;
+
+    @DynamicPropertySource
+    static void gatewayProperties(final DynamicPropertyRegistry registry) {
+        registry.add("iamport.base-url", GATEWAY::baseUrl);
+        registry.add("iamport.request-timeout-ms", () -> REQUEST_TIMEOUT_MILLIS);
+    }
+
+    @Autowired PaymentVerificationService paymentVerificationService;
+    @Autowired PaymentRepository paymentRepository;
+    @Autowired PaymentOutboxRepository paymentOutboxRepository;
+    @Autowired AppointmentRepository appointmentRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired HospitalRepository hospitalRepository;
+
+    private final List<String> impUids = new ArrayList<>();
+    private Member member;
+    private Hospital hospital;
+    private Appointment appointment;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(getDefaultMember());
+        hospital = hospitalRepository.save(getDefaultHospital());
+        appointment = appointmentRepository.save(getDefaultAppointment(member, hospital));
+    }
+
+    @AfterEach
+    void tearDown() {
+        impUids.forEach(impUid -> paymentRepository.findByImpUid(impUid).ifPresent(payment -> {
+            paymentOutboxRepository.deleteAll(paymentOutboxRepository.findAllByPaymentId(payment.getId()));
+            paymentRepository.delete(payment);
+        }));
+        appointmentRepository.deleteById(appointment.getId());
+        hospitalRepository.deleteById(hospital.getId());
+        memberRepository.deleteById(member.getId());
+    }
+
+    @Test
+    public void 결제_검증_성공() throws Exception {
+        //given -- 조건
+        final String impUid = givenPayment("paid", 0);
+
+        //when -- 동작
+        final PaymentResult result = verify(impUid);
+
+        //then -- 검증
+        assertThat(result.payStatus()).isEqualTo(PayStatus.COMPLETED);
+        assertThat(appointmentRepository.findById(appointment.getId()).orElseThrow().getPayStatus())
+                .isEqualTo(PayStatus.COMPLETED);
+    }
+
+    @Test
+    public void 중복_콜백은_한번만_검증() throws Exception {
+        //given -- 조건
+        final String impUid = givenPayment("paid", 200);
+
+        //when -- 동작
+        final List<CompletableFuture<PaymentResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> paymentVerificationService
+                    .verify(appointment.getId(), impUid, merchantUid(impUid)).join()));
+        }
+        final List<PaymentResult> results = futures.stream().map(CompletableFuture::join).toList();
+        final PaymentResult retried = verify(impUid);
+
+        //then -- 검증
+        assertThat(results).extracting(PaymentResult::paymentId).containsOnly(retried.paymentId());
+        assertThat(results).extracting(PaymentResult::payStatus).containsOnly(PayStatus.COMPLETED);
+        assertThat(GATEWAY.lookupCount(impUid)).isEqualTo(1);
+    }
+
+    @Test
+    public void PG_응답_지연시_대기_상태로_남김() throws Exception {
+        //given -- 조건
+        final String impUid = givenPayment("paid", REQUEST_TIMEOUT_MILLIS * 3);
+
+        //when -- 동작
+        final PaymentResult result = verify(impUid);
+
+        //then -- 검증
+        assertThat(result.payStatus()).isEqualTo(PayStatus.PENDING);
+        assertThat(appointmentRepository.findById(appointment.getId()).orElseThrow().getPayStatus())
+                .isEqualTo(PayStatus.NONE);
+    }
+
+    @Test
+    public void 미결제_상태면_실패() throws Exception {
+        //given -- 조건
+        final String impUid = givenPayment("ready", 0);
+
+        //when -- 동작
+        final PaymentResult result = verify(impUid);
+
+        //then -- 검증
+        assertThat(result.payStatus()).isEqualTo(PayStatus.FAILED);
+        assertThat(appointmentRepository.findById(appointment.getId()).orElseThrow().getPayStatus())
+                .isEqualTo(PayStatus.NONE);
+    }
+
+    @Test
+    public void 결제_금액이_예약금과_다르면_실패_후_취소() throws Exception {
+        //given -- 조건
+        final String impUid = givenPayment("paid", IamportStubServer.DEFAULT_AMOUNT - 900, 0);
+
+        //when -- 동작
+        final PaymentResult result = verify(impUid);
+
+        //then -- 검증
+        assertThat(result.payStatus()).isEqualTo(PayStatus.FAILED);
+        assertThat(appointmentRepository.findById(appointment.getId()).orElseThrow().getPayStatus())
+                .isEqualTo(PayStatus.NONE);
+
+        final PaymentEntity payment = paymentRepository.findByImpUid(impUid).orElseThrow();
+        assertThat(paymentOutboxRepository.findAllByPaymentId(payment.getId()))
+                .extracting(PaymentOutbox::getImpUid)
+                .containsExactly(impUid);
+    }
+
+    private String givenPayment(final String status, final long delayMillis) {
+        return givenPayment(status, IamportStubServer.DEFAULT_AMOUNT, delayMillis);
+    }
+
+    private String givenPayment(final String status, final long amount, final long delayMillis) {
+        final String impUid = "imp_" + UUID.randomUUID();
+        GATEWAY.givenPayment(impUid, merchantUid(impUid), status, amount, delayMillis);
+        impUids.add(impUid);
+        return impUid;
+    }
+
+    private String merchantUid(final String impUid) {
+        return "merchant_" + impUid;
+    }
+
+    private PaymentResult verify(final String impUid) throws Exception {
+        return paymentVerificationService.verify(appointment.getId(), impUid, merchantUid(impUid))
+                .get(5, TimeUnit.SECONDS);
+    }
+}
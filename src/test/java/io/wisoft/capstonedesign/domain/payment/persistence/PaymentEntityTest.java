@@ -1,10 +1,18 @@
 package io.wisoft.capstonedesign.domain.payment.persistence;
 
 import io.wisoft.capstonedesign.global.enumeration.status.PayStatus;
+import io.wisoft.capstonedesign.setting.common.CryptoKeysExtension;
 import org.assertj.core.api.Assertions;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import java.math.BigDecimal;
 
+import static io.wisoft.capstonedesign.setting.data.AppointmentTestData.getDefaultAppointment;
+import static io.wisoft.capstonedesign.setting.data.HospitalTestData.getDefaultHospital;
+import static io.wisoft.capstonedesign.setting.data.MemberTestData.getDefaultMember;
+
+@ExtendWith(CryptoKeysExtension.class)
 class PaymentEntityTest {
 
     @Test
@@ -19,6 +27,33 @@ class PaymentEntityTest {
         Assertions.assertThat(payment.getPayStatus()).isEqualTo(PayStatus.REFUND);
     }
 
+    @Test
+    public void pending_complete() throws Exception {
+        //given -- 조건
+        final PaymentEntity payment = PaymentEntity.pending(getDefaultAppointment(getDefaultMember(), getDefaultHospital()), "imp_uid", "merchant_uid", BigDecimal.valueOf(1000));
+
+        //when -- 동작
+        payment.complete("pg", "card", "buyerEmail", "buyerName");
+
+        //then -- 검증
+        Assertions.assertThat(payment.getImpUid()).isEqualTo("imp_uid");
+        Assertions.assertThat(payment.getPayStatus()).isEqualTo(PayStatus.COMPLETED);
+        Assertions.assertThat(payment.getPaymentMethod()).isEqualTo("card");
+    }
+
+    @Test
+    public void pending_fail() throws Exception {
+        //given -- 조건
+        final PaymentEntity payment = PaymentEntity.pending(getDefaultAppointment(getDefaultMember(), getDefaultHospital()), "imp_uid", "merchant_uid", BigDecimal.valueOf(1000));
+
+        //when -- 동작
+        payment.fail();
+
+        //then -- 검증
+        Assertions.assertThat(payment.isPending()).isFalse();
+        Assertions.assertThat(payment.getPayStatus()).isEqualTo(PayStatus.FAILED);
+    }
+
     @NotNull
     private static PaymentEntity getPaymentEntity() {
         final PaymentEntity payment = PaymentEntity.createPaymentEntity(
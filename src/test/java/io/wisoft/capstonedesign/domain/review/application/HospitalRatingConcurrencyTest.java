@@ -0,0 +1,78 @@
+package io.wisoft.capstonedesign.domain.review.application;
+
+import io.wisoft.capstonedesign.domain.review.persistence.HospitalRating;
+import io.wisoft.capstonedesign.domain.review.persistence.HospitalRatingRepository;
+import io.wisoft.capstonedesign.domain.review.persistence.Review;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static io.wisoft.capstonedesign.setting.data.MemberTestData.getDefaultMember;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 (병원, 병과)의 첫 리뷰 동시 작성 (트랜잭션이 실제로 커밋되어야 하므로 ServiceTest를 상속하지 않는다)
+ */
+@SpringBootTest
+public class HospitalRatingConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 10;
+    private static final HospitalDept DEPT = HospitalDept.DENTAL;
+
+    @Autowired HospitalRatingService hospitalRatingService;
+    @Autowired HospitalRatingRepository hospitalRatingRepository;
+
+    private final String targetHospital = "동시리뷰병원_" + UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        hospitalRatingRepository.deleteAll(hospitalRatingRepository.findByTargetHospital(targetHospital));
+    }
+
+    @Test
+    public void 첫_리뷰_동시_작성시_집계_한건() throws Exception {
+        //given -- 조건
+        final ExecutorService executor = Executors.newFixedThreadPool(REQUEST_COUNT);
+        final CountDownLatch ready = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        //when -- 동작
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                hospitalRatingService.addReview(getReview(5));
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then -- 검증
+        final List<HospitalRating> ratings = hospitalRatingRepository.findByTargetHospital(targetHospital);
+        assertThat(ratings).hasSize(1);
+        assertThat(ratings.get(0).getReviewCount()).isEqualTo(REQUEST_COUNT);
+        assertThat(ratings.get(0).getHistogram()[4]).isEqualTo(REQUEST_COUNT);
+    }
+
+    private Review getReview(final int starPoint) {
+        return Review.builder()
+                .member(getDefaultMember())
+                .title("친절해요")
+                .body("자세히 진료해줘요")
+                .starPoint(starPoint)
+                .target_hospital(targetHospital)
+                .targetDept(DEPT)
+                .reviewPhotoPath("사진_링크")
+                .build();
+    }
+}
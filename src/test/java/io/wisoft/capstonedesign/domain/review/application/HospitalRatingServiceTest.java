@@ -0,0 +1,101 @@
+package io.wisoft.capstonedesign.domain.review.application;
+
+import io.wisoft.capstonedesign.domain.member.persistence.Member;
+import io.wisoft.capstonedesign.domain.review.persistence.HospitalRating;
+import io.wisoft.capstonedesign.domain.review.web.dto.CreateReviewRequest;
+import io.wisoft.capstonedesign.domain.review.web.dto.HospitalRatingDto;
+import io.wisoft.capstonedesign.global.enumeration.HospitalDept;
+import io.wisoft.capstonedesign.setting.common.ServiceTest;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static io.wisoft.capstonedesign.setting.data.MemberTestData.getDefaultMember;
+
+public class HospitalRatingServiceTest extends ServiceTest {
+
+    private static final String HOSPITAL_NAME = "서울대병원";
+
+    @Autowired EntityManager em;
+    @Autowired ReviewService reviewService;
+    @Autowired HospitalRatingService hospitalRatingService;
+
+    @Test
+    public void 리뷰작성시_별점집계_반영() throws Exception {
+        //given -- 조건
+        final Member member = getDefaultMember();
+        em.persist(member);
+
+        final HospitalRatingDto before = findRating();
+
+        //when -- 동작
+        reviewService.save(getCreateReviewRequest(member, 5));
+        reviewService.save(getCreateReviewRequest(member, 3));
+
+        //then -- 검증
+        final HospitalRatingDto after = findRating();
+
+        Assertions.assertThat(after.getReviewCount()).isEqualTo(before.getReviewCount() + 2);
+        Assertions.assertThat(after.getHistogram()[4]).isEqualTo(before.getHistogram()[4] + 1);
+        Assertions.assertThat(after.getHistogram()[2]).isEqualTo(before.getHistogram()[2] + 1);
+    }
+
+    @Test
+    public void 리뷰삭제시_별점집계_반영() throws Exception {
+        //given -- 조건
+        final Member member = getDefaultMember();
+        em.persist(member);
+
+        final Long saveId = reviewService.save(getCreateReviewRequest(member, 4));
+        final HospitalRatingDto before = findRating();
+
+        //when -- 동작
+        reviewService.deleteReview(saveId);
+
+        //then -- 검증
+        final HospitalRatingDto after = findRating();
+
+        Assertions.assertThat(after.getReviewCount()).isEqualTo(before.getReviewCount() - 1);
+        Assertions.assertThat(after.getHistogram()[3]).isEqualTo(before.getHistogram()[3] - 1);
+    }
+
+    @Test
+    public void 별점평균_계산() throws Exception {
+        //given -- 조건
+        final HospitalRating hospitalRating = HospitalRating.builder()
+                .targetHospital("별점평균병원")
+                .targetDept(HospitalDept.DENTAL)
+                .build();
+
+        //when -- 동작
+        hospitalRating.addReview(5);
+        hospitalRating.addReview(4);
+        hospitalRating.addReviews(1, 2);
+
+        //then -- 검증
+        final HospitalRatingDto dto = new HospitalRatingDto("별점평균병원", List.of(hospitalRating));
+
+        Assertions.assertThat(dto.getReviewCount()).isEqualTo(4);
+        Assertions.assertThat(dto.getAverageStarPoint()).isEqualTo(2.8);
+        Assertions.assertThat(dto.getHistogram()).containsExactly(2, 0, 0, 1, 1);
+    }
+
+    private HospitalRatingDto findRating() {
+        return new HospitalRatingDto(HOSPITAL_NAME, hospitalRatingService.findByTargetHospital(HOSPITAL_NAME));
+    }
+
+    private CreateReviewRequest getCreateReviewRequest(final Member member, final int starPoint) {
+        return new CreateReviewRequest(
+                member.getId(),
+                "친절해요",
+                "자세히 진료해줘요",
+                starPoint,
+                HOSPITAL_NAME,
+                "DENTAL",
+                "사진_링크"
+        );
+    }
+}
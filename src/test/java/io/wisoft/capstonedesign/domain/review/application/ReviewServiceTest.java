@@ -2,6 +2,7 @@ package io.wisoft.capstonedesign.domain.review.application;
 
 import io.wisoft.capstonedesign.domain.member.persistence.Member;
 import io.wisoft.capstonedesign.domain.review.persistence.Review;
+import io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto;
 import io.wisoft.capstonedesign.domain.review.web.dto.CreateReviewRequest;
 import io.wisoft.capstonedesign.domain.review.web.dto.UpdateReviewRequest;
 import io.wisoft.capstonedesign.global.enumeration.status.ReviewStatus;
@@ -162,8 +163,8 @@ public class ReviewServiceTest extends ServiceTest {
         final PageRequest request = PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "createdAt"));
 
         //when -- 동작
-        final Page<Review> page = reviewService.findByTargetHospital("을지대학병원", request);
-        final List<Review> list = page.getContent();
+        final Page<ReviewListDto> page = reviewService.findListByTargetHospital("을지대학병원", request);
+        final List<ReviewListDto> list = page.getContent();
 
         //then -- 검증
         Assertions.assertThat(list.size()).isEqualTo(1);
@@ -186,7 +187,7 @@ public class ReviewServiceTest extends ServiceTest {
         //when -- 동작
         //then -- 검증
         assertThrows(NotFoundException.class, () -> {
-            reviewService.findByTargetHospital("아보카두두병원", request);
+            reviewService.findListByTargetHospital("아보카두두병원", request);
         });
     }
 
@@ -1,9 +1,9 @@
 package io.wisoft.capstonedesign.domain.review.persistence;
 
+import io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,8 +25,7 @@ public class ReviewRepositoryTest {
         final PageRequest request = PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "createdAt"));
 
         //when -- 동작
-        final Page<Review> page = reviewRepository.findByUsingPaging(request);
-        final List<Review> content = page.getContent();
+        final List<ReviewListDto> content = reviewRepository.findListUsingPaging(request);
 
         //then -- 검증
         assertThat(content.size()).isGreaterThan(1); //콘텐트 사이즈
@@ -0,0 +1,69 @@
+package io.wisoft.capstonedesign.domain.search.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramTokenizerTest {
+
+    @Test
+    @DisplayName("글자/숫자 구간을 2글자 단위로 잘라야 한다.")
+    void queryTokens() {
+
+        // when
+        final Set<String> tokens = NgramTokenizer.queryTokens("정형외과 추천!");
+
+        // then
+        assertThat(tokens).containsExactly("정형", "형외", "외과", "추천");
+    }
+
+    @Test
+    @DisplayName("한 글자 단어는 그대로, 영문은 소문자로 토큰화해야 한다.")
+    void queryTokens_single_and_lower_case() {
+
+        // when
+        final Set<String> tokens = NgramTokenizer.queryTokens("눈 MRI");
+
+        // then
+        assertThat(tokens).containsExactly("눈", "mr", "ri");
+    }
+
+    @Test
+    @DisplayName("색인 토큰은 등장 횟수를 함께 세어야 한다.")
+    void tokenize() {
+
+        // when
+        final Map<String, Integer> tokens = NgramTokenizer.tokenize("허리 통증, 허리 디스크");
+
+        // then
+        assertThat(tokens).containsEntry("허리", 2)
+                .containsEntry("통증", 1)
+                .containsEntry("디스", 1)
+                .containsEntry("스크", 1);
+    }
+
+    @Test
+    @DisplayName("두 글자 이상 단어는 글자 하나씩 색인하지 않고, 한 글자 단어만 그대로 색인해야 한다.")
+    void tokenize_no_unigram() {
+
+        // when
+        final Map<String, Integer> tokens = NgramTokenizer.tokenize("정형외과 눈");
+
+        // then
+        assertThat(tokens).containsOnlyKeys("정형", "형외", "외과", "눈");
+        assertThat(tokens).containsEntry("눈", 1);
+    }
+
+    @Test
+    @DisplayName("공백이나 기호만 있으면 토큰이 없어야 한다.")
+    void queryTokens_empty() {
+
+        // expected
+        assertThat(NgramTokenizer.queryTokens("  !? ")).isEmpty();
+        assertThat(NgramTokenizer.tokenize(null)).isEmpty();
+    }
+}
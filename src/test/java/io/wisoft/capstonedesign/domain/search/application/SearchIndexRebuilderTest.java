@@ -0,0 +1,78 @@
+package io.wisoft.capstonedesign.domain.search.application;
+
+import io.wisoft.capstonedesign.domain.board.application.BoardService;
+import io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto;
+import io.wisoft.capstonedesign.domain.board.web.dto.CreateBoardRequest;
+import io.wisoft.capstonedesign.domain.member.persistence.Member;
+import io.wisoft.capstonedesign.domain.review.application.ReviewService;
+import io.wisoft.capstonedesign.domain.review.web.dto.CreateReviewRequest;
+import io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto;
+import io.wisoft.capstonedesign.domain.search.persistence.SearchTokenRepository;
+import io.wisoft.capstonedesign.setting.common.ServiceTest;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static io.wisoft.capstonedesign.setting.data.MemberTestData.getDefaultMember;
+
+public class SearchIndexRebuilderTest extends ServiceTest {
+
+    @Autowired EntityManager em;
+    @Autowired SearchIndexRebuilder searchIndexRebuilder;
+    @Autowired SearchTokenRepository searchTokenRepository;
+    @Autowired SearchService searchService;
+    @Autowired BoardService boardService;
+    @Autowired ReviewService reviewService;
+
+    @Test
+    public void 토크나이저_버전이_다르면_색인_재생성() throws Exception {
+        //given -- 조건
+        final Member member = getDefaultMember();
+        em.persist(member);
+
+        final Long boardId = saveBoard(member, "아보카도검진 후기", "본문");
+        final Long reviewId = reviewService.save(new CreateReviewRequest(
+                member.getId(), "친절해요", "아보카도대기실이 넓었습니다", 5, "서울대병원", "DENTAL", "path"));
+
+        searchTokenRepository.deleteAll();
+        searchTokenRepository.saveTokenizerVersion(NgramTokenizer.VERSION - 1);
+
+        //when -- 동작
+        searchIndexRebuilder.rebuildIfOutdated();
+
+        //then -- 검증
+        Assertions.assertThat(searchTokenRepository.findTokenizerVersion()).isEqualTo(NgramTokenizer.VERSION);
+        Assertions.assertThat(searchService.searchBoards("아보카도검진", null, 10).data())
+                .extracting(BoardListDto::getId).containsExactly(boardId);
+        Assertions.assertThat(searchService.searchReviews("아보카도대기실", null, 10).data())
+                .extracting(ReviewListDto::getId).containsExactly(reviewId);
+    }
+
+
+    @Test
+    public void 토크나이저_버전이_같으면_색인_유지() throws Exception {
+        //given -- 조건
+        final Member member = getDefaultMember();
+        em.persist(member);
+
+        saveBoard(member, "아보카도검진 후기", "본문");
+        searchTokenRepository.deleteAll();
+        searchTokenRepository.saveTokenizerVersion(NgramTokenizer.VERSION);
+
+        //when -- 동작
+        searchIndexRebuilder.rebuildIfOutdated();
+
+        //then -- 검증
+        Assertions.assertThat(searchService.searchBoards("아보카도검진", null, 10).data()).isEmpty();
+    }
+
+    private Long saveBoard(final Member member, final String title, final String body) {
+        return boardService.save(CreateBoardRequest.builder()
+                .memberId(member.getId())
+                .title(title)
+                .body(body)
+                .dept("OBSTETRICS")
+                .build());
+    }
+}
@@ -0,0 +1,151 @@
+package io.wisoft.capstonedesign.domain.search.application;
+
+import io.wisoft.capstonedesign.domain.board.application.BoardService;
+import io.wisoft.capstonedesign.domain.board.web.dto.BoardListDto;
+import io.wisoft.capstonedesign.domain.board.web.dto.CreateBoardRequest;
+import io.wisoft.capstonedesign.domain.board.web.dto.UpdateBoardRequest;
+import io.wisoft.capstonedesign.domain.member.persistence.Member;
+import io.wisoft.capstonedesign.domain.review.application.ReviewService;
+import io.wisoft.capstonedesign.domain.review.web.dto.CreateReviewRequest;
+import io.wisoft.capstonedesign.domain.review.web.dto.ReviewListDto;
+import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
+import io.wisoft.capstonedesign.global.pagination.CursorResult;
+import io.wisoft.capstonedesign.setting.common.ServiceTest;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static io.wisoft.capstonedesign.setting.data.MemberTestData.getDefaultMember;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SearchServiceTest extends ServiceTest {
+
+    @Autowired EntityManager em;
+    @Autowired SearchService searchService;
+    @Autowired BoardService boardService;
+    @Autowired ReviewService reviewService;
+
+    @Test
+    public void 게시글_검색_제목_가중치_순() throws Exception {
+        //given -- 조건
+        final Member member = getDefaultMember();
+        em.persist(member);
+
+        final Long bodyHitId = saveBoard(member, "질문 있습니다", "아보카도검진 결과가 궁금합니다");
+        final Long titleHitId = saveBoard(member, "아보카도검진 후기", "오늘 다녀왔습니다");
+        saveBoard(member, "다른 글", "관련 없는 본문");
+
+        //when -- 동작
+        final CursorResult<BoardListDto> result = searchService.searchBoards("아보카도검진", null, 10);
+
+        //then -- 검증
+        Assertions.assertThat(result.data()).extracting(BoardListDto::getId).containsExactly(titleHitId, bodyHitId);
+        Assertions.assertThat(result.hasNext()).isFalse();
+    }
+
+
+    @Test
+    public void 게시글_검색_커서_페이징() throws Exception {
+        //given -- 조건
+        final Member member = getDefaultMember();
+        em.persist(member);
+
+        for (int i = 0; i < 3; i++) {
+            saveBoard(member, "아보카도검진 " + i, "본문");
+        }
+
+        //when -- 동작
+        final CursorResult<BoardListDto> first = searchService.searchBoards("아보카도검진", null, 2);
+        final CursorResult<BoardListDto> second = searchService.searchBoards("아보카도검진", first.next(), 2);
+
+        //then -- 검증
+        Assertions.assertThat(first.data()).hasSize(2);
+        Assertions.assertThat(first.hasNext()).isTrue();
+        Assertions.assertThat(second.data()).hasSize(1);
+        Assertions.assertThat(second.hasNext()).isFalse();
+        Assertions.assertThat(second.data().get(0).getId()).isLessThan(first.data().get(1).getId());
+    }
+
+
+    @Test
+    public void 게시글_수정_삭제_색인_반영() throws Exception {
+        //given -- 조건
+        final Member member = getDefaultMember();
+        em.persist(member);
+
+        final Long updatedId = saveBoard(member, "아보카도검진 후기", "본문");
+        final Long deletedId = saveBoard(member, "아보카도검진 질문", "본문");
+
+        //when -- 동작
+        boardService.updateTitleBody(updatedId, new UpdateBoardRequest("바나나검진 후기", "본문"));
+        boardService.deleteBoard(deletedId);
+
+        //then -- 검증
+        Assertions.assertThat(searchService.searchBoards("아보카도검진", null, 10).data()).isEmpty();
+        Assertions.assertThat(searchService.searchBoards("바나나검진", null, 10).data())
+                .extracting(BoardListDto::getId).containsExactly(updatedId);
+    }
+
+
+    @Test
+    public void 리뷰_검색() throws Exception {
+        //given -- 조건
+        final Member member = getDefaultMember();
+        em.persist(member);
+
+        final Long reviewId = reviewService.save(new CreateReviewRequest(
+                member.getId(), "친절해요", "아보카도대기실이 넓었습니다", 5, "서울대병원", "DENTAL", "path"));
+
+        //when -- 동작
+        final CursorResult<ReviewListDto> result = searchService.searchReviews("아보카도대기실", null, 10);
+
+        //then -- 검증
+        Assertions.assertThat(result.data()).extracting(ReviewListDto::getId).containsExactly(reviewId);
+    }
+
+
+    @Test
+    public void 한_글자_검색() throws Exception {
+        //given -- 조건
+        final String query = " 눈 ";
+
+        //when -- 동작
+        //then -- 검증
+        final IllegalValueException exception =
+                assertThrows(IllegalValueException.class, () -> searchService.searchBoards(query, null, 10));
+        Assertions.assertThat(exception.getMessage()).contains("2 ~ 20자");
+    }
+
+
+    @Test
+    public void 검색어_글자수_초과() throws Exception {
+        //given -- 조건
+        final String query = "가".repeat(21);
+
+        //when -- 동작
+        //then -- 검증
+        final IllegalValueException exception =
+                assertThrows(IllegalValueException.class, () -> searchService.searchBoards(query, null, 10));
+        Assertions.assertThat(exception.getMessage()).contains("20자");
+    }
+
+
+    @Test
+    public void 검색어_없음() throws Exception {
+        //given -- 조건
+
+        //when -- 동작
+        //then -- 검증
+        assertThrows(IllegalValueException.class, () -> searchService.searchBoards(" !? ", null, 10));
+    }
+
+    private Long saveBoard(final Member member, final String title, final String body) {
+        return boardService.save(CreateBoardRequest.builder()
+                .memberId(member.getId())
+                .title(title)
+                .body(body)
+                .dept("OBSTETRICS")
+                .build());
+    }
+}
@@ -2,7 +2,6 @@ package io.wisoft.capstonedesign.domain.staff.application;
 
 import io.wisoft.capstonedesign.domain.auth.application.AuthService;
 import io.wisoft.capstonedesign.domain.auth.application.EmailServiceImpl;
-import io.wisoft.capstonedesign.domain.auth.persistence.MailAuthenticationRepository;
 import io.wisoft.capstonedesign.domain.auth.web.dto.CertificateMailRequest;
 import io.wisoft.capstonedesign.domain.auth.web.dto.CreateStaffRequest;
 import io.wisoft.capstonedesign.domain.hospital.persistence.Hospital;
@@ -25,7 +24,6 @@ public class StaffServiceTest extends ServiceTest {
     @Autowired StaffService staffService;
     @Autowired AuthService authService;
     @Autowired EmailServiceImpl emailService;
-    @Autowired MailAuthenticationRepository mailAuthenticationRepository;
 
 
     @Test
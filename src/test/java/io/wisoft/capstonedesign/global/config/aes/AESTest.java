@@ -1,10 +1,16 @@
 package io.wisoft.capstonedesign.global.config.aes;
 
+import io.wisoft.capstonedesign.setting.common.CryptoKeysExtension;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+@ExtendWith(CryptoKeysExtension.class)
 class AESTest {
 
     private final String plainText = "plainText";
@@ -36,4 +42,107 @@ class AESTest {
         // then
         assertThat(decrypted).isEqualTo(plainText);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("버전 포맷으로 암호화한 문자는 복호화하면 암호화 전의 문자열과 동일해야 한다.")
+    void encryptVersioned() {
+
+        // given
+        final String encrypted = AES.encryptVersioned(plainText);
+
+        // when
+        final String decrypted = AES.decryptString(encrypted);
+
+        // then
+        assertThat(AES.isVersioned(encrypted)).isTrue();
+        assertThat(decrypted).isEqualTo(plainText);
+    }
+
+    @Test
+    @DisplayName("버전 포맷은 같은 평문이라도 매번 다른 암호문이 나와야 한다.")
+    void encryptVersioned_random_iv() {
+
+        // given
+
+        // when
+        final String first = AES.encryptVersioned(plainText);
+        final String second = AES.encryptVersioned(plainText);
+
+        // then
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("레거시 포맷은 같은 평문이면 같은 암호문이 나와야 하고 버전 포맷으로 인식되지 않아야 한다.")
+    void encryptString_deterministic() {
+
+        // given
+
+        // when
+        final String first = AES.encryptString(plainText);
+        final String second = AES.encryptString(plainText);
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(AES.isVersioned(first)).isFalse();
+    }
+
+    @Test
+    @DisplayName("변조된 버전 포맷 암호문은 복호화되지 않아야 한다.")
+    void decryptString_tampered() {
+
+        // given
+        final String encrypted = AES.encryptVersioned(plainText);
+        final char last = encrypted.charAt(encrypted.length() - 1);
+        final String tampered = encrypted.substring(0, encrypted.length() - 1) + (last == '0' ? '1' : '0');
+
+        // when
+        final String decrypted = AES.decryptString(tampered);
+
+        // then
+        assertThat(decrypted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 길이의 이메일을 버전 포맷으로 암호화해도 암호문 컬럼 길이를 넘지 않아야 한다.")
+    void encryptVersioned_column_length() {
+
+        // given
+        final String email = "a".repeat(244) + "@naver.com";
+
+        // when
+        final String encrypted = AES.encryptVersioned(email);
+
+        // then
+        assertThat(encrypted.length()).isLessThanOrEqualTo(AES.ENCRYPTED_COLUMN_LENGTH);
+        assertThat(AES.encryptString(email).length()).isLessThanOrEqualTo(AES.ENCRYPTED_COLUMN_LENGTH);
+    }
+
+    @Test
+    @DisplayName("버전 포맷 키는 16, 24, 32byte 중 하나여야 한다.")
+    void configure_invalid_key_length() {
+
+        // given
+        final Map<Character, String> keys = Map.of('2', "short-key");
+
+        // when
+
+        // then
+        assertThatThrownBy(() -> AES.configure(keys, '2'))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("current-key-id에 해당하는 키가 없으면 설정할 수 없다.")
+    void configure_unknown_current_key_id() {
+
+        // given
+        final Map<Character, String> keys = Map.of('2', "unit-test-aes-key-00000000000002");
+
+        // when
+
+        // then
+        assertThatThrownBy(() -> AES.configure(keys, '3'))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
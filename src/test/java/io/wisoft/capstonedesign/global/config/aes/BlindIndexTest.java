@@ -0,0 +1,57 @@
+package io.wisoft.capstonedesign.global.config.aes;
+
+import io.wisoft.capstonedesign.setting.common.CryptoKeysExtension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(CryptoKeysExtension.class)
+class BlindIndexTest {
+
+    @Test
+    @DisplayName("같은 평문은 항상 같은 블라인드 인덱스를 만들어야 한다.")
+    void hash_deterministic() {
+
+        // given
+        final String email = "test@naver.com";
+
+        // when
+        final String first = BlindIndex.hash(email);
+        final String second = BlindIndex.hash(email);
+
+        // then
+        assertThat(first).isEqualTo(second).hasSize(64);
+        assertThat(first).isNotEqualTo(email);
+    }
+
+    @Test
+    @DisplayName("다른 평문은 다른 블라인드 인덱스를 만들어야 한다.")
+    void hash_different() {
+
+        // given
+
+        // when
+        final String first = BlindIndex.hash("test1@naver.com");
+        final String second = BlindIndex.hash("test2@naver.com");
+
+        // then
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("32byte 보다 짧은 키로는 블라인드 인덱스를 설정할 수 없다.")
+    void configure_short_key() {
+
+        // given
+        final String shortKey = "short-key";
+
+        // when
+
+        // then
+        assertThatThrownBy(() -> BlindIndex.configure(shortKey))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
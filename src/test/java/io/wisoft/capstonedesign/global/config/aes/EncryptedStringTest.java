@@ -0,0 +1,44 @@
+package io.wisoft.capstonedesign.global.config.aes;
+
+import io.wisoft.capstonedesign.setting.common.CryptoKeysExtension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(CryptoKeysExtension.class)
+class EncryptedStringTest {
+
+    private final String plainText = "plainText";
+
+    @Test
+    @DisplayName("암호문으로 만든 값은 평문을 읽을 때 복호화되어야 한다.")
+    void plainText_lazy_decrypt() {
+
+        // given
+        final String cipherText = AES.encryptString(plainText);
+
+        // when
+        final EncryptedString encrypted = EncryptedString.fromCipherText(cipherText);
+
+        // then
+        assertThat(encrypted.cipherText()).isEqualTo(cipherText);
+        assertThat(encrypted.plainText()).isEqualTo(plainText);
+    }
+
+    @Test
+    @DisplayName("같은 평문으로 만든 값은 암호문 기준으로 동등해야 한다.")
+    void equals_by_cipherText() {
+
+        // given
+        final EncryptedString fromPlain = EncryptedString.fromPlainText(plainText);
+
+        // when
+        final EncryptedString fromCipher = EncryptedString.fromCipherText(fromPlain.cipherText());
+
+        // then
+        assertThat(fromCipher).isEqualTo(fromPlain);
+        assertThat(fromCipher.toString()).doesNotContain(plainText);
+    }
+}
@@ -28,4 +28,19 @@ public class BCryptEncoderTest {
         Assertions.assertThat(result.length()).isEqualTo(60);
         Assertions.assertThat(result.startsWith("$2a$10$")).isTrue();
     }
-}
\ No newline at end of file
+
+
+    @Test
+    @DisplayName("설정된 cost보다 낮은 해시는 다시 해시해야 한다.")
+    public void needsRehash() throws Exception {
+        //given -- 조건
+        final String hashed = encryptHelper.encrypt("1234");
+        final BCryptEncoder upgradedEncoder = new BCryptEncoder(12);
+
+        //when -- 동작
+        //then -- 검증
+        Assertions.assertThat(encryptHelper.needsRehash(hashed)).isFalse();
+        Assertions.assertThat(upgradedEncoder.needsRehash(hashed)).isTrue();
+        Assertions.assertThat(upgradedEncoder.needsRehash("plain-text")).isTrue();
+    }
+}
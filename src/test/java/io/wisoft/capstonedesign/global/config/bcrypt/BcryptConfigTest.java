@@ -0,0 +1,55 @@
+package io.wisoft.capstonedesign.global.config.bcrypt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BcryptConfigTest {
+
+    @Test
+    @DisplayName("max-pending을 지정하지 않으면 워커 절반에서 해시 스레드 수를 뺀 만큼 대기해야 한다.")
+    void maxPending_default() {
+
+        // when
+        final int maxPending = BcryptConfig.maxPending(-1, 4, 64);
+
+        // then
+        assertThat(maxPending).isEqualTo(28);
+    }
+
+    @Test
+    @DisplayName("지정한 max-pending이 워커 기준 상한을 넘으면 상한으로 줄여야 한다.")
+    void maxPending_limit() {
+
+        // expected
+        assertThat(BcryptConfig.maxPending(64, 8, 32)).isEqualTo(8);
+        assertThat(BcryptConfig.maxPending(4, 8, 32)).isEqualTo(4);
+        assertThat(BcryptConfig.maxPending(-1, 16, 16)).isZero();
+    }
+
+    @Test
+    @DisplayName("해시 스레드 수는 워커 절반을 넘지 않아야 하고, 지정하지 않으면 코어 수를 사용해야 한다.")
+    void hashThreads_limit() {
+
+        // expected
+        assertThat(BcryptConfig.hashThreads(0, 4, 64)).isEqualTo(4);
+        assertThat(BcryptConfig.hashThreads(16, 4, 16)).isEqualTo(8);
+        assertThat(BcryptConfig.hashThreads(0, 32, 16)).isEqualTo(8);
+        assertThat(BcryptConfig.hashThreads(0, 4, 1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한한 해시 스레드 수 기준으로 대기 개수를 계산하면 실행 중 + 대기 중이 워커 절반 이하여야 한다.")
+    void hashThreads_with_maxPending() {
+
+        // given
+        final int hashThreads = BcryptConfig.hashThreads(16, 4, 16);
+
+        // when
+        final int maxPending = BcryptConfig.maxPending(-1, hashThreads, 16);
+
+        // then
+        assertThat(hashThreads + maxPending).isLessThanOrEqualTo(8);
+    }
+}
@@ -0,0 +1,102 @@
+package io.wisoft.capstonedesign.global.config.bcrypt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.global.exception.unavailable.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedEncryptHelperTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedEncryptHelper encryptHelper;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encryptHelper.shutdown();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 해시하고, 대기/실행 시간을 기록해야 한다.")
+    void encrypt_and_isMatch() {
+
+        // given
+        encryptHelper = new BoundedEncryptHelper(new BCryptEncoder(4), 2, 4, 1000, meterRegistry);
+
+        // when
+        final String hashed = encryptHelper.encrypt("password");
+
+        // then
+        assertThat(encryptHelper.isMatch("password", hashed)).isTrue();
+        assertThat(encryptHelper.isMatch("wrong", hashed)).isFalse();
+        assertThat(meterRegistry.get("password.hash.queue").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("password.hash.execution").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실행 + 대기 작업이 가득 차면 기다리지 않고 거절해야 한다.")
+    void reject_when_busy() {
+
+        // given - 스레드 1개, 대기 1개를 모두 막아둔다.
+        encryptHelper = new BoundedEncryptHelper(blockingEncoder(), 1, 1, 0, meterRegistry);
+        final CompletableFuture<String> running = encryptHelper.encryptAsync("first");
+        final CompletableFuture<String> pending = encryptHelper.encryptAsync("second");
+
+        // expected
+        final ServiceUnavailableException exception =
+                assertThrows(ServiceUnavailableException.class, () -> encryptHelper.encrypt("third"));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PASSWORD_HASH_BUSY);
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.pending").gauge().value()).isEqualTo(2);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("first");
+        assertThat(pending.join()).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 다시 요청을 받아야 한다.")
+    void release_after_complete() throws Exception {
+
+        // given
+        encryptHelper = new BoundedEncryptHelper(blockingEncoder(), 1, 0, 1000, meterRegistry);
+        final CompletableFuture<String> running = encryptHelper.encryptAsync("first");
+
+        // when
+        release.countDown();
+        running.get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(encryptHelper.encrypt("second")).isEqualTo("second");
+    }
+
+    private EncryptHelper blockingEncoder() {
+        return new EncryptHelper() {
+            @Override
+            public String encrypt(final String password) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return password;
+            }
+
+            @Override
+            public boolean isMatch(final String password, final String hashed) {
+                return password.equals(hashed);
+            }
+        };
+    }
+}
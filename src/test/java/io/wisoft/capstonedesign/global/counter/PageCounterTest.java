@@ -0,0 +1,78 @@
+package io.wisoft.capstonedesign.global.counter;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+@SpringBootTest
+public class PageCounterTest {
+
+    private static final String KEY = "count:test:page-counter";
+
+    @Autowired private PageCounter pageCounter;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(List.of(KEY, KEY + ":lease"));
+    }
+
+    @Test
+    public void get_load_once() throws Exception {
+        //given -- 조건
+        pageCounter.get(KEY, () -> 10L);
+
+        //when -- 동작
+        final long count = pageCounter.get(KEY, () -> 999L);
+
+        //then -- 검증
+        Assertions.assertThat(count).isEqualTo(10L);
+    }
+
+    @Test
+    public void increase_decrease() throws Exception {
+        //given -- 조건
+        pageCounter.get(KEY, () -> 10L);
+
+        //when -- 동작
+        pageCounter.increase(KEY);
+        pageCounter.increase(KEY);
+        pageCounter.decrease(KEY);
+
+        //then -- 검증
+        Assertions.assertThat(pageCounter.get(KEY, () -> 999L)).isEqualTo(11L);
+    }
+
+    @Test
+    public void increase_not_loaded_key() throws Exception {
+        //given -- 조건
+
+        //when -- 동작
+        pageCounter.increase(KEY);
+
+        //then -- 검증
+        Assertions.assertThat(stringRedisTemplate.hasKey(KEY)).isFalse();
+    }
+
+    @Test
+    public void increase_while_loading() throws Exception {
+        //given -- 조건
+        //count 쿼리와 저장 사이에 다른 트랜잭션의 증가가 커밋된 상황
+        final long loaded = pageCounter.get(KEY, () -> {
+            pageCounter.increase(KEY);
+            return 10L;
+        });
+
+        //when -- 동작
+        final long count = pageCounter.get(KEY, () -> 11L);
+
+        //then -- 검증
+        Assertions.assertThat(loaded).isEqualTo(10L);
+        Assertions.assertThat(count).isEqualTo(11L);
+    }
+}
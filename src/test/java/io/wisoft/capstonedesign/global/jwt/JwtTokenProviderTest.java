@@ -1,5 +1,7 @@
 package io.wisoft.capstonedesign.global.jwt;
 
+import io.wisoft.capstonedesign.global.exception.token.AlreadyLogoutException;
+import io.wisoft.capstonedesign.global.exception.token.InvalidTokenException;
 import io.wisoft.capstonedesign.global.redis.RedisAdapter;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +12,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 @SpringBootTest
 @Transactional
 public class JwtTokenProviderTest {
@@ -87,4 +91,56 @@ public class JwtTokenProviderTest {
         //then -- 검증
         Assertions.assertThat(result).isFalse();
     }
-}
\ No newline at end of file
+
+
+    @Test
+    @DisplayName("검증된 토큰은 Redis를 조회하지 않고 로컬 캐시로 인증한다.")
+    public void authenticate_cache_hit() throws Exception {
+        //given -- 조건
+        final String subject = "authenticate_cache_hit@naver.com";
+        final String token = jwtTokenProvider.createAccessToken(subject);
+
+        redisAdapter.setValue(subject, token, 1200000, TimeUnit.SECONDS);
+        jwtTokenProvider.authenticate(token);
+
+        //Redis 상태가 사라져도 캐시된 토큰은 인증된다.
+        redisAdapter.deleteValue(subject);
+
+        //when -- 동작
+        final String email = jwtTokenProvider.authenticate(token);
+
+        //then -- 검증
+        Assertions.assertThat(email).isEqualTo(subject);
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 캐시된 토큰도 바로 거부된다.")
+    public void authenticate_after_logout() throws Exception {
+        //given -- 조건
+        final String subject = "authenticate_after_logout@naver.com";
+        final String token = jwtTokenProvider.createAccessToken(subject);
+
+        redisAdapter.setValue(subject, token, 1200000, TimeUnit.SECONDS);
+        jwtTokenProvider.authenticate(token);
+
+        //when -- 동작
+        redisJwtBlackList.addToBlackList(subject);
+
+        //then -- 검증
+        assertThrows(AlreadyLogoutException.class, () -> jwtTokenProvider.authenticate(token));
+        redisAdapter.deleteValue(subject);
+    }
+
+    @Test
+    @DisplayName("로그인 상태가 없는 토큰은 캐시하지 않고 거부한다.")
+    public void authenticate_fail() throws Exception {
+        //given -- 조건
+        final String subject = "authenticate_fail@naver.com";
+        final String token = jwtTokenProvider.createAccessToken(subject);
+
+        //when -- 동작
+        //then -- 검증
+        assertThrows(InvalidTokenException.class, () -> jwtTokenProvider.authenticate(token));
+        assertThrows(InvalidTokenException.class, () -> jwtTokenProvider.authenticate(token));
+    }
+}
@@ -0,0 +1,109 @@
+package io.wisoft.capstonedesign.global.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtValidationCacheTest {
+
+    private final JwtValidationCache jwtValidationCache =
+            new JwtValidationCache(Mockito.mock(RedisMessageListenerContainer.class));
+
+    private final Date oneHourLater = new Date(System.currentTimeMillis() + 60 * 60 * 1000);
+
+    @Test
+    @DisplayName("저장한 토큰은 subject를 반환해야 한다.")
+    void get() {
+
+        // given
+        jwtValidationCache.put("token-1", "cache@email.com", oneHourLater, jwtValidationCache.generation("cache@email.com"));
+
+        // expected
+        assertThat(jwtValidationCache.get("token-1")).isEqualTo("cache@email.com");
+        assertThat(jwtValidationCache.get("token-2")).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 반환하지 않아야 한다.")
+    void get_expired() {
+
+        // given
+        jwtValidationCache.put("expired-token", "cache@email.com",
+                new Date(System.currentTimeMillis() - 1000), jwtValidationCache.generation("cache@email.com"));
+
+        // expected
+        assertThat(jwtValidationCache.get("expired-token")).isNull();
+    }
+
+    @Test
+    @DisplayName("이메일로 무효화하면 해당 이메일의 토큰만 지워야 한다.")
+    void invalidate() {
+
+        // given
+        jwtValidationCache.put("token-1", "logout@email.com", oneHourLater, jwtValidationCache.generation("logout@email.com"));
+        jwtValidationCache.put("token-2", "logout@email.com", oneHourLater, jwtValidationCache.generation("logout@email.com"));
+        jwtValidationCache.put("token-3", "other@email.com", oneHourLater, jwtValidationCache.generation("other@email.com"));
+
+        // when
+        jwtValidationCache.invalidate("logout@email.com");
+
+        // then
+        assertThat(jwtValidationCache.get("token-1")).isNull();
+        assertThat(jwtValidationCache.get("token-2")).isNull();
+        assertThat(jwtValidationCache.get("token-3")).isEqualTo("other@email.com");
+    }
+
+    @Test
+    @DisplayName("세대를 받은 뒤 무효화되었으면 저장하지 않아야 한다.")
+    void put_after_invalidate() {
+
+        // given
+        final long generation = jwtValidationCache.generation("race@email.com");
+        jwtValidationCache.invalidate("race@email.com");
+
+        // when
+        jwtValidationCache.put("token-1", "race@email.com", oneHourLater, generation);
+
+        // then
+        assertThat(jwtValidationCache.get("token-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 이메일의 무효화는 저장을 막지 않아야 한다.")
+    void put_after_other_invalidate() {
+
+        // given
+        final long generation = jwtValidationCache.generation("keep@email.com");
+        jwtValidationCache.invalidate("other@email.com");
+
+        // when
+        jwtValidationCache.put("token-1", "keep@email.com", oneHourLater, generation);
+
+        // then
+        assertThat(jwtValidationCache.get("token-1")).isEqualTo("keep@email.com");
+    }
+
+    @Test
+    @DisplayName("무효화 채널 메시지를 받으면 해당 이메일의 토큰을 지워야 한다.")
+    void onMessage() {
+
+        // given
+        jwtValidationCache.put("token-1", "remote-logout@email.com",
+                oneHourLater, jwtValidationCache.generation("remote-logout@email.com"));
+
+        // when
+        jwtValidationCache.onMessage(new DefaultMessage(
+                JwtValidationCache.INVALIDATE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "remote-logout@email.com".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(jwtValidationCache.get("token-1")).isNull();
+    }
+}
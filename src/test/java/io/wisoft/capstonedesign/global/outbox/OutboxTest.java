@@ -0,0 +1,67 @@
+package io.wisoft.capstonedesign.global.outbox;
+
+import io.wisoft.capstonedesign.domain.auth.persistence.MailOutbox;
+import io.wisoft.capstonedesign.global.enumeration.status.OutboxStatus;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+class OutboxTest {
+
+    @Test
+    public void fail_retry() throws Exception {
+        //given -- 조건
+        final MailOutbox outbox = getMailOutbox();
+        outbox.claim(LocalDateTime.now().plusMinutes(1));
+
+        //when -- 동작
+        outbox.fail("timeout", 2, Duration.ofMinutes(10));
+
+        //then -- 검증
+        Assertions.assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.READY);
+        Assertions.assertThat(outbox.getLastError()).isEqualTo("timeout");
+        Assertions.assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now().plusMinutes(9));
+        Assertions.assertThat(outbox.getBody()).isNotNull();
+    }
+
+    @Test
+    public void fail_dead_after_max_attempts() throws Exception {
+        //given -- 조건
+        final MailOutbox outbox = getMailOutbox();
+        outbox.claim(LocalDateTime.now().plusMinutes(1));
+        outbox.claim(LocalDateTime.now().plusMinutes(1));
+
+        //when -- 동작
+        outbox.fail("x".repeat(600), 2, Duration.ofMinutes(10));
+
+        //then -- 검증
+        Assertions.assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        Assertions.assertThat(outbox.getLastError()).hasSize(500);
+        Assertions.assertThat(outbox.getBody()).isNull();
+    }
+
+    @Test
+    public void backoff_capped() throws Exception {
+        //given -- 조건
+        final long baseMillis = 1000;
+        final long maxMillis = 5000;
+
+        //when -- 동작
+        final Duration first = OutboxService.backoff(1, baseMillis, maxMillis);
+        final Duration capped = OutboxService.backoff(30, baseMillis, maxMillis);
+
+        //then -- 검증
+        Assertions.assertThat(first.toMillis()).isBetween(1000L, 1200L);
+        Assertions.assertThat(capped.toMillis()).isBetween(5000L, 6000L);
+    }
+
+    private MailOutbox getMailOutbox() {
+        return MailOutbox.builder()
+                .recipient("outbox@email.com")
+                .subject("subject")
+                .body("body")
+                .build();
+    }
+}
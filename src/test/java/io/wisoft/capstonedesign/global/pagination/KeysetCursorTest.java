@@ -0,0 +1,44 @@
+package io.wisoft.capstonedesign.global.pagination;
+
+import io.wisoft.capstonedesign.global.exception.illegal.IllegalValueException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면, 원래의 (createdAt, id)와 동일해야 한다.")
+    void encodeDecode() {
+
+        // given
+        final KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2023, 5, 1, 12, 30, 15, 123456000), 42L);
+
+        // when
+        final KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지를 의미하므로 null 이어야 한다.")
+    void decodeEmpty() {
+
+        // expected
+        assertThat(KeysetCursor.decode("")).isNull();
+        assertThat(KeysetCursor.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서가 들어오면, 예외가 발생해야 한다.")
+    void decodeInvalid() {
+
+        // expected
+        assertThrows(IllegalValueException.class, () -> KeysetCursor.decode("invalid-cursor"));
+    }
+}
@@ -0,0 +1,72 @@
+package io.wisoft.capstonedesign.global.ratelimit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+@SpringBootTest
+public class RedisRateLimiterTest {
+
+    private static final String KEY = "rate:test:redis-rate-limiter";
+
+    @Autowired private RedisRateLimiter redisRateLimiter;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(KEY);
+    }
+
+    @Test
+    public void tryAcquire_exceed_capacity() throws Exception {
+        //given -- 조건
+        redisRateLimiter.tryAcquire(KEY, 3, 60_000);
+        redisRateLimiter.tryAcquire(KEY, 3, 60_000);
+        final RateLimitResult last = redisRateLimiter.tryAcquire(KEY, 3, 60_000);
+
+        //when -- 동작
+        final RateLimitResult rejected = redisRateLimiter.tryAcquire(KEY, 3, 60_000);
+
+        //then -- 검증
+        Assertions.assertThat(last.allowed()).isTrue();
+        Assertions.assertThat(last.remaining()).isZero();
+        Assertions.assertThat(rejected.allowed()).isFalse();
+        Assertions.assertThat(rejected.retryAfterMillis()).isBetween(1L, 20_000L);
+    }
+
+    @Test
+    public void tryAcquire_refill() throws Exception {
+        //given -- 조건
+        redisRateLimiter.tryAcquire(KEY, 1, 300);
+        Assertions.assertThat(redisRateLimiter.tryAcquire(KEY, 1, 300).allowed()).isFalse();
+
+        //when -- 동작
+        Thread.sleep(400);
+        final RateLimitResult result = redisRateLimiter.tryAcquire(KEY, 1, 300);
+
+        //then -- 검증
+        Assertions.assertThat(result.allowed()).isTrue();
+    }
+
+    @Test
+    public void tryAcquire_concurrent() throws Exception {
+        //given -- 조건
+        final int capacity = 5;
+
+        //when -- 동작
+        final List<CompletableFuture<RateLimitResult>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> redisRateLimiter.tryAcquire(KEY, capacity, 60_000)))
+                .toList();
+
+        //then -- 검증
+        final long allowed = futures.stream().map(CompletableFuture::join).filter(RateLimitResult::allowed).count();
+        Assertions.assertThat(allowed).isEqualTo(capacity);
+    }
+}
@@ -0,0 +1,94 @@
+package io.wisoft.capstonedesign.global.slack;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.wisoft.capstonedesign.global.exception.ErrorCode;
+import io.wisoft.capstonedesign.setting.common.FakeSlackServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlackAlertPublisherTest {
+
+    private static final long WINDOW_MILLIS = 60_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FakeSlackServer slackServer = new FakeSlackServer();
+
+    private SlackAlertPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+        slackServer.close();
+    }
+
+    @Test
+    @DisplayName("같은 ErrorCode는 한 구간 동안 묶어서 메시지 하나로 보내야 한다.")
+    void aggregate_same_error_code() {
+
+        // given
+        publisher = newPublisher(100, "false");
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            publisher.publish(ErrorCode.NOT_FOUND, SlackConstant.ERROR_CHANNEL);
+        }
+        publisher.publish(ErrorCode.TIME_OUT, SlackConstant.ERROR_CHANNEL);
+        publisher.flush();
+
+        // then
+        assertThat(slackServer.messages()).hasSize(1);
+        final Map<String, String> message = slackServer.messages().get(0);
+        assertThat(message.get("channel")).isEqualTo(SlackConstant.ERROR_CHANNEL.getChannel());
+        assertThat(message.get("text"))
+                .contains("[" + ErrorCode.NOT_FOUND.getErrorCode() + "]", "50회")
+                .contains("[" + ErrorCode.TIME_OUT.getErrorCode() + "]", "1회");
+        assertThat(meterRegistry.get("slack.alert.published").counter().count()).isEqualTo(51);
+        assertThat(meterRegistry.get("slack.alert.sent").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 기다리지 않고 버린 뒤 유실 건수를 알려야 한다.")
+    void drop_when_queue_is_full() {
+
+        // given
+        publisher = newPublisher(5, "false");
+
+        // when
+        for (int i = 0; i < 12; i++) {
+            publisher.publish(ErrorCode.ILLEGAL_STATE, SlackConstant.ERROR_CHANNEL);
+        }
+        publisher.flush();
+
+        // then
+        assertThat(meterRegistry.get("slack.alert.dropped").counter().count()).isEqualTo(7);
+        assertThat(slackServer.messages()).hasSize(1);
+        assertThat(slackServer.messages().get(0).get("text")).contains("5회", "유실된 알림 = 7");
+    }
+
+    @Test
+    @DisplayName("쌓인 알림이 없으면 보내지 않고, slack이 꺼져 있으면 큐에 넣지 않아야 한다.")
+    void skip_when_empty_or_off() {
+
+        // given
+        publisher = newPublisher(10, "true");
+
+        // when
+        publisher.flush();
+        publisher.publish(ErrorCode.NOT_FOUND, SlackConstant.ERROR_CHANNEL);
+        publisher.flush();
+
+        // then
+        assertThat(slackServer.messages()).isEmpty();
+        assertThat(meterRegistry.get("slack.alert.published").counter().count()).isZero();
+    }
+
+    private SlackAlertPublisher newPublisher(final int queueCapacity, final String slackOff) {
+        final SlackService slackService = new SlackService(slackOff, "xoxb-test", slackServer.methodsUrl());
+        return new SlackAlertPublisher(slackService, queueCapacity, WINDOW_MILLIS, meterRegistry);
+    }
+}
@@ -0,0 +1,99 @@
+package io.wisoft.capstonedesign.setting.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 OpenAI completion API (prompt 별 호출 횟수를 센다)
+ */
+public class ChatGptStubServer {
+
+    private static final ChatGptStubServer INSTANCE = new ChatGptStubServer();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final Map<String, AtomicInteger> callCounts = new ConcurrentHashMap<>();
+
+    private volatile String answer = "내과";
+    private volatile long delayMillis;
+
+    private ChatGptStubServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/completions", this::complete);
+        server.start();
+    }
+
+    public static ChatGptStubServer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * ChatGptConfig.URL 로 사용할 주소
+     */
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/completions";
+    }
+
+    public void givenAnswer(final String answer, final long delayMillis) {
+        this.answer = answer;
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * prompt에 text가 포함된 호출 횟수
+     */
+    public int callCount(final String text) {
+        return callCounts.entrySet().stream()
+                .filter(entry -> entry.getKey().contains(text))
+                .mapToInt(entry -> entry.getValue().get())
+                .sum();
+    }
+
+    private void complete(final HttpExchange exchange) throws IOException {
+        final JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        callCounts.computeIfAbsent(request.path("prompt").asText(), key -> new AtomicInteger()).incrementAndGet();
+        sleep(delayMillis);
+
+        final ObjectNode response = objectMapper.createObjectNode()
+                .put("id", "cmpl-stub")
+                .put("object", "text_completion")
+                .put("created", 1677652288L)
+                .put("model", request.path("model").asText());
+        response.putArray("choices").addObject()
+                .put("text", answer)
+                .put("index", 0)
+                .put("finish_reason", "stop");
+
+        final byte[] body = objectMapper.writeValueAsBytes(response);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
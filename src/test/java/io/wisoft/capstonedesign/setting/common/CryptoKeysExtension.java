@@ -0,0 +1,30 @@
+package io.wisoft.capstonedesign.setting.common;
+
+import io.wisoft.capstonedesign.global.config.aes.AES;
+import io.wisoft.capstonedesign.global.config.aes.BlindIndex;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Map;
+
+/**
+ * 스프링 없이 실행하는 단위 테스트용 암호화 키
+ * 스프링 컨텍스트가 이미 설정 값으로 키를 잡았다면 덮어쓰지 않는다.
+ */
+public class CryptoKeysExtension implements BeforeAllCallback {
+
+    private static final Map<Character, String> AES_KEYS = Map.of('1', "unit-test-aes-key-00000000000001");
+    private static final String BLIND_INDEX_KEY = "unit-test-blind-index-key-0000001";
+
+    @Override
+    public void beforeAll(final ExtensionContext context) {
+
+        if (!AES.isConfigured()) {
+            AES.configure(AES_KEYS, '1');
+        }
+
+        if (!BlindIndex.isConfigured()) {
+            BlindIndex.configure(BLIND_INDEX_KEY);
+        }
+    }
+}
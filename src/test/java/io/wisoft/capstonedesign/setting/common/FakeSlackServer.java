@@ -0,0 +1,74 @@
+package io.wisoft.capstonedesign.setting.common;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 Slack Web API (chat.postMessage 만 지원)
+ */
+public class FakeSlackServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final List<Map<String, String>> messages = new CopyOnWriteArrayList<>();
+
+    public FakeSlackServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext("/api/chat.postMessage", this::postMessage);
+        server.start();
+    }
+
+    /**
+     * SlackConfig.methodsEndpointUrlPrefix 로 사용할 주소
+     */
+    public String methodsUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/";
+    }
+
+    public List<Map<String, String>> messages() {
+        return messages;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void postMessage(final HttpExchange exchange) throws IOException {
+        final String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        messages.add(parseForm(body));
+
+        final byte[] response = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+
+    private Map<String, String> parseForm(final String body) {
+        final Map<String, String> form = new HashMap<>();
+        for (String pair : body.split("&")) {
+            final int index = pair.indexOf('=');
+            if (index > 0) {
+                form.put(URLDecoder.decode(pair.substring(0, index), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(index + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return form;
+    }
+}
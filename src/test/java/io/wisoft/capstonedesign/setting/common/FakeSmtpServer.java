@@ -0,0 +1,154 @@
+package io.wisoft.capstonedesign.setting.common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 메모리 SMTP 서버 (AUTH, STARTTLS 없이 받은 메일을 보관만 한다)
+ */
+public class FakeSmtpServer {
+
+    private static final FakeSmtpServer INSTANCE = new FakeSmtpServer();
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "fake-smtp");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<ReceivedMail> mails = new CopyOnWriteArrayList<>();
+    private final Set<String> rejectedRecipients = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private FakeSmtpServer() {
+        try {
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        executor.execute(this::acceptLoop);
+    }
+
+    public static FakeSmtpServer getInstance() {
+        return INSTANCE;
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    public List<ReceivedMail> mailsTo(final String recipient) {
+        return mails.stream().filter(mail -> mail.recipients().contains(recipient)).toList();
+    }
+
+    /**
+     * RCPT TO 에 550 으로 응답할 주소
+     */
+    public void reject(final String recipient) {
+        rejectedRecipients.add(recipient);
+    }
+
+    public void accept(final String recipient) {
+        rejectedRecipients.remove(recipient);
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                connectionCount.incrementAndGet();
+                executor.execute(() -> session(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void session(final Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+
+            final OutputStream out = socket.getOutputStream();
+            reply(out, "220 localhost fake smtp");
+
+            String from = null;
+            List<String> recipients = new ArrayList<>();
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                final String command = line.toUpperCase();
+
+                if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+                    reply(out, "250 localhost");
+                } else if (command.startsWith("MAIL FROM:")) {
+                    from = address(line);
+                    recipients = new ArrayList<>();
+                    reply(out, "250 OK");
+                } else if (command.startsWith("RCPT TO:")) {
+                    final String recipient = address(line);
+                    if (rejectedRecipients.contains(recipient)) {
+                        reply(out, "550 mailbox unavailable");
+                    } else {
+                        recipients.add(recipient);
+                        reply(out, "250 OK");
+                    }
+                } else if (command.equals("DATA")) {
+                    reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                    mails.add(new ReceivedMail(from, List.copyOf(recipients), readData(reader)));
+                    reply(out, "250 OK queued");
+                } else if (command.equals("RSET") || command.equals("NOOP")) {
+                    reply(out, "250 OK");
+                } else if (command.equals("QUIT")) {
+                    reply(out, "221 bye");
+                    return;
+                } else {
+                    reply(out, "502 command not implemented");
+                }
+            }
+        } catch (IOException ignored) {
+            // 클라이언트가 연결을 끊은 경우
+        }
+    }
+
+    private String readData(final BufferedReader reader) throws IOException {
+        final StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null && !line.equals(".")) {
+            data.append(line.startsWith("..") ? line.substring(1) : line).append('\n');
+        }
+        return data.toString();
+    }
+
+    private String address(final String line) {
+        final int start = line.indexOf('<');
+        final int end = line.indexOf('>');
+        return start >= 0 && end > start ? line.substring(start + 1, end) : line.substring(line.indexOf(':') + 1).trim();
+    }
+
+    private void reply(final OutputStream out, final String message) throws IOException {
+        out.write((message + "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    public record ReceivedMail(String from, List<String> recipients, String data) { }
+}
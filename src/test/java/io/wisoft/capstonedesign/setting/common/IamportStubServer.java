@@ -0,0 +1,147 @@
+package io.wisoft.capstonedesign.setting.common;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 아임포트 API (토큰 발급, 결제 조회, 결제 취소)
+ */
+public class IamportStubServer {
+
+    private static final IamportStubServer INSTANCE = new IamportStubServer();
+
+    /** 기본 결제 금액 (payment.deposit-amount 기본값과 같다) */
+    public static final long DEFAULT_AMOUNT = 1000;
+
+    private final HttpServer server;
+    private final Map<String, StubPayment> payments = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> lookupCounts = new ConcurrentHashMap<>();
+    private final List<String> canceled = new CopyOnWriteArrayList<>();
+    private final AtomicInteger tokenCount = new AtomicInteger();
+    private final AtomicInteger cancelFailures = new AtomicInteger();
+
+    private IamportStubServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/users/getToken", this::issueToken);
+        server.createContext("/payments/cancel", this::cancel);
+        server.createContext("/payments/", this::findPayment);
+        server.start();
+    }
+
+    public static IamportStubServer getInstance() {
+        return INSTANCE;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void givenPayment(final String impUid, final String merchantUid, final String status, final long delayMillis) {
+        givenPayment(impUid, merchantUid, status, DEFAULT_AMOUNT, delayMillis);
+    }
+
+    public void givenPayment(
+            final String impUid,
+            final String merchantUid,
+            final String status,
+            final long amount,
+            final long delayMillis) {
+
+        payments.put(impUid, new StubPayment(merchantUid, status, amount, delayMillis));
+    }
+
+    public int lookupCount(final String impUid) {
+        return lookupCounts.getOrDefault(impUid, new AtomicInteger()).get();
+    }
+
+    public List<String> canceled() {
+        return canceled;
+    }
+
+    public int tokenCount() {
+        return tokenCount.get();
+    }
+
+    /**
+     * 다음 count 번의 결제 취소 요청을 실패 응답
+     */
+    public void failNextCancels(final int count) {
+        cancelFailures.set(count);
+    }
+
+    private void issueToken(final HttpExchange exchange) throws IOException {
+        tokenCount.incrementAndGet();
+        final long expiredAt = Instant.now().plus(Duration.ofMinutes(30)).getEpochSecond();
+        respond(exchange, "{\"access_token\":\"stub-token\",\"expired_at\":" + expiredAt + "}");
+    }
+
+    private void findPayment(final HttpExchange exchange) throws IOException {
+        final String impUid = exchange.getRequestURI().getPath().substring("/payments/".length());
+        lookupCounts.computeIfAbsent(impUid, key -> new AtomicInteger()).incrementAndGet();
+
+        final StubPayment payment = payments.get(impUid);
+        if (payment == null) {
+            write(exchange, 404, "{\"code\":-1,\"message\":\"존재하지 않는 결제정보입니다.\",\"response\":null}");
+            return;
+        }
+
+        sleep(payment.delayMillis());
+        respond(exchange, String.format(
+                "{\"imp_uid\":\"%s\",\"merchant_uid\":\"%s\",\"status\":\"%s\",\"amount\":%d,"
+                        + "\"pg_provider\":\"html5_inicis\",\"pay_method\":\"card\","
+                        + "\"buyer_email\":\"buyer@naver.com\",\"buyer_name\":\"buyer\"}",
+                impUid, payment.merchantUid(), payment.status(), payment.amount()));
+    }
+
+    private void cancel(final HttpExchange exchange) throws IOException {
+        final String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (cancelFailures.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+            write(exchange, 500, "{\"code\":-1,\"message\":\"취소 실패\",\"response\":null}");
+            return;
+        }
+        canceled.add(body);
+        respond(exchange, "{\"status\":\"cancelled\"}");
+    }
+
+    private void respond(final HttpExchange exchange, final String response) throws IOException {
+        write(exchange, 200, "{\"code\":0,\"message\":null,\"response\":" + response + "}");
+    }
+
+    private void write(final HttpExchange exchange, final int status, final String body) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record StubPayment(String merchantUid, String status, long amount, long delayMillis) { }
+}
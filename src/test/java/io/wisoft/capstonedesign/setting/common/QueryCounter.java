@@ -0,0 +1,28 @@
+package io.wisoft.capstonedesign.setting.common;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+
+import java.sql.SQLException;
+
+/**
+ * p6spy 이벤트로 현재 스레드에서 실행된 SQL 개수를 센다.
+ * 사용하는 테스트에서 @Import(QueryCounter.class)로 등록한다.
+ */
+public class QueryCounter extends JdbcEventListener {
+
+    private static final ThreadLocal<Integer> COUNT = ThreadLocal.withInitial(() -> 0);
+
+    @Override
+    public void onAfterAnyExecute(final StatementInformation statementInformation, final long timeElapsedNanos, final SQLException e) {
+        COUNT.set(COUNT.get() + 1);
+    }
+
+    public void reset() {
+        COUNT.set(0);
+    }
+
+    public int count() {
+        return COUNT.get();
+    }
+}
@@ -0,0 +1,107 @@
+package io.wisoft.capstonedesign.setting.data;
+
+/**
+ * HIRA 병원정보 API 응답 픽스처 (numOfRows = 2, totalCount = 3 → 2페이지)
+ * 2페이지의 item은 1페이지 첫 번째 병원(ykiho 동일)의 이름이 변경된 데이터이다.
+ */
+public class HiraHospitalTestData {
+
+    public static final String PAGE_1 = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <response>
+                <header>
+                    <resultCode>00</resultCode>
+                    <resultMsg>NORMAL SERVICE.</resultMsg>
+                </header>
+                <body>
+                    <items>
+                        <item>
+                            <addr>대전광역시 유성구 동서대로 125</addr>
+                            <clCd>01</clCd>
+                            <clCdNm>상급종합</clCdNm>
+                            <sgguCd>230003</sgguCd>
+                            <sgguCdNm>대전유성구</sgguCdNm>
+                            <sidoCd>230000</sidoCd>
+                            <sidoCdNm>대전</sidoCdNm>
+                            <telno>042-000-0001</telno>
+                            <XPos>127.3015</XPos>
+                            <YPos>36.3504</YPos>
+                            <yadmNm>아보카도테스트병원</yadmNm>
+                            <ykiho>TEST-YKIHO-0001</ykiho>
+                        </item>
+                        <item>
+                            <addr>서울특별시 종로구 대학로 101</addr>
+                            <clCd>31</clCd>
+                            <clCdNm>의원</clCdNm>
+                            <sgguCd>110016</sgguCd>
+                            <sgguCdNm>종로구</sgguCdNm>
+                            <sidoCd>110000</sidoCd>
+                            <sidoCdNm>서울</sidoCdNm>
+                            <XPos>126.9990</XPos>
+                            <YPos>37.5796</YPos>
+                            <yadmNm>아보카도테스트의원</yadmNm>
+                            <ykiho>TEST-YKIHO-0002</ykiho>
+                        </item>
+                    </items>
+                    <numOfRows>2</numOfRows>
+                    <pageNo>1</pageNo>
+                    <totalCount>3</totalCount>
+                </body>
+            </response>
+            """;
+
+    public static final String PAGE_2 = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <response>
+                <header>
+                    <resultCode>00</resultCode>
+                    <resultMsg>NORMAL SERVICE.</resultMsg>
+                </header>
+                <body>
+                    <items>
+                        <item>
+                            <addr>대전광역시 유성구 동서대로 125</addr>
+                            <clCd>01</clCd>
+                            <clCdNm>상급종합</clCdNm>
+                            <sgguCd>230003</sgguCd>
+                            <sgguCdNm>대전유성구</sgguCdNm>
+                            <sidoCd>230000</sidoCd>
+                            <sidoCdNm>대전</sidoCdNm>
+                            <telno>042-000-0001</telno>
+                            <XPos>127.3015</XPos>
+                            <YPos>36.3504</YPos>
+                            <yadmNm>아보카도테스트대학병원</yadmNm>
+                            <ykiho>TEST-YKIHO-0001</ykiho>
+                        </item>
+                    </items>
+                    <numOfRows>2</numOfRows>
+                    <pageNo>2</pageNo>
+                    <totalCount>3</totalCount>
+                </body>
+            </response>
+            """;
+
+    public static final String EMPTY_PAGE = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <response>
+                <header>
+                    <resultCode>00</resultCode>
+                    <resultMsg>NORMAL SERVICE.</resultMsg>
+                </header>
+                <body>
+                    <items/>
+                    <numOfRows>2</numOfRows>
+                    <pageNo>3</pageNo>
+                    <totalCount>3</totalCount>
+                </body>
+            </response>
+            """;
+
+    public static String page(final int pageNo) {
+        return switch (pageNo) {
+            case 1 -> PAGE_1;
+            case 2 -> PAGE_2;
+            default -> EMPTY_PAGE;
+        };
+    }
+}